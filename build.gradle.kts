@@ -19,6 +19,7 @@ plugins {
     signing
     id("com.gradleup.nmcp") version "1.4.3"
     id("com.diffplug.spotless") version "6.25.0"
+    id("me.champeau.jmh") version "0.7.3"
 }
 
 // Load .env file if it exists
@@ -76,6 +77,16 @@ dependencies {
     testRuntimeOnly("org.junit.platform:junit-platform-launcher:6.0.2")
 }
 
+jmh {
+    jmhVersion.set("1.37")
+    profilers.add("gc")
+    resultFormat.set("JSON")
+    // Benchmarks share the response fixtures and fake Maps Server from the test source set
+    includeTests.set(true)
+    // Run a subset with e.g. -PjmhIncludes=GatewayBenchmark
+    providers.gradleProperty("jmhIncludes").orNull?.let { includes.add(it) }
+}
+
 spotless {
     java {
         target("src/**/*.java")
@@ -146,6 +157,19 @@ tasks.register<Test>("testDetail") {
     })
 }
 
+tasks.register<JavaExec>("loadTest") {
+    description = "Drives open-loop load through one client and reports throughput and latency percentiles."
+    group = "verification"
+    classpath = sourceSets["test"].runtimeClasspath
+    mainClass.set("com.williamcallahan.applemaps.adapters.loadtest.LoadTestRunner")
+    args = providers.gradleProperty("loadTestArgs").orNull?.split(" ")?.filter { it.isNotBlank() } ?: emptyList()
+
+    val token = System.getenv("APPLE_MAPS_TOKEN") ?: System.getProperty("APPLE_MAPS_TOKEN")
+    if (token != null) {
+        environment("APPLE_MAPS_TOKEN", token)
+    }
+}
+
 tasks.withType<JavaExec>().configureEach {
     javaLauncher.set(javaLauncherForTargetVersion)
 }
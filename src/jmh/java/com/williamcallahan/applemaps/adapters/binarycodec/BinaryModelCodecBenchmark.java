@@ -0,0 +1,102 @@
+package com.williamcallahan.applemaps.adapters.binarycodec;
+
+import com.williamcallahan.applemaps.adapters.fakeserver.SyntheticPayloads;
+import com.williamcallahan.applemaps.adapters.jackson.AppleMapsObjectMapperFactory;
+import com.williamcallahan.applemaps.domain.model.DirectionsResponse;
+import com.williamcallahan.applemaps.domain.model.SearchResponse;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Compares decoding search and directions responses from JSON with decoding and encoding them in the binary
+ * model format, at the typical and large sizes of {@code LargePayloadDecodeBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BinaryModelCodecBenchmark {
+    /**
+     * Payload sizes under test.
+     */
+    public enum Scale {
+        /** Sizes of the shared fixtures. */
+        TYPICAL(SyntheticPayloads.builder()),
+        /** A full 100-result page and a long multi-route trip. */
+        LARGE(SyntheticPayloads.builder().results(100).alternateIds(4).steps(200).pathPointsPerStep(100));
+
+        private final SyntheticPayloads.Builder payloads;
+
+        Scale(SyntheticPayloads.Builder payloads) {
+            this.payloads = payloads;
+        }
+    }
+
+    @Param({"TYPICAL", "LARGE"})
+    public Scale scale;
+
+    private final ObjectMapper mapper = AppleMapsObjectMapperFactory.create();
+    private final BinaryModelCodec codec = new BinaryModelCodec();
+
+    private byte[] searchJson;
+    private byte[] directionsJson;
+    private SearchResponse search;
+    private DirectionsResponse directions;
+    private byte[] searchBinary;
+    private byte[] directionsBinary;
+
+    @Setup(Level.Trial)
+    public void encodePayloads() {
+        SyntheticPayloads payloads = scale.payloads.build();
+        searchJson = payloads.search();
+        directionsJson = payloads.directions();
+        search = mapper.readValue(searchJson, SearchResponse.class);
+        directions = mapper.readValue(directionsJson, DirectionsResponse.class);
+        searchBinary = codec.encode(search);
+        directionsBinary = codec.encode(directions);
+    }
+
+    @Benchmark
+    public SearchResponse searchFromJson() {
+        return mapper.readValue(searchJson, SearchResponse.class);
+    }
+
+    @Benchmark
+    public SearchResponse searchFromBinary() {
+        return codec.decodeSearchResponse(searchBinary);
+    }
+
+    @Benchmark
+    public byte[] searchToBinary() {
+        return codec.encode(search);
+    }
+
+    @Benchmark
+    public DirectionsResponse directionsFromJson() {
+        return mapper.readValue(directionsJson, DirectionsResponse.class);
+    }
+
+    @Benchmark
+    public DirectionsResponse directionsFromBinary() {
+        return codec.decodeDirectionsResponse(directionsBinary);
+    }
+
+    @Benchmark
+    public byte[] directionsToBinary() {
+        return codec.encode(directions);
+    }
+}
@@ -0,0 +1,78 @@
+package com.williamcallahan.applemaps.adapters.geocodecache;
+
+import com.williamcallahan.applemaps.domain.request.GeocodeInput;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures canonicalizing and fingerprinting street addresses of about 40 characters. One million addresses a
+ * minute on one core needs about 17 operations per millisecond.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AddressCanonicalizerBenchmark {
+    private static final int ADDRESS_COUNT = 1_024;
+    private static final String[] STREETS = {"Harrison", "Main", "Market", "Valencia", "Mission", "Oak"};
+    private static final String[] SUFFIXES = {"St.", "Street", "Ave", "AVENUE", "Blvd", "Rd."};
+    private static final String[] CITIES = {"San Francisco, CA", "Oakland,CA", "BERKELEY, CA", "San Jose , CA"};
+    private static final String[] UNICODE_ADDRESSES = {
+        "Hauptstraße 5, 80331 München", "Rue de l’Église 12, Paris", "Jungfernstieg 1, Hamburg",
+        "Calle de Alcalá 48, Madrid"
+    };
+
+    private final AddressCanonicalizer canonicalizer = AddressCanonicalizer.standard();
+    private String[] asciiAddresses;
+    private GeocodeInput[] inputs;
+    private int next;
+
+    @Setup
+    public void generate() {
+        SplittableRandom random = new SplittableRandom(47L);
+        asciiAddresses = new String[ADDRESS_COUNT];
+        inputs = new GeocodeInput[ADDRESS_COUNT];
+        for (int index = 0; index < ADDRESS_COUNT; index++) {
+            asciiAddresses[index] = random.nextInt(1, 9_999) + " " + STREETS[random.nextInt(STREETS.length)] + " "
+                + SUFFIXES[random.nextInt(SUFFIXES.length)] + ", " + CITIES[random.nextInt(CITIES.length)];
+            inputs[index] = GeocodeInput.builder(asciiAddresses[index]).build();
+        }
+    }
+
+    @Benchmark
+    public long fingerprintAscii() {
+        return canonicalizer.fingerprint(asciiAddresses[nextIndex()]);
+    }
+
+    @Benchmark
+    public long fingerprintUnicode() {
+        return canonicalizer.fingerprint(UNICODE_ADDRESSES[nextIndex() & (UNICODE_ADDRESSES.length - 1)]);
+    }
+
+    @Benchmark
+    public String canonicalizeAscii() {
+        return canonicalizer.canonicalize(asciiAddresses[nextIndex()]);
+    }
+
+    @Benchmark
+    public long geocodeKey() {
+        return canonicalizer.geocodeKey(inputs[nextIndex()]);
+    }
+
+    private int nextIndex() {
+        next = (next + 1) & (ADDRESS_COUNT - 1);
+        return next;
+    }
+}
@@ -0,0 +1,108 @@
+package com.williamcallahan.applemaps.adapters.jackson;
+
+import com.williamcallahan.applemaps.adapters.fakeserver.SyntheticPayloads;
+import com.williamcallahan.applemaps.domain.model.DirectionsResponse;
+import com.williamcallahan.applemaps.domain.model.PlaceField;
+import com.williamcallahan.applemaps.domain.model.PlaceProjection;
+import com.williamcallahan.applemaps.domain.model.PlacesResponse;
+import com.williamcallahan.applemaps.domain.model.ProjectedPlaceResults;
+import com.williamcallahan.applemaps.domain.model.SearchAutocompleteResponse;
+import com.williamcallahan.applemaps.domain.model.SearchResponse;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectReader;
+
+/**
+ * Decodes {@link SyntheticPayloads} at typical, large and extreme sizes, to show how decode time and
+ * {@code gc.alloc.rate.norm} grow with result and path point counts.
+ *
+ * <p>{@code TYPICAL} matches {@code ResponseDecodeBenchmark}; {@code LARGE} is a 100-result page and 20,000
+ * path points; {@code EXTREME} is 1,000 results with many address lines and alternate ids, and 100,000 path
+ * points.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LargePayloadDecodeBenchmark {
+    /**
+     * Payload sizes under test.
+     */
+    public enum Scale {
+        /** Sizes of the shared fixtures. */
+        TYPICAL(SyntheticPayloads.builder()),
+        /** A full 100-result page and a long multi-route trip. */
+        LARGE(SyntheticPayloads.builder().results(100).alternateIds(4).steps(200).pathPointsPerStep(100)),
+        /** Far beyond one live API page, to expose non-linear growth. */
+        EXTREME(SyntheticPayloads.builder().results(1000).addressLines(8).alternateIds(16).routes(5).steps(1000)
+            .pathPointsPerStep(100));
+
+        private final SyntheticPayloads.Builder payloads;
+
+        Scale(SyntheticPayloads.Builder payloads) {
+            this.payloads = payloads;
+        }
+    }
+
+    @Param({"TYPICAL", "LARGE", "EXTREME"})
+    public Scale scale;
+
+    private final ObjectMapper streamingMapper = AppleMapsObjectMapperFactory.create();
+    private final ObjectReader idAndCoordinateReader = AppleMapsObjectMapperFactory.projectedPlaceResultsReader(
+        streamingMapper,
+        PlaceProjection.of(PlaceField.ID, PlaceField.COORDINATE)
+    );
+
+    private byte[] searchPayload;
+    private byte[] autocompletePayload;
+    private byte[] directionsPayload;
+    private byte[] placesPayload;
+
+    @Setup(Level.Trial)
+    public void generatePayloads() {
+        SyntheticPayloads payloads = scale.payloads.build();
+        searchPayload = payloads.search();
+        autocompletePayload = payloads.autocomplete();
+        directionsPayload = payloads.directions();
+        placesPayload = payloads.places();
+    }
+
+    @Benchmark
+    public SearchResponse search() {
+        return streamingMapper.readValue(searchPayload, SearchResponse.class);
+    }
+
+    @Benchmark
+    public ProjectedPlaceResults searchProjectedIdAndCoordinate() {
+        return idAndCoordinateReader.readValue(searchPayload);
+    }
+
+    @Benchmark
+    public SearchAutocompleteResponse autocomplete() {
+        return streamingMapper.readValue(autocompletePayload, SearchAutocompleteResponse.class);
+    }
+
+    @Benchmark
+    public DirectionsResponse directions() {
+        return streamingMapper.readValue(directionsPayload, DirectionsResponse.class);
+    }
+
+    @Benchmark
+    public PlacesResponse places() {
+        return streamingMapper.readValue(placesPayload, PlacesResponse.class);
+    }
+}
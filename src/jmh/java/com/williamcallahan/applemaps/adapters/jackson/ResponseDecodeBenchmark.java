@@ -0,0 +1,121 @@
+package com.williamcallahan.applemaps.adapters.jackson;
+
+import com.williamcallahan.applemaps.adapters.fakeserver.ResponseFixtures;
+import com.williamcallahan.applemaps.domain.model.AlternateIdsResponse;
+import com.williamcallahan.applemaps.domain.model.DirectionsResponse;
+import com.williamcallahan.applemaps.domain.model.EtaResponse;
+import com.williamcallahan.applemaps.domain.model.Place;
+import com.williamcallahan.applemaps.domain.model.PlaceField;
+import com.williamcallahan.applemaps.domain.model.PlaceProjection;
+import com.williamcallahan.applemaps.domain.model.PlaceResults;
+import com.williamcallahan.applemaps.domain.model.PlacesResponse;
+import com.williamcallahan.applemaps.domain.model.ProjectedPlaceResults;
+import com.williamcallahan.applemaps.domain.model.SearchAutocompleteResponse;
+import com.williamcallahan.applemaps.domain.model.SearchResponse;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectReader;
+
+/**
+ * Decodes a {@link ResponseFixtures} payload for every response model.
+ *
+ * <p>Models with a hand-written streaming deserializer are also decoded reflectively for comparison.
+ * Payloads are decoded from {@code byte[]}, as the gateway receives them.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseDecodeBenchmark {
+    private final ObjectMapper streamingMapper = AppleMapsObjectMapperFactory.create();
+    private final ObjectMapper reflectiveMapper = AppleMapsObjectMapperFactory.createReflective();
+    private final ObjectReader idAndCoordinateReader = AppleMapsObjectMapperFactory.projectedPlaceResultsReader(
+        streamingMapper,
+        PlaceProjection.of(PlaceField.ID, PlaceField.COORDINATE)
+    );
+
+    private final byte[] searchPayload = ResponseFixtures.search();
+    private final byte[] geocodePayload = ResponseFixtures.geocode();
+    private final byte[] autocompletePayload = ResponseFixtures.autocomplete();
+    private final byte[] directionsPayload = ResponseFixtures.directions();
+    private final byte[] etasPayload = ResponseFixtures.etas();
+    private final byte[] placePayload = ResponseFixtures.place();
+    private final byte[] placesPayload = ResponseFixtures.places();
+    private final byte[] alternateIdsPayload = ResponseFixtures.alternateIds();
+
+    @Benchmark
+    public SearchResponse searchStreaming() {
+        return streamingMapper.readValue(searchPayload, SearchResponse.class);
+    }
+
+    @Benchmark
+    public SearchResponse searchReflective() {
+        return reflectiveMapper.readValue(searchPayload, SearchResponse.class);
+    }
+
+    @Benchmark
+    public ProjectedPlaceResults searchProjectedIdAndCoordinate() {
+        return idAndCoordinateReader.readValue(searchPayload);
+    }
+
+    @Benchmark
+    public PlaceResults geocodeStreaming() {
+        return streamingMapper.readValue(geocodePayload, PlaceResults.class);
+    }
+
+    @Benchmark
+    public PlaceResults geocodeReflective() {
+        return reflectiveMapper.readValue(geocodePayload, PlaceResults.class);
+    }
+
+    @Benchmark
+    public SearchAutocompleteResponse autocompleteStreaming() {
+        return streamingMapper.readValue(autocompletePayload, SearchAutocompleteResponse.class);
+    }
+
+    @Benchmark
+    public SearchAutocompleteResponse autocompleteReflective() {
+        return reflectiveMapper.readValue(autocompletePayload, SearchAutocompleteResponse.class);
+    }
+
+    @Benchmark
+    public DirectionsResponse directionsStreaming() {
+        return streamingMapper.readValue(directionsPayload, DirectionsResponse.class);
+    }
+
+    @Benchmark
+    public DirectionsResponse directionsReflective() {
+        return reflectiveMapper.readValue(directionsPayload, DirectionsResponse.class);
+    }
+
+    @Benchmark
+    public EtaResponse etas() {
+        return streamingMapper.readValue(etasPayload, EtaResponse.class);
+    }
+
+    @Benchmark
+    public Place place() {
+        return streamingMapper.readValue(placePayload, Place.class);
+    }
+
+    @Benchmark
+    public PlacesResponse places() {
+        return streamingMapper.readValue(placesPayload, PlacesResponse.class);
+    }
+
+    @Benchmark
+    public AlternateIdsResponse alternateIds() {
+        return streamingMapper.readValue(alternateIdsPayload, AlternateIdsResponse.class);
+    }
+}
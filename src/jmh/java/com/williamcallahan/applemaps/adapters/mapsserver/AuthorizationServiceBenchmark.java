@@ -0,0 +1,94 @@
+package com.williamcallahan.applemaps.adapters.mapsserver;
+
+import java.net.URI;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.williamcallahan.applemaps.adapters.jackson.AppleMapsObjectMapperFactory;
+
+/**
+ * Measures {@link AppleMapsAuthorizationService#getAccessToken()} on its cached fast path and while every
+ * call has to refresh, single-threaded and under contention.
+ *
+ * <p>States are benchmark-scoped, so all threads share one service and one cached token.</p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AuthorizationServiceBenchmark {
+    private static final int CONTENDED_THREADS = 8;
+    private static final URI TOKEN_URI = URI.create("https://maps-api.apple.com/v1/token");
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    @Benchmark
+    @Threads(1)
+    public String cachedToken(CachedToken state) {
+        return state.authorizationService.getAccessToken();
+    }
+
+    @Benchmark
+    @Threads(CONTENDED_THREADS)
+    public String cachedTokenContended(CachedToken state) {
+        return state.authorizationService.getAccessToken();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String refreshingToken(ExpiredToken state) {
+        return state.authorizationService.getAccessToken();
+    }
+
+    @Benchmark
+    @Threads(CONTENDED_THREADS)
+    public String refreshingTokenContended(ExpiredToken state) {
+        return state.authorizationService.getAccessToken();
+    }
+
+    /**
+     * A service whose token stays valid for the whole run.
+     */
+    @State(Scope.Benchmark)
+    public static class CachedToken {
+        final AppleMapsAuthorizationService authorizationService =
+            authorizationService(Instant.now().plus(Duration.ofDays(1)));
+    }
+
+    /**
+     * A service whose token is always inside the refresh grace period, so every call exchanges a new one.
+     */
+    @State(Scope.Benchmark)
+    public static class ExpiredToken {
+        final AppleMapsAuthorizationService authorizationService = authorizationService(Instant.EPOCH);
+    }
+
+    static AppleMapsAuthorizationService authorizationService(Instant tokenExpiry) {
+        return new AppleMapsAuthorizationService(
+            new AppleMapsAuthorizationService.Dependencies(
+                new AppleMapsAuthorizationService.Dependencies.DependenciesConfig(
+                    AppleMapsObjectMapperFactory.create(),
+                    new CannedHttpClient().respondWithAccessToken(tokenExpiry),
+                    TOKEN_URI,
+                    TIMEOUT,
+                    "auth-token",
+                    null,
+                    Clock.systemUTC()
+                )
+            )
+        );
+    }
+}
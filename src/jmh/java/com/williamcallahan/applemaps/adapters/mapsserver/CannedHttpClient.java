@@ -0,0 +1,196 @@
+package com.williamcallahan.applemaps.adapters.mapsserver;
+
+import java.net.Authenticator;
+import java.net.CookieHandler;
+import java.net.ProxySelector;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandler;
+import java.net.http.HttpResponse.BodySubscriber;
+import java.net.http.HttpResponse.PushPromiseHandler;
+import java.net.http.HttpResponse.ResponseInfo;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLParameters;
+import javax.net.ssl.SSLSession;
+
+import com.williamcallahan.applemaps.adapters.fakeserver.ResponseFixtures;
+
+/**
+ * In-process stand-in for the Apple Maps Server API that answers every request from canned payloads.
+ *
+ * <p>Responses are keyed by request path and delivered through the caller's {@link BodyHandler}, so the
+ * gateway's request building, authorization and decoding run exactly as in production while the
+ * network is taken out of the measurement. Unknown paths answer {@code 404}.</p>
+ */
+final class CannedHttpClient extends HttpClient {
+    private static final int OK = 200;
+    private static final int NOT_FOUND = 404;
+    private static final byte[] NOT_FOUND_BODY = "{\"error\":{\"message\":\"Not Found\"}}".getBytes(StandardCharsets.UTF_8);
+    private static final HttpHeaders JSON_HEADERS = HttpHeaders.of(
+        Map.of("Content-Type", List.of("application/json")),
+        (ignoredName, ignoredValue) -> true
+    );
+
+    private final Map<String, byte[]> responsesByPath = new ConcurrentHashMap<>();
+
+    /**
+     * Answers requests for a path with a {@code 200} and the given body.
+     *
+     * @param path request path, e.g. {@code /v1/search}
+     * @param body response body
+     * @return this client
+     */
+    CannedHttpClient respond(String path, byte[] body) {
+        responsesByPath.put(path, body.clone());
+        return this;
+    }
+
+    /**
+     * Answers {@code /v1/token} with an access token that expires at the given instant.
+     *
+     * @param expiresAt access token expiry
+     * @return this client
+     */
+    CannedHttpClient respondWithAccessToken(Instant expiresAt) {
+        return respond("/v1/token", ResponseFixtures.token(expiresAt));
+    }
+
+    @Override
+    public <T> HttpResponse<T> send(HttpRequest request, BodyHandler<T> responseBodyHandler) {
+        byte[] body = responsesByPath.get(request.uri().getPath());
+        int statusCode = body == null ? NOT_FOUND : OK;
+        ResponseInfo responseInfo = new CannedResponseInfo(statusCode, JSON_HEADERS);
+        BodySubscriber<T> bodySubscriber = responseBodyHandler.apply(responseInfo);
+        bodySubscriber.onSubscribe(new ImmediateSubscription());
+        bodySubscriber.onNext(List.of(ByteBuffer.wrap(body == null ? NOT_FOUND_BODY : body)));
+        bodySubscriber.onComplete();
+        T responseBody = bodySubscriber.getBody().toCompletableFuture().join();
+        return new CannedHttpResponse<>(statusCode, responseBody, JSON_HEADERS, request);
+    }
+
+    @Override
+    public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request, BodyHandler<T> responseBodyHandler) {
+        try {
+            return CompletableFuture.completedFuture(send(request, responseBodyHandler));
+        } catch (RuntimeException exception) {
+            return CompletableFuture.failedFuture(exception);
+        }
+    }
+
+    @Override
+    public <T> CompletableFuture<HttpResponse<T>> sendAsync(
+        HttpRequest request,
+        BodyHandler<T> responseBodyHandler,
+        PushPromiseHandler<T> pushPromiseHandler
+    ) {
+        return sendAsync(request, responseBodyHandler);
+    }
+
+    @Override
+    public Optional<CookieHandler> cookieHandler() {
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<Duration> connectTimeout() {
+        return Optional.empty();
+    }
+
+    @Override
+    public Redirect followRedirects() {
+        return Redirect.NEVER;
+    }
+
+    @Override
+    public Optional<ProxySelector> proxy() {
+        return Optional.empty();
+    }
+
+    @Override
+    public SSLContext sslContext() {
+        try {
+            return SSLContext.getDefault();
+        } catch (Exception exception) {
+            throw new IllegalStateException("Unable to create SSLContext", exception);
+        }
+    }
+
+    @Override
+    public SSLParameters sslParameters() {
+        return new SSLParameters();
+    }
+
+    @Override
+    public Optional<Authenticator> authenticator() {
+        return Optional.empty();
+    }
+
+    @Override
+    public HttpClient.Version version() {
+        return HttpClient.Version.HTTP_1_1;
+    }
+
+    @Override
+    public Optional<Executor> executor() {
+        return Optional.empty();
+    }
+
+    private record CannedResponseInfo(int statusCode, HttpHeaders headers) implements ResponseInfo {
+        @Override
+        public HttpClient.Version version() {
+            return HttpClient.Version.HTTP_1_1;
+        }
+    }
+
+    private static final class ImmediateSubscription implements Flow.Subscription {
+        @Override
+        public void request(long requested) {
+        }
+
+        @Override
+        public void cancel() {
+        }
+    }
+
+    private record CannedHttpResponse<T>(
+        int statusCode,
+        T body,
+        HttpHeaders headers,
+        HttpRequest request
+    ) implements HttpResponse<T> {
+        @Override
+        public Optional<HttpResponse<T>> previousResponse() {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<SSLSession> sslSession() {
+            return Optional.empty();
+        }
+
+        @Override
+        public URI uri() {
+            return request.uri();
+        }
+
+        @Override
+        public HttpClient.Version version() {
+            return HttpClient.Version.HTTP_1_1;
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.williamcallahan.applemaps.adapters.mapsserver;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.williamcallahan.applemaps.adapters.fakeserver.ResponseFixtures;
+import com.williamcallahan.applemaps.adapters.jackson.AppleMapsObjectMapperFactory;
+import com.williamcallahan.applemaps.domain.model.DirectionsEndpoint;
+import com.williamcallahan.applemaps.domain.model.DirectionsResponse;
+import com.williamcallahan.applemaps.domain.model.EtaResponse;
+import com.williamcallahan.applemaps.domain.model.PlaceField;
+import com.williamcallahan.applemaps.domain.model.PlaceProjection;
+import com.williamcallahan.applemaps.domain.model.PlaceResults;
+import com.williamcallahan.applemaps.domain.model.PlacesResponse;
+import com.williamcallahan.applemaps.domain.model.ProjectedPlaceResults;
+import com.williamcallahan.applemaps.domain.model.RouteLocation;
+import com.williamcallahan.applemaps.domain.model.SearchAutocompleteResponse;
+import com.williamcallahan.applemaps.domain.model.SearchLocation;
+import com.williamcallahan.applemaps.domain.model.SearchResponse;
+import com.williamcallahan.applemaps.domain.request.DirectionsInput;
+import com.williamcallahan.applemaps.domain.request.EtaInput;
+import com.williamcallahan.applemaps.domain.request.GeocodeInput;
+import com.williamcallahan.applemaps.domain.request.PlaceLookupInput;
+import com.williamcallahan.applemaps.domain.request.SearchAutocompleteInput;
+import com.williamcallahan.applemaps.domain.request.SearchInput;
+
+/**
+ * Measures a full {@link HttpAppleMapsGateway} call per operation against {@link CannedHttpClient}.
+ *
+ * <p>Each call builds the query string and request, reads the cached access token, receives the canned
+ * {@link ResponseFixtures} payload through the JDK body handler and decodes it. The difference to the
+ * matching {@code ResponseDecodeBenchmark} result is the gateway's own overhead.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GatewayBenchmark {
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private final HttpAppleMapsGateway gateway = new HttpAppleMapsGateway(
+        new GatewayDependencies(
+            new GatewayDependencies.DependenciesConfig(
+                AuthorizationServiceBenchmark.authorizationService(Instant.now().plus(Duration.ofDays(1))),
+                AppleMapsObjectMapperFactory.create(),
+                new CannedHttpClient()
+                    .respond("/v1/geocode", ResponseFixtures.geocode())
+                    .respond("/v1/reverseGeocode", ResponseFixtures.geocode())
+                    .respond("/v1/search", ResponseFixtures.search())
+                    .respond("/v1/searchAutocomplete", ResponseFixtures.autocomplete())
+                    .respond("/v1/directions", ResponseFixtures.directions())
+                    .respond("/v1/etas", ResponseFixtures.etas())
+                    .respond("/v1/place", ResponseFixtures.places()),
+                TIMEOUT,
+                Executors.newSingleThreadExecutor()
+            )
+        )
+    );
+
+    private final GeocodeInput geocodeInput = GeocodeInput.builder("Jungfernstieg 1, 20354 Hamburg")
+        .language("de-DE")
+        .build();
+    private final SearchInput searchInput = SearchInput.builder("coffee")
+        .searchLocation(SearchLocation.fromLatitudeLongitude(53.5511, 9.9937))
+        .language("en-US")
+        .build();
+    private final PlaceProjection idAndCoordinate = PlaceProjection.of(PlaceField.ID, PlaceField.COORDINATE);
+    private final SearchAutocompleteInput autocompleteInput = SearchAutocompleteInput.builder("coffee jungf")
+        .searchLocation(SearchLocation.fromLatitudeLongitude(53.5511, 9.9937))
+        .build();
+    private final DirectionsInput directionsInput = DirectionsInput.builder(
+            DirectionsEndpoint.fromAddress("Jungfernstieg 1, Hamburg"),
+            DirectionsEndpoint.fromLatitudeLongitude(53.5438, 9.9886)
+        )
+        .requestsAlternateRoutes(true)
+        .build();
+    private final EtaInput etaInput = EtaInput.builder(
+            RouteLocation.fromLatitudeLongitude(53.5511, 9.9937),
+            List.of(
+                RouteLocation.fromLatitudeLongitude(53.5438, 9.9886),
+                RouteLocation.fromLatitudeLongitude(53.5627, 10.0021)
+            )
+        )
+        .build();
+    private final PlaceLookupInput placeLookupInput = PlaceLookupInput.builder(List.of("I1", "I2", "I3")).build();
+
+    @TearDown
+    public void closeGateway() {
+        gateway.close();
+    }
+
+    @Benchmark
+    public PlaceResults geocode() {
+        return gateway.geocode(geocodeInput);
+    }
+
+    @Benchmark
+    public PlaceResults reverseGeocode() {
+        return gateway.reverseGeocode(53.5511, 9.9937, "en-US");
+    }
+
+    @Benchmark
+    public SearchResponse search() {
+        return gateway.search(searchInput);
+    }
+
+    @Benchmark
+    public ProjectedPlaceResults searchProjectedIdAndCoordinate() {
+        return gateway.search(searchInput, idAndCoordinate);
+    }
+
+    @Benchmark
+    public SearchAutocompleteResponse autocomplete() {
+        return gateway.autocomplete(autocompleteInput);
+    }
+
+    @Benchmark
+    public DirectionsResponse directions() {
+        return gateway.directions(directionsInput);
+    }
+
+    @Benchmark
+    public EtaResponse etas() {
+        return gateway.etas(etaInput);
+    }
+
+    @Benchmark
+    public PlacesResponse lookupPlaces() {
+        return gateway.lookupPlaces(placeLookupInput);
+    }
+}
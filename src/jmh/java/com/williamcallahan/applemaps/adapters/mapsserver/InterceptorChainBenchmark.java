@@ -0,0 +1,78 @@
+package com.williamcallahan.applemaps.adapters.mapsserver;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.williamcallahan.applemaps.adapters.fakeserver.ResponseFixtures;
+import com.williamcallahan.applemaps.adapters.jackson.AppleMapsObjectMapperFactory;
+import com.williamcallahan.applemaps.adapters.metrics.AppleMapsMetrics;
+import com.williamcallahan.applemaps.domain.model.PlaceResults;
+import com.williamcallahan.applemaps.domain.request.GeocodeInput;
+
+/**
+ * Measures a geocode call through {@link HttpAppleMapsGateway} with 0, 1 and 4 pass-through
+ * {@link ApiInterceptor}s against {@link CannedHttpClient}.
+ *
+ * <p>With {@code interceptors=0} the gateway calls the network exchange directly, so that result is the
+ * baseline; the others show the per-interceptor cost of the chain.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InterceptorChainBenchmark {
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+    private static final ApiInterceptor PASS_THROUGH = (call, chain) -> chain.proceed(call);
+
+    @Param({"0", "1", "4"})
+    public int interceptors;
+
+    private final GeocodeInput geocodeInput = GeocodeInput.builder("Jungfernstieg 1, 20354 Hamburg").build();
+    private HttpAppleMapsGateway gateway;
+
+    @Setup
+    public void createGateway() {
+        gateway = new HttpAppleMapsGateway(
+            new GatewayDependencies(
+                new GatewayDependencies.DependenciesConfig(
+                    AuthorizationServiceBenchmark.authorizationService(Instant.now().plus(Duration.ofDays(1))),
+                    AppleMapsObjectMapperFactory.create(),
+                    new CannedHttpClient().respond("/v1/geocode", ResponseFixtures.geocode()),
+                    TIMEOUT,
+                    Executors.newSingleThreadExecutor(),
+                    ApiServer.DEFAULT,
+                    AppleMapsMetrics.NONE,
+                    Collections.nCopies(interceptors, PASS_THROUGH)
+                )
+            )
+        );
+    }
+
+    @TearDown
+    public void closeGateway() {
+        gateway.close();
+    }
+
+    @Benchmark
+    public PlaceResults geocode() {
+        return gateway.geocode(geocodeInput);
+    }
+}
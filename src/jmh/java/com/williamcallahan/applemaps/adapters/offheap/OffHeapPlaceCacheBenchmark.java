@@ -0,0 +1,65 @@
+package com.williamcallahan.applemaps.adapters.offheap;
+
+import com.williamcallahan.applemaps.adapters.fakeserver.SyntheticPayloads;
+import com.williamcallahan.applemaps.adapters.jackson.AppleMapsObjectMapperFactory;
+import com.williamcallahan.applemaps.domain.model.Place;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures hits, which decode a place from off-heap memory, and stores, which encode one, against a cache
+ * filled with distinct place IDs. Run with {@code -prof gc} to see that the heap holds only the index and the
+ * place decoded per hit, whatever the number of cached places.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = "-XX:MaxDirectMemorySize=2g")
+public class OffHeapPlaceCacheBenchmark {
+    private static final String LANGUAGE = "en-US";
+
+    @Param({"100000", "1000000"})
+    public int places;
+
+    private OffHeapPlaceCache cache;
+    private Place place;
+
+    @Setup(Level.Trial)
+    public void fillCache() {
+        place = AppleMapsObjectMapperFactory.create()
+            .readValue(SyntheticPayloads.builder().build().place(), Place.class);
+        cache = new OffHeapPlaceCache(OffHeapStore.builder().maxBytes(1L << 30).build());
+        for (int index = 0; index < places; index++) {
+            cache.storePlace(placeId(index), LANGUAGE, place);
+        }
+    }
+
+    @Benchmark
+    public Optional<Place> hit() {
+        return cache.lookupPlace(placeId(ThreadLocalRandom.current().nextInt(places)), LANGUAGE);
+    }
+
+    @Benchmark
+    public boolean store() {
+        return cache.storePlace(placeId(ThreadLocalRandom.current().nextInt(places)), LANGUAGE, place);
+    }
+
+    private static String placeId(int index) {
+        return "I" + Integer.toHexString(index);
+    }
+}
@@ -0,0 +1,81 @@
+package com.williamcallahan.applemaps.adapters.spatial;
+
+import com.williamcallahan.applemaps.domain.model.Location;
+import com.williamcallahan.applemaps.domain.model.PoiCategory;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures proximity queries against 100,000 places spread over a 20 km city, about one place per 4,000 m².
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlaceIndexBenchmark {
+    private static final int PLACE_COUNT = 100_000;
+    private static final int QUERY_COUNT = 1_024;
+    // About 10 km either side of the centre.
+    private static final double SPREAD_DEGREES = 0.09;
+    private static final PoiCategory[] CATEGORIES = PoiCategory.values();
+
+    private final PlaceIndex index = new PlaceIndex();
+    private Location[] queries;
+    private int next;
+
+    @Setup
+    public void populate() {
+        SplittableRandom random = new SplittableRandom(5L);
+        for (int place = 0; place < PLACE_COUNT; place++) {
+            Location coordinate = new Location(
+                53.55 + random.nextDouble(-SPREAD_DEGREES, SPREAD_DEGREES),
+                9.99 + random.nextDouble(-SPREAD_DEGREES, SPREAD_DEGREES)
+            );
+            String id = "I" + place;
+            index.add(new IndexedPlace(id, Optional.of(id), "Place " + place, coordinate,
+                Optional.of(CATEGORIES[place % CATEGORIES.length])));
+        }
+        queries = new Location[QUERY_COUNT];
+        for (int query = 0; query < QUERY_COUNT; query++) {
+            queries[query] = new Location(
+                53.55 + random.nextDouble(-SPREAD_DEGREES, SPREAD_DEGREES),
+                9.99 + random.nextDouble(-SPREAD_DEGREES, SPREAD_DEGREES)
+            );
+        }
+    }
+
+    @Benchmark
+    public List<NearbyPlace> within200Meters() {
+        return index.withinRadius(nextQuery(), 200.0);
+    }
+
+    @Benchmark
+    public List<NearbyPlace> nearestTenWithin2Kilometers() {
+        return index.nearest(nextQuery(), 10, 2_000.0, Set.of());
+    }
+
+    @Benchmark
+    public List<NearbyPlace> nearestCafeWithin2Kilometers() {
+        return index.nearest(nextQuery(), 1, 2_000.0, Set.of(PoiCategory.CAFE));
+    }
+
+    private Location nextQuery() {
+        next = (next + 1) & (QUERY_COUNT - 1);
+        return queries[next];
+    }
+}
@@ -0,0 +1,76 @@
+package com.williamcallahan.applemaps.domain.geometry;
+
+import com.williamcallahan.applemaps.domain.model.Polyline;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures simplification and encoded-polyline export of route-sized paths.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RouteGeometryBenchmark {
+    private static final int ROUTE_COUNT = 8;
+    private static final int POINTS_PER_ROUTE = 2_000;
+    // Roughly 10 m between points, with up to 3 m of lateral jitter.
+    private static final double STEP_DEGREES = 0.0001;
+    private static final double JITTER_DEGREES = 0.00003;
+
+    private final PolylineSimplifier simplifier = new PolylineSimplifier(5.0);
+    private List<Polyline> routes;
+    private String encodedRoute;
+
+    @Setup
+    public void createRoutes() {
+        SplittableRandom random = new SplittableRandom(3L);
+        routes = new ArrayList<>(ROUTE_COUNT);
+        for (int route = 0; route < ROUTE_COUNT; route++) {
+            Polyline.Builder builder = Polyline.builder(POINTS_PER_ROUTE);
+            double latitude = 53.5;
+            double longitude = 9.9;
+            for (int point = 0; point < POINTS_PER_ROUTE; point++) {
+                latitude += STEP_DEGREES;
+                longitude += STEP_DEGREES * ((point / 200) % 2 == 0 ? 1 : -1);
+                builder.add(latitude + random.nextDouble(-JITTER_DEGREES, JITTER_DEGREES), longitude);
+            }
+            routes.add(builder.build());
+        }
+        encodedRoute = EncodedPolylineCodec.STANDARD.encode(routes.get(0));
+    }
+
+    @Benchmark
+    public Polyline simplifyOneRoute() {
+        return simplifier.simplify(routes.get(0));
+    }
+
+    @Benchmark
+    public List<Polyline> simplifyAllRoutesParallel() {
+        return simplifier.simplifyAll(routes);
+    }
+
+    @Benchmark
+    public String encodeOneRoute() {
+        return EncodedPolylineCodec.STANDARD.encode(routes.get(0));
+    }
+
+    @Benchmark
+    public Polyline decodeOneRoute() {
+        return EncodedPolylineCodec.STANDARD.decode(encodedRoute);
+    }
+}
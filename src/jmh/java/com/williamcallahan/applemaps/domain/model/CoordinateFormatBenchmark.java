@@ -0,0 +1,76 @@
+package com.williamcallahan.applemaps.domain.model;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares {@link CoordinateFormat} against {@link Double#toString(double)} for coordinate pairs.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CoordinateFormatBenchmark {
+    private static final int COORDINATE_COUNT = 1024;
+    private static final CoordinateFormat SIX_DECIMALS = CoordinateFormat.fixedDecimals(6);
+
+    private final double[] latitudes = new double[COORDINATE_COUNT];
+    private final double[] longitudes = new double[COORDINATE_COUNT];
+    private final StringBuilder buffer = new StringBuilder(64);
+    private int cursor;
+
+    @Setup
+    public void createCoordinates() {
+        SplittableRandom random = new SplittableRandom(7L);
+        for (int index = 0; index < COORDINATE_COUNT; index++) {
+            // Six-decimal inputs mirror what GPS fixes and API responses usually carry.
+            latitudes[index] = Math.round(random.nextDouble(-90.0, 90.0) * 1e6) / 1e6;
+            longitudes[index] = Math.round(random.nextDouble(-180.0, 180.0) * 1e6) / 1e6;
+        }
+    }
+
+    @Benchmark
+    public String doubleToStringPair() {
+        int index = nextIndex();
+        return Double.toString(latitudes[index]) + "," + Double.toString(longitudes[index]);
+    }
+
+    @Benchmark
+    public String shortestPair() {
+        return appendPair(CoordinateFormat.SHORTEST).toString();
+    }
+
+    @Benchmark
+    public String fixedSixDecimalsPair() {
+        return appendPair(SIX_DECIMALS).toString();
+    }
+
+    @Benchmark
+    public int shortestPairIntoBuffer() {
+        return appendPair(CoordinateFormat.SHORTEST).length();
+    }
+
+    private StringBuilder appendPair(CoordinateFormat coordinateFormat) {
+        int index = nextIndex();
+        buffer.setLength(0);
+        coordinateFormat.appendTo(buffer, latitudes[index]).append(',');
+        return coordinateFormat.appendTo(buffer, longitudes[index]);
+    }
+
+    private int nextIndex() {
+        cursor = (cursor + 1) & (COORDINATE_COUNT - 1);
+        return cursor;
+    }
+}
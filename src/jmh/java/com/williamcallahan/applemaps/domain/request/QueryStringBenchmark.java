@@ -0,0 +1,192 @@
+package com.williamcallahan.applemaps.domain.request;
+
+import com.williamcallahan.applemaps.domain.model.AddressCategory;
+import com.williamcallahan.applemaps.domain.model.DirectionsAvoid;
+import com.williamcallahan.applemaps.domain.model.DirectionsEndpoint;
+import com.williamcallahan.applemaps.domain.model.PoiCategory;
+import com.williamcallahan.applemaps.domain.model.RouteLocation;
+import com.williamcallahan.applemaps.domain.model.SearchACResultType;
+import com.williamcallahan.applemaps.domain.model.SearchLocation;
+import com.williamcallahan.applemaps.domain.model.SearchRegion;
+import com.williamcallahan.applemaps.domain.model.SearchRegionPriority;
+import com.williamcallahan.applemaps.domain.model.SearchResultType;
+import com.williamcallahan.applemaps.domain.model.TransportType;
+import com.williamcallahan.applemaps.domain.model.UserLocation;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures query-string building for every request input.
+ *
+ * <p>Search and geocode are also built with the previous list-and-concatenate approach for comparison.</p>
+ *
+ * <p>Run with the {@code gc} profiler (configured in the build) to compare {@code gc.alloc.rate.norm}.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QueryStringBenchmark {
+    private static final String LIST_SEPARATOR = ",";
+    private static final int ETA_DESTINATION_COUNT = 10;
+    private static final int PLACE_ID_COUNT = 20;
+
+    private final SearchInput searchInput = SearchInput.builder("coffee near Jungfernstieg")
+        .includePoiCategories(List.of(PoiCategory.CAFE, PoiCategory.BAKERY))
+        .excludePoiCategories(List.of(PoiCategory.PARK))
+        .limitToCountries(List.of("DE", "AT"))
+        .resultTypeFilter(List.of(SearchResultType.POI))
+        .includeAddressCategories(List.of(AddressCategory.LOCALITY))
+        .language("en-US")
+        .searchLocation(SearchLocation.fromLatitudeLongitude(53.57, 10.0))
+        .searchRegion(SearchRegion.fromBounds(54.0, 10.5, 53.0, 9.5))
+        .userLocation(UserLocation.fromLatitudeLongitude(53.6, 10.2))
+        .searchRegionPriority(SearchRegionPriority.REQUIRED)
+        .enablePagination(true)
+        .build();
+
+    private final GeocodeInput geocodeInput = GeocodeInput.builder("Jungfernstieg 1, 20354 Hamburg")
+        .limitToCountries(List.of("DE"))
+        .language("de-DE")
+        .build();
+
+    private final SearchAutocompleteInput autocompleteInput = SearchAutocompleteInput.builder("coffee jungf")
+        .resultTypeFilter(List.of(SearchACResultType.POI, SearchACResultType.QUERY))
+        .language("en-US")
+        .searchLocation(SearchLocation.fromLatitudeLongitude(53.57, 10.0))
+        .userLocation(UserLocation.fromLatitudeLongitude(53.6, 10.2))
+        .build();
+
+    private final DirectionsInput directionsInput = DirectionsInput.builder(
+            DirectionsEndpoint.fromAddress("Jungfernstieg 1, Hamburg"),
+            DirectionsEndpoint.fromLatitudeLongitude(53.5511, 9.9937)
+        )
+        .avoid(List.of(DirectionsAvoid.TOLLS))
+        .departureDate("2026-01-01T08:00:00Z")
+        .language("de-DE")
+        .requestsAlternateRoutes(true)
+        .transportType(TransportType.AUTOMOBILE)
+        .userLocation(RouteLocation.fromLatitudeLongitude(53.6, 10.2))
+        .build();
+
+    private final EtaInput etaInput = EtaInput.builder(
+            RouteLocation.fromLatitudeLongitude(53.5511, 9.9937),
+            etaDestinations()
+        )
+        .transportType(TransportType.WALKING)
+        .build();
+
+    private final PlaceLookupInput placeLookupInput = PlaceLookupInput.builder(placeIds())
+        .language("en-US")
+        .build();
+
+    private final AlternateIdsInput alternateIdsInput = AlternateIdsInput.builder(placeIds()).build();
+
+    @Benchmark
+    public String searchQueryString() {
+        return searchInput.toQueryString();
+    }
+
+    @Benchmark
+    public String searchQueryStringLegacy() {
+        return legacySearchQueryString(searchInput);
+    }
+
+    @Benchmark
+    public String geocodeQueryString() {
+        return geocodeInput.toQueryString();
+    }
+
+    @Benchmark
+    public String geocodeQueryStringLegacy() {
+        List<String> parameters = new ArrayList<>();
+        parameters.add("q=" + encode(geocodeInput.address()));
+        parameters.add("limitToCountries=" + joinValues(geocodeInput.limitToCountries(), QueryStringBenchmark::encode));
+        geocodeInput.language().ifPresent(value -> parameters.add("lang=" + encode(value)));
+        return "?" + String.join("&", parameters);
+    }
+
+    @Benchmark
+    public String autocompleteQueryString() {
+        return autocompleteInput.toQueryString();
+    }
+
+    @Benchmark
+    public String directionsQueryString() {
+        return directionsInput.toQueryString();
+    }
+
+    @Benchmark
+    public String etaQueryString() {
+        return etaInput.toQueryString();
+    }
+
+    @Benchmark
+    public String placeLookupQueryString() {
+        return placeLookupInput.toQueryString();
+    }
+
+    @Benchmark
+    public String alternateIdsQueryString() {
+        return alternateIdsInput.toQueryString();
+    }
+
+    private static List<RouteLocation> etaDestinations() {
+        List<RouteLocation> destinations = new ArrayList<>();
+        for (int index = 0; index < ETA_DESTINATION_COUNT; index++) {
+            destinations.add(RouteLocation.fromLatitudeLongitude(53.5 + index * 0.01, 9.9 + index * 0.01));
+        }
+        return destinations;
+    }
+
+    private static List<String> placeIds() {
+        List<String> ids = new ArrayList<>();
+        for (int index = 0; index < PLACE_ID_COUNT; index++) {
+            ids.add("I7C250D2CDCB364A" + index);
+        }
+        return ids;
+    }
+
+    private static String legacySearchQueryString(SearchInput input) {
+        List<String> parameters = new ArrayList<>();
+        parameters.add("q=" + encode(input.q()));
+        parameters.add("excludePoiCategories=" + joinValues(input.excludePoiCategories(), PoiCategory::apiValue));
+        parameters.add("includePoiCategories=" + joinValues(input.includePoiCategories(), PoiCategory::apiValue));
+        parameters.add("limitToCountries=" + joinValues(input.limitToCountries(), QueryStringBenchmark::encode));
+        parameters.add("resultTypeFilter=" + joinValues(input.resultTypeFilter(), SearchResultType::apiValue));
+        parameters.add("includeAddressCategories=" + joinValues(input.includeAddressCategories(), AddressCategory::apiValue));
+        input.language().ifPresent(value -> parameters.add("lang=" + encode(value)));
+        input.searchLocation().ifPresent(value -> parameters.add("searchLocation=" + value.toQueryString()));
+        input.searchRegion().ifPresent(value -> parameters.add("searchRegion=" + value.toQueryString()));
+        input.userLocation().ifPresent(value -> parameters.add("userLocation=" + value.toQueryString()));
+        input.searchRegionPriority().ifPresent(value -> parameters.add("searchRegionPriority=" + value.apiValue()));
+        input.enablePagination().ifPresent(value -> parameters.add("enablePagination=" + value));
+        return "?" + String.join("&", parameters);
+    }
+
+    private static <T> String joinValues(List<T> values, Function<T, String> valueMapper) {
+        return values.stream()
+            .map(valueMapper)
+            .reduce((left, right) -> left + LIST_SEPARATOR + right)
+            .orElse("");
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
@@ -12,8 +12,10 @@ import com.williamcallahan.applemaps.domain.model.AutocompleteResult;
 import com.williamcallahan.applemaps.domain.model.DirectionsResponse;
 import com.williamcallahan.applemaps.domain.model.EtaResponse;
 import com.williamcallahan.applemaps.domain.model.Place;
+import com.williamcallahan.applemaps.domain.model.PlaceProjection;
 import com.williamcallahan.applemaps.domain.model.PlaceResults;
 import com.williamcallahan.applemaps.domain.model.PlacesResponse;
+import com.williamcallahan.applemaps.domain.model.ProjectedPlaceResults;
 import com.williamcallahan.applemaps.domain.model.SearchAutocompleteResponse;
 import com.williamcallahan.applemaps.domain.model.SearchResponse;
 import com.williamcallahan.applemaps.domain.port.AppleMapsGateway;
@@ -95,6 +97,17 @@ public final class AppleMaps implements AutoCloseable {
         return gateway.geocode(input);
     }
 
+    /**
+     * Performs a geocode request, materializing only the requested place fields.
+     *
+     * @param input geocode request parameters
+     * @param projection place fields to keep
+     * @return projected geocode results
+     */
+    public ProjectedPlaceResults geocode(GeocodeInput input, PlaceProjection projection) {
+        return gateway.geocode(input, Objects.requireNonNull(projection, "projection"));
+    }
+
     /**
      * Performs a search request.
      *
@@ -105,6 +118,17 @@ public final class AppleMaps implements AutoCloseable {
         return gateway.search(input);
     }
 
+    /**
+     * Performs a search request, materializing only the requested place fields.
+     *
+     * @param input search request parameters
+     * @param projection place fields to keep
+     * @return projected search results
+     */
+    public ProjectedPlaceResults search(SearchInput input, PlaceProjection projection) {
+        return gateway.search(input, Objects.requireNonNull(projection, "projection"));
+    }
+
     /**
      * Performs an autocomplete request.
      *
@@ -0,0 +1,41 @@
+package com.williamcallahan.applemaps.adapters.binarycodec;
+
+/**
+ * Layout constants of the binary model format.
+ *
+ * <p>An encoded value is the 3-byte magic {@code AMB}, a format version byte, a type byte, a string table and
+ * the body. The string table is a varint count followed by each string as a varint byte length and its UTF-8
+ * bytes. Within the body, strings are varint indexes into the table, lists are a varint count followed by
+ * their elements, and each record with optional components starts with a varint presence bitmap. Only
+ * present values follow.</p>
+ */
+final class BinaryFormat {
+    static final byte[] MAGIC = {'A', 'M', 'B'};
+    static final int VERSION = 1;
+    static final int HEADER_LENGTH = MAGIC.length + 2;
+    static final double FIXED_POINT_SCALE = 1e7;
+
+    static final int TYPE_PLACE = 1;
+    static final int TYPE_PLACE_RESULTS = 2;
+    static final int TYPE_SEARCH_RESPONSE = 3;
+    static final int TYPE_AUTOCOMPLETE_RESPONSE = 4;
+    static final int TYPE_DIRECTIONS_RESPONSE = 5;
+    static final int TYPE_ETA_RESPONSE = 6;
+
+    // Larger magnitudes would overflow the fixed-point encoding; coordinates never reach them.
+    private static final double MAX_FIXED_POINT_MAGNITUDE = 1_000.0;
+    private static final long NEGATIVE_ZERO_BITS = Double.doubleToRawLongBits(-0.0);
+
+    private BinaryFormat() {
+    }
+
+    /**
+     * Returns whether a value is recovered exactly from its nearest multiple of 10<sup>-7</sup>, as any
+     * decimal with at most seven fractional digits is.
+     */
+    static boolean isFixedPoint(double value) {
+        return Math.abs(value) <= MAX_FIXED_POINT_MAGNITUDE
+            && Double.doubleToRawLongBits(value) != NEGATIVE_ZERO_BITS
+            && Math.round(value * FIXED_POINT_SCALE) / FIXED_POINT_SCALE == value;
+    }
+}
@@ -0,0 +1,196 @@
+package com.williamcallahan.applemaps.adapters.binarycodec;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import com.williamcallahan.applemaps.domain.model.AutocompleteResult;
+import com.williamcallahan.applemaps.domain.model.DirectionsResponse;
+import com.williamcallahan.applemaps.domain.model.EtaResponse;
+import com.williamcallahan.applemaps.domain.model.Place;
+import com.williamcallahan.applemaps.domain.model.PlaceResults;
+import com.williamcallahan.applemaps.domain.model.SearchAutocompleteResponse;
+import com.williamcallahan.applemaps.domain.model.SearchResponse;
+
+/**
+ * Compact, versioned binary encoding of decoded response models, for cache tiers and messages between
+ * services where JSON is too large or too slow to parse again.
+ *
+ * <p>Each encoded value starts with a magic number, a format version and the model type, so a payload is
+ * never decoded as the wrong type or by an incompatible reader. Strings are stored once in a table and then
+ * referenced by index; integers are varints; coordinates are varints of 10<sup>-7</sup> degree units, and step
+ * paths are deltas between such units. A coordinate with more precision is stored as a raw double, so every
+ * value decodes equal to the one encoded. Optional components cost one bit when absent.</p>
+ *
+ * <p>Decoding fails with an {@link IllegalArgumentException} when the payload is malformed, truncated, of
+ * another type or version, or has bytes left over. Instances are stateless and safe to share.</p>
+ */
+public final class BinaryModelCodec {
+    /**
+     * Creates a codec.
+     */
+    public BinaryModelCodec() {
+    }
+
+    /**
+     * Encodes a place.
+     *
+     * @param place the place
+     * @return the encoded bytes
+     */
+    public byte[] encode(Place place) {
+        BinaryWriter writer = new BinaryWriter();
+        PlaceFormat.writePlace(writer, Objects.requireNonNull(place, "place"));
+        return writer.toByteArray(BinaryFormat.TYPE_PLACE);
+    }
+
+    /**
+     * Encodes geocode or reverse geocode results.
+     *
+     * @param results the results
+     * @return the encoded bytes
+     */
+    public byte[] encode(PlaceResults results) {
+        BinaryWriter writer = new BinaryWriter();
+        PlaceFormat.writePlaces(writer, Objects.requireNonNull(results, "results").results());
+        return writer.toByteArray(BinaryFormat.TYPE_PLACE_RESULTS);
+    }
+
+    /**
+     * Encodes a search response.
+     *
+     * @param response the response
+     * @return the encoded bytes
+     */
+    public byte[] encode(SearchResponse response) {
+        BinaryWriter writer = new BinaryWriter();
+        PlaceFormat.writeSearchResponse(writer, Objects.requireNonNull(response, "response"));
+        return writer.toByteArray(BinaryFormat.TYPE_SEARCH_RESPONSE);
+    }
+
+    /**
+     * Encodes an autocomplete response.
+     *
+     * @param response the response
+     * @return the encoded bytes
+     */
+    public byte[] encode(SearchAutocompleteResponse response) {
+        BinaryWriter writer = new BinaryWriter();
+        List<AutocompleteResult> results = Objects.requireNonNull(response, "response").results();
+        writer.varint(results.size());
+        for (AutocompleteResult result : results) {
+            PlaceFormat.writeAutocompleteResult(writer, result);
+        }
+        return writer.toByteArray(BinaryFormat.TYPE_AUTOCOMPLETE_RESPONSE);
+    }
+
+    /**
+     * Encodes a directions response.
+     *
+     * @param response the response
+     * @return the encoded bytes
+     */
+    public byte[] encode(DirectionsResponse response) {
+        BinaryWriter writer = new BinaryWriter();
+        RouteFormat.writeDirections(writer, Objects.requireNonNull(response, "response"));
+        return writer.toByteArray(BinaryFormat.TYPE_DIRECTIONS_RESPONSE);
+    }
+
+    /**
+     * Encodes an ETA response.
+     *
+     * @param response the response
+     * @return the encoded bytes
+     */
+    public byte[] encode(EtaResponse response) {
+        BinaryWriter writer = new BinaryWriter();
+        RouteFormat.writeEtas(writer, Objects.requireNonNull(response, "response"));
+        return writer.toByteArray(BinaryFormat.TYPE_ETA_RESPONSE);
+    }
+
+    /**
+     * Decodes a place.
+     *
+     * @param bytes bytes from {@link #encode(Place)}
+     * @return the place
+     */
+    public Place decodePlace(byte[] bytes) {
+        BinaryReader reader = reader(bytes, BinaryFormat.TYPE_PLACE);
+        Place place = PlaceFormat.readPlace(reader);
+        reader.finish();
+        return place;
+    }
+
+    /**
+     * Decodes geocode or reverse geocode results.
+     *
+     * @param bytes bytes from {@link #encode(PlaceResults)}
+     * @return the results
+     */
+    public PlaceResults decodePlaceResults(byte[] bytes) {
+        BinaryReader reader = reader(bytes, BinaryFormat.TYPE_PLACE_RESULTS);
+        PlaceResults results = new PlaceResults(PlaceFormat.readPlaces(reader));
+        reader.finish();
+        return results;
+    }
+
+    /**
+     * Decodes a search response.
+     *
+     * @param bytes bytes from {@link #encode(SearchResponse)}
+     * @return the response
+     */
+    public SearchResponse decodeSearchResponse(byte[] bytes) {
+        BinaryReader reader = reader(bytes, BinaryFormat.TYPE_SEARCH_RESPONSE);
+        SearchResponse response = PlaceFormat.readSearchResponse(reader);
+        reader.finish();
+        return response;
+    }
+
+    /**
+     * Decodes an autocomplete response.
+     *
+     * @param bytes bytes from {@link #encode(SearchAutocompleteResponse)}
+     * @return the response
+     */
+    public SearchAutocompleteResponse decodeAutocompleteResponse(byte[] bytes) {
+        BinaryReader reader = reader(bytes, BinaryFormat.TYPE_AUTOCOMPLETE_RESPONSE);
+        int size = reader.count();
+        List<AutocompleteResult> results = new ArrayList<>(Math.min(size, bytes.length));
+        for (int index = 0; index < size; index++) {
+            results.add(PlaceFormat.readAutocompleteResult(reader));
+        }
+        reader.finish();
+        return new SearchAutocompleteResponse(results);
+    }
+
+    /**
+     * Decodes a directions response.
+     *
+     * @param bytes bytes from {@link #encode(DirectionsResponse)}
+     * @return the response
+     */
+    public DirectionsResponse decodeDirectionsResponse(byte[] bytes) {
+        BinaryReader reader = reader(bytes, BinaryFormat.TYPE_DIRECTIONS_RESPONSE);
+        DirectionsResponse response = RouteFormat.readDirections(reader);
+        reader.finish();
+        return response;
+    }
+
+    /**
+     * Decodes an ETA response.
+     *
+     * @param bytes bytes from {@link #encode(EtaResponse)}
+     * @return the response
+     */
+    public EtaResponse decodeEtaResponse(byte[] bytes) {
+        BinaryReader reader = reader(bytes, BinaryFormat.TYPE_ETA_RESPONSE);
+        EtaResponse response = RouteFormat.readEtas(reader);
+        reader.finish();
+        return response;
+    }
+
+    private static BinaryReader reader(byte[] bytes, int type) {
+        return new BinaryReader(Objects.requireNonNull(bytes, "bytes"), type);
+    }
+}
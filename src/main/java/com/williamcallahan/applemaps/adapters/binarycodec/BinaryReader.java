@@ -0,0 +1,157 @@
+package com.williamcallahan.applemaps.adapters.binarycodec;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.williamcallahan.applemaps.domain.model.Polyline;
+
+/**
+ * Reads one value written by {@link BinaryWriter}, after checking its header and loading its string table.
+ * Every malformed input fails with an {@link IllegalArgumentException}.
+ */
+final class BinaryReader {
+    private static final int MAX_VARINT_SHIFT = 63;
+
+    private final byte[] bytes;
+    private int position;
+    private final String[] strings;
+
+    BinaryReader(byte[] bytes, int expectedType) {
+        this.bytes = bytes;
+        for (byte magic : BinaryFormat.MAGIC) {
+            if (readByte() != magic) {
+                throw new IllegalArgumentException("Not a binary model payload.");
+            }
+        }
+        int version = readByte();
+        if (version != BinaryFormat.VERSION) {
+            throw new IllegalArgumentException("Unsupported binary model version " + version + ".");
+        }
+        int type = readByte();
+        if (type != expectedType) {
+            throw new IllegalArgumentException("Binary model payload has type " + type + ", expected "
+                + expectedType + ".");
+        }
+        this.strings = new String[count()];
+        for (int index = 0; index < strings.length; index++) {
+            int length = count();
+            require(length);
+            strings[index] = new String(bytes, position, length, StandardCharsets.UTF_8);
+            position += length;
+        }
+    }
+
+    long varint() {
+        long value = 0;
+        for (int shift = 0; shift <= MAX_VARINT_SHIFT; shift += 7) {
+            int next = readByte();
+            value |= (long) (next & 0x7F) << shift;
+            if ((next & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint at offset " + position + ".");
+    }
+
+    long signedVarint() {
+        long value = varint();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * Reads a non-negative varint that must fit in an int, such as a list size.
+     */
+    int count() {
+        long value = varint();
+        if (value < 0 || value > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid count " + value + ".");
+        }
+        return (int) value;
+    }
+
+    String string() {
+        int index = count();
+        if (index >= strings.length) {
+            throw new IllegalArgumentException("String index " + index + " is outside the string table.");
+        }
+        return strings[index];
+    }
+
+    List<String> strings() {
+        int size = count();
+        List<String> values = new ArrayList<>(Math.min(size, bytes.length));
+        for (int index = 0; index < size; index++) {
+            values.add(string());
+        }
+        return values;
+    }
+
+    <E extends Enum<E>> E enumValue(Class<E> type) {
+        return Enum.valueOf(type, string());
+    }
+
+    double coordinate() {
+        long encoded = varint();
+        if (encoded == 1) {
+            return Double.longBitsToDouble(fixed64());
+        }
+        long zigzag = encoded >>> 1;
+        return ((zigzag >>> 1) ^ -(zigzag & 1)) / BinaryFormat.FIXED_POINT_SCALE;
+    }
+
+    Polyline polyline() {
+        int size = count();
+        if (size == 0) {
+            return Polyline.empty();
+        }
+        Polyline.Builder builder = Polyline.builder(Math.min(size, bytes.length));
+        long latitude = 0;
+        long longitude = 0;
+        for (int index = 0; index < size; index++) {
+            long encoded = varint();
+            if (encoded == 1) {
+                builder.add(Double.longBitsToDouble(fixed64()), Double.longBitsToDouble(fixed64()));
+            } else {
+                long zigzag = encoded >>> 1;
+                latitude += (zigzag >>> 1) ^ -(zigzag & 1);
+                longitude += signedVarint();
+                builder.add(latitude / BinaryFormat.FIXED_POINT_SCALE, longitude / BinaryFormat.FIXED_POINT_SCALE);
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Checks that the whole payload was read.
+     */
+    void finish() {
+        if (position != bytes.length) {
+            throw new IllegalArgumentException((bytes.length - position) + " unread bytes after the value.");
+        }
+    }
+
+    static boolean isPresent(long presence, int bit) {
+        return (presence & (1L << bit)) != 0;
+    }
+
+    private long fixed64() {
+        require(8);
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 8) {
+            value |= (bytes[position++] & 0xFFL) << shift;
+        }
+        return value;
+    }
+
+    private int readByte() {
+        require(1);
+        return bytes[position++] & 0xFF;
+    }
+
+    private void require(int count) {
+        if (count > bytes.length - position) {
+            throw new IllegalArgumentException("Binary model payload is truncated.");
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.williamcallahan.applemaps.adapters.binarycodec;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import com.williamcallahan.applemaps.domain.model.Polyline;
+
+/**
+ * Writes one encoded value: primitives go to a growable body buffer, and strings are replaced by indexes into
+ * a table written ahead of the body, so each distinct string is stored once.
+ */
+final class BinaryWriter {
+    private static final int INITIAL_CAPACITY = 256;
+
+    private final Map<String, Integer> stringIndexes = new HashMap<>();
+    private final ByteSink body = new ByteSink(INITIAL_CAPACITY);
+
+    /**
+     * Writes an unsigned LEB128 varint: seven bits per byte, low bits first.
+     */
+    void varint(long value) {
+        body.varint(value);
+    }
+
+    /**
+     * Writes a zigzag-encoded varint, so small negative values stay short.
+     */
+    void signedVarint(long value) {
+        body.varint((value << 1) ^ (value >> 63));
+    }
+
+    void string(String value) {
+        Integer index = stringIndexes.putIfAbsent(value, stringIndexes.size());
+        body.varint(index == null ? stringIndexes.size() - 1 : index);
+    }
+
+    void strings(List<String> values) {
+        body.varint(values.size());
+        for (String value : values) {
+            string(value);
+        }
+    }
+
+    <E extends Enum<E>> void enumValue(E value) {
+        string(value.name());
+    }
+
+    /**
+     * Writes a coordinate as a zigzag varint of 10<sup>-7</sup> degree units, shifted left one bit, when that
+     * is exact; otherwise writes {@code 1} followed by the raw 8-byte value.
+     */
+    void coordinate(double value) {
+        if (BinaryFormat.isFixedPoint(value)) {
+            long fixed = Math.round(value * BinaryFormat.FIXED_POINT_SCALE);
+            body.varint(((fixed << 1) ^ (fixed >> 63)) << 1);
+        } else {
+            body.varint(1);
+            body.fixed64(Double.doubleToRawLongBits(value));
+        }
+    }
+
+    /**
+     * Writes a point count, then each point as its fixed-point latitude delta from the last fixed-point point,
+     * zigzag encoded and shifted left one bit, and its longitude delta. A point with a coordinate that is not
+     * exact in fixed point is written as {@code 1} followed by its raw 8-byte coordinates instead, and leaves
+     * the deltas of later points unchanged.
+     */
+    void polyline(Polyline polyline) {
+        int size = polyline.size();
+        body.varint(size);
+        long previousLatitude = 0;
+        long previousLongitude = 0;
+        for (int index = 0; index < size; index++) {
+            double latitude = polyline.latitude(index);
+            double longitude = polyline.longitude(index);
+            if (BinaryFormat.isFixedPoint(latitude) && BinaryFormat.isFixedPoint(longitude)) {
+                long fixedLatitude = Math.round(latitude * BinaryFormat.FIXED_POINT_SCALE);
+                long fixedLongitude = Math.round(longitude * BinaryFormat.FIXED_POINT_SCALE);
+                long delta = fixedLatitude - previousLatitude;
+                body.varint(((delta << 1) ^ (delta >> 63)) << 1);
+                signedVarint(fixedLongitude - previousLongitude);
+                previousLatitude = fixedLatitude;
+                previousLongitude = fixedLongitude;
+            } else {
+                body.varint(1);
+                body.fixed64(Double.doubleToRawLongBits(latitude));
+                body.fixed64(Double.doubleToRawLongBits(longitude));
+            }
+        }
+    }
+
+    /**
+     * Writes a bitmap with bit {@code i} set when the {@code i}-th value is present.
+     */
+    void presence(Optional<?>... values) {
+        long bits = 0;
+        for (int index = 0; index < values.length; index++) {
+            if (values[index].isPresent()) {
+                bits |= 1L << index;
+            }
+        }
+        body.varint(bits);
+    }
+
+    /**
+     * Returns the header, string table and body as one array.
+     */
+    byte[] toByteArray(int type) {
+        byte[][] strings = new byte[stringIndexes.size()][];
+        for (Map.Entry<String, Integer> entry : stringIndexes.entrySet()) {
+            strings[entry.getValue()] = entry.getKey().getBytes(StandardCharsets.UTF_8);
+        }
+        int length = BinaryFormat.HEADER_LENGTH + varintLength(strings.length) + body.length;
+        for (byte[] string : strings) {
+            length += varintLength(string.length) + string.length;
+        }
+        ByteSink out = new ByteSink(length);
+        for (byte magic : BinaryFormat.MAGIC) {
+            out.write(magic);
+        }
+        out.write(BinaryFormat.VERSION);
+        out.write(type);
+        out.varint(strings.length);
+        for (byte[] string : strings) {
+            out.varint(string.length);
+            out.write(string, string.length);
+        }
+        out.write(body.bytes, body.length);
+        return out.length == out.bytes.length ? out.bytes : Arrays.copyOf(out.bytes, out.length);
+    }
+
+    private static int varintLength(long value) {
+        return Math.max(1, (Long.SIZE - Long.numberOfLeadingZeros(value) + 6) / 7);
+    }
+
+    /**
+     * Growable byte array.
+     */
+    private static final class ByteSink {
+        private byte[] bytes;
+        private int length;
+
+        ByteSink(int capacity) {
+            this.bytes = new byte[capacity];
+        }
+
+        void write(int value) {
+            ensure(1);
+            bytes[length++] = (byte) value;
+        }
+
+        void write(byte[] values, int count) {
+            ensure(count);
+            System.arraycopy(values, 0, bytes, length, count);
+            length += count;
+        }
+
+        void varint(long value) {
+            ensure(varintLength(value));
+            long remaining = value;
+            while ((remaining & ~0x7FL) != 0) {
+                bytes[length++] = (byte) ((remaining & 0x7F) | 0x80);
+                remaining >>>= 7;
+            }
+            bytes[length++] = (byte) remaining;
+        }
+
+        void fixed64(long value) {
+            ensure(8);
+            for (int shift = 0; shift < 64; shift += 8) {
+                bytes[length++] = (byte) (value >>> shift);
+            }
+        }
+
+        private void ensure(int extra) {
+            if (length + extra > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + extra));
+            }
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.williamcallahan.applemaps.adapters.binarycodec;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import com.williamcallahan.applemaps.domain.model.AutocompleteResult;
+import com.williamcallahan.applemaps.domain.model.Location;
+import com.williamcallahan.applemaps.domain.model.MapRegion;
+import com.williamcallahan.applemaps.domain.model.PaginationInfo;
+import com.williamcallahan.applemaps.domain.model.Place;
+import com.williamcallahan.applemaps.domain.model.PoiCategory;
+import com.williamcallahan.applemaps.domain.model.SearchMapRegion;
+import com.williamcallahan.applemaps.domain.model.SearchResponse;
+import com.williamcallahan.applemaps.domain.model.SearchResponsePlace;
+import com.williamcallahan.applemaps.domain.model.StructuredAddress;
+
+/**
+ * Binary layouts of places and the responses built from them. Each pair of methods writes and reads the
+ * components of one record in declaration order, optional components only when their presence bit is set.
+ */
+final class PlaceFormat {
+    private PlaceFormat() {
+    }
+
+    static void writePlaces(BinaryWriter writer, List<Place> places) {
+        writer.varint(places.size());
+        for (Place place : places) {
+            writePlace(writer, place);
+        }
+    }
+
+    static List<Place> readPlaces(BinaryReader reader) {
+        int size = reader.count();
+        List<Place> places = new ArrayList<>(Math.min(size, 1_024));
+        for (int index = 0; index < size; index++) {
+            places.add(readPlace(reader));
+        }
+        return places;
+    }
+
+    static void writePlace(BinaryWriter writer, Place place) {
+        writer.presence(place.id(), place.displayMapRegion(), place.structuredAddress());
+        place.id().ifPresent(writer::string);
+        writer.strings(place.alternateIds());
+        writer.string(place.name());
+        writeLocation(writer, place.coordinate());
+        place.displayMapRegion().ifPresent(region -> writeMapRegion(writer, region));
+        writer.strings(place.formattedAddressLines());
+        place.structuredAddress().ifPresent(address -> writeAddress(writer, address));
+        writer.string(place.country());
+        writer.string(place.countryCode());
+    }
+
+    static Place readPlace(BinaryReader reader) {
+        long presence = reader.varint();
+        return new Place(
+            BinaryReader.isPresent(presence, 0) ? Optional.of(reader.string()) : Optional.empty(),
+            reader.strings(),
+            reader.string(),
+            readLocation(reader),
+            BinaryReader.isPresent(presence, 1) ? Optional.of(readMapRegion(reader)) : Optional.empty(),
+            reader.strings(),
+            BinaryReader.isPresent(presence, 2) ? Optional.of(readAddress(reader)) : Optional.empty(),
+            reader.string(),
+            reader.string()
+        );
+    }
+
+    static void writeSearchResponse(BinaryWriter writer, SearchResponse response) {
+        writer.presence(response.displayMapRegion(), response.paginationInfo());
+        response.displayMapRegion().ifPresent(region -> {
+            writer.coordinate(region.northLatitude());
+            writer.coordinate(region.eastLongitude());
+            writer.coordinate(region.southLatitude());
+            writer.coordinate(region.westLongitude());
+        });
+        response.paginationInfo().ifPresent(pagination -> {
+            writer.presence(pagination.nextPageToken(), pagination.prevPageToken());
+            pagination.nextPageToken().ifPresent(writer::string);
+            pagination.prevPageToken().ifPresent(writer::string);
+            writer.signedVarint(pagination.totalPageCount());
+            writer.signedVarint(pagination.totalResults());
+        });
+        writer.varint(response.results().size());
+        for (SearchResponsePlace place : response.results()) {
+            writer.presence(place.id(), place.displayMapRegion(), place.structuredAddress(), place.poiCategory());
+            place.id().ifPresent(writer::string);
+            writer.strings(place.alternateIds());
+            writer.string(place.name());
+            writeLocation(writer, place.coordinate());
+            place.displayMapRegion().ifPresent(region -> writeMapRegion(writer, region));
+            writer.strings(place.formattedAddressLines());
+            place.structuredAddress().ifPresent(address -> writeAddress(writer, address));
+            writer.string(place.country());
+            writer.string(place.countryCode());
+            place.poiCategory().ifPresent(writer::enumValue);
+        }
+    }
+
+    static SearchResponse readSearchResponse(BinaryReader reader) {
+        long presence = reader.varint();
+        Optional<SearchMapRegion> region = BinaryReader.isPresent(presence, 0)
+            ? Optional.of(new SearchMapRegion(reader.coordinate(), reader.coordinate(), reader.coordinate(),
+                reader.coordinate()))
+            : Optional.empty();
+        Optional<PaginationInfo> pagination = Optional.empty();
+        if (BinaryReader.isPresent(presence, 1)) {
+            long tokens = reader.varint();
+            pagination = Optional.of(new PaginationInfo(
+                BinaryReader.isPresent(tokens, 0) ? Optional.of(reader.string()) : Optional.empty(),
+                BinaryReader.isPresent(tokens, 1) ? Optional.of(reader.string()) : Optional.empty(),
+                reader.signedVarint(),
+                reader.signedVarint()
+            ));
+        }
+        int size = reader.count();
+        List<SearchResponsePlace> places = new ArrayList<>(Math.min(size, 1_024));
+        for (int index = 0; index < size; index++) {
+            long placePresence = reader.varint();
+            places.add(new SearchResponsePlace(
+                BinaryReader.isPresent(placePresence, 0) ? Optional.of(reader.string()) : Optional.empty(),
+                reader.strings(),
+                reader.string(),
+                readLocation(reader),
+                BinaryReader.isPresent(placePresence, 1) ? Optional.of(readMapRegion(reader)) : Optional.empty(),
+                reader.strings(),
+                BinaryReader.isPresent(placePresence, 2) ? Optional.of(readAddress(reader)) : Optional.empty(),
+                reader.string(),
+                reader.string(),
+                BinaryReader.isPresent(placePresence, 3)
+                    ? Optional.of(reader.enumValue(PoiCategory.class))
+                    : Optional.empty()
+            ));
+        }
+        return new SearchResponse(region, pagination, places);
+    }
+
+    static void writeAutocompleteResult(BinaryWriter writer, AutocompleteResult result) {
+        writer.presence(result.location(), result.structuredAddress());
+        writer.string(result.completionUrl());
+        writer.strings(result.displayLines());
+        result.location().ifPresent(location -> writeLocation(writer, location));
+        result.structuredAddress().ifPresent(address -> writeAddress(writer, address));
+    }
+
+    static AutocompleteResult readAutocompleteResult(BinaryReader reader) {
+        long presence = reader.varint();
+        return new AutocompleteResult(
+            reader.string(),
+            reader.strings(),
+            BinaryReader.isPresent(presence, 0) ? Optional.of(readLocation(reader)) : Optional.empty(),
+            BinaryReader.isPresent(presence, 1) ? Optional.of(readAddress(reader)) : Optional.empty()
+        );
+    }
+
+    static void writeLocation(BinaryWriter writer, Location location) {
+        writer.coordinate(location.latitude());
+        writer.coordinate(location.longitude());
+    }
+
+    static Location readLocation(BinaryReader reader) {
+        return new Location(reader.coordinate(), reader.coordinate());
+    }
+
+    private static void writeMapRegion(BinaryWriter writer, MapRegion region) {
+        writer.coordinate(region.northLatitude());
+        writer.coordinate(region.eastLongitude());
+        writer.coordinate(region.southLatitude());
+        writer.coordinate(region.westLongitude());
+    }
+
+    private static MapRegion readMapRegion(BinaryReader reader) {
+        return new MapRegion(reader.coordinate(), reader.coordinate(), reader.coordinate(), reader.coordinate());
+    }
+
+    private static void writeAddress(BinaryWriter writer, StructuredAddress address) {
+        writer.presence(address.administrativeArea(), address.administrativeAreaCode(),
+            address.subAdministrativeArea(), address.fullThoroughfare(), address.locality(), address.postCode(),
+            address.subLocality(), address.subThoroughfare(), address.thoroughfare());
+        address.administrativeArea().ifPresent(writer::string);
+        address.administrativeAreaCode().ifPresent(writer::string);
+        address.subAdministrativeArea().ifPresent(writer::string);
+        writer.strings(address.areasOfInterest());
+        writer.strings(address.dependentLocalities());
+        address.fullThoroughfare().ifPresent(writer::string);
+        address.locality().ifPresent(writer::string);
+        address.postCode().ifPresent(writer::string);
+        address.subLocality().ifPresent(writer::string);
+        address.subThoroughfare().ifPresent(writer::string);
+        address.thoroughfare().ifPresent(writer::string);
+    }
+
+    private static StructuredAddress readAddress(BinaryReader reader) {
+        long presence = reader.varint();
+        return new StructuredAddress(
+            optionalString(reader, presence, 0),
+            optionalString(reader, presence, 1),
+            optionalString(reader, presence, 2),
+            reader.strings(),
+            reader.strings(),
+            optionalString(reader, presence, 3),
+            optionalString(reader, presence, 4),
+            optionalString(reader, presence, 5),
+            optionalString(reader, presence, 6),
+            optionalString(reader, presence, 7),
+            optionalString(reader, presence, 8)
+        );
+    }
+
+    private static Optional<String> optionalString(BinaryReader reader, long presence, int bit) {
+        return BinaryReader.isPresent(presence, bit) ? Optional.of(reader.string()) : Optional.empty();
+    }
+}
@@ -0,0 +1,164 @@
+package com.williamcallahan.applemaps.adapters.binarycodec;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import com.williamcallahan.applemaps.domain.model.DirectionsResponse;
+import com.williamcallahan.applemaps.domain.model.DirectionsRoute;
+import com.williamcallahan.applemaps.domain.model.DirectionsStep;
+import com.williamcallahan.applemaps.domain.model.EtaEstimate;
+import com.williamcallahan.applemaps.domain.model.EtaResponse;
+import com.williamcallahan.applemaps.domain.model.Location;
+import com.williamcallahan.applemaps.domain.model.Place;
+import com.williamcallahan.applemaps.domain.model.Polyline;
+import com.williamcallahan.applemaps.domain.model.TransportType;
+
+/**
+ * Binary layouts of directions and ETA responses. Step paths are written as delta-encoded polylines.
+ */
+final class RouteFormat {
+    // A route's hasTolls value is stored as a presence bit after its other optional components.
+    private static final int HAS_TOLLS_VALUE_BIT = 5;
+
+    private RouteFormat() {
+    }
+
+    static void writeDirections(BinaryWriter writer, DirectionsResponse response) {
+        writer.presence(response.origin(), response.destination());
+        response.origin().ifPresent(place -> PlaceFormat.writePlace(writer, place));
+        response.destination().ifPresent(place -> PlaceFormat.writePlace(writer, place));
+        writer.varint(response.routes().size());
+        for (DirectionsRoute route : response.routes()) {
+            writeRoute(writer, route);
+        }
+        writer.varint(response.steps().size());
+        for (DirectionsStep step : response.steps()) {
+            writer.presence(step.stepPathIndex(), step.distanceMeters(), step.durationSeconds(), step.instructions(),
+                step.transportType());
+            step.stepPathIndex().ifPresent(writer::signedVarint);
+            step.distanceMeters().ifPresent(writer::signedVarint);
+            step.durationSeconds().ifPresent(writer::signedVarint);
+            step.instructions().ifPresent(writer::string);
+            step.transportType().ifPresent(writer::enumValue);
+        }
+        writer.varint(response.stepPolylines().size());
+        for (Polyline path : response.stepPolylines()) {
+            writer.polyline(path);
+        }
+    }
+
+    static DirectionsResponse readDirections(BinaryReader reader) {
+        long presence = reader.varint();
+        Optional<Place> origin = BinaryReader.isPresent(presence, 0)
+            ? Optional.of(PlaceFormat.readPlace(reader))
+            : Optional.empty();
+        Optional<Place> destination = BinaryReader.isPresent(presence, 1)
+            ? Optional.of(PlaceFormat.readPlace(reader))
+            : Optional.empty();
+        int routeCount = reader.count();
+        List<DirectionsRoute> routes = new ArrayList<>(Math.min(routeCount, 1_024));
+        for (int index = 0; index < routeCount; index++) {
+            routes.add(readRoute(reader));
+        }
+        int stepCount = reader.count();
+        List<DirectionsStep> steps = new ArrayList<>(Math.min(stepCount, 1_024));
+        for (int index = 0; index < stepCount; index++) {
+            long stepPresence = reader.varint();
+            steps.add(new DirectionsStep(
+                BinaryReader.isPresent(stepPresence, 0) ? Optional.of(toInt(reader.signedVarint())) : Optional.empty(),
+                optionalLong(reader, stepPresence, 1),
+                optionalLong(reader, stepPresence, 2),
+                BinaryReader.isPresent(stepPresence, 3) ? Optional.of(reader.string()) : Optional.empty(),
+                optionalTransportType(reader, stepPresence, 4)
+            ));
+        }
+        int pathCount = reader.count();
+        List<List<Location>> stepPaths = new ArrayList<>(Math.min(pathCount, 1_024));
+        for (int index = 0; index < pathCount; index++) {
+            stepPaths.add(reader.polyline());
+        }
+        return new DirectionsResponse(origin, destination, routes, steps, stepPaths);
+    }
+
+    static void writeEtas(BinaryWriter writer, EtaResponse response) {
+        writer.varint(response.etas().size());
+        for (EtaEstimate estimate : response.etas()) {
+            writer.presence(estimate.destination(), estimate.distanceMeters(), estimate.expectedTravelTimeSeconds(),
+                estimate.staticTravelTimeSeconds(), estimate.transportType());
+            estimate.destination().ifPresent(location -> PlaceFormat.writeLocation(writer, location));
+            estimate.distanceMeters().ifPresent(writer::signedVarint);
+            estimate.expectedTravelTimeSeconds().ifPresent(writer::signedVarint);
+            estimate.staticTravelTimeSeconds().ifPresent(writer::signedVarint);
+            estimate.transportType().ifPresent(writer::enumValue);
+        }
+    }
+
+    static EtaResponse readEtas(BinaryReader reader) {
+        int size = reader.count();
+        List<EtaEstimate> estimates = new ArrayList<>(Math.min(size, 1_024));
+        for (int index = 0; index < size; index++) {
+            long presence = reader.varint();
+            estimates.add(new EtaEstimate(
+                BinaryReader.isPresent(presence, 0) ? Optional.of(PlaceFormat.readLocation(reader)) : Optional.empty(),
+                optionalLong(reader, presence, 1),
+                optionalLong(reader, presence, 2),
+                optionalLong(reader, presence, 3),
+                optionalTransportType(reader, presence, 4)
+            ));
+        }
+        return new EtaResponse(estimates);
+    }
+
+    private static void writeRoute(BinaryWriter writer, DirectionsRoute route) {
+        long presence = (route.name().isPresent() ? 1L : 0L)
+            | (route.distanceMeters().isPresent() ? 1L << 1 : 0L)
+            | (route.durationSeconds().isPresent() ? 1L << 2 : 0L)
+            | (route.hasTolls().isPresent() ? 1L << 3 : 0L)
+            | (route.transportType().isPresent() ? 1L << 4 : 0L)
+            | (route.hasTolls().orElse(false) ? 1L << HAS_TOLLS_VALUE_BIT : 0L);
+        writer.varint(presence);
+        route.name().ifPresent(writer::string);
+        route.distanceMeters().ifPresent(writer::signedVarint);
+        route.durationSeconds().ifPresent(writer::signedVarint);
+        writer.varint(route.stepIndexes().size());
+        for (Integer stepIndex : route.stepIndexes()) {
+            writer.signedVarint(stepIndex);
+        }
+        route.transportType().ifPresent(writer::enumValue);
+    }
+
+    private static DirectionsRoute readRoute(BinaryReader reader) {
+        long presence = reader.varint();
+        Optional<String> name = BinaryReader.isPresent(presence, 0) ? Optional.of(reader.string()) : Optional.empty();
+        Optional<Long> distance = optionalLong(reader, presence, 1);
+        Optional<Long> duration = optionalLong(reader, presence, 2);
+        Optional<Boolean> hasTolls = BinaryReader.isPresent(presence, 3)
+            ? Optional.of(BinaryReader.isPresent(presence, HAS_TOLLS_VALUE_BIT))
+            : Optional.empty();
+        int stepIndexCount = reader.count();
+        List<Integer> stepIndexes = new ArrayList<>(Math.min(stepIndexCount, 1_024));
+        for (int index = 0; index < stepIndexCount; index++) {
+            stepIndexes.add(toInt(reader.signedVarint()));
+        }
+        return new DirectionsRoute(name, distance, duration, hasTolls, stepIndexes,
+            optionalTransportType(reader, presence, 4));
+    }
+
+    private static Optional<Long> optionalLong(BinaryReader reader, long presence, int bit) {
+        return BinaryReader.isPresent(presence, bit) ? Optional.of(reader.signedVarint()) : Optional.empty();
+    }
+
+    private static Optional<TransportType> optionalTransportType(BinaryReader reader, long presence, int bit) {
+        return BinaryReader.isPresent(presence, bit)
+            ? Optional.of(reader.enumValue(TransportType.class))
+            : Optional.empty();
+    }
+
+    private static int toInt(long value) {
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Value " + value + " does not fit in an int.");
+        }
+        return (int) value;
+    }
+}
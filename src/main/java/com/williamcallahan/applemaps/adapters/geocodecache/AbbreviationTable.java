@@ -0,0 +1,64 @@
+package com.williamcallahan.applemaps.adapters.geocodecache;
+
+import java.util.Map;
+
+/**
+ * Open-addressing table from address tokens to their expansions, probed with a slice of a character buffer so
+ * that a lookup allocates nothing.
+ */
+final class AbbreviationTable {
+    private final char[][] keys;
+    private final char[][] values;
+    private final int mask;
+
+    AbbreviationTable(Map<String, String> entries) {
+        int capacity = Integer.highestOneBit(Math.max(1, entries.size()) * 4 - 1) << 1;
+        this.keys = new char[capacity][];
+        this.values = new char[capacity][];
+        this.mask = capacity - 1;
+        for (Map.Entry<String, String> entry : entries.entrySet()) {
+            char[] key = entry.getKey().toCharArray();
+            int slot = hash(key, 0, key.length) & mask;
+            while (keys[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = key;
+            values[slot] = entry.getValue().toCharArray();
+        }
+    }
+
+    /**
+     * Returns the expansion of the token in {@code chars[start, end)}, or {@code null} when it has none.
+     */
+    char[] find(char[] chars, int start, int end) {
+        int slot = hash(chars, start, end) & mask;
+        char[] key;
+        while ((key = keys[slot]) != null) {
+            if (matches(key, chars, start, end)) {
+                return values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    private static boolean matches(char[] key, char[] chars, int start, int end) {
+        if (key.length != end - start) {
+            return false;
+        }
+        for (int index = 0; index < key.length; index++) {
+            if (key[index] != chars[start + index]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int hash(char[] chars, int start, int end) {
+        int hash = 0;
+        for (int index = start; index < end; index++) {
+            hash = 31 * hash + chars[index];
+        }
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -0,0 +1,320 @@
+package com.williamcallahan.applemaps.adapters.geocodecache;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+import com.williamcallahan.applemaps.domain.request.GeocodeInput;
+
+/**
+ * Reduces address text to a canonical form, so that spellings of one address that differ only in case,
+ * punctuation, spacing or common abbreviations share a cache key.
+ *
+ * <p>Text is normalized to NFKC (skipped for pure ASCII), lowercased, and split into tokens of letters and
+ * digits; apostrophes are dropped inside tokens and every other character separates them. Each token found in
+ * the abbreviation table is replaced by its expansion, so {@code "880 Harrison St., SF"} and
+ * {@code "880  harrison street, sf"} both become {@code "880 harrison street sf"}. Suffix abbreviations expand
+ * compound words, so {@code "Hauptstr."} becomes {@code "hauptstrasse"}.</p>
+ *
+ * <p>{@link #fingerprint(CharSequence)} hashes the canonical form into a {@link Fingerprint64} without
+ * building it as a string; for ASCII input it allocates nothing once each thread's buffer has grown to fit.
+ * Instances are immutable and safe to share between threads.</p>
+ */
+public final class AddressCanonicalizer {
+    private static final Pattern TOKEN = Pattern.compile("[\\p{L}\\p{N}]+");
+    private static final Pattern TOKENS = Pattern.compile("[\\p{L}\\p{N}]+( [\\p{L}\\p{N}]+)*");
+    private static final int ASCII_LIMIT = 0x80;
+    private static final int SHARP_S = 0xDF;
+    private static final int CAPITAL_SHARP_S = 0x1E9E;
+    private static final int RIGHT_SINGLE_QUOTE = 0x2019;
+    private static final int MIN_STEM_LENGTH = 2;
+    private static final int INITIAL_BUFFER_LENGTH = 128;
+    // Street types, directions and unit designators (USPS Publication 28), plus common French and German forms.
+    private static final String[] STANDARD_ABBREVIATIONS = {
+        "st", "street", "str", "strasse", "ave", "avenue", "av", "avenue", "rd", "road", "blvd", "boulevard",
+        "bd", "boulevard", "dr", "drive", "ln", "lane", "ct", "court", "pl", "place", "sq", "square",
+        "pkwy", "parkway", "hwy", "highway", "fwy", "freeway", "expy", "expressway", "cir", "circle",
+        "ter", "terrace", "trl", "trail", "aly", "alley", "hts", "heights", "mt", "mount", "ft", "fort",
+        "n", "north", "s", "south", "e", "east", "w", "west", "ne", "northeast", "nw", "northwest",
+        "se", "southeast", "sw", "southwest", "apt", "apartment", "ste", "suite", "fl", "floor",
+        "bldg", "building", "rm", "room", "dept", "department"
+    };
+    private static final String[] STANDARD_SUFFIX_ABBREVIATIONS = {"str", "strasse"};
+    private static final AddressCanonicalizer STANDARD = builder().build();
+
+    private final AbbreviationTable abbreviations;
+    private final char[][] suffixes;
+    private final char[][] suffixExpansions;
+    private final ThreadLocal<Buffer> buffers = ThreadLocal.withInitial(Buffer::new);
+
+    private AddressCanonicalizer(Builder builder) {
+        this.abbreviations = new AbbreviationTable(builder.abbreviations);
+        this.suffixes = new char[builder.suffixAbbreviations.size()][];
+        this.suffixExpansions = new char[suffixes.length][];
+        int index = 0;
+        for (Map.Entry<String, String> entry : builder.suffixAbbreviations.entrySet()) {
+            suffixes[index] = entry.getKey().toCharArray();
+            suffixExpansions[index++] = entry.getValue().toCharArray();
+        }
+    }
+
+    /**
+     * Returns a canonicalizer with the standard English, French and German abbreviation tables.
+     *
+     * @return the shared standard canonicalizer
+     */
+    public static AddressCanonicalizer standard() {
+        return STANDARD;
+    }
+
+    /**
+     * Creates a builder that starts from the standard abbreviation tables.
+     *
+     * @return a builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the canonical form of an address.
+     *
+     * @param address address text
+     * @return lowercase tokens separated by single spaces; empty when the text has no letters or digits
+     */
+    public String canonicalize(CharSequence address) {
+        Buffer buffer = canonicalizeIntoBuffer(Objects.requireNonNull(address, "address"));
+        return new String(buffer.chars, 0, buffer.length);
+    }
+
+    /**
+     * Returns a 64-bit hash of the canonical form of an address.
+     *
+     * @param address address text
+     * @return the fingerprint; equal for addresses with equal canonical forms
+     */
+    public long fingerprint(CharSequence address) {
+        Buffer buffer = canonicalizeIntoBuffer(Objects.requireNonNull(address, "address"));
+        return Fingerprint64.of(buffer.chars, buffer.length);
+    }
+
+    /**
+     * Returns a 64-bit key for a geocode request: the fingerprint of its address combined with its other
+     * parameters, which must match exactly.
+     *
+     * @param input the geocode request
+     * @return the key; equal for requests with the same canonical address and parameters
+     */
+    public long geocodeKey(GeocodeInput input) {
+        long key = fingerprint(Objects.requireNonNull(input, "input").address());
+        if (input.limitToCountries().isEmpty() && input.language().isEmpty() && input.searchLocation().isEmpty()
+            && input.searchRegion().isEmpty() && input.userLocation().isEmpty()) {
+            return key;
+        }
+        String parameters = new GeocodeInput("", input.limitToCountries(), input.language(),
+            input.searchLocation(), input.searchRegion(), input.userLocation()).toQueryString();
+        return Fingerprint64.extend(key, parameters);
+    }
+
+    private Buffer canonicalizeIntoBuffer(CharSequence address) {
+        CharSequence text = isAscii(address) ? address : Normalizer.normalize(address, Normalizer.Form.NFKC);
+        Buffer buffer = buffers.get();
+        buffer.length = 0;
+        int tokenStart = -1;
+        int length = text.length();
+        for (int index = 0; index < length; ) {
+            int codePoint = Character.codePointAt(text, index);
+            index += Character.charCount(codePoint);
+            if (codePoint == '\'' || codePoint == RIGHT_SINGLE_QUOTE) {
+                continue;
+            }
+            if (!isTokenCharacter(codePoint)) {
+                if (tokenStart >= 0) {
+                    expand(buffer, tokenStart);
+                    tokenStart = -1;
+                }
+                continue;
+            }
+            if (tokenStart < 0) {
+                if (buffer.length > 0) {
+                    buffer.append(' ');
+                }
+                tokenStart = buffer.length;
+            }
+            if (codePoint < ASCII_LIMIT) {
+                buffer.append((char) (codePoint >= 'A' && codePoint <= 'Z' ? codePoint + ('a' - 'A') : codePoint));
+            } else if (codePoint == SHARP_S || codePoint == CAPITAL_SHARP_S) {
+                buffer.append('s');
+                buffer.append('s');
+            } else {
+                buffer.appendCodePoint(Character.toLowerCase(codePoint));
+            }
+        }
+        if (tokenStart >= 0) {
+            expand(buffer, tokenStart);
+        }
+        return buffer;
+    }
+
+    /**
+     * Replaces the token at the end of the buffer with its expansion, if it has one.
+     */
+    private void expand(Buffer buffer, int tokenStart) {
+        int tokenEnd = buffer.length;
+        char[] expansion = abbreviations.find(buffer.chars, tokenStart, tokenEnd);
+        if (expansion != null) {
+            buffer.length = tokenStart;
+            buffer.append(expansion);
+            return;
+        }
+        for (int index = 0; index < suffixes.length; index++) {
+            char[] suffix = suffixes[index];
+            int suffixStart = tokenEnd - suffix.length;
+            if (suffixStart - tokenStart >= MIN_STEM_LENGTH && endsWith(buffer.chars, suffixStart, suffix)) {
+                buffer.length = suffixStart;
+                buffer.append(suffixExpansions[index]);
+                return;
+            }
+        }
+    }
+
+    private static boolean endsWith(char[] chars, int suffixStart, char[] suffix) {
+        for (int index = 0; index < suffix.length; index++) {
+            if (chars[suffixStart + index] != suffix[index]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isAscii(CharSequence text) {
+        for (int index = 0; index < text.length(); index++) {
+            if (text.charAt(index) >= ASCII_LIMIT) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isTokenCharacter(int codePoint) {
+        if (codePoint < ASCII_LIMIT) {
+            return (codePoint >= 'a' && codePoint <= 'z') || (codePoint >= 'A' && codePoint <= 'Z')
+                || (codePoint >= '0' && codePoint <= '9');
+        }
+        int type = Character.getType(codePoint);
+        return Character.isLetterOrDigit(codePoint) || type == Character.NON_SPACING_MARK
+            || type == Character.COMBINING_SPACING_MARK;
+    }
+
+    /**
+     * Per-thread growable output buffer, reused across calls.
+     */
+    private static final class Buffer {
+        private char[] chars = new char[INITIAL_BUFFER_LENGTH];
+        private int length;
+
+        void append(char character) {
+            if (length == chars.length) {
+                chars = Arrays.copyOf(chars, chars.length * 2);
+            }
+            chars[length++] = character;
+        }
+
+        void append(char[] characters) {
+            for (char character : characters) {
+                append(character);
+            }
+        }
+
+        void appendCodePoint(int codePoint) {
+            if (Character.isBmpCodePoint(codePoint)) {
+                append((char) codePoint);
+            } else {
+                append(Character.highSurrogate(codePoint));
+                append(Character.lowSurrogate(codePoint));
+            }
+        }
+    }
+
+    /**
+     * Builder for {@link AddressCanonicalizer}.
+     */
+    public static final class Builder {
+        private final Map<String, String> abbreviations = new LinkedHashMap<>();
+        private final Map<String, String> suffixAbbreviations = new LinkedHashMap<>();
+
+        private Builder() {
+            for (int index = 0; index < STANDARD_ABBREVIATIONS.length; index += 2) {
+                abbreviations.put(STANDARD_ABBREVIATIONS[index], STANDARD_ABBREVIATIONS[index + 1]);
+            }
+            for (int index = 0; index < STANDARD_SUFFIX_ABBREVIATIONS.length; index += 2) {
+                suffixAbbreviations.put(STANDARD_SUFFIX_ABBREVIATIONS[index], STANDARD_SUFFIX_ABBREVIATIONS[index + 1]);
+            }
+        }
+
+        /**
+         * Adds or replaces a whole-token abbreviation. Both sides are lowercased.
+         *
+         * @param abbreviation a single token of letters and digits, such as {@code "St"}
+         * @param expansion one or more such tokens separated by single spaces, such as {@code "Street"}
+         * @return this builder
+         */
+        public Builder abbreviation(String abbreviation, String expansion) {
+            abbreviations.put(token(abbreviation, "abbreviation"), expansion(expansion));
+            return this;
+        }
+
+        /**
+         * Adds or replaces a suffix abbreviation, applied to tokens with no whole-token expansion that keep at
+         * least two characters before the suffix. Both sides are lowercased.
+         *
+         * @param suffix a single token of letters and digits, such as {@code "str"}
+         * @param expansion the suffix's replacement, such as {@code "strasse"}
+         * @return this builder
+         */
+        public Builder suffixAbbreviation(String suffix, String expansion) {
+            suffixAbbreviations.put(token(suffix, "suffix"), token(expansion, "expansion"));
+            return this;
+        }
+
+        /**
+         * Removes every abbreviation, including the standard ones.
+         *
+         * @return this builder
+         */
+        public Builder clearAbbreviations() {
+            abbreviations.clear();
+            suffixAbbreviations.clear();
+            return this;
+        }
+
+        /**
+         * Builds a validated {@link AddressCanonicalizer}.
+         *
+         * @return a canonicalizer
+         */
+        public AddressCanonicalizer build() {
+            return new AddressCanonicalizer(this);
+        }
+
+        private static String token(String value, String name) {
+            String lowercase = Objects.requireNonNull(value, name).toLowerCase(Locale.ROOT);
+            if (!TOKEN.matcher(lowercase).matches()) {
+                throw new IllegalArgumentException(name + " must be a single token of letters and digits.");
+            }
+            return lowercase;
+        }
+
+        private static String expansion(String value) {
+            String lowercase = Objects.requireNonNull(value, "expansion").toLowerCase(Locale.ROOT);
+            if (!TOKENS.matcher(lowercase).matches()) {
+                throw new IllegalArgumentException("expansion must be tokens of letters and digits separated by single spaces.");
+            }
+            return lowercase;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.williamcallahan.applemaps.adapters.geocodecache;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import com.williamcallahan.applemaps.adapters.mapsserver.AppleMapsClientException;
+import com.williamcallahan.applemaps.domain.model.PlaceResults;
+import com.williamcallahan.applemaps.domain.port.AppleMapsGateway;
+import com.williamcallahan.applemaps.domain.request.GeocodeInput;
+
+/**
+ * Geocodes a batch of addresses, sending one request per distinct
+ * {@link AddressCanonicalizer#geocodeKey(GeocodeInput) geocode key}.
+ *
+ * <p>Batches exported from forms or spreadsheets often repeat an address in several spellings. Requests with
+ * equal keys share one call and its response, and distinct requests run concurrently, like
+ * {@code AppleMaps.resolveCompletionUrls}. Wrap the gateway in a {@link GeocodeCachingGateway} to also reuse
+ * responses across batches.</p>
+ */
+public final class BulkGeocoder {
+    private final AppleMapsGateway gateway;
+    private final AddressCanonicalizer canonicalizer;
+
+    /**
+     * Creates a bulk geocoder.
+     *
+     * @param gateway gateway that performs the calls
+     * @param canonicalizer canonicalizer that decides which requests are duplicates
+     */
+    public BulkGeocoder(AppleMapsGateway gateway, AddressCanonicalizer canonicalizer) {
+        this.gateway = Objects.requireNonNull(gateway, "gateway");
+        this.canonicalizer = Objects.requireNonNull(canonicalizer, "canonicalizer");
+    }
+
+    /**
+     * Geocodes every request, calling the gateway once per distinct key.
+     *
+     * @param inputs geocode requests
+     * @return responses in the same order as the requests
+     */
+    public List<PlaceResults> geocodeAll(List<GeocodeInput> inputs) {
+        Objects.requireNonNull(inputs, "inputs");
+        if (inputs.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, CompletableFuture<PlaceResults>> callsByKey = new HashMap<>();
+        List<CompletableFuture<PlaceResults>> futures = new ArrayList<>(inputs.size());
+        for (GeocodeInput input : inputs) {
+            Objects.requireNonNull(input, "input");
+            futures.add(callsByKey.computeIfAbsent(canonicalizer.geocodeKey(input),
+                ignored -> CompletableFuture.supplyAsync(() -> gateway.geocode(input))));
+        }
+
+        try {
+            return futures.stream()
+                .map(CompletableFuture::join)
+                .toList();
+        } catch (Exception exception) {
+            Throwable cause = exception instanceof CompletionException ? exception.getCause() : exception;
+
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new AppleMapsClientException("geocode", cause);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.williamcallahan.applemaps.adapters.geocodecache;
+
+import java.util.Objects;
+
+/**
+ * 64-bit fingerprints of text, used as cache keys that stand in for the text itself.
+ *
+ * <p>A fingerprint is FNV-1a over UTF-16 code units, finished with the MurmurHash3 mixer so every input bit
+ * reaches every output bit. It is not cryptographic: two different inputs collide with a probability of about
+ * one in 2<sup>64</sup> per pair, so a cache keyed by fingerprints alone may, that rarely, answer one request
+ * with another's response. Fingerprints are stable within a process but are not a persistent format.</p>
+ */
+public final class Fingerprint64 {
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private Fingerprint64() {
+    }
+
+    /**
+     * Returns the fingerprint of some text.
+     *
+     * @param text the text
+     * @return the fingerprint
+     */
+    public static long of(CharSequence text) {
+        return extend(FNV_OFFSET_BASIS, text);
+    }
+
+    /**
+     * Returns the fingerprint of a fingerprint followed by more text, so composite keys are built without
+     * concatenating their parts.
+     *
+     * @param fingerprint fingerprint of the preceding parts
+     * @param text the next part
+     * @return the fingerprint
+     */
+    public static long extend(long fingerprint, CharSequence text) {
+        Objects.requireNonNull(text, "text");
+        long hash = fingerprint;
+        for (int index = 0; index < text.length(); index++) {
+            hash = (hash ^ text.charAt(index)) * FNV_PRIME;
+        }
+        return mix(hash);
+    }
+
+    /**
+     * Returns the fingerprint of the first {@code length} characters of an array.
+     */
+    static long of(char[] chars, int length) {
+        long hash = FNV_OFFSET_BASIS;
+        for (int index = 0; index < length; index++) {
+            hash = (hash ^ chars[index]) * FNV_PRIME;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        return hash ^ (hash >>> 33);
+    }
+}
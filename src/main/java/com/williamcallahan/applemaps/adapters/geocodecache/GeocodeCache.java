@@ -0,0 +1,208 @@
+package com.williamcallahan.applemaps.adapters.geocodecache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.williamcallahan.applemaps.domain.model.PlaceResults;
+import com.williamcallahan.applemaps.domain.request.GeocodeInput;
+
+/**
+ * Caches geocode responses under {@link AddressCanonicalizer#geocodeKey(GeocodeInput)}, so requests whose
+ * addresses differ only in case, punctuation, spacing or common abbreviations share one entry.
+ *
+ * <p>Keys are {@link Fingerprint64} values and the canonical address is not kept, so two different addresses
+ * may, very rarely, share an entry. Responses are cached whether or not they found a place. Entries expire after a fixed time and the least recently used entries are evicted above the size
+ * limit.</p>
+ */
+public final class GeocodeCache {
+    private final int maxEntries;
+    private final Duration timeToLive;
+    private final Clock clock;
+    private final AddressCanonicalizer canonicalizer;
+    private final LinkedHashMap<Long, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private GeocodeCache(Builder builder) {
+        this.maxEntries = builder.maxEntries;
+        this.timeToLive = builder.timeToLive;
+        this.clock = builder.clock;
+        this.canonicalizer = builder.canonicalizer;
+    }
+
+    /**
+     * Creates a builder for a cache of 10,000 responses kept for one hour, keyed with the standard
+     * canonicalizer.
+     *
+     * @return a builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the cached response for a geocode request.
+     *
+     * @param input the geocode request
+     * @return the cached response, or empty on a miss
+     */
+    public Optional<PlaceResults> lookup(GeocodeInput input) {
+        long key = canonicalizer.geocodeKey(Objects.requireNonNull(input, "input"));
+        Instant now = clock.instant();
+        synchronized (this) {
+            Entry entry = entries.get(key);
+            if (entry != null && !entry.expiresAt().isAfter(now)) {
+                entries.remove(key);
+                entry = null;
+            }
+            if (entry == null) {
+                misses.increment();
+                return Optional.empty();
+            }
+            hits.increment();
+            return Optional.of(entry.results());
+        }
+    }
+
+    /**
+     * Caches the response to a geocode request, replacing any cached for the same key.
+     *
+     * @param input the geocode request
+     * @param results the API response
+     */
+    public void store(GeocodeInput input, PlaceResults results) {
+        Objects.requireNonNull(results, "results");
+        long key = canonicalizer.geocodeKey(Objects.requireNonNull(input, "input"));
+        Entry entry = new Entry(results, clock.instant().plus(timeToLive));
+        synchronized (this) {
+            entries.put(key, entry);
+            if (entries.size() > maxEntries) {
+                entries.remove(entries.keySet().iterator().next());
+            }
+        }
+    }
+
+    /**
+     * Returns the canonicalizer that keys this cache.
+     *
+     * @return the canonicalizer
+     */
+    public AddressCanonicalizer canonicalizer() {
+        return canonicalizer;
+    }
+
+    /**
+     * Returns the number of lookups answered from the cache.
+     *
+     * @return the hit count
+     */
+    public long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of lookups that found no live entry.
+     *
+     * @return the miss count
+     */
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the number of cached responses, including expired ones not yet removed.
+     *
+     * @return the entry count
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Removes every cached response.
+     */
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    private record Entry(PlaceResults results, Instant expiresAt) {
+    }
+
+    /**
+     * Builder for {@link GeocodeCache}.
+     */
+    public static final class Builder {
+        private int maxEntries = 10_000;
+        private Duration timeToLive = Duration.ofHours(1);
+        private Clock clock = Clock.systemUTC();
+        private AddressCanonicalizer canonicalizer = AddressCanonicalizer.standard();
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the number of cached responses above which the least recently used are evicted.
+         *
+         * @param maxEntries positive entry count
+         * @return this builder
+         */
+        public Builder maxEntries(int maxEntries) {
+            if (maxEntries < 1) {
+                throw new IllegalArgumentException("maxEntries must be positive.");
+            }
+            this.maxEntries = maxEntries;
+            return this;
+        }
+
+        /**
+         * Sets how long a cached response answers requests.
+         *
+         * @param timeToLive positive duration
+         * @return this builder
+         */
+        public Builder timeToLive(Duration timeToLive) {
+            Objects.requireNonNull(timeToLive, "timeToLive");
+            if (timeToLive.isNegative() || timeToLive.isZero()) {
+                throw new IllegalArgumentException("timeToLive must be positive.");
+            }
+            this.timeToLive = timeToLive;
+            return this;
+        }
+
+        /**
+         * Sets the clock used for expiry.
+         *
+         * @param clock the clock
+         * @return this builder
+         */
+        public Builder clock(Clock clock) {
+            this.clock = Objects.requireNonNull(clock, "clock");
+            return this;
+        }
+
+        /**
+         * Sets the canonicalizer that derives cache keys from requests.
+         *
+         * @param canonicalizer the canonicalizer
+         * @return this builder
+         */
+        public Builder canonicalizer(AddressCanonicalizer canonicalizer) {
+            this.canonicalizer = Objects.requireNonNull(canonicalizer, "canonicalizer");
+            return this;
+        }
+
+        /**
+         * Builds a validated {@link GeocodeCache}.
+         *
+         * @return a cache
+         */
+        public GeocodeCache build() {
+            return new GeocodeCache(this);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.williamcallahan.applemaps.adapters.geocodecache;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import com.williamcallahan.applemaps.domain.model.PlaceProjection;
+import com.williamcallahan.applemaps.domain.model.PlaceResults;
+import com.williamcallahan.applemaps.domain.model.ProjectedPlaceResults;
+import com.williamcallahan.applemaps.domain.port.AppleMapsGateway;
+import com.williamcallahan.applemaps.domain.port.ForwardingAppleMapsGateway;
+import com.williamcallahan.applemaps.domain.request.GeocodeInput;
+
+/**
+ * Gateway decorator that answers geocode requests from a {@link GeocodeCache} when it can and caches the
+ * responses of the geocode requests it forwards.
+ *
+ * <pre>{@code
+ * GeocodeCache cache = GeocodeCache.builder().build();
+ * AppleMaps maps = new AppleMaps(new GeocodeCachingGateway(new HttpAppleMapsGateway(token, timeout), cache));
+ * }</pre>
+ */
+public final class GeocodeCachingGateway extends ForwardingAppleMapsGateway {
+    private final GeocodeCache cache;
+
+    /**
+     * Creates a gateway that caches the geocode requests of another.
+     *
+     * @param delegate gateway that performs the calls; closed with this gateway
+     * @param cache cache to answer from and store into
+     */
+    public GeocodeCachingGateway(AppleMapsGateway delegate, GeocodeCache cache) {
+        super(delegate);
+        this.cache = Objects.requireNonNull(cache, "cache");
+    }
+
+    @Override
+    public PlaceResults geocode(GeocodeInput input) {
+        Optional<PlaceResults> cached = cache.lookup(input);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        PlaceResults results = delegate().geocode(input);
+        cache.store(input, results);
+        return results;
+    }
+
+    /**
+     * Answers from the cache when it holds the full response; otherwise forwards the projected request, whose
+     * response is not cached because it lacks fields that later unprojected requests need.
+     */
+    @Override
+    public ProjectedPlaceResults geocode(GeocodeInput input, PlaceProjection projection) {
+        Optional<PlaceResults> cached = cache.lookup(input);
+        return cached.isPresent() ? projection.project(cached.get()) : delegate().geocode(input, projection);
+    }
+}
@@ -0,0 +1,48 @@
+package com.williamcallahan.applemaps.adapters.jackson;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.DeserializationContext;
+
+/**
+ * Hashed lookup from Apple Maps Server API values to enum constants.
+ *
+ * <p>Unknown values read as {@code null}, matching {@code READ_UNKNOWN_ENUM_VALUES_AS_NULL}.</p>
+ *
+ * @param <E> enum type
+ */
+final class ApiValueLookup<E extends Enum<E>> {
+    private final Class<E> enumType;
+    private final Map<String, E> constantsByApiValue;
+
+    ApiValueLookup(Class<E> enumType, Function<E, String> apiValue) {
+        this.enumType = Objects.requireNonNull(enumType, "enumType");
+        E[] constants = enumType.getEnumConstants();
+        this.constantsByApiValue = new HashMap<>(constants.length * 2);
+        for (E constant : constants) {
+            constantsByApiValue.put(apiValue.apply(constant), constant);
+        }
+    }
+
+    /**
+     * Reads an enum value at the current token.
+     *
+     * @param parser parser positioned on the value
+     * @param context deserialization context
+     * @return the matching constant, or {@code null} for {@code null} and unknown values
+     */
+    E read(JsonParser parser, DeserializationContext context) {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_STRING) {
+            return constantsByApiValue.get(parser.getString());
+        }
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        return context.readValue(parser, enumType);
+    }
+}
@@ -2,25 +2,66 @@ package com.williamcallahan.applemaps.adapters.jackson;
 
 import com.fasterxml.jackson.annotation.JsonAlias;
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.williamcallahan.applemaps.domain.model.DirectionsResponse;
 import com.williamcallahan.applemaps.domain.model.Location;
+import com.williamcallahan.applemaps.domain.model.PlaceProjection;
+import com.williamcallahan.applemaps.domain.model.PlaceResults;
+import com.williamcallahan.applemaps.domain.model.ProjectedPlaceResults;
+import com.williamcallahan.applemaps.domain.model.SearchAutocompleteResponse;
+import com.williamcallahan.applemaps.domain.model.SearchResponse;
+import java.util.Objects;
 import tools.jackson.databind.DeserializationFeature;
 import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectReader;
 import tools.jackson.databind.cfg.EnumFeature;
 import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.module.SimpleModule;
 
 /**
  * Creates ObjectMapper instances configured for Apple Maps models.
  */
 public final class AppleMapsObjectMapperFactory {
+    private static final String STREAMING_MODULE_NAME = "AppleMapsStreamingDeserializers";
 
     private AppleMapsObjectMapperFactory() {}
 
     /**
      * Creates a new {@link ObjectMapper} configured for Apple Maps Server API models.
      *
+     * <p>The most frequently decoded responses are read by hand-written streaming deserializers.</p>
+     *
      * @return an object mapper instance
      */
     public static ObjectMapper create() {
+        return baseBuilder()
+            .addModule(createStreamingModule())
+            .build();
+    }
+
+    /**
+     * Creates a mapper that binds every response reflectively, for parity tests and benchmarks.
+     *
+     * @return an object mapper instance without the streaming deserializers
+     */
+    static ObjectMapper createReflective() {
+        return baseBuilder().build();
+    }
+
+    /**
+     * Creates a reader that decodes search or geocode payloads into projected results.
+     *
+     * @param objectMapper mapper created by {@link #create()}
+     * @param projection fields to materialize
+     * @return a reader for {@link ProjectedPlaceResults}
+     */
+    public static ObjectReader projectedPlaceResultsReader(ObjectMapper objectMapper, PlaceProjection projection) {
+        Objects.requireNonNull(objectMapper, "objectMapper");
+        Objects.requireNonNull(projection, "projection");
+        return objectMapper.readerFor(ProjectedPlaceResults.class)
+            .withAttribute(ProjectedPlaceResultsDeserializer.PROJECTION_ATTRIBUTE, projection);
+    }
+
+    private static JsonMapper.Builder baseBuilder() {
         return JsonMapper.builder()
             .addMixIn(Location.class, LocationMixin.class)
             .changeDefaultPropertyInclusion(inclusion ->
@@ -29,8 +70,16 @@ public final class AppleMapsObjectMapperFactory {
             .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
             .enable(EnumFeature.READ_ENUMS_USING_TO_STRING)
             .enable(EnumFeature.READ_UNKNOWN_ENUM_VALUES_AS_NULL)
-            .enable(EnumFeature.WRITE_ENUMS_USING_TO_STRING)
-            .build();
+            .enable(EnumFeature.WRITE_ENUMS_USING_TO_STRING);
+    }
+
+    private static SimpleModule createStreamingModule() {
+        return new SimpleModule(STREAMING_MODULE_NAME)
+            .addDeserializer(SearchResponse.class, new SearchResponseDeserializer())
+            .addDeserializer(PlaceResults.class, new PlaceResultsDeserializer())
+            .addDeserializer(SearchAutocompleteResponse.class, new SearchAutocompleteResponseDeserializer())
+            .addDeserializer(DirectionsResponse.class, new DirectionsResponseDeserializer())
+            .addDeserializer(ProjectedPlaceResults.class, new ProjectedPlaceResultsDeserializer());
     }
 
     /**
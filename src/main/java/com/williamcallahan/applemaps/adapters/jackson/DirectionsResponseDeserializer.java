@@ -0,0 +1,142 @@
+package com.williamcallahan.applemaps.adapters.jackson;
+
+import com.williamcallahan.applemaps.domain.model.DirectionsResponse;
+import com.williamcallahan.applemaps.domain.model.DirectionsRoute;
+import com.williamcallahan.applemaps.domain.model.DirectionsStep;
+import com.williamcallahan.applemaps.domain.model.Location;
+import com.williamcallahan.applemaps.domain.model.Place;
+import com.williamcallahan.applemaps.domain.model.Polyline;
+import com.williamcallahan.applemaps.domain.model.TransportType;
+import java.util.List;
+import java.util.Optional;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.ValueDeserializer;
+
+/**
+ * Streaming deserializer for {@link DirectionsResponse}.
+ */
+final class DirectionsResponseDeserializer extends ValueDeserializer<DirectionsResponse> {
+    private static final ApiValueLookup<TransportType> TRANSPORT_TYPES =
+        new ApiValueLookup<>(TransportType.class, TransportType::apiValue);
+    private static final int STEP_PATH_INITIAL_POINTS = 32;
+
+    @Override
+    public DirectionsResponse deserialize(JsonParser parser, DeserializationContext context) {
+        Place origin = null;
+        Place destination = null;
+        List<DirectionsRoute> routes = null;
+        List<DirectionsStep> steps = null;
+        List<List<Location>> stepPaths = null;
+        for (String name = JsonFieldReader.firstPropertyName(parser, context, DirectionsResponse.class);
+             name != null;
+             name = parser.nextName()) {
+            parser.nextToken();
+            switch (name) {
+                case "origin" -> origin = PlaceJsonReader.readPlace(parser, context);
+                case "destination" -> destination = PlaceJsonReader.readPlace(parser, context);
+                case "routes" -> routes = JsonFieldReader.readList(parser, context, DirectionsResponseDeserializer::readRoute);
+                case "steps" -> steps = JsonFieldReader.readList(parser, context, DirectionsResponseDeserializer::readStep);
+                case "stepPaths" -> stepPaths = JsonFieldReader.readList(parser, context, DirectionsResponseDeserializer::readStepPath);
+                default -> parser.skipChildren();
+            }
+        }
+        return new DirectionsResponse(
+            Optional.ofNullable(origin),
+            Optional.ofNullable(destination),
+            routes,
+            steps,
+            stepPaths
+        );
+    }
+
+    @Override
+    public Class<?> handledType() {
+        return DirectionsResponse.class;
+    }
+
+    private static DirectionsRoute readRoute(JsonParser parser, DeserializationContext context) {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        String name = null;
+        Long distanceMeters = null;
+        Long durationSeconds = null;
+        Boolean hasTolls = null;
+        List<Integer> stepIndexes = null;
+        TransportType transportType = null;
+        for (String property = JsonFieldReader.firstPropertyName(parser, context, DirectionsRoute.class);
+             property != null;
+             property = parser.nextName()) {
+            parser.nextToken();
+            switch (property) {
+                case "name" -> name = JsonFieldReader.readString(parser, context);
+                case "distanceMeters" -> distanceMeters = JsonFieldReader.readLong(parser, context);
+                case "durationSeconds" -> durationSeconds = JsonFieldReader.readLong(parser, context);
+                case "hasTolls" -> hasTolls = JsonFieldReader.readBoolean(parser, context);
+                case "stepIndexes" -> stepIndexes = JsonFieldReader.readList(parser, context, JsonFieldReader::readInteger);
+                case "transportType" -> transportType = TRANSPORT_TYPES.read(parser, context);
+                default -> parser.skipChildren();
+            }
+        }
+        return new DirectionsRoute(
+            Optional.ofNullable(name),
+            Optional.ofNullable(distanceMeters),
+            Optional.ofNullable(durationSeconds),
+            Optional.ofNullable(hasTolls),
+            stepIndexes,
+            Optional.ofNullable(transportType)
+        );
+    }
+
+    private static DirectionsStep readStep(JsonParser parser, DeserializationContext context) {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        Integer stepPathIndex = null;
+        Long distanceMeters = null;
+        Long durationSeconds = null;
+        String instructions = null;
+        TransportType transportType = null;
+        for (String property = JsonFieldReader.firstPropertyName(parser, context, DirectionsStep.class);
+             property != null;
+             property = parser.nextName()) {
+            parser.nextToken();
+            switch (property) {
+                case "stepPathIndex" -> stepPathIndex = JsonFieldReader.readInteger(parser, context);
+                case "distanceMeters" -> distanceMeters = JsonFieldReader.readLong(parser, context);
+                case "durationSeconds" -> durationSeconds = JsonFieldReader.readLong(parser, context);
+                case "instructions" -> instructions = JsonFieldReader.readString(parser, context);
+                case "transportType" -> transportType = TRANSPORT_TYPES.read(parser, context);
+                default -> parser.skipChildren();
+            }
+        }
+        return new DirectionsStep(
+            Optional.ofNullable(stepPathIndex),
+            Optional.ofNullable(distanceMeters),
+            Optional.ofNullable(durationSeconds),
+            Optional.ofNullable(instructions),
+            Optional.ofNullable(transportType)
+        );
+    }
+
+    /**
+     * Reads one step path straight into a {@link Polyline}; a {@code null} path becomes empty so indexes
+     * stay aligned with {@code stepPathIndex}.
+     */
+    private static List<Location> readStepPath(JsonParser parser, DeserializationContext context) {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return Polyline.empty();
+        }
+        if (token != JsonToken.START_ARRAY) {
+            return JsonFieldReader.readList(parser, context, PlaceJsonReader::readLocation);
+        }
+        Polyline.Builder builder = Polyline.builder(STEP_PATH_INITIAL_POINTS);
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            PlaceJsonReader.appendLocation(parser, context, builder);
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,184 @@
+package com.williamcallahan.applemaps.adapters.jackson;
+
+import java.util.ArrayList;
+import java.util.List;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.DeserializationContext;
+
+/**
+ * Streaming reads shared by the hand-written response deserializers.
+ *
+ * <p>Each read expects the parser to sit on the value token and leaves it on the last token of that
+ * value. The expected token shapes are read directly; anything else (nulls aside) is delegated to
+ * {@link DeserializationContext#readValue(JsonParser, Class)} so coercions and error reporting match
+ * reflective binding.</p>
+ */
+final class JsonFieldReader {
+
+    private JsonFieldReader() {}
+
+    /**
+     * Reads one element of a JSON array.
+     *
+     * @param <T> element type
+     */
+    @FunctionalInterface
+    interface ElementReader<T> {
+        T read(JsonParser parser, DeserializationContext context);
+    }
+
+    /**
+     * Returns the first property name of the object at the current token, or {@code null} when it is empty.
+     *
+     * @param parser parser positioned on {@code START_OBJECT} or the first property name
+     * @param context deserialization context
+     * @param targetType type being read, used in error messages
+     * @return the first property name, or {@code null}
+     */
+    static String firstPropertyName(JsonParser parser, DeserializationContext context, Class<?> targetType) {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            return parser.nextName();
+        }
+        if (token == JsonToken.PROPERTY_NAME) {
+            return parser.currentName();
+        }
+        if (token == JsonToken.END_OBJECT) {
+            return null;
+        }
+        return (String) context.handleUnexpectedToken(targetType, parser);
+    }
+
+    static String readString(JsonParser parser, DeserializationContext context) {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_STRING) {
+            return parser.getString();
+        }
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        return context.readValue(parser, String.class);
+    }
+
+    static Long readLong(JsonParser parser, DeserializationContext context) {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NUMBER_INT) {
+            return parser.getLongValue();
+        }
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        return context.readValue(parser, Long.class);
+    }
+
+    static Integer readInteger(JsonParser parser, DeserializationContext context) {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NUMBER_INT) {
+            return parser.getIntValue();
+        }
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        return context.readValue(parser, Integer.class);
+    }
+
+    static Boolean readBoolean(JsonParser parser, DeserializationContext context) {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_TRUE) {
+            return Boolean.TRUE;
+        }
+        if (token == JsonToken.VALUE_FALSE) {
+            return Boolean.FALSE;
+        }
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        return context.readValue(parser, Boolean.class);
+    }
+
+    /**
+     * Reads a primitive {@code double}, using {@code 0.0} for {@code null} as reflective binding does.
+     *
+     * @param parser parser positioned on the value
+     * @param context deserialization context
+     * @return the value
+     */
+    static double readDouble(JsonParser parser, DeserializationContext context) {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NUMBER_FLOAT || token == JsonToken.VALUE_NUMBER_INT) {
+            return parser.getDoubleValue();
+        }
+        if (token == JsonToken.VALUE_NULL) {
+            return 0.0;
+        }
+        Double coerced = context.readValue(parser, Double.class);
+        return coerced == null ? 0.0 : coerced;
+    }
+
+    /**
+     * Reads a primitive {@code long}, using {@code 0} for {@code null} as reflective binding does.
+     *
+     * @param parser parser positioned on the value
+     * @param context deserialization context
+     * @return the value
+     */
+    static long readLongValue(JsonParser parser, DeserializationContext context) {
+        Long value = readLong(parser, context);
+        return value == null ? 0L : value;
+    }
+
+    /**
+     * Reads a JSON array, dropping elements the element reader returns as {@code null}; a JSON {@code null}
+     * yields {@code null}.
+     *
+     * @param parser parser positioned on the value
+     * @param context deserialization context
+     * @param elementReader reads one element
+     * @param <T> element type
+     * @return the elements, or {@code null}
+     */
+    static <T> List<T> readList(JsonParser parser, DeserializationContext context, ElementReader<T> elementReader) {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token != JsonToken.START_ARRAY) {
+            return castList(context.handleUnexpectedToken(List.class, parser));
+        }
+        List<T> elements = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            T element = elementReader.read(parser, context);
+            if (element != null) {
+                elements.add(element);
+            }
+        }
+        return elements;
+    }
+
+    static List<String> readStringList(JsonParser parser, DeserializationContext context) {
+        return readList(parser, context, JsonFieldReader::readString);
+    }
+
+    /**
+     * Reports a missing required property the way record instantiation failures are reported.
+     *
+     * @param context deserialization context
+     * @param targetType type being read
+     * @param value property value
+     * @param propertyName property name
+     * @param <T> property type
+     * @return the value when present
+     */
+    static <T> T requireProperty(DeserializationContext context, Class<?> targetType, T value, String propertyName) {
+        if (value == null) {
+            return context.reportInputMismatch(targetType, "Missing required property '%s'", propertyName);
+        }
+        return value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> castList(Object value) {
+        return (List<T>) value;
+    }
+}
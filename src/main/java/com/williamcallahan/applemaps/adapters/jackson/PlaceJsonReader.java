@@ -0,0 +1,257 @@
+package com.williamcallahan.applemaps.adapters.jackson;
+
+import com.williamcallahan.applemaps.domain.model.Location;
+import com.williamcallahan.applemaps.domain.model.MapRegion;
+import com.williamcallahan.applemaps.domain.model.Place;
+import com.williamcallahan.applemaps.domain.model.PoiCategory;
+import com.williamcallahan.applemaps.domain.model.Polyline;
+import com.williamcallahan.applemaps.domain.model.SearchMapRegion;
+import com.williamcallahan.applemaps.domain.model.SearchResponsePlace;
+import com.williamcallahan.applemaps.domain.model.StructuredAddress;
+import java.util.List;
+import java.util.Optional;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.DeserializationContext;
+
+/**
+ * Streaming readers for place-shaped objects shared by several response types.
+ */
+final class PlaceJsonReader {
+    private static final ApiValueLookup<PoiCategory> POI_CATEGORIES =
+        new ApiValueLookup<>(PoiCategory.class, PoiCategory::apiValue);
+    private static final int NORTH = 0;
+    private static final int EAST = 1;
+    private static final int SOUTH = 2;
+    private static final int WEST = 3;
+    private static final int BOUND_COUNT = 4;
+
+    private PlaceJsonReader() {}
+
+    static Place readPlace(JsonParser parser, DeserializationContext context) {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        PlaceFields fields = readPlaceFields(parser, context, Place.class);
+        return new Place(
+            Optional.ofNullable(fields.id),
+            fields.alternateIds,
+            fields.name,
+            fields.coordinate,
+            Optional.ofNullable(fields.displayMapRegion),
+            fields.formattedAddressLines,
+            Optional.ofNullable(fields.structuredAddress),
+            fields.country,
+            fields.countryCode
+        );
+    }
+
+    static SearchResponsePlace readSearchResponsePlace(JsonParser parser, DeserializationContext context) {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        PlaceFields fields = readPlaceFields(parser, context, SearchResponsePlace.class);
+        return new SearchResponsePlace(
+            Optional.ofNullable(fields.id),
+            fields.alternateIds,
+            fields.name,
+            fields.coordinate,
+            Optional.ofNullable(fields.displayMapRegion),
+            fields.formattedAddressLines,
+            Optional.ofNullable(fields.structuredAddress),
+            fields.country,
+            fields.countryCode,
+            Optional.ofNullable(fields.poiCategory)
+        );
+    }
+
+    static PoiCategory readPoiCategory(JsonParser parser, DeserializationContext context) {
+        return POI_CATEGORIES.read(parser, context);
+    }
+
+    /**
+     * Reads a location, accepting the {@code lat}/{@code lng} aliases used by autocomplete results.
+     *
+     * @param parser parser positioned on the value
+     * @param context deserialization context
+     * @return the location, or {@code null}
+     */
+    static Location readLocation(JsonParser parser, DeserializationContext context) {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        double latitude = 0.0;
+        double longitude = 0.0;
+        for (String name = JsonFieldReader.firstPropertyName(parser, context, Location.class);
+             name != null;
+             name = parser.nextName()) {
+            parser.nextToken();
+            switch (name) {
+                case "latitude", "lat" -> latitude = JsonFieldReader.readDouble(parser, context);
+                case "longitude", "lng" -> longitude = JsonFieldReader.readDouble(parser, context);
+                default -> parser.skipChildren();
+            }
+        }
+        try {
+            return new Location(latitude, longitude);
+        } catch (IllegalArgumentException exception) {
+            return context.reportInputMismatch(Location.class, exception.getMessage());
+        }
+    }
+
+    /**
+     * Reads a location and appends it to a polyline without creating a {@link Location}.
+     *
+     * @param parser parser positioned on the value
+     * @param context deserialization context
+     * @param polyline builder receiving the point; {@code null} values are skipped
+     */
+    static void appendLocation(JsonParser parser, DeserializationContext context, Polyline.Builder polyline) {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return;
+        }
+        double latitude = 0.0;
+        double longitude = 0.0;
+        for (String name = JsonFieldReader.firstPropertyName(parser, context, Location.class);
+             name != null;
+             name = parser.nextName()) {
+            parser.nextToken();
+            switch (name) {
+                case "latitude", "lat" -> latitude = JsonFieldReader.readDouble(parser, context);
+                case "longitude", "lng" -> longitude = JsonFieldReader.readDouble(parser, context);
+                default -> parser.skipChildren();
+            }
+        }
+        try {
+            polyline.add(latitude, longitude);
+        } catch (IllegalArgumentException exception) {
+            context.reportInputMismatch(Location.class, exception.getMessage());
+        }
+    }
+
+    static MapRegion readMapRegion(JsonParser parser, DeserializationContext context) {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        double[] bounds = readBounds(parser, context, MapRegion.class);
+        return new MapRegion(bounds[NORTH], bounds[EAST], bounds[SOUTH], bounds[WEST]);
+    }
+
+    static SearchMapRegion readSearchMapRegion(JsonParser parser, DeserializationContext context) {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        double[] bounds = readBounds(parser, context, SearchMapRegion.class);
+        return new SearchMapRegion(bounds[NORTH], bounds[EAST], bounds[SOUTH], bounds[WEST]);
+    }
+
+    static StructuredAddress readStructuredAddress(JsonParser parser, DeserializationContext context) {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        String administrativeArea = null;
+        String administrativeAreaCode = null;
+        String subAdministrativeArea = null;
+        List<String> areasOfInterest = null;
+        List<String> dependentLocalities = null;
+        String fullThoroughfare = null;
+        String locality = null;
+        String postCode = null;
+        String subLocality = null;
+        String subThoroughfare = null;
+        String thoroughfare = null;
+        for (String name = JsonFieldReader.firstPropertyName(parser, context, StructuredAddress.class);
+             name != null;
+             name = parser.nextName()) {
+            parser.nextToken();
+            switch (name) {
+                case "administrativeArea" -> administrativeArea = JsonFieldReader.readString(parser, context);
+                case "administrativeAreaCode" -> administrativeAreaCode = JsonFieldReader.readString(parser, context);
+                case "subAdministrativeArea" -> subAdministrativeArea = JsonFieldReader.readString(parser, context);
+                case "areasOfInterest" -> areasOfInterest = JsonFieldReader.readStringList(parser, context);
+                case "dependentLocalities" -> dependentLocalities = JsonFieldReader.readStringList(parser, context);
+                case "fullThoroughfare" -> fullThoroughfare = JsonFieldReader.readString(parser, context);
+                case "locality" -> locality = JsonFieldReader.readString(parser, context);
+                case "postCode" -> postCode = JsonFieldReader.readString(parser, context);
+                case "subLocality" -> subLocality = JsonFieldReader.readString(parser, context);
+                case "subThoroughfare" -> subThoroughfare = JsonFieldReader.readString(parser, context);
+                case "thoroughfare" -> thoroughfare = JsonFieldReader.readString(parser, context);
+                default -> parser.skipChildren();
+            }
+        }
+        return new StructuredAddress(
+            Optional.ofNullable(administrativeArea),
+            Optional.ofNullable(administrativeAreaCode),
+            Optional.ofNullable(subAdministrativeArea),
+            areasOfInterest,
+            dependentLocalities,
+            Optional.ofNullable(fullThoroughfare),
+            Optional.ofNullable(locality),
+            Optional.ofNullable(postCode),
+            Optional.ofNullable(subLocality),
+            Optional.ofNullable(subThoroughfare),
+            Optional.ofNullable(thoroughfare)
+        );
+    }
+
+    private static PlaceFields readPlaceFields(JsonParser parser, DeserializationContext context, Class<?> placeType) {
+        PlaceFields fields = new PlaceFields();
+        for (String name = JsonFieldReader.firstPropertyName(parser, context, placeType);
+             name != null;
+             name = parser.nextName()) {
+            parser.nextToken();
+            switch (name) {
+                case "id" -> fields.id = JsonFieldReader.readString(parser, context);
+                case "alternateIds" -> fields.alternateIds = JsonFieldReader.readStringList(parser, context);
+                case "name" -> fields.name = JsonFieldReader.readString(parser, context);
+                case "coordinate" -> fields.coordinate = readLocation(parser, context);
+                case "displayMapRegion" -> fields.displayMapRegion = readMapRegion(parser, context);
+                case "formattedAddressLines" ->
+                    fields.formattedAddressLines = JsonFieldReader.readStringList(parser, context);
+                case "structuredAddress" -> fields.structuredAddress = readStructuredAddress(parser, context);
+                case "country" -> fields.country = JsonFieldReader.readString(parser, context);
+                case "countryCode" -> fields.countryCode = JsonFieldReader.readString(parser, context);
+                case "poiCategory" -> fields.poiCategory = readPoiCategory(parser, context);
+                default -> parser.skipChildren();
+            }
+        }
+        JsonFieldReader.requireProperty(context, placeType, fields.name, "name");
+        JsonFieldReader.requireProperty(context, placeType, fields.coordinate, "coordinate");
+        JsonFieldReader.requireProperty(context, placeType, fields.country, "country");
+        JsonFieldReader.requireProperty(context, placeType, fields.countryCode, "countryCode");
+        return fields;
+    }
+
+    private static double[] readBounds(JsonParser parser, DeserializationContext context, Class<?> regionType) {
+        double[] bounds = new double[BOUND_COUNT];
+        for (String name = JsonFieldReader.firstPropertyName(parser, context, regionType);
+             name != null;
+             name = parser.nextName()) {
+            parser.nextToken();
+            switch (name) {
+                case "northLatitude" -> bounds[NORTH] = JsonFieldReader.readDouble(parser, context);
+                case "eastLongitude" -> bounds[EAST] = JsonFieldReader.readDouble(parser, context);
+                case "southLatitude" -> bounds[SOUTH] = JsonFieldReader.readDouble(parser, context);
+                case "westLongitude" -> bounds[WEST] = JsonFieldReader.readDouble(parser, context);
+                default -> parser.skipChildren();
+            }
+        }
+        return bounds;
+    }
+
+    /**
+     * Fields shared by {@link Place} and {@link SearchResponsePlace}, collected before construction.
+     */
+    private static final class PlaceFields {
+        private String id;
+        private List<String> alternateIds;
+        private String name;
+        private Location coordinate;
+        private MapRegion displayMapRegion;
+        private List<String> formattedAddressLines;
+        private StructuredAddress structuredAddress;
+        private String country;
+        private String countryCode;
+        private PoiCategory poiCategory;
+    }
+}
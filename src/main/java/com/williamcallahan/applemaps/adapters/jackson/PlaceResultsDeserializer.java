@@ -0,0 +1,35 @@
+package com.williamcallahan.applemaps.adapters.jackson;
+
+import com.williamcallahan.applemaps.domain.model.Place;
+import com.williamcallahan.applemaps.domain.model.PlaceResults;
+import java.util.List;
+import tools.jackson.core.JsonParser;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.ValueDeserializer;
+
+/**
+ * Streaming deserializer for {@link PlaceResults}, used by geocode and reverse geocode responses.
+ */
+final class PlaceResultsDeserializer extends ValueDeserializer<PlaceResults> {
+
+    @Override
+    public PlaceResults deserialize(JsonParser parser, DeserializationContext context) {
+        List<Place> results = null;
+        for (String name = JsonFieldReader.firstPropertyName(parser, context, PlaceResults.class);
+             name != null;
+             name = parser.nextName()) {
+            parser.nextToken();
+            if ("results".equals(name)) {
+                results = JsonFieldReader.readList(parser, context, PlaceJsonReader::readPlace);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return new PlaceResults(results);
+    }
+
+    @Override
+    public Class<?> handledType() {
+        return PlaceResults.class;
+    }
+}
@@ -0,0 +1,135 @@
+package com.williamcallahan.applemaps.adapters.jackson;
+
+import com.williamcallahan.applemaps.domain.model.Location;
+import com.williamcallahan.applemaps.domain.model.MapRegion;
+import com.williamcallahan.applemaps.domain.model.PaginationInfo;
+import com.williamcallahan.applemaps.domain.model.PlaceField;
+import com.williamcallahan.applemaps.domain.model.PlaceProjection;
+import com.williamcallahan.applemaps.domain.model.PoiCategory;
+import com.williamcallahan.applemaps.domain.model.ProjectedPlace;
+import com.williamcallahan.applemaps.domain.model.ProjectedPlaceResults;
+import com.williamcallahan.applemaps.domain.model.StructuredAddress;
+import java.util.List;
+import java.util.Optional;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.ValueDeserializer;
+
+/**
+ * Streaming deserializer for {@link ProjectedPlaceResults} that reads search or geocode payloads.
+ *
+ * <p>The projection is taken from the {@link PlaceProjection} reader attribute (see
+ * {@link #PROJECTION_ATTRIBUTE}); without one, every field is read. Unrequested fields are skipped with
+ * {@link JsonParser#skipChildren()} and never materialized.</p>
+ */
+final class ProjectedPlaceResultsDeserializer extends ValueDeserializer<ProjectedPlaceResults> {
+    /**
+     * Reader attribute key under which the {@link PlaceProjection} is passed, as in
+     * {@link ObjectReader#withAttribute(Object, Object)}.
+     */
+    static final Class<PlaceProjection> PROJECTION_ATTRIBUTE = PlaceProjection.class;
+
+    @Override
+    public ProjectedPlaceResults deserialize(JsonParser parser, DeserializationContext context) {
+        PlaceProjection projection = resolveProjection(context);
+        List<ProjectedPlace> results = null;
+        PaginationInfo paginationInfo = null;
+        for (String name = JsonFieldReader.firstPropertyName(parser, context, ProjectedPlaceResults.class);
+             name != null;
+             name = parser.nextName()) {
+            parser.nextToken();
+            switch (name) {
+                case "results" -> results = JsonFieldReader.readList(
+                    parser,
+                    context,
+                    (elementParser, elementContext) -> readPlace(elementParser, elementContext, projection)
+                );
+                case "paginationInfo" -> paginationInfo = SearchResponseDeserializer.readPaginationInfo(parser, context);
+                default -> parser.skipChildren();
+            }
+        }
+        return new ProjectedPlaceResults(results, Optional.ofNullable(paginationInfo));
+    }
+
+    @Override
+    public Class<?> handledType() {
+        return ProjectedPlaceResults.class;
+    }
+
+    private static PlaceProjection resolveProjection(DeserializationContext context) {
+        Object attribute = context.getAttribute(PROJECTION_ATTRIBUTE);
+        return attribute instanceof PlaceProjection projection ? projection : PlaceProjection.all();
+    }
+
+    private static ProjectedPlace readPlace(
+        JsonParser parser,
+        DeserializationContext context,
+        PlaceProjection projection
+    ) {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        String id = null;
+        List<String> alternateIds = null;
+        String placeName = null;
+        Location coordinate = null;
+        MapRegion displayMapRegion = null;
+        List<String> formattedAddressLines = null;
+        StructuredAddress structuredAddress = null;
+        String country = null;
+        String countryCode = null;
+        PoiCategory poiCategory = null;
+        for (String name = JsonFieldReader.firstPropertyName(parser, context, ProjectedPlace.class);
+             name != null;
+             name = parser.nextName()) {
+            parser.nextToken();
+            PlaceField field = fieldFor(name);
+            if (field == null || !projection.includes(field)) {
+                parser.skipChildren();
+                continue;
+            }
+            switch (field) {
+                case ID -> id = JsonFieldReader.readString(parser, context);
+                case ALTERNATE_IDS -> alternateIds = JsonFieldReader.readStringList(parser, context);
+                case NAME -> placeName = JsonFieldReader.readString(parser, context);
+                case COORDINATE -> coordinate = PlaceJsonReader.readLocation(parser, context);
+                case DISPLAY_MAP_REGION -> displayMapRegion = PlaceJsonReader.readMapRegion(parser, context);
+                case FORMATTED_ADDRESS_LINES -> formattedAddressLines = JsonFieldReader.readStringList(parser, context);
+                case STRUCTURED_ADDRESS -> structuredAddress = PlaceJsonReader.readStructuredAddress(parser, context);
+                case COUNTRY -> country = JsonFieldReader.readString(parser, context);
+                case COUNTRY_CODE -> countryCode = JsonFieldReader.readString(parser, context);
+                case POI_CATEGORY -> poiCategory = PlaceJsonReader.readPoiCategory(parser, context);
+            }
+        }
+        return new ProjectedPlace(
+            Optional.ofNullable(id),
+            alternateIds,
+            Optional.ofNullable(placeName),
+            Optional.ofNullable(coordinate),
+            Optional.ofNullable(displayMapRegion),
+            formattedAddressLines,
+            Optional.ofNullable(structuredAddress),
+            Optional.ofNullable(country),
+            Optional.ofNullable(countryCode),
+            Optional.ofNullable(poiCategory)
+        );
+    }
+
+    private static PlaceField fieldFor(String propertyName) {
+        return switch (propertyName) {
+            case "id" -> PlaceField.ID;
+            case "alternateIds" -> PlaceField.ALTERNATE_IDS;
+            case "name" -> PlaceField.NAME;
+            case "coordinate" -> PlaceField.COORDINATE;
+            case "displayMapRegion" -> PlaceField.DISPLAY_MAP_REGION;
+            case "formattedAddressLines" -> PlaceField.FORMATTED_ADDRESS_LINES;
+            case "structuredAddress" -> PlaceField.STRUCTURED_ADDRESS;
+            case "country" -> PlaceField.COUNTRY;
+            case "countryCode" -> PlaceField.COUNTRY_CODE;
+            case "poiCategory" -> PlaceField.POI_CATEGORY;
+            default -> null;
+        };
+    }
+}
@@ -0,0 +1,68 @@
+package com.williamcallahan.applemaps.adapters.jackson;
+
+import com.williamcallahan.applemaps.domain.model.AutocompleteResult;
+import com.williamcallahan.applemaps.domain.model.Location;
+import com.williamcallahan.applemaps.domain.model.SearchAutocompleteResponse;
+import com.williamcallahan.applemaps.domain.model.StructuredAddress;
+import java.util.List;
+import java.util.Optional;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.ValueDeserializer;
+
+/**
+ * Streaming deserializer for {@link SearchAutocompleteResponse}.
+ */
+final class SearchAutocompleteResponseDeserializer extends ValueDeserializer<SearchAutocompleteResponse> {
+
+    @Override
+    public SearchAutocompleteResponse deserialize(JsonParser parser, DeserializationContext context) {
+        List<AutocompleteResult> results = null;
+        for (String name = JsonFieldReader.firstPropertyName(parser, context, SearchAutocompleteResponse.class);
+             name != null;
+             name = parser.nextName()) {
+            parser.nextToken();
+            if ("results".equals(name)) {
+                results = JsonFieldReader.readList(parser, context, SearchAutocompleteResponseDeserializer::readResult);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return new SearchAutocompleteResponse(results);
+    }
+
+    @Override
+    public Class<?> handledType() {
+        return SearchAutocompleteResponse.class;
+    }
+
+    private static AutocompleteResult readResult(JsonParser parser, DeserializationContext context) {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        String completionUrl = null;
+        List<String> displayLines = null;
+        Location location = null;
+        StructuredAddress structuredAddress = null;
+        for (String name = JsonFieldReader.firstPropertyName(parser, context, AutocompleteResult.class);
+             name != null;
+             name = parser.nextName()) {
+            parser.nextToken();
+            switch (name) {
+                case "completionUrl" -> completionUrl = JsonFieldReader.readString(parser, context);
+                case "displayLines" -> displayLines = JsonFieldReader.readStringList(parser, context);
+                case "location" -> location = PlaceJsonReader.readLocation(parser, context);
+                case "structuredAddress" -> structuredAddress = PlaceJsonReader.readStructuredAddress(parser, context);
+                default -> parser.skipChildren();
+            }
+        }
+        JsonFieldReader.requireProperty(context, AutocompleteResult.class, completionUrl, "completionUrl");
+        return new AutocompleteResult(
+            completionUrl,
+            displayLines,
+            Optional.ofNullable(location),
+            Optional.ofNullable(structuredAddress)
+        );
+    }
+}
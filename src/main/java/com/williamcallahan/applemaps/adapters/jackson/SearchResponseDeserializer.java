@@ -0,0 +1,71 @@
+package com.williamcallahan.applemaps.adapters.jackson;
+
+import com.williamcallahan.applemaps.domain.model.PaginationInfo;
+import com.williamcallahan.applemaps.domain.model.SearchMapRegion;
+import com.williamcallahan.applemaps.domain.model.SearchResponse;
+import com.williamcallahan.applemaps.domain.model.SearchResponsePlace;
+import java.util.List;
+import java.util.Optional;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.ValueDeserializer;
+
+/**
+ * Streaming deserializer for {@link SearchResponse}.
+ */
+final class SearchResponseDeserializer extends ValueDeserializer<SearchResponse> {
+
+    @Override
+    public SearchResponse deserialize(JsonParser parser, DeserializationContext context) {
+        SearchMapRegion displayMapRegion = null;
+        PaginationInfo paginationInfo = null;
+        List<SearchResponsePlace> results = null;
+        for (String name = JsonFieldReader.firstPropertyName(parser, context, SearchResponse.class);
+             name != null;
+             name = parser.nextName()) {
+            parser.nextToken();
+            switch (name) {
+                case "displayMapRegion" -> displayMapRegion = PlaceJsonReader.readSearchMapRegion(parser, context);
+                case "paginationInfo" -> paginationInfo = readPaginationInfo(parser, context);
+                case "results" ->
+                    results = JsonFieldReader.readList(parser, context, PlaceJsonReader::readSearchResponsePlace);
+                default -> parser.skipChildren();
+            }
+        }
+        return new SearchResponse(Optional.ofNullable(displayMapRegion), Optional.ofNullable(paginationInfo), results);
+    }
+
+    @Override
+    public Class<?> handledType() {
+        return SearchResponse.class;
+    }
+
+    static PaginationInfo readPaginationInfo(JsonParser parser, DeserializationContext context) {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        String nextPageToken = null;
+        String prevPageToken = null;
+        long totalPageCount = 0L;
+        long totalResults = 0L;
+        for (String name = JsonFieldReader.firstPropertyName(parser, context, PaginationInfo.class);
+             name != null;
+             name = parser.nextName()) {
+            parser.nextToken();
+            switch (name) {
+                case "nextPageToken" -> nextPageToken = JsonFieldReader.readString(parser, context);
+                case "prevPageToken" -> prevPageToken = JsonFieldReader.readString(parser, context);
+                case "totalPageCount" -> totalPageCount = JsonFieldReader.readLongValue(parser, context);
+                case "totalResults" -> totalResults = JsonFieldReader.readLongValue(parser, context);
+                default -> parser.skipChildren();
+            }
+        }
+        return new PaginationInfo(
+            Optional.ofNullable(nextPageToken),
+            Optional.ofNullable(prevPageToken),
+            totalPageCount,
+            totalResults
+        );
+    }
+}
@@ -0,0 +1,99 @@
+package com.williamcallahan.applemaps.adapters.jmx;
+
+import java.util.List;
+
+/**
+ * Management interface of one Apple Maps client, registered by {@link AppleMapsClientMonitor}.
+ */
+public interface AppleMapsClientMXBean {
+    /**
+     * Returns the number of admitted requests that have not completed.
+     *
+     * @return the in-flight count
+     */
+    int getInFlightRequests();
+
+    /**
+     * Returns the number of requests waiting for admission under the rate or concurrency limit.
+     *
+     * @return the queue depth
+     */
+    int getQueuedRequests();
+
+    /**
+     * Returns statistics for every operation called so far, sorted by operation name.
+     *
+     * @return per-operation statistics
+     */
+    List<OperationStatistics> getOperations();
+
+    /**
+     * Returns hit and miss counts for every cache registered with the client, sorted by cache name.
+     *
+     * @return per-cache statistics, empty when no caches were registered
+     */
+    List<CacheStatistics> getCaches();
+
+    /**
+     * Returns when the cached access token expires.
+     *
+     * @return ISO-8601 instant, or an empty string before the first token exchange
+     */
+    String getAccessTokenExpiry();
+
+    /**
+     * Returns the number of access-token exchanges.
+     *
+     * @return the count
+     */
+    long getTokenRefreshes();
+
+    /**
+     * Returns the number of failed access-token exchanges.
+     *
+     * @return the count
+     */
+    long getTokenRefreshFailures();
+
+    /**
+     * Returns the request timeout.
+     *
+     * @return milliseconds
+     */
+    long getTimeoutMillis();
+
+    /**
+     * Sets the request timeout.
+     *
+     * @param timeoutMillis positive milliseconds
+     */
+    void setTimeoutMillis(long timeoutMillis);
+
+    /**
+     * Returns the maximum request rate.
+     *
+     * @return requests per second, or {@code 0} when unlimited
+     */
+    double getRateLimit();
+
+    /**
+     * Sets the maximum request rate.
+     *
+     * @param requestsPerSecond requests per second, or {@code 0} for unlimited
+     */
+    void setRateLimit(double requestsPerSecond);
+
+    /**
+     * Returns the maximum number of requests in flight at once.
+     *
+     * @return the limit, or {@code 0} when unlimited
+     */
+    int getConcurrencyLimit();
+
+    /**
+     * Sets the maximum number of requests in flight at once.
+     *
+     * @param concurrencyLimit the limit, or {@code 0} for unlimited
+     */
+    void setConcurrencyLimit(int concurrencyLimit);
+}
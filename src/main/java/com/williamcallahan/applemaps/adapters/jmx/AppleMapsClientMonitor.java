@@ -0,0 +1,261 @@
+package com.williamcallahan.applemaps.adapters.jmx;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.InstanceNotFoundException;
+import javax.management.MBeanRegistrationException;
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.NotCompliantMBeanException;
+import javax.management.ObjectName;
+
+import com.williamcallahan.applemaps.adapters.mapsserver.HttpAppleMapsGateway;
+import com.williamcallahan.applemaps.adapters.metrics.InMemoryAppleMapsMetrics;
+import com.williamcallahan.applemaps.adapters.metrics.LatencyHistogram;
+import com.williamcallahan.applemaps.adapters.metrics.MetricsSnapshot;
+import com.williamcallahan.applemaps.adapters.metrics.OperationMetrics;
+import com.williamcallahan.applemaps.adapters.metrics.StatusClass;
+
+/**
+ * Registers an {@link AppleMapsClientMXBean} for one gateway, and optionally the caches in front of it, on the
+ * platform MBean server, under
+ * {@code com.williamcallahan.applemaps:type=AppleMapsClient,name=<clientName>}.
+ *
+ * <p>Per-operation rates are computed from the change in request counts between reads of
+ * {@code Operations} at least one second apart. Closing the monitor unregisters the MBean; it does not
+ * close the gateway.</p>
+ */
+public final class AppleMapsClientMonitor implements AppleMapsClientMXBean, AutoCloseable {
+    private static final String DOMAIN = "com.williamcallahan.applemaps";
+    private static final long RATE_SAMPLE_INTERVAL_NANOS = Duration.ofSeconds(1).toNanos();
+    private static final double NANOS_PER_MILLISECOND = 1_000_000.0;
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private final HttpAppleMapsGateway gateway;
+    private final InMemoryAppleMapsMetrics metrics;
+    private final SortedMap<String, CacheStatisticsSource> caches;
+    private final MBeanServer mBeanServer;
+    private final ObjectName objectName;
+    private final Map<String, Long> sampledRequestCounts = new HashMap<>();
+    private final Map<String, Double> sampledRates = new HashMap<>();
+    private long sampledAtNanos;
+
+    private AppleMapsClientMonitor(
+        HttpAppleMapsGateway gateway,
+        InMemoryAppleMapsMetrics metrics,
+        SortedMap<String, CacheStatisticsSource> caches,
+        MBeanServer mBeanServer,
+        ObjectName objectName
+    ) {
+        this.gateway = gateway;
+        this.metrics = metrics;
+        this.caches = caches;
+        this.mBeanServer = mBeanServer;
+        this.objectName = objectName;
+        this.sampledAtNanos = System.nanoTime();
+        metrics.snapshot().operations()
+            .forEach((operation, operationMetrics) -> sampledRequestCounts.put(operation, operationMetrics.requests()));
+    }
+
+    /**
+     * Registers an MBean for a gateway on the platform MBean server.
+     *
+     * @param clientName name that distinguishes this client from others in the same JVM
+     * @param gateway gateway whose limits and token state are exposed
+     * @param metrics metrics the gateway records into, for per-operation statistics
+     * @return the registered monitor; close it to unregister
+     * @throws IllegalStateException if an MBean with the same client name is already registered
+     */
+    public static AppleMapsClientMonitor register(
+        String clientName,
+        HttpAppleMapsGateway gateway,
+        InMemoryAppleMapsMetrics metrics
+    ) {
+        return register(clientName, gateway, metrics, Map.of());
+    }
+
+    /**
+     * Registers an MBean for a gateway and the caches in front of it on the platform MBean server.
+     *
+     * @param clientName name that distinguishes this client from others in the same JVM
+     * @param gateway gateway whose limits and token state are exposed
+     * @param metrics metrics the gateway records into, for per-operation statistics
+     * @param caches hit and miss counters by cache name, for per-cache statistics
+     * @return the registered monitor; close it to unregister
+     * @throws IllegalStateException if an MBean with the same client name is already registered
+     */
+    public static AppleMapsClientMonitor register(
+        String clientName,
+        HttpAppleMapsGateway gateway,
+        InMemoryAppleMapsMetrics metrics,
+        Map<String, CacheStatisticsSource> caches
+    ) {
+        Objects.requireNonNull(clientName, "clientName");
+        Objects.requireNonNull(caches, "caches").forEach((name, source) -> {
+            Objects.requireNonNull(name, "cache name");
+            Objects.requireNonNull(source, "cache statistics source");
+        });
+        MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        ObjectName objectName = objectName(clientName);
+        AppleMapsClientMonitor monitor = new AppleMapsClientMonitor(
+            Objects.requireNonNull(gateway, "gateway"),
+            Objects.requireNonNull(metrics, "metrics"),
+            new TreeMap<>(caches),
+            mBeanServer,
+            objectName
+        );
+        try {
+            mBeanServer.registerMBean(monitor, objectName);
+        } catch (InstanceAlreadyExistsException exception) {
+            throw new IllegalStateException("An Apple Maps client named " + clientName + " is already registered.",
+                exception);
+        } catch (MBeanRegistrationException | NotCompliantMBeanException exception) {
+            throw new IllegalStateException("Could not register MBean " + objectName, exception);
+        }
+        return monitor;
+    }
+
+    /**
+     * Returns the name this monitor is registered under.
+     *
+     * @return the object name
+     */
+    public ObjectName objectName() {
+        return objectName;
+    }
+
+    @Override
+    public int getInFlightRequests() {
+        return gateway.limits().inFlight();
+    }
+
+    @Override
+    public int getQueuedRequests() {
+        return gateway.limits().waiting();
+    }
+
+    @Override
+    public synchronized List<OperationStatistics> getOperations() {
+        MetricsSnapshot snapshot = metrics.snapshot();
+        long now = System.nanoTime();
+        long elapsedNanos = now - sampledAtNanos;
+        if (elapsedNanos >= RATE_SAMPLE_INTERVAL_NANOS) {
+            snapshot.operations().forEach((operation, operationMetrics) -> {
+                long previousRequests = sampledRequestCounts.getOrDefault(operation, 0L);
+                double rate = (operationMetrics.requests() - previousRequests) * NANOS_PER_SECOND / elapsedNanos;
+                sampledRates.put(operation, rate);
+                sampledRequestCounts.put(operation, operationMetrics.requests());
+            });
+            sampledAtNanos = now;
+        }
+        List<OperationStatistics> statistics = new ArrayList<>(snapshot.operations().size());
+        snapshot.operations().forEach((operation, operationMetrics) ->
+            statistics.add(statistics(operation, operationMetrics, sampledRates.getOrDefault(operation, 0.0))));
+        return statistics;
+    }
+
+    @Override
+    public List<CacheStatistics> getCaches() {
+        List<CacheStatistics> statistics = new ArrayList<>(caches.size());
+        caches.forEach((name, source) -> {
+            long hits = source.hits();
+            long misses = source.misses();
+            long lookups = hits + misses;
+            statistics.add(new CacheStatistics(name, hits, misses, lookups == 0 ? 0.0 : (double) hits / lookups));
+        });
+        return statistics;
+    }
+
+    @Override
+    public String getAccessTokenExpiry() {
+        return gateway.accessTokenExpiry().map(Object::toString).orElse("");
+    }
+
+    @Override
+    public long getTokenRefreshes() {
+        return metrics.snapshot().tokenRefresh().refreshes();
+    }
+
+    @Override
+    public long getTokenRefreshFailures() {
+        return metrics.snapshot().tokenRefresh().failures();
+    }
+
+    @Override
+    public long getTimeoutMillis() {
+        return gateway.limits().timeout().toMillis();
+    }
+
+    @Override
+    public void setTimeoutMillis(long timeoutMillis) {
+        gateway.limits().setTimeout(Duration.ofMillis(timeoutMillis));
+    }
+
+    @Override
+    public double getRateLimit() {
+        return gateway.limits().rateLimit();
+    }
+
+    @Override
+    public void setRateLimit(double requestsPerSecond) {
+        gateway.limits().setRateLimit(requestsPerSecond);
+    }
+
+    @Override
+    public int getConcurrencyLimit() {
+        return gateway.limits().concurrencyLimit();
+    }
+
+    @Override
+    public void setConcurrencyLimit(int concurrencyLimit) {
+        gateway.limits().setConcurrencyLimit(concurrencyLimit);
+    }
+
+    /**
+     * Unregisters the MBean.
+     */
+    @Override
+    public void close() {
+        try {
+            mBeanServer.unregisterMBean(objectName);
+        } catch (InstanceNotFoundException exception) {
+            // Already unregistered.
+        } catch (MBeanRegistrationException exception) {
+            throw new IllegalStateException("Could not unregister MBean " + objectName, exception);
+        }
+    }
+
+    private static OperationStatistics statistics(String operation, OperationMetrics metrics, double rate) {
+        LatencyHistogram.Snapshot response = metrics.responseLatency();
+        return new OperationStatistics(
+            operation,
+            metrics.requests(),
+            rate,
+            metrics.count(StatusClass.CLIENT_ERROR),
+            metrics.count(StatusClass.SERVER_ERROR),
+            metrics.count(StatusClass.NO_RESPONSE),
+            response.valueAtPercentile(50.0) / NANOS_PER_MILLISECOND,
+            response.valueAtPercentile(99.0) / NANOS_PER_MILLISECOND,
+            response.maxNanos() / NANOS_PER_MILLISECOND,
+            metrics.decodeLatency().valueAtPercentile(99.0) / NANOS_PER_MILLISECOND,
+            metrics.bytesReceived()
+        );
+    }
+
+    private static ObjectName objectName(String clientName) {
+        try {
+            return new ObjectName(DOMAIN + ":type=AppleMapsClient,name=" + ObjectName.quote(clientName));
+        } catch (MalformedObjectNameException exception) {
+            throw new IllegalArgumentException("Invalid client name: " + clientName, exception);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.williamcallahan.applemaps.adapters.jmx;
+
+import java.util.Objects;
+
+import javax.management.ConstructorParameters;
+
+/**
+ * Per-cache row of {@link AppleMapsClientMXBean#getCaches()}, mapped to JMX composite data.
+ */
+public final class CacheStatistics {
+    private final String cache;
+    private final long hits;
+    private final long misses;
+    private final double hitRatio;
+
+    /**
+     * Creates a row.
+     *
+     * @param cache cache name
+     * @param hits lookups answered from the cache
+     * @param misses lookups the cache could not answer
+     * @param hitRatio hits over all lookups, or {@code 0} before the first lookup
+     */
+    @ConstructorParameters({"cache", "hits", "misses", "hitRatio"})
+    public CacheStatistics(String cache, long hits, long misses, double hitRatio) {
+        this.cache = Objects.requireNonNull(cache, "cache");
+        this.hits = hits;
+        this.misses = misses;
+        this.hitRatio = hitRatio;
+    }
+
+    /**
+     * Returns the cache name.
+     *
+     * @return the cache
+     */
+    public String getCache() {
+        return cache;
+    }
+
+    /**
+     * Returns the number of lookups answered from the cache.
+     *
+     * @return the count
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * Returns the number of lookups the cache could not answer.
+     *
+     * @return the count
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Returns hits over all lookups.
+     *
+     * @return a ratio between {@code 0} and {@code 1}, or {@code 0} before the first lookup
+     */
+    public double getHitRatio() {
+        return hitRatio;
+    }
+}
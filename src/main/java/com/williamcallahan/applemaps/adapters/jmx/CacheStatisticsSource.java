@@ -0,0 +1,46 @@
+package com.williamcallahan.applemaps.adapters.jmx;
+
+import java.util.Objects;
+import java.util.function.LongSupplier;
+
+/**
+ * Live hit and miss counts of one cache, read each time {@link AppleMapsClientMXBean#getCaches()} is.
+ */
+public interface CacheStatisticsSource {
+    /**
+     * Returns the number of lookups answered from the cache.
+     *
+     * @return the count
+     */
+    long hits();
+
+    /**
+     * Returns the number of lookups the cache could not answer.
+     *
+     * @return the count
+     */
+    long misses();
+
+    /**
+     * Returns a source that reads two counters, for example {@code of(cache::hits, cache::misses)}.
+     *
+     * @param hits hit counter
+     * @param misses miss counter
+     * @return the source
+     */
+    static CacheStatisticsSource of(LongSupplier hits, LongSupplier misses) {
+        Objects.requireNonNull(hits, "hits");
+        Objects.requireNonNull(misses, "misses");
+        return new CacheStatisticsSource() {
+            @Override
+            public long hits() {
+                return hits.getAsLong();
+            }
+
+            @Override
+            public long misses() {
+                return misses.getAsLong();
+            }
+        };
+    }
+}
@@ -0,0 +1,166 @@
+package com.williamcallahan.applemaps.adapters.jmx;
+
+import java.util.Objects;
+
+import javax.management.ConstructorParameters;
+
+/**
+ * Per-operation row of {@link AppleMapsClientMXBean#getOperations()}, mapped to JMX composite data.
+ */
+public final class OperationStatistics {
+    private final String operation;
+    private final long requests;
+    private final double requestsPerSecond;
+    private final long clientErrors;
+    private final long serverErrors;
+    private final long noResponses;
+    private final double p50Millis;
+    private final double p99Millis;
+    private final double maxMillis;
+    private final double decodeP99Millis;
+    private final long bytesReceived;
+
+    /**
+     * Creates a row.
+     *
+     * @param operation operation name
+     * @param requests calls made since the client started
+     * @param requestsPerSecond call rate over the most recent sampling interval
+     * @param clientErrors {@code 4xx} responses
+     * @param serverErrors {@code 5xx} responses
+     * @param noResponses calls that received no response
+     * @param p50Millis median response time
+     * @param p99Millis 99th percentile response time
+     * @param maxMillis slowest response time
+     * @param decodeP99Millis 99th percentile decode time
+     * @param bytesReceived total response body bytes
+     */
+    @ConstructorParameters({
+        "operation", "requests", "requestsPerSecond", "clientErrors", "serverErrors", "noResponses",
+        "p50Millis", "p99Millis", "maxMillis", "decodeP99Millis", "bytesReceived"
+    })
+    public OperationStatistics(
+        String operation,
+        long requests,
+        double requestsPerSecond,
+        long clientErrors,
+        long serverErrors,
+        long noResponses,
+        double p50Millis,
+        double p99Millis,
+        double maxMillis,
+        double decodeP99Millis,
+        long bytesReceived
+    ) {
+        this.operation = Objects.requireNonNull(operation, "operation");
+        this.requests = requests;
+        this.requestsPerSecond = requestsPerSecond;
+        this.clientErrors = clientErrors;
+        this.serverErrors = serverErrors;
+        this.noResponses = noResponses;
+        this.p50Millis = p50Millis;
+        this.p99Millis = p99Millis;
+        this.maxMillis = maxMillis;
+        this.decodeP99Millis = decodeP99Millis;
+        this.bytesReceived = bytesReceived;
+    }
+
+    /**
+     * Returns the operation name.
+     *
+     * @return the operation
+     */
+    public String getOperation() {
+        return operation;
+    }
+
+    /**
+     * Returns the number of calls made since the client started.
+     *
+     * @return the count
+     */
+    public long getRequests() {
+        return requests;
+    }
+
+    /**
+     * Returns the call rate over the most recent sampling interval.
+     *
+     * @return requests per second
+     */
+    public double getRequestsPerSecond() {
+        return requestsPerSecond;
+    }
+
+    /**
+     * Returns the number of {@code 4xx} responses.
+     *
+     * @return the count
+     */
+    public long getClientErrors() {
+        return clientErrors;
+    }
+
+    /**
+     * Returns the number of {@code 5xx} responses.
+     *
+     * @return the count
+     */
+    public long getServerErrors() {
+        return serverErrors;
+    }
+
+    /**
+     * Returns the number of calls that received no response.
+     *
+     * @return the count
+     */
+    public long getNoResponses() {
+        return noResponses;
+    }
+
+    /**
+     * Returns the median response time.
+     *
+     * @return milliseconds
+     */
+    public double getP50Millis() {
+        return p50Millis;
+    }
+
+    /**
+     * Returns the 99th percentile response time.
+     *
+     * @return milliseconds
+     */
+    public double getP99Millis() {
+        return p99Millis;
+    }
+
+    /**
+     * Returns the slowest response time.
+     *
+     * @return milliseconds
+     */
+    public double getMaxMillis() {
+        return maxMillis;
+    }
+
+    /**
+     * Returns the 99th percentile decode time.
+     *
+     * @return milliseconds
+     */
+    public double getDecodeP99Millis() {
+        return decodeP99Millis;
+    }
+
+    /**
+     * Returns the total response body bytes.
+     *
+     * @return bytes
+     */
+    public long getBytesReceived() {
+        return bytesReceived;
+    }
+}
@@ -0,0 +1,37 @@
+package com.williamcallahan.applemaps.adapters.mapsserver;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.Objects;
+
+/**
+ * One gateway call as seen by an {@link ApiInterceptor}.
+ */
+public record ApiCall(String operation, URI uri, HttpRequest.Builder requestBuilder, CallOptions options) {
+    /**
+     * Canonical constructor that validates required fields.
+     *
+     * @param operation operation name, e.g. {@code geocode}
+     * @param uri request URI, including the query string
+     * @param requestBuilder builder for the GET request; interceptors may add headers. The gateway sets the
+     *                       timeout and authorization headers on a copy when the request is sent.
+     * @param options deadline, timeout and cancellation for the call, checked again on every exchange
+     */
+    public ApiCall {
+        Objects.requireNonNull(operation, "operation");
+        Objects.requireNonNull(uri, "uri");
+        Objects.requireNonNull(requestBuilder, "requestBuilder");
+        Objects.requireNonNull(options, "options");
+    }
+
+    /**
+     * Creates a call without per-call options.
+     *
+     * @param operation operation name, e.g. {@code geocode}
+     * @param uri request URI, including the query string
+     * @param requestBuilder builder for the GET request
+     */
+    public ApiCall(String operation, URI uri, HttpRequest.Builder requestBuilder) {
+        this(operation, uri, requestBuilder, CallOptions.NONE);
+    }
+}
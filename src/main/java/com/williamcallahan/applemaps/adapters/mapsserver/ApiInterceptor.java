@@ -0,0 +1,46 @@
+package com.williamcallahan.applemaps.adapters.mapsserver;
+
+import java.io.IOException;
+
+/**
+ * Cross-cutting step around each Maps Server API exchange, such as caching, retrying or adding headers.
+ *
+ * <p>Interceptors run in the order they were configured, each wrapping the next, and the last one wraps
+ * the network exchange. An interceptor can change the call's request builder before proceeding,
+ * inspect or replace the response after proceeding, proceed more than once to retry, or return a
+ * response without proceeding to short-circuit the network entirely. The gateway decodes whatever
+ * response the outermost interceptor returns; any status other than {@code 200} fails the call with
+ * {@link AppleMapsApiException}.</p>
+ *
+ * <p>Each proceed through to the network is admitted separately under the gateway's
+ * {@link RequestLimits} and sent with a current access token.</p>
+ */
+@FunctionalInterface
+public interface ApiInterceptor {
+    /**
+     * Handles one call.
+     *
+     * @param call the call, including its mutable request builder
+     * @param chain the rest of the chain
+     * @return the response to hand to the previous interceptor
+     * @throws IOException if the exchange fails
+     * @throws InterruptedException if interrupted while waiting
+     */
+    ApiResponse intercept(ApiCall call, Chain chain) throws IOException, InterruptedException;
+
+    /**
+     * The interceptors after the current one, ending with the network exchange.
+     */
+    @FunctionalInterface
+    interface Chain {
+        /**
+         * Passes the call to the next interceptor, or to the network when there is none.
+         *
+         * @param call the call to proceed with
+         * @return the response
+         * @throws IOException if the exchange fails
+         * @throws InterruptedException if interrupted while waiting
+         */
+        ApiResponse proceed(ApiCall call) throws IOException, InterruptedException;
+    }
+}
@@ -0,0 +1,49 @@
+package com.williamcallahan.applemaps.adapters.mapsserver;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight Recorder event for one Maps Server API call, from token lookup until the body is decoded.
+ *
+ * <p>Disabled by default; enable {@code com.williamcallahan.applemaps.AppleMapsRequest} in a JFR settings
+ * file to record it.</p>
+ */
+@Name(ApiRequestEvent.NAME)
+@Label("Apple Maps Request")
+@Category({"Apple Maps", "Network"})
+@Description("An Apple Maps Server API call")
+@Enabled(false)
+final class ApiRequestEvent extends Event {
+    static final String NAME = "com.williamcallahan.applemaps.AppleMapsRequest";
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Path")
+    @Description("Request path without the query string")
+    String path;
+
+    @Label("Status Code")
+    @Description("HTTP status, or 0 when no response was received")
+    int statusCode;
+
+    @Label("Bytes Received")
+    @DataAmount
+    long bytesReceived;
+
+    @Label("Time to Headers")
+    @Description("Time from sending the request until response headers arrived")
+    @Timespan
+    long timeToHeaders;
+
+    @Label("Decode Time")
+    @Timespan
+    long decodeTime;
+}
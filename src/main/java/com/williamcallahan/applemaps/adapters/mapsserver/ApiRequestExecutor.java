@@ -0,0 +1,245 @@
+package com.williamcallahan.applemaps.adapters.mapsserver;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+import com.williamcallahan.applemaps.adapters.metrics.AppleMapsMetrics;
+
+/**
+ * Runs one gateway call through the configured {@link ApiInterceptor}s, decodes the final response and reports
+ * the call to {@link AppleMapsMetrics} and, when enabled, as an {@link ApiRequestEvent}.
+ *
+ * <p>Each network exchange is admitted under the gateway's {@link RequestLimits} and sent as a GET with a
+ * current access token. Admission, token refresh and the request itself share one per-exchange deadline: the
+ * call's timeout, or the gateway's, capped by the call's overall deadline. With no interceptors the exchange
+ * is invoked directly.</p>
+ */
+final class ApiRequestExecutor {
+    private static final int NO_RESPONSE = 0;
+
+    private final AppleMapsAuthorizationService authorizationService;
+    private final HttpClient httpClient;
+    private final RequestLimits limits;
+    private final AppleMapsMetrics metrics;
+    private final List<ApiInterceptor> interceptors;
+
+    ApiRequestExecutor(
+        AppleMapsAuthorizationService authorizationService,
+        HttpClient httpClient,
+        RequestLimits limits,
+        AppleMapsMetrics metrics,
+        List<ApiInterceptor> interceptors
+    ) {
+        this.authorizationService = Objects.requireNonNull(authorizationService, "authorizationService");
+        this.httpClient = Objects.requireNonNull(httpClient, "httpClient");
+        this.limits = Objects.requireNonNull(limits, "limits");
+        this.metrics = Objects.requireNonNull(metrics, "metrics");
+        this.interceptors = List.copyOf(interceptors);
+    }
+
+    <T> T execute(String operation, URI uri, CallOptions options, Function<byte[], T> responseDecoder) {
+        ApiRequestEvent event = new ApiRequestEvent();
+        event.begin();
+        ExchangeTrace trace = new ExchangeTrace(event.isEnabled());
+        ApiCall call = new ApiCall(operation, uri, HttpRequest.newBuilder().GET().uri(uri), options);
+        ApiResponse response = null;
+        long decodeNanos = 0L;
+        try {
+            response = interceptors.isEmpty()
+                ? exchange(call, trace)
+                : new InterceptorChain(interceptors, nextCall -> exchange(nextCall, trace)).proceed(call);
+            if (response.statusCode() != 200) {
+                throw new AppleMapsApiException(operation, response.statusCode(), new String(response.body()));
+            }
+            long decodeStartedAt = System.nanoTime();
+            T decoded = responseDecoder.apply(response.body());
+            decodeNanos = System.nanoTime() - decodeStartedAt;
+            return decoded;
+        } catch (AppleMapsApiException | AppleMapsClientException exception) {
+            throw exception;
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new AppleMapsClientException(operation, exception);
+        } catch (Exception exception) {
+            throw new AppleMapsClientException(operation, exception);
+        } finally {
+            if (response != null || trace.isSent()) {
+                record(call, response, decodeNanos, trace, event);
+            }
+        }
+    }
+
+    private ApiResponse exchange(ApiCall call, ExchangeTrace trace) throws IOException, InterruptedException {
+        Optional<CancellationHandle> cancellation = call.options().cancellation();
+        if (cancellation.isPresent() && cancellation.get().isCancelled()) {
+            throw new CancellationException("The call was cancelled.");
+        }
+        long deadlineNanos = System.nanoTime() + exchangeTimeout(call.options()).toNanos();
+        try {
+            limits.acquire(deadlineNanos);
+        } catch (TimeoutException exception) {
+            HttpTimeoutException admissionTimeout = new HttpTimeoutException(exception.getMessage());
+            admissionTimeout.initCause(exception);
+            throw admissionTimeout;
+        }
+        try {
+            HttpRequest.Builder builder = call.requestBuilder().copy()
+                .setHeader("Authorization", "Bearer " + authorizationService.getAccessToken(deadlineNanos));
+
+            authorizationService.getOrigin()
+                .ifPresent(value -> builder.setHeader("Origin", value));
+
+            HttpRequest httpRequest = builder.timeout(remaining(deadlineNanos)).build();
+            HeaderTimingBodyHandler headerTiming = trace.timesHeaders() ? new HeaderTimingBodyHandler() : null;
+            long sentAt = System.nanoTime();
+            trace.sent(sentAt);
+            HttpResponse<byte[]> response = send(
+                httpRequest,
+                headerTiming == null ? HttpResponse.BodyHandlers.ofByteArray() : headerTiming,
+                cancellation
+            );
+            ApiResponse apiResponse = new ApiResponse(
+                response.statusCode(),
+                response.headers(),
+                response.body(),
+                System.nanoTime() - sentAt
+            );
+            if (headerTiming != null) {
+                trace.received(apiResponse, headerTiming.headersReceivedAt() - sentAt);
+            }
+            return apiResponse;
+        } finally {
+            limits.release();
+        }
+    }
+
+    private HttpResponse<byte[]> send(HttpRequest httpRequest, HttpResponse.BodyHandler<byte[]> bodyHandler,
+        Optional<CancellationHandle> cancellation) throws IOException, InterruptedException {
+        if (cancellation.isEmpty()) {
+            return httpClient.send(httpRequest, bodyHandler);
+        }
+        CompletableFuture<HttpResponse<byte[]>> exchange = httpClient.sendAsync(httpRequest, bodyHandler);
+        cancellation.get().attach(exchange);
+        try {
+            return exchange.get();
+        } catch (ExecutionException exception) {
+            Throwable cause = exception.getCause();
+            if (cause instanceof IOException ioException) {
+                throw ioException;
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IOException(cause);
+        } catch (InterruptedException exception) {
+            exchange.cancel(true);
+            throw exception;
+        } finally {
+            cancellation.get().detach(exchange);
+        }
+    }
+
+    private Duration exchangeTimeout(CallOptions options) throws HttpTimeoutException {
+        Duration timeout = options.timeout().orElseGet(limits::timeout);
+        if (options.deadline().isPresent()) {
+            Duration untilDeadline = Duration.between(Instant.now(), options.deadline().get());
+            if (untilDeadline.compareTo(timeout) < 0) {
+                timeout = untilDeadline;
+            }
+        }
+        if (timeout.isNegative() || timeout.isZero()) {
+            throw new HttpTimeoutException("The call deadline has passed.");
+        }
+        return timeout;
+    }
+
+    private static Duration remaining(long deadlineNanos) throws HttpTimeoutException {
+        long remainingNanos = deadlineNanos - System.nanoTime();
+        if (remainingNanos <= 0L) {
+            throw new HttpTimeoutException("The deadline passed before the request was sent.");
+        }
+        return Duration.ofNanos(remainingNanos);
+    }
+
+    private void record(ApiCall call, ApiResponse response, long decodeNanos, ExchangeTrace trace,
+        ApiRequestEvent event) {
+        int statusCode = response == null ? NO_RESPONSE : response.statusCode();
+        long bytesReceived = response == null ? 0L : response.body().length;
+        long responseNanos = response == null ? System.nanoTime() - trace.lastSentAt() : response.responseNanos();
+        metrics.recordRequest(call.operation(), statusCode, responseNanos, bytesReceived, decodeNanos);
+        if (event.shouldCommit()) {
+            event.operation = call.operation();
+            event.path = call.uri().getRawPath();
+            event.statusCode = statusCode;
+            event.bytesReceived = bytesReceived;
+            event.timeToHeaders = response == null ? 0L : trace.timeToHeaders(response);
+            event.decodeTime = decodeNanos;
+            event.commit();
+        }
+    }
+
+    /**
+     * Send timing shared by the network exchanges of one call, which may run concurrently when a call is hedged.
+     * Each exchange times itself; this keeps only when the latest exchange was sent, for calls that fail
+     * without a response, and the time to headers of each response, for the response the call returns.
+     */
+    private static final class ExchangeTrace {
+        private final Map<ApiResponse, Long> timeToHeaders;
+        private volatile boolean sent;
+        private volatile long lastSentAt;
+
+        ExchangeTrace(boolean timeHeaders) {
+            this.timeToHeaders = timeHeaders ? Collections.synchronizedMap(new IdentityHashMap<>()) : null;
+        }
+
+        boolean timesHeaders() {
+            return timeToHeaders != null;
+        }
+
+        void sent(long sentAt) {
+            lastSentAt = sentAt;
+            sent = true;
+        }
+
+        boolean isSent() {
+            return sent;
+        }
+
+        long lastSentAt() {
+            return lastSentAt;
+        }
+
+        void received(ApiResponse response, long headersNanos) {
+            timeToHeaders.put(response, headersNanos);
+        }
+
+        /**
+         * Returns the time to headers of a response from this call's exchanges, or {@code 0} when the response
+         * did not come from one, such as a response built by an interceptor.
+         */
+        long timeToHeaders(ApiResponse response) {
+            if (timeToHeaders == null) {
+                return 0L;
+            }
+            Long headersNanos = timeToHeaders.get(response);
+            return headersNanos == null ? 0L : headersNanos;
+        }
+    }
+}
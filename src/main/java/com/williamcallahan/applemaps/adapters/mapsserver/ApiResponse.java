@@ -0,0 +1,49 @@
+package com.williamcallahan.applemaps.adapters.mapsserver;
+
+import java.net.http.HttpHeaders;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Raw response to an {@link ApiCall}, before decoding.
+ *
+ * <p>The body array is shared, not copied; interceptors that keep it must not modify it.</p>
+ *
+ * @param statusCode HTTP status
+ * @param headers response headers
+ * @param body response body
+ * @param responseNanos time from sending the request until the body was fully read
+ */
+public record ApiResponse(int statusCode, HttpHeaders headers, byte[] body, long responseNanos) {
+    private static final HttpHeaders NO_HEADERS = HttpHeaders.of(Map.of(), (name, value) -> true);
+
+    /**
+     * Canonical constructor that validates the status and timing.
+     *
+     * @param statusCode HTTP status
+     * @param headers response headers
+     * @param body response body
+     * @param responseNanos time from sending the request until the body was fully read
+     */
+    public ApiResponse {
+        if (statusCode < 100 || statusCode > 599) {
+            throw new IllegalArgumentException("statusCode must be between 100 and 599.");
+        }
+        Objects.requireNonNull(headers, "headers");
+        Objects.requireNonNull(body, "body");
+        if (responseNanos < 0) {
+            throw new IllegalArgumentException("responseNanos must not be negative.");
+        }
+    }
+
+    /**
+     * Creates a response that did not come from the network, such as a cached body.
+     *
+     * @param statusCode HTTP status
+     * @param body response body
+     * @return a response with no headers and zero response time
+     */
+    public static ApiResponse of(int statusCode, byte[] body) {
+        return new ApiResponse(statusCode, NO_HEADERS, body, 0L);
+    }
+}
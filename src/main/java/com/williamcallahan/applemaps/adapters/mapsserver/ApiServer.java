@@ -0,0 +1,57 @@
+package com.williamcallahan.applemaps.adapters.mapsserver;
+
+import java.net.URI;
+import java.util.Objects;
+
+/**
+ * Base address of the Maps Server API that request paths are resolved against.
+ *
+ * @param baseUrl scheme, host, optional port and optional path prefix, without a trailing slash
+ */
+record ApiServer(String baseUrl) {
+    static final ApiServer DEFAULT = new ApiServer("https://maps-api.apple.com");
+
+    private static final String TRAILING_SLASH = "/";
+
+    ApiServer {
+        Objects.requireNonNull(baseUrl, "baseUrl");
+        URI uri = URI.create(baseUrl);
+        String scheme = uri.getScheme();
+        if (!"https".equalsIgnoreCase(scheme) && !"http".equalsIgnoreCase(scheme)) {
+            throw new IllegalArgumentException("API server must be an http or https URI: " + baseUrl);
+        }
+        if (uri.getHost() == null) {
+            throw new IllegalArgumentException("API server must include a host: " + baseUrl);
+        }
+        if (uri.getRawQuery() != null || uri.getRawFragment() != null) {
+            throw new IllegalArgumentException("API server must not include a query or fragment: " + baseUrl);
+        }
+        if (baseUrl.endsWith(TRAILING_SLASH)) {
+            throw new IllegalArgumentException("API server must not end with '/': " + baseUrl);
+        }
+    }
+
+    /**
+     * Creates an API server address, dropping trailing slashes.
+     *
+     * @param uri absolute http or https URI, e.g. {@code http://127.0.0.1:8080}
+     * @return the API server
+     */
+    static ApiServer of(URI uri) {
+        String baseUrl = Objects.requireNonNull(uri, "apiServer").toString();
+        while (baseUrl.endsWith(TRAILING_SLASH)) {
+            baseUrl = baseUrl.substring(0, baseUrl.length() - 1);
+        }
+        return new ApiServer(baseUrl);
+    }
+
+    /**
+     * Resolves an absolute API path, optionally followed by a query string.
+     *
+     * @param pathAndQuery path starting with {@code /}
+     * @return the request URI
+     */
+    URI resolve(String pathAndQuery) {
+        return URI.create(baseUrl + pathAndQuery);
+    }
+}
@@ -4,16 +4,19 @@ import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
 import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Base64;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.ReentrantLock;
 
 import com.williamcallahan.applemaps.adapters.jackson.AppleMapsObjectMapperFactory;
+import com.williamcallahan.applemaps.adapters.metrics.AppleMapsMetrics;
 import com.williamcallahan.applemaps.domain.model.TokenResponse;
 
 import tools.jackson.databind.ObjectMapper;
@@ -32,6 +35,7 @@ public final class AppleMapsAuthorizationService {
     private final String authToken;
     private final Optional<String> origin;
     private final Clock clock;
+    private final AppleMapsMetrics metrics;
     private final ReentrantLock refreshLock = new ReentrantLock();
     private final AtomicReference<AccessToken> accessToken = new AtomicReference<>();
 
@@ -46,6 +50,18 @@ public final class AppleMapsAuthorizationService {
         this(new Dependencies(authToken, timeout, origin));
     }
 
+    /**
+     * Creates a service that exchanges authorization tokens against a Maps Server API at a custom address.
+     *
+     * @param authToken the Apple Maps Server API authorization token
+     * @param timeout request timeout for token exchange
+     * @param origin optional Origin header value for token requests
+     * @param apiServer absolute http or https base URI, e.g. {@code http://127.0.0.1:8080}
+     */
+    public AppleMapsAuthorizationService(String authToken, Duration timeout, String origin, URI apiServer) {
+        this(new Dependencies(authToken, timeout, origin, ApiServer.of(apiServer), AppleMapsMetrics.NONE));
+    }
+
     AppleMapsAuthorizationService(Dependencies dependencies) {
         this.objectMapper = dependencies.objectMapper();
         this.httpClient = dependencies.httpClient();
@@ -55,6 +71,7 @@ public final class AppleMapsAuthorizationService {
         this.origin = Optional.ofNullable(dependencies.origin())
             .filter(value -> !value.isBlank());
         this.clock = dependencies.clock();
+        this.metrics = dependencies.metrics();
     }
 
     /**
@@ -66,6 +83,15 @@ public final class AppleMapsAuthorizationService {
         return origin;
     }
 
+    /**
+     * Returns when the cached access token expires, without refreshing it.
+     *
+     * @return the expiry, or empty before the first successful exchange
+     */
+    public Optional<Instant> getAccessTokenExpiry() {
+        return Optional.ofNullable(accessToken.get()).map(AccessToken::expiresAt);
+    }
+
     /**
      * Returns a cached access token, refreshing it when needed.
      *
@@ -78,21 +104,78 @@ public final class AppleMapsAuthorizationService {
         }
         refreshLock.lock();
         try {
-            AccessToken refreshedToken = accessToken.get();
-            if (refreshedToken == null || isExpiring(refreshedToken)) {
-                refreshedToken = refreshAccessToken();
-                accessToken.set(refreshedToken);
+            return refreshIfExpiring(timeout);
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    /**
+     * Returns a cached access token, refreshing it when needed without waiting past a deadline. Both the wait
+     * for another thread's refresh and this thread's token request are bounded by the deadline.
+     *
+     * @param deadlineNanos {@link System#nanoTime()} by which the token must be available
+     * @return the access token string
+     */
+    String getAccessToken(long deadlineNanos) {
+        AccessToken cachedToken = accessToken.get();
+        if (cachedToken != null && !isExpiring(cachedToken)) {
+            return cachedToken.tokenString();
+        }
+        try {
+            if (!refreshLock.tryLock(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                throw tokenDeadlineExceeded();
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new AppleMapsClientException("token", exception);
+        }
+        try {
+            long remainingNanos = deadlineNanos - System.nanoTime();
+            if (remainingNanos <= 0L) {
+                throw tokenDeadlineExceeded();
             }
-            return refreshedToken.tokenString();
+            return refreshIfExpiring(remainingNanos < timeout.toNanos() ? Duration.ofNanos(remainingNanos) : timeout);
         } finally {
             refreshLock.unlock();
         }
     }
 
-    private AccessToken refreshAccessToken() {
+    private String refreshIfExpiring(Duration requestTimeout) {
+        AccessToken refreshedToken = accessToken.get();
+        if (refreshedToken == null || isExpiring(refreshedToken)) {
+            refreshedToken = timedRefreshAccessToken(requestTimeout);
+            accessToken.set(refreshedToken);
+        }
+        return refreshedToken.tokenString();
+    }
+
+    private AccessToken timedRefreshAccessToken(Duration requestTimeout) {
+        TokenRefreshEvent event = new TokenRefreshEvent();
+        event.begin();
+        long startedAt = System.nanoTime();
+        try {
+            AccessToken refreshedToken = refreshAccessToken(requestTimeout);
+            metrics.recordTokenRefresh(System.nanoTime() - startedAt, true);
+            if (event.shouldCommit()) {
+                event.succeeded = true;
+                event.commit();
+            }
+            return refreshedToken;
+        } catch (RuntimeException exception) {
+            metrics.recordTokenRefresh(System.nanoTime() - startedAt, false);
+            if (event.shouldCommit()) {
+                event.failure = exception.getClass().getSimpleName();
+                event.commit();
+            }
+            throw exception;
+        }
+    }
+
+    private AccessToken refreshAccessToken(Duration requestTimeout) {
         HttpRequest.Builder builder = HttpRequest.newBuilder()
             .GET()
-            .timeout(timeout)
+            .timeout(requestTimeout)
             .uri(tokenUri)
             .setHeader("Authorization", "Bearer " + authToken);
 
@@ -115,6 +198,11 @@ public final class AppleMapsAuthorizationService {
         }
     }
 
+    private static AppleMapsClientException tokenDeadlineExceeded() {
+        return new AppleMapsClientException("token",
+            new HttpTimeoutException("No access token became available before the deadline."));
+    }
+
     private boolean isExpiring(AccessToken token) {
         Instant now = clock.instant();
         Instant refreshAt = token.expiresAt().minus(ACCESS_TOKEN_GRACE_PERIOD);
@@ -151,16 +239,22 @@ public final class AppleMapsAuthorizationService {
         private final String authToken;
         private final String origin;
         private final Clock clock;
+        private final AppleMapsMetrics metrics;
 
         Dependencies(String authToken, Duration timeout, String origin) {
+            this(authToken, timeout, origin, ApiServer.DEFAULT, AppleMapsMetrics.NONE);
+        }
+
+        Dependencies(String authToken, Duration timeout, String origin, ApiServer apiServer, AppleMapsMetrics metrics) {
             this(new DependenciesConfig(
                 AppleMapsObjectMapperFactory.create(),
                 HttpClient.newHttpClient(),
-                URI.create("https://maps-api.apple.com" + TOKEN_PATH),
+                apiServer.resolve(TOKEN_PATH),
                 timeout,
                 authToken,
                 origin,
-                Clock.systemUTC()
+                Clock.systemUTC(),
+                metrics
             ));
         }
 
@@ -172,6 +266,7 @@ public final class AppleMapsAuthorizationService {
             this.authToken = Objects.requireNonNull(config.authToken(), "authToken");
             this.origin = config.origin();
             this.clock = Objects.requireNonNull(config.clock(), "clock");
+            this.metrics = Objects.requireNonNull(config.metrics(), "metrics");
         }
 
         record DependenciesConfig(
@@ -181,8 +276,20 @@ public final class AppleMapsAuthorizationService {
             Duration timeout,
             String authToken,
             String origin,
-            Clock clock
+            Clock clock,
+            AppleMapsMetrics metrics
         ) {
+            DependenciesConfig(
+                ObjectMapper objectMapper,
+                HttpClient httpClient,
+                URI tokenUri,
+                Duration timeout,
+                String authToken,
+                String origin,
+                Clock clock
+            ) {
+                this(objectMapper, httpClient, tokenUri, timeout, authToken, origin, clock, AppleMapsMetrics.NONE);
+            }
         }
 
         ObjectMapper objectMapper() {
@@ -212,5 +319,9 @@ public final class AppleMapsAuthorizationService {
         Clock clock() {
             return clock;
         }
+
+        AppleMapsMetrics metrics() {
+            return metrics;
+        }
     }
 }
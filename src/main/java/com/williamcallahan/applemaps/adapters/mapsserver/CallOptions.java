@@ -0,0 +1,143 @@
+package com.williamcallahan.applemaps.adapters.mapsserver;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Per-call settings for an {@link HttpAppleMapsGateway}, applied through
+ * {@link HttpAppleMapsGateway#withCallOptions(CallOptions)}.
+ *
+ * <p>The timeout bounds each network exchange of a call, including admission under the gateway's
+ * {@link RequestLimits} and any token refresh. The deadline bounds the whole call, across every exchange an
+ * interceptor makes, such as retries. The tenant key and priority describe who the call is made for and how
+ * urgent it is, e.g. for quota accounting and scheduling; the gateway itself does not use them.</p>
+ */
+public record CallOptions(
+    Optional<Instant> deadline,
+    Optional<Duration> timeout,
+    Optional<CancellationHandle> cancellation,
+    Optional<String> tenant,
+    Optional<RequestPriority> priority
+) {
+    /**
+     * No deadline, the gateway's timeout, no cancellation, no tenant and no priority.
+     */
+    public static final CallOptions NONE = new CallOptions(
+        Optional.empty(),
+        Optional.empty(),
+        Optional.empty(),
+        Optional.empty(),
+        Optional.empty()
+    );
+
+    /**
+     * Canonical constructor that validates the timeout and normalizes absent values.
+     *
+     * @param deadline instant by which the call must complete
+     * @param timeout timeout for each exchange, replacing the gateway's {@link RequestLimits#timeout()}
+     * @param cancellation handle that can abort the call
+     * @param tenant key of the tenant the call is made for
+     * @param priority traffic class of the call
+     */
+    public CallOptions {
+        deadline = Objects.requireNonNullElse(deadline, Optional.empty());
+        timeout = Objects.requireNonNullElse(timeout, Optional.empty());
+        cancellation = Objects.requireNonNullElse(cancellation, Optional.empty());
+        tenant = Objects.requireNonNullElse(tenant, Optional.empty());
+        priority = Objects.requireNonNullElse(priority, Optional.empty());
+        timeout.ifPresent(value -> {
+            if (value.isNegative() || value.isZero()) {
+                throw new IllegalArgumentException("timeout must be positive.");
+            }
+        });
+    }
+
+    /**
+     * Creates a builder with no deadline, the gateway's timeout, no cancellation, no tenant and no priority.
+     *
+     * @return a builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Builder for {@link CallOptions}.
+     */
+    public static final class Builder {
+        private Optional<Instant> deadline = Optional.empty();
+        private Optional<Duration> timeout = Optional.empty();
+        private Optional<CancellationHandle> cancellation = Optional.empty();
+        private Optional<String> tenant = Optional.empty();
+        private Optional<RequestPriority> priority = Optional.empty();
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the instant by which the call must complete.
+         *
+         * @param deadline the deadline
+         * @return this builder
+         */
+        public Builder deadline(Instant deadline) {
+            this.deadline = Optional.of(Objects.requireNonNull(deadline, "deadline"));
+            return this;
+        }
+
+        /**
+         * Sets the timeout for each exchange of the call.
+         *
+         * @param timeout positive timeout
+         * @return this builder
+         */
+        public Builder timeout(Duration timeout) {
+            this.timeout = Optional.of(Objects.requireNonNull(timeout, "timeout"));
+            return this;
+        }
+
+        /**
+         * Sets the handle that can abort the call.
+         *
+         * @param cancellation cancellation handle
+         * @return this builder
+         */
+        public Builder cancellation(CancellationHandle cancellation) {
+            this.cancellation = Optional.of(Objects.requireNonNull(cancellation, "cancellation"));
+            return this;
+        }
+
+        /**
+         * Sets the key of the tenant the call is made for.
+         *
+         * @param tenant tenant key
+         * @return this builder
+         */
+        public Builder tenant(String tenant) {
+            this.tenant = Optional.of(Objects.requireNonNull(tenant, "tenant"));
+            return this;
+        }
+
+        /**
+         * Sets the traffic class of the call.
+         *
+         * @param priority the priority
+         * @return this builder
+         */
+        public Builder priority(RequestPriority priority) {
+            this.priority = Optional.of(Objects.requireNonNull(priority, "priority"));
+            return this;
+        }
+
+        /**
+         * Builds validated {@link CallOptions}.
+         *
+         * @return an options instance
+         */
+        public CallOptions build() {
+            return new CallOptions(deadline, timeout, cancellation, tenant, priority);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.williamcallahan.applemaps.adapters.mapsserver;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+
+/**
+ * Cancels gateway calls made with {@link CallOptions} that carry this handle.
+ *
+ * <p>Cancelling aborts every network exchange the calls have in flight, and any exchange they would start
+ * later fails immediately; the calls fail with an {@link AppleMapsClientException} caused by a
+ * {@link java.util.concurrent.CancellationException}. A handle cannot be reset.</p>
+ */
+public final class CancellationHandle {
+    private final Set<Future<?>> exchanges = ConcurrentHashMap.newKeySet();
+    private volatile boolean cancelled;
+
+    /**
+     * Creates a handle that has not been cancelled.
+     */
+    public CancellationHandle() {
+    }
+
+    /**
+     * Cancels every call using this handle.
+     */
+    public void cancel() {
+        cancelled = true;
+        exchanges.forEach(exchange -> exchange.cancel(true));
+    }
+
+    /**
+     * Returns whether {@link #cancel()} has been called.
+     *
+     * @return {@code true} once cancelled
+     */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    void attach(Future<?> exchange) {
+        exchanges.add(exchange);
+        if (cancelled) {
+            exchange.cancel(true);
+        }
+    }
+
+    void detach(Future<?> exchange) {
+        exchanges.remove(exchange);
+    }
+}
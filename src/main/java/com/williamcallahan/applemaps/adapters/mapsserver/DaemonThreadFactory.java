@@ -0,0 +1,25 @@
+package com.williamcallahan.applemaps.adapters.mapsserver;
+
+import java.util.Objects;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates numbered daemon threads, so client pools never keep the JVM alive.
+ */
+final class DaemonThreadFactory implements ThreadFactory {
+    private final String namePrefix;
+    private final AtomicInteger threadSequence = new AtomicInteger(1);
+
+    DaemonThreadFactory(String namePrefix) {
+        this.namePrefix = Objects.requireNonNull(namePrefix, "namePrefix");
+    }
+
+    @Override
+    public Thread newThread(Runnable runnable) {
+        Thread thread = new Thread(runnable);
+        thread.setName(namePrefix + threadSequence.getAndIncrement());
+        thread.setDaemon(true);
+        return thread;
+    }
+}
@@ -0,0 +1,135 @@
+package com.williamcallahan.applemaps.adapters.mapsserver;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.williamcallahan.applemaps.adapters.jackson.AppleMapsObjectMapperFactory;
+import com.williamcallahan.applemaps.adapters.metrics.AppleMapsMetrics;
+
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Collaborators of an {@link HttpAppleMapsGateway}, either created with production defaults or supplied
+ * explicitly by tests and benchmarks.
+ */
+final class GatewayDependencies {
+    private static final String HTTP_CLIENT_THREAD_NAME_PREFIX = "apple-maps-http-client-";
+
+    private final ApiServer apiServer;
+    private final AppleMapsAuthorizationService authorizationService;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+    private final Duration timeout;
+    private final ExecutorService executorService;
+    private final AppleMapsMetrics metrics;
+    private final List<ApiInterceptor> interceptors;
+
+    GatewayDependencies(String authToken, HttpGatewayOptions options) {
+        this(createDefaultDependenciesConfig(authToken, options));
+    }
+
+    GatewayDependencies(DependenciesConfig config) {
+        this.apiServer = Objects.requireNonNull(config.apiServer(), "apiServer");
+        this.authorizationService = Objects.requireNonNull(config.authorizationService(), "authorizationService");
+        this.objectMapper = Objects.requireNonNull(config.objectMapper(), "objectMapper");
+        this.httpClient = Objects.requireNonNull(config.httpClient(), "httpClient");
+        this.timeout = Objects.requireNonNull(config.timeout(), "timeout");
+        this.executorService = Objects.requireNonNull(config.executorService(), "executorService");
+        this.metrics = Objects.requireNonNull(config.metrics(), "metrics");
+        this.interceptors = List.copyOf(config.interceptors());
+    }
+
+    record DependenciesConfig(
+        AppleMapsAuthorizationService authorizationService,
+        ObjectMapper objectMapper,
+        HttpClient httpClient,
+        Duration timeout,
+        ExecutorService executorService,
+        ApiServer apiServer,
+        AppleMapsMetrics metrics,
+        List<ApiInterceptor> interceptors
+    ) {
+        DependenciesConfig(
+            AppleMapsAuthorizationService authorizationService,
+            ObjectMapper objectMapper,
+            HttpClient httpClient,
+            Duration timeout,
+            ExecutorService executorService
+        ) {
+            this(
+                authorizationService,
+                objectMapper,
+                httpClient,
+                timeout,
+                executorService,
+                ApiServer.DEFAULT,
+                AppleMapsMetrics.NONE,
+                List.of()
+            );
+        }
+    }
+
+    private static DependenciesConfig createDefaultDependenciesConfig(String authToken, HttpGatewayOptions options) {
+        Duration timeout = options.timeout();
+        ApiServer apiServer = options.apiServer().map(ApiServer::of).orElse(ApiServer.DEFAULT);
+        ExecutorService httpClientExecutorService = Executors.newCachedThreadPool(
+            new DaemonThreadFactory(HTTP_CLIENT_THREAD_NAME_PREFIX)
+        );
+        HttpClient httpClient = HttpClient.newBuilder().executor(httpClientExecutorService).build();
+
+        return new DependenciesConfig(
+            new AppleMapsAuthorizationService(
+                new AppleMapsAuthorizationService.Dependencies(
+                    authToken,
+                    timeout,
+                    options.origin().orElse(null),
+                    apiServer,
+                    options.metrics()
+                )
+            ),
+            AppleMapsObjectMapperFactory.create(),
+            httpClient,
+            timeout,
+            httpClientExecutorService,
+            apiServer,
+            options.metrics(),
+            options.interceptors()
+        );
+    }
+
+    ApiServer apiServer() {
+        return apiServer;
+    }
+
+    AppleMapsAuthorizationService authorizationService() {
+        return authorizationService;
+    }
+
+    ObjectMapper objectMapper() {
+        return objectMapper;
+    }
+
+    HttpClient httpClient() {
+        return httpClient;
+    }
+
+    Duration timeout() {
+        return timeout;
+    }
+
+    ExecutorService executorService() {
+        return executorService;
+    }
+
+    AppleMapsMetrics metrics() {
+        return metrics;
+    }
+
+    List<ApiInterceptor> interceptors() {
+        return interceptors;
+    }
+}
@@ -0,0 +1,25 @@
+package com.williamcallahan.applemaps.adapters.mapsserver;
+
+import java.net.http.HttpResponse;
+
+/**
+ * Reads the body as bytes and remembers when the response headers arrived.
+ */
+final class HeaderTimingBodyHandler implements HttpResponse.BodyHandler<byte[]> {
+    private volatile long headersReceivedAt;
+
+    @Override
+    public HttpResponse.BodySubscriber<byte[]> apply(HttpResponse.ResponseInfo responseInfo) {
+        headersReceivedAt = System.nanoTime();
+        return HttpResponse.BodySubscribers.ofByteArray();
+    }
+
+    /**
+     * Returns the {@link System#nanoTime()} at which headers arrived.
+     *
+     * @return the timestamp, or {@code 0} when no response was received
+     */
+    long headersReceivedAt() {
+        return headersReceivedAt;
+    }
+}
@@ -0,0 +1,332 @@
+package com.williamcallahan.applemaps.adapters.mapsserver;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.williamcallahan.applemaps.adapters.metrics.LatencyHistogram;
+
+/**
+ * Sends a second, identical exchange when the first is slower than a percentile of recent latency for the
+ * same operation, and uses whichever response arrives first. Every Maps Server call is an idempotent GET,
+ * so a hedge never changes the result, only the time to get it.
+ *
+ * <p>The hedge delay for each operation is the configured percentile of the last window of successful calls
+ * and is not applied until enough have been seen. Each call is timed from the start of its first exchange to
+ * its first successful response, so a call won by a hedge still counts as at least as slow as the hedge delay
+ * and the delay does not drift down as the slowest exchanges are cancelled. Hedges are capped at a fraction
+ * of all calls, so a slow server does not double the request volume. The losing exchange is cancelled.</p>
+ *
+ * <p>Add this interceptor last so it wraps the network exchange directly; retries and caches added before
+ * it then see a single, faster exchange.</p>
+ */
+public final class HedgingInterceptor implements ApiInterceptor {
+    private static final String THREAD_NAME_PREFIX = "apple-maps-hedge-";
+    private static final long DELAY_REFRESH_SAMPLES = 64L;
+    private static final long WINDOW_SAMPLES = 1024L;
+    private static final int PENDING = 0;
+    private static final int HEDGING = 1;
+    private static final int SETTLED = 2;
+    /**
+     * Runs hedge exchanges for every interceptor; idle threads exit, so rebuilt gateways leave nothing behind.
+     */
+    private static final ExecutorService HEDGE_EXECUTOR =
+        Executors.newCachedThreadPool(new DaemonThreadFactory(THREAD_NAME_PREFIX));
+
+    private final double percentile;
+    private final double budget;
+    private final long minSamples;
+    private final long minDelayNanos;
+    private final ConcurrentHashMap<String, OperationLatency> latencies = new ConcurrentHashMap<>();
+    private final LongAdder calls = new LongAdder();
+    private final AtomicLong hedges = new AtomicLong();
+
+    private HedgingInterceptor(Builder builder) {
+        this.percentile = builder.percentile;
+        this.budget = builder.budget;
+        this.minSamples = builder.minSamples;
+        this.minDelayNanos = builder.minDelay.toNanos();
+    }
+
+    /**
+     * Creates a builder that hedges at the 95th percentile, with a budget of 5% extra exchanges once 100
+     * calls of an operation have been seen.
+     *
+     * @return a builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public ApiResponse intercept(ApiCall call, Chain chain) throws IOException, InterruptedException {
+        calls.increment();
+        OperationLatency latency = latencies.computeIfAbsent(call.operation(), ignored -> new OperationLatency());
+        long delayNanos = latency.hedgeDelayNanos;
+        if (delayNanos < 0L) {
+            long startedAt = System.nanoTime();
+            ApiResponse response = chain.proceed(call);
+            latency.record(response, System.nanoTime() - startedAt);
+            return response;
+        }
+        return new HedgedCall(call, chain, latency).run(delayNanos);
+    }
+
+    /**
+     * Returns the number of calls this interceptor has handled.
+     *
+     * @return the call count
+     */
+    public long calls() {
+        return calls.sum();
+    }
+
+    /**
+     * Returns the number of hedge exchanges sent.
+     *
+     * @return the hedge count
+     */
+    public long hedges() {
+        return hedges.get();
+    }
+
+    /**
+     * Returns the current hedge delay for an operation.
+     *
+     * @param operation operation name, such as {@code "geocode"}
+     * @return the delay, or empty until enough calls of the operation have been seen
+     */
+    public Optional<Duration> hedgeDelay(String operation) {
+        OperationLatency latency = latencies.get(Objects.requireNonNull(operation, "operation"));
+        long delayNanos = latency == null ? -1L : latency.hedgeDelayNanos;
+        return delayNanos < 0L ? Optional.empty() : Optional.of(Duration.ofNanos(delayNanos));
+    }
+
+    private boolean tryAcquireHedge() {
+        while (true) {
+            long sent = hedges.get();
+            if (sent + 1 > budget * calls.sum()) {
+                return false;
+            }
+            if (hedges.compareAndSet(sent, sent + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private static ApiCall attemptCall(ApiCall call, CancellationHandle cancellation) {
+        CallOptions options = call.options();
+        return new ApiCall(
+            call.operation(),
+            call.uri(),
+            call.requestBuilder().copy(),
+            new CallOptions(options.deadline(), options.timeout(), Optional.of(cancellation), options.tenant(),
+                options.priority())
+        );
+    }
+
+    /**
+     * Recent exchange latency and the resulting hedge delay for one operation.
+     */
+    private final class OperationLatency {
+        private volatile LatencyHistogram window = new LatencyHistogram();
+        private final AtomicLong windowSamples = new AtomicLong();
+        private volatile long hedgeDelayNanos = -1L;
+
+        void record(ApiResponse response, long elapsedNanos) {
+            if (response.statusCode() != 200) {
+                return;
+            }
+            LatencyHistogram histogram = window;
+            histogram.recordNanos(elapsedNanos);
+            long samples = windowSamples.incrementAndGet();
+            if (samples < minSamples || (samples != minSamples && samples % DELAY_REFRESH_SAMPLES != 0L)) {
+                return;
+            }
+            hedgeDelayNanos = Math.max(minDelayNanos, histogram.snapshot().valueAtPercentile(percentile));
+            if (samples >= Math.max(minSamples, WINDOW_SAMPLES)) {
+                window = new LatencyHistogram();
+                windowSamples.set(0L);
+            }
+        }
+    }
+
+    /**
+     * One call raced between a primary exchange on the calling thread and a delayed hedge exchange.
+     */
+    private final class HedgedCall {
+        private final ApiCall primaryCall;
+        private final ApiCall hedgeCall;
+        private final Chain chain;
+        private final OperationLatency latency;
+        private final Optional<CancellationHandle> callCancellation;
+        private final CancellationHandle primaryCancellation = new CancellationHandle();
+        private final CancellationHandle hedgeCancellation = new CancellationHandle();
+        private final CompletableFuture<Void> callCancelled = new CompletableFuture<>();
+        private final CompletableFuture<ApiResponse> hedgeResponse = new CompletableFuture<>();
+        private final AtomicInteger state = new AtomicInteger(PENDING);
+        private final AtomicBoolean recorded = new AtomicBoolean();
+        private long startedAt;
+
+        HedgedCall(ApiCall call, Chain chain, OperationLatency latency) {
+            this.primaryCall = attemptCall(call, primaryCancellation);
+            this.hedgeCall = attemptCall(call, hedgeCancellation);
+            this.chain = chain;
+            this.latency = latency;
+            this.callCancellation = call.options().cancellation();
+        }
+
+        ApiResponse run(long delayNanos) throws IOException, InterruptedException {
+            callCancelled.whenComplete((ignored, failure) -> {
+                primaryCancellation.cancel();
+                hedgeCancellation.cancel();
+            });
+            callCancellation.ifPresent(cancellation -> cancellation.attach(callCancelled));
+            startedAt = System.nanoTime();
+            CompletableFuture<Void> hedgeTimer = CompletableFuture.runAsync(this::hedge,
+                CompletableFuture.delayedExecutor(delayNanos, TimeUnit.NANOSECONDS, HEDGE_EXECUTOR));
+            try {
+                return attempt(primaryCall);
+            } catch (IOException exception) {
+                return hedgeResponseOr(exception);
+            } catch (RuntimeException exception) {
+                return hedgeResponseOr(exception);
+            } finally {
+                state.compareAndSet(PENDING, SETTLED);
+                hedgeTimer.cancel(false);
+                hedgeCancellation.cancel();
+                callCancellation.ifPresent(cancellation -> cancellation.detach(callCancelled));
+            }
+        }
+
+        private void hedge() {
+            if (!state.compareAndSet(PENDING, HEDGING)) {
+                return;
+            }
+            if (!tryAcquireHedge()) {
+                hedgeResponse.completeExceptionally(new CancellationException("The hedging budget is exhausted."));
+                return;
+            }
+            try {
+                hedgeResponse.complete(attempt(hedgeCall));
+                primaryCancellation.cancel();
+            } catch (Exception exception) {
+                hedgeResponse.completeExceptionally(exception);
+            }
+        }
+
+        private <E extends Exception> ApiResponse hedgeResponseOr(E primaryFailure) throws E, InterruptedException {
+            if (state.compareAndSet(PENDING, SETTLED)) {
+                throw primaryFailure;
+            }
+            try {
+                return hedgeResponse.get();
+            } catch (ExecutionException | CancellationException hedgeFailure) {
+                throw primaryFailure;
+            }
+        }
+
+        /**
+         * Proceeds with one exchange and, when it is the call's first successful response, records the time
+         * since the primary exchange started.
+         */
+        private ApiResponse attempt(ApiCall attemptCall) throws IOException, InterruptedException {
+            ApiResponse response = chain.proceed(attemptCall);
+            if (response.statusCode() == 200 && recorded.compareAndSet(false, true)) {
+                latency.record(response, System.nanoTime() - startedAt);
+            }
+            return response;
+        }
+    }
+
+    /**
+     * Builder for {@link HedgingInterceptor}.
+     */
+    public static final class Builder {
+        private double percentile = 95.0;
+        private double budget = 0.05;
+        private long minSamples = 100L;
+        private Duration minDelay = Duration.ZERO;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the latency percentile after which a hedge is sent.
+         *
+         * @param percentile percentile greater than 0 and at most 100
+         * @return this builder
+         */
+        public Builder percentile(double percentile) {
+            if (!(percentile > 0.0 && percentile <= 100.0)) {
+                throw new IllegalArgumentException("percentile must be greater than 0 and at most 100.");
+            }
+            this.percentile = percentile;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of hedges as a fraction of all calls.
+         *
+         * @param budget fraction between 0 and 1, e.g. {@code 0.05} for at most 5% extra exchanges
+         * @return this builder
+         */
+        public Builder budget(double budget) {
+            if (!(budget >= 0.0 && budget <= 1.0)) {
+                throw new IllegalArgumentException("budget must be between 0 and 1.");
+            }
+            this.budget = budget;
+            return this;
+        }
+
+        /**
+         * Sets how many successful calls of an operation must be seen before it is hedged.
+         *
+         * @param minSamples positive sample count
+         * @return this builder
+         */
+        public Builder minSamples(long minSamples) {
+            if (minSamples < 1L) {
+                throw new IllegalArgumentException("minSamples must be positive.");
+            }
+            this.minSamples = minSamples;
+            return this;
+        }
+
+        /**
+         * Sets the shortest hedge delay, whatever the observed latency.
+         *
+         * @param minDelay non-negative delay
+         * @return this builder
+         */
+        public Builder minDelay(Duration minDelay) {
+            Objects.requireNonNull(minDelay, "minDelay");
+            if (minDelay.isNegative()) {
+                throw new IllegalArgumentException("minDelay must not be negative.");
+            }
+            this.minDelay = minDelay;
+            return this;
+        }
+
+        /**
+         * Builds a validated {@link HedgingInterceptor}.
+         *
+         * @return an interceptor
+         */
+        public HedgingInterceptor build() {
+            return new HedgingInterceptor(this);
+        }
+    }
+}
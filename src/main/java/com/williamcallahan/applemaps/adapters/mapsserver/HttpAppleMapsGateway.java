@@ -1,24 +1,24 @@
 package com.williamcallahan.applemaps.adapters.mapsserver;
 
 import java.net.URI;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
 import java.time.Duration;
+import java.time.Instant;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 import com.williamcallahan.applemaps.adapters.jackson.AppleMapsObjectMapperFactory;
 import com.williamcallahan.applemaps.domain.model.AlternateIdsResponse;
+import com.williamcallahan.applemaps.domain.model.CoordinateFormat;
 import com.williamcallahan.applemaps.domain.model.DirectionsResponse;
 import com.williamcallahan.applemaps.domain.model.EtaResponse;
 import com.williamcallahan.applemaps.domain.model.Place;
+import com.williamcallahan.applemaps.domain.model.PlaceProjection;
 import com.williamcallahan.applemaps.domain.model.PlaceResults;
 import com.williamcallahan.applemaps.domain.model.PlacesResponse;
+import com.williamcallahan.applemaps.domain.model.ProjectedPlaceResults;
 import com.williamcallahan.applemaps.domain.model.SearchAutocompleteResponse;
 import com.williamcallahan.applemaps.domain.model.SearchResponse;
 import com.williamcallahan.applemaps.domain.port.AppleMapsGateway;
@@ -31,13 +31,12 @@ import com.williamcallahan.applemaps.domain.request.SearchAutocompleteInput;
 import com.williamcallahan.applemaps.domain.request.SearchInput;
 
 import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectReader;
 
 /**
  * HTTP adapter for Apple Maps Server API operations.
  */
 public final class HttpAppleMapsGateway implements AppleMapsGateway {
-    private static final String HTTP_CLIENT_THREAD_NAME_PREFIX = "apple-maps-http-client-";
-    private static final String API_SERVER = "https://maps-api.apple.com";
     private static final String GEOCODE_PATH = "/v1/geocode";
     private static final String SEARCH_PATH = "/v1/search";
     private static final String AUTOCOMPLETE_PATH = "/v1/searchAutocomplete";
@@ -52,11 +51,14 @@ public final class HttpAppleMapsGateway implements AppleMapsGateway {
     private static final String PARAMETER_SEPARATOR = "&";
     private static final String LOCATION_SEPARATOR = ",";
 
-    private final AppleMapsAuthorizationService authorizationService;
+    private final ApiServer apiServer;
     private final ObjectMapper objectMapper;
-    private final HttpClient httpClient;
-    private final Duration timeout;
+    private final ApiRequestExecutor requestExecutor;
+    private final AppleMapsAuthorizationService authorizationService;
+    private final RequestLimits limits;
     private final ExecutorService executorService;
+    private final CallOptions callOptions;
+    private final boolean ownsExecutorService;
 
     /**
      * Creates an HTTP gateway that calls the Apple Maps Server API.
@@ -65,7 +67,7 @@ public final class HttpAppleMapsGateway implements AppleMapsGateway {
      * @param timeout request timeout
      */
     public HttpAppleMapsGateway(String authToken, Duration timeout) {
-        this(new Dependencies(authToken, timeout, null));
+        this(authToken, HttpGatewayOptions.builder().timeout(timeout).build());
     }
 
     /**
@@ -76,15 +78,75 @@ public final class HttpAppleMapsGateway implements AppleMapsGateway {
      * @param origin optional Origin header value to include in requests
      */
     public HttpAppleMapsGateway(String authToken, Duration timeout, String origin) {
-        this(new Dependencies(authToken, timeout, origin));
+        this(authToken, HttpGatewayOptions.builder().timeout(timeout).origin(origin).build());
     }
 
-    HttpAppleMapsGateway(Dependencies dependencies) {
-        this.authorizationService = dependencies.authorizationService();
+    /**
+     * Creates an HTTP gateway that calls a Maps Server API at a custom address, such as a local stand-in
+     * used for load testing. Token exchange uses the same address.
+     *
+     * @param authToken the Apple Maps Server API authorization token
+     * @param timeout request timeout
+     * @param origin optional Origin header value to include in requests
+     * @param apiServer absolute http or https base URI, e.g. {@code http://127.0.0.1:8080}
+     */
+    public HttpAppleMapsGateway(String authToken, Duration timeout, String origin, URI apiServer) {
+        this(authToken, HttpGatewayOptions.builder()
+            .timeout(timeout)
+            .origin(origin)
+            .apiServer(Objects.requireNonNull(apiServer, "apiServer"))
+            .build());
+    }
+
+    /**
+     * Creates an HTTP gateway with explicit options, including interceptors.
+     *
+     * @param authToken the Apple Maps Server API authorization token
+     * @param options gateway options
+     */
+    public HttpAppleMapsGateway(String authToken, HttpGatewayOptions options) {
+        this(new GatewayDependencies(authToken, Objects.requireNonNull(options, "options")));
+    }
+
+    HttpAppleMapsGateway(GatewayDependencies dependencies) {
+        this.apiServer = dependencies.apiServer();
         this.objectMapper = dependencies.objectMapper();
-        this.httpClient = dependencies.httpClient();
-        this.timeout = dependencies.timeout();
         this.executorService = dependencies.executorService();
+        this.authorizationService = dependencies.authorizationService();
+        this.limits = new RequestLimits(dependencies.timeout());
+        this.requestExecutor = new ApiRequestExecutor(
+            authorizationService,
+            dependencies.httpClient(),
+            limits,
+            dependencies.metrics(),
+            dependencies.interceptors()
+        );
+        this.callOptions = CallOptions.NONE;
+        this.ownsExecutorService = true;
+    }
+
+    private HttpAppleMapsGateway(HttpAppleMapsGateway gateway, CallOptions callOptions) {
+        this.apiServer = gateway.apiServer;
+        this.objectMapper = gateway.objectMapper;
+        this.executorService = gateway.executorService;
+        this.authorizationService = gateway.authorizationService;
+        this.limits = gateway.limits;
+        this.requestExecutor = gateway.requestExecutor;
+        this.callOptions = callOptions;
+        this.ownsExecutorService = false;
+    }
+
+    /**
+     * Returns a view of this gateway whose calls use the given deadline, timeout and cancellation handle.
+     *
+     * <p>The view shares this gateway's connections, token cache, limits and interceptors. Closing the view
+     * has no effect; close this gateway instead.</p>
+     *
+     * @param options options for every call made through the view
+     * @return the view
+     */
+    public HttpAppleMapsGateway withCallOptions(CallOptions options) {
+        return new HttpAppleMapsGateway(this, Objects.requireNonNull(options, "options"));
     }
 
     @Override
@@ -92,11 +154,21 @@ public final class HttpAppleMapsGateway implements AppleMapsGateway {
         return invokeApi("geocode", buildUri(GEOCODE_PATH, input.toQueryString()), PlaceResults.class);
     }
 
+    @Override
+    public ProjectedPlaceResults geocode(GeocodeInput input, PlaceProjection projection) {
+        return invokeApi("geocode", buildUri(GEOCODE_PATH, input.toQueryString()), projectedDecoder(projection));
+    }
+
     @Override
     public SearchResponse search(SearchInput input) {
         return invokeApi("search", buildUri(SEARCH_PATH, input.toQueryString()), SearchResponse.class);
     }
 
+    @Override
+    public ProjectedPlaceResults search(SearchInput input, PlaceProjection projection) {
+        return invokeApi("search", buildUri(SEARCH_PATH, input.toQueryString()), projectedDecoder(projection));
+    }
+
     @Override
     public SearchAutocompleteResponse autocomplete(SearchAutocompleteInput input) {
         return invokeApi("searchAutocomplete", buildUri(AUTOCOMPLETE_PATH, input.toQueryString()), SearchAutocompleteResponse.class);
@@ -105,7 +177,7 @@ public final class HttpAppleMapsGateway implements AppleMapsGateway {
     @Override
     public SearchResponse resolveCompletionUrl(String completionUrl) {
         Objects.requireNonNull(completionUrl, "completionUrl");
-        return invokeApi("search", URI.create(API_SERVER + completionUrl), SearchResponse.class);
+        return invokeApi("search", apiServer.resolve(completionUrl), SearchResponse.class);
     }
 
     @Override
@@ -113,10 +185,9 @@ public final class HttpAppleMapsGateway implements AppleMapsGateway {
         StringBuilder query = new StringBuilder();
         query.append(QUERY_PREFIX)
             .append(PARAMETER_LOCATION)
-            .append("=")
-            .append(latitude)
-            .append(LOCATION_SEPARATOR)
-            .append(longitude);
+            .append("=");
+        CoordinateFormat.SHORTEST.appendTo(query, latitude).append(LOCATION_SEPARATOR);
+        CoordinateFormat.SHORTEST.appendTo(query, longitude);
         String resolvedLanguage = Objects.requireNonNull(language, "language");
         if (!resolvedLanguage.isBlank()) {
             query.append(PARAMETER_SEPARATOR)
@@ -145,7 +216,7 @@ public final class HttpAppleMapsGateway implements AppleMapsGateway {
         if (!resolvedLanguage.isBlank()) {
             queryString = QUERY_PREFIX + PARAMETER_LANGUAGE + "=" + resolvedLanguage;
         }
-        return invokeApi("place", URI.create(API_SERVER + PLACE_PATH + "/" + placeId + queryString), Place.class);
+        return invokeApi("place", apiServer.resolve(PLACE_PATH + "/" + placeId + queryString), Place.class);
     }
 
     @Override
@@ -159,11 +230,33 @@ public final class HttpAppleMapsGateway implements AppleMapsGateway {
             AlternateIdsResponse.class);
     }
 
+    /**
+     * Returns the request timeout, rate limit and concurrency limit, which can be changed while the gateway is
+     * in use.
+     *
+     * @return the live limits
+     */
+    public RequestLimits limits() {
+        return limits;
+    }
+
+    /**
+     * Returns when the cached access token expires.
+     *
+     * @return the expiry, or empty before the first token exchange
+     */
+    public Optional<Instant> accessTokenExpiry() {
+        return authorizationService.getAccessTokenExpiry();
+    }
+
     @Override
     public void close() {
+        if (!ownsExecutorService) {
+            return;
+        }
         executorService.shutdown();
         try {
-            if (!executorService.awaitTermination(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+            if (!executorService.awaitTermination(limits.timeout().toMillis(), TimeUnit.MILLISECONDS)) {
                 executorService.shutdownNow();
             }
         } catch (InterruptedException exception) {
@@ -173,103 +266,19 @@ public final class HttpAppleMapsGateway implements AppleMapsGateway {
     }
 
     private URI buildUri(String path, String queryString) {
-        return URI.create(API_SERVER + path + queryString);
+        return apiServer.resolve(path + queryString);
     }
 
-    private <T> T invokeApi(String operation, URI uri, Class<T> responseType) {
-        HttpRequest.Builder builder = HttpRequest.newBuilder()
-            .GET()
-            .uri(uri)
-            .timeout(timeout)
-            .setHeader("Authorization", "Bearer " + authorizationService.getAccessToken());
-
-        authorizationService.getOrigin()
-            .ifPresent(value -> builder.setHeader("Origin", value));
-
-        HttpRequest httpRequest = builder.build();
-        try {
-            HttpResponse<byte[]> response = httpClient.send(httpRequest, HttpResponse.BodyHandlers.ofByteArray());
-            if (response.statusCode() != 200) {
-                throw new AppleMapsApiException(operation, response.statusCode(), new String(response.body()));
-            }
-            return objectMapper.readValue(response.body(), responseType);
-        } catch (AppleMapsApiException exception) {
-            throw exception;
-        } catch (Exception exception) {
-            throw new AppleMapsClientException(operation, exception);
-        }
+    private Function<byte[], ProjectedPlaceResults> projectedDecoder(PlaceProjection projection) {
+        ObjectReader reader = AppleMapsObjectMapperFactory.projectedPlaceResultsReader(objectMapper, projection);
+        return body -> reader.readValue(body);
     }
 
-    static final class Dependencies {
-        private final AppleMapsAuthorizationService authorizationService;
-        private final ObjectMapper objectMapper;
-        private final HttpClient httpClient;
-        private final Duration timeout;
-        private final ExecutorService executorService;
-
-        Dependencies(String authToken, Duration timeout, String origin) {
-            this(createDefaultDependenciesConfig(authToken, timeout, origin));
-        }
-
-        Dependencies(DependenciesConfig config) {
-            this.authorizationService = Objects.requireNonNull(config.authorizationService(), "authorizationService");
-            this.objectMapper = Objects.requireNonNull(config.objectMapper(), "objectMapper");
-            this.httpClient = Objects.requireNonNull(config.httpClient(), "httpClient");
-            this.timeout = Objects.requireNonNull(config.timeout(), "timeout");
-            this.executorService = Objects.requireNonNull(config.executorService(), "executorService");
-        }
-
-        record DependenciesConfig(
-            AppleMapsAuthorizationService authorizationService,
-            ObjectMapper objectMapper,
-            HttpClient httpClient,
-            Duration timeout,
-            ExecutorService executorService
-        ) {
-        }
-
-        private static DependenciesConfig createDefaultDependenciesConfig(String authToken, Duration timeout, String origin) {
-            ThreadFactory httpClientThreadFactory = new ThreadFactory() {
-                private final AtomicInteger httpClientThreadSequence = new AtomicInteger(1);
-
-                @Override
-                public Thread newThread(Runnable runnable) {
-                    Thread httpClientThread = new Thread(runnable);
-                    httpClientThread.setName(HTTP_CLIENT_THREAD_NAME_PREFIX + httpClientThreadSequence.getAndIncrement());
-                    httpClientThread.setDaemon(true);
-                    return httpClientThread;
-                }
-            };
-            ExecutorService httpClientExecutorService = Executors.newCachedThreadPool(httpClientThreadFactory);
-            HttpClient httpClient = HttpClient.newBuilder().executor(httpClientExecutorService).build();
-
-            return new DependenciesConfig(
-                new AppleMapsAuthorizationService(authToken, timeout, origin),
-                AppleMapsObjectMapperFactory.create(),
-                httpClient,
-                timeout,
-                httpClientExecutorService
-            );
-        }
-
-        AppleMapsAuthorizationService authorizationService() {
-            return authorizationService;
-        }
-
-        ObjectMapper objectMapper() {
-            return objectMapper;
-        }
-
-        HttpClient httpClient() {
-            return httpClient;
-        }
-
-        Duration timeout() {
-            return timeout;
-        }
+    private <T> T invokeApi(String operation, URI uri, Class<T> responseType) {
+        return invokeApi(operation, uri, body -> objectMapper.readValue(body, responseType));
+    }
 
-        ExecutorService executorService() {
-            return executorService;
-        }
+    private <T> T invokeApi(String operation, URI uri, Function<byte[], T> responseDecoder) {
+        return requestExecutor.execute(operation, uri, callOptions, responseDecoder);
     }
 }
@@ -0,0 +1,133 @@
+package com.williamcallahan.applemaps.adapters.mapsserver;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import com.williamcallahan.applemaps.adapters.metrics.AppleMapsMetrics;
+
+/**
+ * Optional settings for an {@link HttpAppleMapsGateway}.
+ *
+ * @param timeout request timeout
+ * @param origin Origin header value to include in requests
+ * @param apiServer absolute http or https base URI of the Maps Server API
+ * @param metrics metrics sink
+ * @param interceptors interceptors around each exchange, outermost first
+ */
+public record HttpGatewayOptions(
+    Duration timeout,
+    Optional<String> origin,
+    Optional<URI> apiServer,
+    AppleMapsMetrics metrics,
+    List<ApiInterceptor> interceptors
+) {
+    private static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(10);
+
+    /**
+     * Canonical constructor that validates required fields and normalizes optional values.
+     *
+     * @param timeout request timeout
+     * @param origin Origin header value to include in requests
+     * @param apiServer absolute http or https base URI of the Maps Server API
+     * @param metrics metrics sink
+     * @param interceptors interceptors around each exchange, outermost first
+     */
+    public HttpGatewayOptions {
+        Objects.requireNonNull(timeout, "timeout");
+        origin = Objects.requireNonNullElse(origin, Optional.empty());
+        apiServer = Objects.requireNonNullElse(apiServer, Optional.empty());
+        Objects.requireNonNull(metrics, "metrics");
+        interceptors = List.copyOf(Objects.requireNonNullElse(interceptors, List.of()));
+    }
+
+    /**
+     * Creates a builder with a 10 second timeout, the Apple Maps Server API, no metrics and no interceptors.
+     *
+     * @return a builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Builder for {@link HttpGatewayOptions}.
+     */
+    public static final class Builder {
+        private Duration timeout = DEFAULT_TIMEOUT;
+        private Optional<String> origin = Optional.empty();
+        private Optional<URI> apiServer = Optional.empty();
+        private AppleMapsMetrics metrics = AppleMapsMetrics.NONE;
+        private final List<ApiInterceptor> interceptors = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the request timeout.
+         *
+         * @param timeout request timeout
+         * @return this builder
+         */
+        public Builder timeout(Duration timeout) {
+            this.timeout = Objects.requireNonNull(timeout, "timeout");
+            return this;
+        }
+
+        /**
+         * Sets the Origin header value.
+         *
+         * @param origin the Origin header value, or {@code null} to clear
+         * @return this builder
+         */
+        public Builder origin(String origin) {
+            this.origin = Optional.ofNullable(origin);
+            return this;
+        }
+
+        /**
+         * Sets the Maps Server API address; token exchange uses the same address.
+         *
+         * @param apiServer absolute http or https base URI, or {@code null} for the Apple Maps Server API
+         * @return this builder
+         */
+        public Builder apiServer(URI apiServer) {
+            this.apiServer = Optional.ofNullable(apiServer);
+            return this;
+        }
+
+        /**
+         * Sets the metrics sink.
+         *
+         * @param metrics metrics sink
+         * @return this builder
+         */
+        public Builder metrics(AppleMapsMetrics metrics) {
+            this.metrics = Objects.requireNonNull(metrics, "metrics");
+            return this;
+        }
+
+        /**
+         * Appends an interceptor; interceptors added first run outermost.
+         *
+         * @param interceptor interceptor to append
+         * @return this builder
+         */
+        public Builder interceptor(ApiInterceptor interceptor) {
+            interceptors.add(Objects.requireNonNull(interceptor, "interceptor"));
+            return this;
+        }
+
+        /**
+         * Builds validated {@link HttpGatewayOptions}.
+         *
+         * @return an options instance
+         */
+        public HttpGatewayOptions build() {
+            return new HttpGatewayOptions(timeout, origin, apiServer, metrics, interceptors);
+        }
+    }
+}
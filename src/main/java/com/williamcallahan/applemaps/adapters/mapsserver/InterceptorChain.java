@@ -0,0 +1,32 @@
+package com.williamcallahan.applemaps.adapters.mapsserver;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Position in an ordered list of {@link ApiInterceptor}s; proceeding past the last one performs the network
+ * exchange.
+ */
+final class InterceptorChain implements ApiInterceptor.Chain {
+    private final List<ApiInterceptor> interceptors;
+    private final int index;
+    private final ApiInterceptor.Chain exchange;
+
+    InterceptorChain(List<ApiInterceptor> interceptors, ApiInterceptor.Chain exchange) {
+        this(interceptors, 0, exchange);
+    }
+
+    private InterceptorChain(List<ApiInterceptor> interceptors, int index, ApiInterceptor.Chain exchange) {
+        this.interceptors = interceptors;
+        this.index = index;
+        this.exchange = exchange;
+    }
+
+    @Override
+    public ApiResponse proceed(ApiCall call) throws IOException, InterruptedException {
+        if (index == interceptors.size()) {
+            return exchange.proceed(call);
+        }
+        return interceptors.get(index).intercept(call, new InterceptorChain(interceptors, index + 1, exchange));
+    }
+}
@@ -0,0 +1,213 @@
+package com.williamcallahan.applemaps.adapters.mapsserver;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Runtime-adjustable request timeout, rate limit and concurrency limit for one gateway.
+ *
+ * <p>Limits default to unlimited, in which case admitting a request is a single atomic increment. A
+ * request that cannot be admitted before its deadline fails with a {@link TimeoutException} instead of
+ * waiting indefinitely. Every setter takes effect for the next request, including requests already
+ * waiting.</p>
+ */
+public final class RequestLimits {
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final AtomicLong nextRateSlotNanos = new AtomicLong(System.nanoTime());
+    private final ReentrantLock concurrencyLock = new ReentrantLock();
+    private final Condition permitReleased = concurrencyLock.newCondition();
+    private volatile Duration timeout;
+    private volatile int concurrencyLimit;
+    private volatile double rateLimit;
+    private volatile long rateIntervalNanos;
+
+    RequestLimits(Duration timeout) {
+        setTimeout(timeout);
+    }
+
+    /**
+     * Returns the timeout applied to each request.
+     *
+     * @return the timeout
+     */
+    public Duration timeout() {
+        return timeout;
+    }
+
+    /**
+     * Sets the timeout applied to each request, including time spent waiting for admission.
+     *
+     * @param timeout positive timeout
+     */
+    public void setTimeout(Duration timeout) {
+        Objects.requireNonNull(timeout, "timeout");
+        if (timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException("timeout must be positive.");
+        }
+        this.timeout = timeout;
+    }
+
+    /**
+     * Returns the maximum number of requests in flight at once.
+     *
+     * @return the limit, or {@code 0} when unlimited
+     */
+    public int concurrencyLimit() {
+        return concurrencyLimit;
+    }
+
+    /**
+     * Sets the maximum number of requests in flight at once.
+     *
+     * @param concurrencyLimit the limit, or {@code 0} for unlimited
+     */
+    public void setConcurrencyLimit(int concurrencyLimit) {
+        if (concurrencyLimit < 0) {
+            throw new IllegalArgumentException("concurrencyLimit must not be negative.");
+        }
+        concurrencyLock.lock();
+        try {
+            this.concurrencyLimit = concurrencyLimit;
+            permitReleased.signalAll();
+        } finally {
+            concurrencyLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the maximum request rate.
+     *
+     * @return requests per second, or {@code 0} when unlimited
+     */
+    public double rateLimit() {
+        return rateLimit;
+    }
+
+    /**
+     * Sets the maximum request rate. Requests are spaced evenly; there is no burst allowance.
+     *
+     * @param requestsPerSecond requests per second, or {@code 0} for unlimited
+     */
+    public void setRateLimit(double requestsPerSecond) {
+        if (!(requestsPerSecond >= 0.0) || Double.isInfinite(requestsPerSecond)) {
+            throw new IllegalArgumentException("rateLimit must be a finite, non-negative number.");
+        }
+        this.rateIntervalNanos = requestsPerSecond == 0.0 ? 0L : Math.max(1L, (long) (NANOS_PER_SECOND / requestsPerSecond));
+        this.rateLimit = requestsPerSecond;
+    }
+
+    /**
+     * Returns the number of admitted requests that have not completed.
+     *
+     * @return the in-flight count
+     */
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * Returns the number of requests waiting for admission under the concurrency or rate limit.
+     *
+     * @return the waiting count
+     */
+    public int waiting() {
+        return waiting.get();
+    }
+
+    /**
+     * Admits one request, waiting for a concurrency permit and a rate slot. Every successful call must be
+     * paired with {@link #release()}.
+     *
+     * @param deadlineNanos {@link System#nanoTime()} by which the request must be admitted
+     * @throws TimeoutException if the request cannot be admitted before the deadline
+     * @throws InterruptedException if interrupted while waiting
+     */
+    void acquire(long deadlineNanos) throws TimeoutException, InterruptedException {
+        if (concurrencyLimit == 0) {
+            inFlight.incrementAndGet();
+        } else {
+            acquireConcurrencyPermit(deadlineNanos);
+        }
+        try {
+            if (rateIntervalNanos != 0L) {
+                awaitRateSlot(deadlineNanos);
+            }
+        } catch (TimeoutException | InterruptedException | RuntimeException exception) {
+            release();
+            throw exception;
+        }
+    }
+
+    /**
+     * Marks an admitted request as complete.
+     */
+    void release() {
+        inFlight.decrementAndGet();
+        if (waiting.get() > 0) {
+            concurrencyLock.lock();
+            try {
+                permitReleased.signal();
+            } finally {
+                concurrencyLock.unlock();
+            }
+        }
+    }
+
+    private void acquireConcurrencyPermit(long deadlineNanos) throws TimeoutException, InterruptedException {
+        concurrencyLock.lockInterruptibly();
+        waiting.incrementAndGet();
+        try {
+            while (concurrencyLimit != 0 && inFlight.get() >= concurrencyLimit) {
+                long remainingNanos = deadlineNanos - System.nanoTime();
+                if (remainingNanos <= 0L) {
+                    throw new TimeoutException("No concurrency permit became available before the deadline.");
+                }
+                permitReleased.awaitNanos(remainingNanos);
+            }
+            inFlight.incrementAndGet();
+        } finally {
+            waiting.decrementAndGet();
+            concurrencyLock.unlock();
+        }
+    }
+
+    private void awaitRateSlot(long deadlineNanos) throws TimeoutException, InterruptedException {
+        long slotNanos;
+        while (true) {
+            long intervalNanos = rateIntervalNanos;
+            long now = System.nanoTime();
+            long nextSlotNanos = nextRateSlotNanos.get();
+            slotNanos = nextSlotNanos - now > 0L ? nextSlotNanos : now;
+            if (slotNanos - deadlineNanos > 0L) {
+                throw new TimeoutException("No rate slot is available before the deadline.");
+            }
+            if (nextRateSlotNanos.compareAndSet(nextSlotNanos, slotNanos + intervalNanos)) {
+                break;
+            }
+        }
+        if (slotNanos - System.nanoTime() <= 0L) {
+            return;
+        }
+        waiting.incrementAndGet();
+        try {
+            long remainingNanos;
+            while ((remainingNanos = slotNanos - System.nanoTime()) > 0L) {
+                LockSupport.parkNanos(this, remainingNanos);
+                if (Thread.interrupted()) {
+                    throw new InterruptedException();
+                }
+            }
+        } finally {
+            waiting.decrementAndGet();
+        }
+    }
+}
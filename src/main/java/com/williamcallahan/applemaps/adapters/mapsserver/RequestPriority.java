@@ -0,0 +1,21 @@
+package com.williamcallahan.applemaps.adapters.mapsserver;
+
+/**
+ * Traffic class of a gateway call, set through {@link CallOptions} and used by schedulers to share capacity.
+ */
+public enum RequestPriority {
+    /**
+     * A user is waiting for the result, e.g. autocomplete.
+     */
+    INTERACTIVE,
+
+    /**
+     * Calls that name no priority.
+     */
+    NORMAL,
+
+    /**
+     * Bulk work that can wait, e.g. overnight geocoding.
+     */
+    BATCH
+}
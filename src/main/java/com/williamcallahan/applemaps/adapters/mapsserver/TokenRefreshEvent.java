@@ -0,0 +1,30 @@
+package com.williamcallahan.applemaps.adapters.mapsserver;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event for one access-token exchange.
+ *
+ * <p>Disabled by default; enable {@code com.williamcallahan.applemaps.AppleMapsTokenRefresh} in a JFR
+ * settings file to record it.</p>
+ */
+@Name(TokenRefreshEvent.NAME)
+@Label("Apple Maps Token Refresh")
+@Category({"Apple Maps", "Network"})
+@Description("An Apple Maps Server API access-token exchange")
+@Enabled(false)
+final class TokenRefreshEvent extends Event {
+    static final String NAME = "com.williamcallahan.applemaps.AppleMapsTokenRefresh";
+
+    @Label("Succeeded")
+    boolean succeeded;
+
+    @Label("Failure")
+    @Description("Exception type when the exchange failed")
+    String failure;
+}
@@ -0,0 +1,37 @@
+package com.williamcallahan.applemaps.adapters.metrics;
+
+/**
+ * Receives timings and sizes for every Apple Maps Server API call a gateway makes.
+ *
+ * <p>Implementations are called on request threads, concurrently, and must not throw or block. Every
+ * method defaults to doing nothing, so {@link #NONE} costs one interface call per request.</p>
+ */
+public interface AppleMapsMetrics {
+    /**
+     * Metrics sink that discards everything; the gateway default.
+     */
+    AppleMapsMetrics NONE = new AppleMapsMetrics() {
+    };
+
+    /**
+     * Records one API call, whether it succeeded or not.
+     *
+     * @param operation operation name, e.g. {@code geocode} or {@code placeAlternateIds}
+     * @param statusCode HTTP status, or {@code 0} when no response was received
+     * @param responseNanos time from sending the request until the response body was fully read
+     * @param bytesReceived response body size, or {@code 0} when no response was received
+     * @param decodeNanos time spent decoding the body into the response model, or {@code 0} when not decoded
+     */
+    default void recordRequest(String operation, int statusCode, long responseNanos, long bytesReceived,
+        long decodeNanos) {
+    }
+
+    /**
+     * Records one access-token exchange.
+     *
+     * @param durationNanos time taken by the exchange, including decoding the token
+     * @param succeeded whether a usable token was obtained
+     */
+    default void recordTokenRefresh(long durationNanos, boolean succeeded) {
+    }
+}
@@ -0,0 +1,97 @@
+package com.williamcallahan.applemaps.adapters.metrics;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free in-memory {@link AppleMapsMetrics} with percentile snapshots.
+ *
+ * <p>Counters are {@link LongAdder}s and latencies go into {@link LatencyHistogram}s, so recording
+ * never blocks and, after the first call of each operation, never allocates. Values accumulate for the
+ * life of the instance; call {@link #snapshot()} to read them.</p>
+ */
+public final class InMemoryAppleMapsMetrics implements AppleMapsMetrics {
+    private static final StatusClass[] STATUS_CLASSES = StatusClass.values();
+
+    private final ConcurrentMap<String, OperationRecorder> operations = new ConcurrentHashMap<>();
+    private final LatencyHistogram tokenRefreshLatency = new LatencyHistogram();
+    private final LongAdder tokenRefreshFailures = new LongAdder();
+
+    @Override
+    public void recordRequest(String operation, int statusCode, long responseNanos, long bytesReceived,
+        long decodeNanos) {
+        OperationRecorder recorder = operations.get(operation);
+        if (recorder == null) {
+            recorder = operations.computeIfAbsent(Objects.requireNonNull(operation, "operation"),
+                ignored -> new OperationRecorder());
+        }
+        recorder.record(statusCode, responseNanos, bytesReceived, decodeNanos);
+    }
+
+    @Override
+    public void recordTokenRefresh(long durationNanos, boolean succeeded) {
+        tokenRefreshLatency.recordNanos(durationNanos);
+        if (!succeeded) {
+            tokenRefreshFailures.increment();
+        }
+    }
+
+    /**
+     * Copies everything recorded so far.
+     *
+     * @return the snapshot
+     */
+    public MetricsSnapshot snapshot() {
+        Map<String, OperationMetrics> operationMetrics = new HashMap<>();
+        operations.forEach((operation, recorder) -> operationMetrics.put(operation, recorder.snapshot()));
+        return new MetricsSnapshot(
+            operationMetrics,
+            new TokenRefreshMetrics(tokenRefreshFailures.sum(), tokenRefreshLatency.snapshot())
+        );
+    }
+
+    private static final class OperationRecorder {
+        private final LongAdder[] statusClassCounts = new LongAdder[STATUS_CLASSES.length];
+        private final LatencyHistogram responseLatency = new LatencyHistogram();
+        private final LatencyHistogram decodeLatency = new LatencyHistogram();
+        private final LongAdder bytesReceived = new LongAdder();
+
+        OperationRecorder() {
+            for (int index = 0; index < statusClassCounts.length; index++) {
+                statusClassCounts[index] = new LongAdder();
+            }
+        }
+
+        void record(int statusCode, long responseNanos, long bytes, long decodeNanos) {
+            StatusClass statusClass = StatusClass.of(statusCode);
+            statusClassCounts[statusClass.ordinal()].increment();
+            responseLatency.recordNanos(responseNanos);
+            bytesReceived.add(bytes);
+            if (statusClass == StatusClass.SUCCESS && decodeNanos > 0) {
+                decodeLatency.recordNanos(decodeNanos);
+            }
+        }
+
+        OperationMetrics snapshot() {
+            Map<StatusClass, Long> counts = new EnumMap<>(StatusClass.class);
+            long requests = 0L;
+            for (StatusClass statusClass : STATUS_CLASSES) {
+                long count = statusClassCounts[statusClass.ordinal()].sum();
+                counts.put(statusClass, count);
+                requests += count;
+            }
+            return new OperationMetrics(
+                requests,
+                counts,
+                responseLatency.snapshot(),
+                decodeLatency.snapshot(),
+                bytesReceived.sum()
+            );
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.williamcallahan.applemaps.adapters.metrics;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free log-linear latency histogram in the style of HdrHistogram.
+ *
+ * <p>Each power of two is split into 64 linear sub-buckets, so any recorded value is reported within
+ * 1/64 (about 1.6%) of its true value. Values from 0 up to {@link #HIGHEST_TRACKABLE_NANOS} fit in 2,432
+ * counters; larger values are counted in the top bucket and still reported exactly as the maximum.
+ * {@link #recordNanos(long)} is a few atomic increments and never allocates, so it is safe on request
+ * paths shared by many threads.</p>
+ */
+public final class LatencyHistogram {
+    /**
+     * Largest value with its own bucket, about 2.4 hours.
+     */
+    public static final long HIGHEST_TRACKABLE_NANOS = (1L << 43) - 1;
+
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int SUB_BUCKET_HALF_COUNT = SUB_BUCKET_COUNT / 2;
+    private static final int BUCKET_COUNT = bucketIndex(HIGHEST_TRACKABLE_NANOS) + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder totalCount = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator minNanos = new LongAccumulator(Math::min, Long.MAX_VALUE);
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, Long.MIN_VALUE);
+
+    /**
+     * Records one latency.
+     *
+     * @param nanos latency in nanoseconds; negative values are recorded as zero
+     */
+    public void recordNanos(long nanos) {
+        long value = Math.max(0L, nanos);
+        counts.incrementAndGet(bucketIndex(Math.min(value, HIGHEST_TRACKABLE_NANOS)));
+        totalCount.increment();
+        totalNanos.add(value);
+        minNanos.accumulate(value);
+        maxNanos.accumulate(value);
+    }
+
+    /**
+     * Records one latency.
+     *
+     * @param duration latency
+     * @param unit unit of {@code duration}
+     */
+    public void record(long duration, TimeUnit unit) {
+        recordNanos(Objects.requireNonNull(unit, "unit").toNanos(duration));
+    }
+
+    /**
+     * Returns the number of recorded values.
+     *
+     * @return the count
+     */
+    public long count() {
+        return totalCount.sum();
+    }
+
+    /**
+     * Copies the current counts into an immutable snapshot.
+     *
+     * <p>Values recorded concurrently with the copy may or may not be included; the snapshot is
+     * internally consistent because its count is derived from the copied buckets.</p>
+     *
+     * @return the snapshot
+     */
+    public Snapshot snapshot() {
+        long[] copiedCounts = new long[BUCKET_COUNT];
+        long copiedTotal = 0L;
+        for (int index = 0; index < BUCKET_COUNT; index++) {
+            copiedCounts[index] = counts.get(index);
+            copiedTotal += copiedCounts[index];
+        }
+        if (copiedTotal == 0L) {
+            return Snapshot.EMPTY;
+        }
+        long min = minNanos.get();
+        long max = maxNanos.get();
+        return new Snapshot(copiedCounts, copiedTotal, totalNanos.sum(), min, max);
+    }
+
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int shift = (Long.SIZE - 1 - Long.numberOfLeadingZeros(value)) - (SUB_BUCKET_BITS - 1);
+        int subBucket = (int) (value >>> shift);
+        return SUB_BUCKET_COUNT + (shift - 1) * SUB_BUCKET_HALF_COUNT + (subBucket - SUB_BUCKET_HALF_COUNT);
+    }
+
+    static long lowestValueAt(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = (index - SUB_BUCKET_COUNT) / SUB_BUCKET_HALF_COUNT + 1;
+        long subBucket = (index - SUB_BUCKET_COUNT) % SUB_BUCKET_HALF_COUNT + SUB_BUCKET_HALF_COUNT;
+        return subBucket << shift;
+    }
+
+    static long highestValueAt(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = (index - SUB_BUCKET_COUNT) / SUB_BUCKET_HALF_COUNT + 1;
+        return lowestValueAt(index) + (1L << shift) - 1;
+    }
+
+    /**
+     * Point-in-time view of a {@link LatencyHistogram}.
+     */
+    public static final class Snapshot {
+        static final Snapshot EMPTY = new Snapshot(new long[BUCKET_COUNT], 0L, 0L, 0L, 0L);
+
+        private final long[] counts;
+        private final long count;
+        private final long totalNanos;
+        private final long minNanos;
+        private final long maxNanos;
+
+        private Snapshot(long[] counts, long count, long totalNanos, long minNanos, long maxNanos) {
+            this.counts = counts;
+            this.count = count;
+            this.totalNanos = totalNanos;
+            this.minNanos = minNanos;
+            this.maxNanos = maxNanos;
+        }
+
+        /**
+         * Returns the number of values in the snapshot.
+         *
+         * @return the count
+         */
+        public long count() {
+            return count;
+        }
+
+        /**
+         * Returns the smallest recorded value.
+         *
+         * @return nanoseconds, or {@code 0} when empty
+         */
+        public long minNanos() {
+            return minNanos;
+        }
+
+        /**
+         * Returns the largest recorded value.
+         *
+         * @return nanoseconds, or {@code 0} when empty
+         */
+        public long maxNanos() {
+            return maxNanos;
+        }
+
+        /**
+         * Returns the arithmetic mean of the recorded values.
+         *
+         * @return nanoseconds, or {@code 0} when empty
+         */
+        public double meanNanos() {
+            return count == 0L ? 0.0 : (double) totalNanos / count;
+        }
+
+        /**
+         * Returns the value at a percentile, reported as the upper bound of its bucket and never above the
+         * recorded maximum.
+         *
+         * @param percentile percentile between 0 and 100
+         * @return nanoseconds, or {@code 0} when empty
+         */
+        public long valueAtPercentile(double percentile) {
+            if (!(percentile >= 0.0 && percentile <= 100.0)) {
+                throw new IllegalArgumentException("percentile must be between 0 and 100.");
+            }
+            if (count == 0L) {
+                return 0L;
+            }
+            long rank = Math.max(1L, (long) Math.ceil(percentile / 100.0 * count));
+            long seen = 0L;
+            for (int index = 0; index < counts.length; index++) {
+                seen += counts[index];
+                if (seen >= rank) {
+                    long bucketUpperBound = index == counts.length - 1 ? maxNanos : highestValueAt(index);
+                    return Math.max(minNanos, Math.min(bucketUpperBound, maxNanos));
+                }
+            }
+            return maxNanos;
+        }
+    }
+}
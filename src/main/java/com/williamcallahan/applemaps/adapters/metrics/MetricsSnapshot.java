@@ -0,0 +1,22 @@
+package com.williamcallahan.applemaps.adapters.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Point-in-time copy of everything an {@link InMemoryAppleMapsMetrics} has recorded.
+ */
+public record MetricsSnapshot(Map<String, OperationMetrics> operations, TokenRefreshMetrics tokenRefresh) {
+    /**
+     * Canonical constructor that copies operations into an unmodifiable map sorted by name.
+     *
+     * @param operations statistics per operation name, sorted by name
+     * @param tokenRefresh access-token exchange statistics
+     */
+    public MetricsSnapshot {
+        operations = Collections.unmodifiableMap(new TreeMap<>(Objects.requireNonNull(operations, "operations")));
+        Objects.requireNonNull(tokenRefresh, "tokenRefresh");
+    }
+}
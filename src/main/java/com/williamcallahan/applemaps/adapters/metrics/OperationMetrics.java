@@ -0,0 +1,50 @@
+package com.williamcallahan.applemaps.adapters.metrics;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Point-in-time statistics for one API operation.
+ */
+public record OperationMetrics(
+    long requests,
+    Map<StatusClass, Long> statusClasses,
+    LatencyHistogram.Snapshot responseLatency,
+    LatencyHistogram.Snapshot decodeLatency,
+    long bytesReceived
+) {
+    /**
+     * Canonical constructor that validates counts and fills in every missing status class with zero.
+     *
+     * @param requests calls made, whatever their outcome
+     * @param statusClasses calls per outcome; every {@link StatusClass} is present
+     * @param responseLatency time from sending each request until its body was fully read
+     * @param decodeLatency time spent decoding successful responses
+     * @param bytesReceived total response body bytes
+     */
+    public OperationMetrics {
+        if (requests < 0 || bytesReceived < 0) {
+            throw new IllegalArgumentException("requests and bytesReceived must not be negative.");
+        }
+        Objects.requireNonNull(statusClasses, "statusClasses");
+        Objects.requireNonNull(responseLatency, "responseLatency");
+        Objects.requireNonNull(decodeLatency, "decodeLatency");
+        Map<StatusClass, Long> counts = new EnumMap<>(StatusClass.class);
+        for (StatusClass statusClass : StatusClass.values()) {
+            counts.put(statusClass, statusClasses.getOrDefault(statusClass, 0L));
+        }
+        statusClasses = Collections.unmodifiableMap(counts);
+    }
+
+    /**
+     * Returns the number of calls with the given outcome.
+     *
+     * @param statusClass outcome
+     * @return the count
+     */
+    public long count(StatusClass statusClass) {
+        return statusClasses.get(Objects.requireNonNull(statusClass, "statusClass"));
+    }
+}
@@ -0,0 +1,33 @@
+package com.williamcallahan.applemaps.adapters.metrics;
+
+/**
+ * Outcome bucket for an API call, derived from its HTTP status.
+ */
+public enum StatusClass {
+    /** A {@code 2xx} response. */
+    SUCCESS,
+    /** A {@code 4xx} response, including {@code 429} throttling. */
+    CLIENT_ERROR,
+    /** A {@code 5xx} response. */
+    SERVER_ERROR,
+    /** A {@code 1xx} or {@code 3xx} response. */
+    OTHER,
+    /** No response: the connection failed, timed out or was interrupted. */
+    NO_RESPONSE;
+
+    /**
+     * Classifies an HTTP status.
+     *
+     * @param statusCode HTTP status, or {@code 0} when no response was received
+     * @return the status class
+     */
+    public static StatusClass of(int statusCode) {
+        return switch (statusCode / 100) {
+            case 2 -> SUCCESS;
+            case 4 -> CLIENT_ERROR;
+            case 5 -> SERVER_ERROR;
+            case 1, 3 -> OTHER;
+            default -> NO_RESPONSE;
+        };
+    }
+}
@@ -0,0 +1,30 @@
+package com.williamcallahan.applemaps.adapters.metrics;
+
+import java.util.Objects;
+
+/**
+ * Point-in-time statistics for access-token exchanges.
+ */
+public record TokenRefreshMetrics(long failures, LatencyHistogram.Snapshot latency) {
+    /**
+     * Canonical constructor that validates the failure count.
+     *
+     * @param failures exchanges that did not produce a usable token
+     * @param latency duration of every exchange, successful or not
+     */
+    public TokenRefreshMetrics {
+        if (failures < 0) {
+            throw new IllegalArgumentException("failures must not be negative.");
+        }
+        Objects.requireNonNull(latency, "latency");
+    }
+
+    /**
+     * Returns the number of exchanges.
+     *
+     * @return the count
+     */
+    public long refreshes() {
+        return latency.count();
+    }
+}
@@ -0,0 +1,122 @@
+package com.williamcallahan.applemaps.adapters.offheap;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing hash map from 64-bit keys to non-negative 64-bit values, held in two primitive arrays so
+ * that millions of entries cost the collector two objects. Removal shifts later entries back instead of
+ * leaving tombstones.
+ */
+final class LongIndex {
+    static final long EMPTY = -1L;
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] keys;
+    private long[] values;
+    private int mask;
+    private int size;
+
+    LongIndex() {
+        allocate(MIN_CAPACITY);
+    }
+
+    /**
+     * Returns the slot holding a key, or {@code -1}.
+     */
+    int find(long key) {
+        int slot = home(key);
+        while (values[slot] != EMPTY) {
+            if (keys[slot] == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    long valueAt(int slot) {
+        return values[slot];
+    }
+
+    void setValueAt(int slot, long value) {
+        values[slot] = value;
+    }
+
+    /**
+     * Maps a key to a value.
+     *
+     * @return the previous value, or {@link #EMPTY}
+     */
+    long put(long key, long value) {
+        int slot = find(key);
+        if (slot >= 0) {
+            long previous = values[slot];
+            values[slot] = value;
+            return previous;
+        }
+        if ((size + 1) * 2 > values.length) {
+            resize(values.length * 2);
+        }
+        insert(key, value);
+        size++;
+        return EMPTY;
+    }
+
+    void removeAt(int slot) {
+        int hole = slot;
+        int next = (slot + 1) & mask;
+        while (values[next] != EMPTY) {
+            int home = home(keys[next]);
+            // An entry may fill the hole only if the hole lies between its home slot and where it sits now.
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                keys[hole] = keys[next];
+                values[hole] = values[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        values[hole] = EMPTY;
+        size--;
+    }
+
+    int size() {
+        return size;
+    }
+
+    void clear() {
+        allocate(MIN_CAPACITY);
+        size = 0;
+    }
+
+    private void insert(long key, long value) {
+        int slot = home(key);
+        while (values[slot] != EMPTY) {
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+    }
+
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        allocate(capacity);
+        for (int slot = 0; slot < oldValues.length; slot++) {
+            if (oldValues[slot] != EMPTY) {
+                insert(oldKeys[slot], oldValues[slot]);
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new long[capacity];
+        Arrays.fill(values, EMPTY);
+        mask = capacity - 1;
+    }
+
+    private int home(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+}
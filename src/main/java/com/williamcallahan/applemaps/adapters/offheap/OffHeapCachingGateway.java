@@ -0,0 +1,68 @@
+package com.williamcallahan.applemaps.adapters.offheap;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import com.williamcallahan.applemaps.domain.model.Place;
+import com.williamcallahan.applemaps.domain.model.PlaceProjection;
+import com.williamcallahan.applemaps.domain.model.PlaceResults;
+import com.williamcallahan.applemaps.domain.model.ProjectedPlaceResults;
+import com.williamcallahan.applemaps.domain.port.AppleMapsGateway;
+import com.williamcallahan.applemaps.domain.port.ForwardingAppleMapsGateway;
+import com.williamcallahan.applemaps.domain.request.GeocodeInput;
+
+/**
+ * Gateway decorator that answers place lookups by ID and geocode requests from an {@link OffHeapPlaceCache}
+ * when it can and caches the responses of those it forwards.
+ *
+ * <pre>{@code
+ * OffHeapPlaceCache cache = new OffHeapPlaceCache(OffHeapStore.builder().maxBytes(4L << 30).build());
+ * AppleMaps maps = new AppleMaps(new OffHeapCachingGateway(new HttpAppleMapsGateway(token, timeout), cache));
+ * }</pre>
+ */
+public final class OffHeapCachingGateway extends ForwardingAppleMapsGateway {
+    private final OffHeapPlaceCache cache;
+
+    /**
+     * Creates a gateway that caches the place lookups and geocode requests of another.
+     *
+     * @param delegate gateway that performs the calls; closed with this gateway
+     * @param cache cache to answer from and store into
+     */
+    public OffHeapCachingGateway(AppleMapsGateway delegate, OffHeapPlaceCache cache) {
+        super(delegate);
+        this.cache = Objects.requireNonNull(cache, "cache");
+    }
+
+    @Override
+    public PlaceResults geocode(GeocodeInput input) {
+        Optional<PlaceResults> cached = cache.lookupGeocode(input);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        PlaceResults results = delegate().geocode(input);
+        cache.storeGeocode(input, results);
+        return results;
+    }
+
+    /**
+     * Answers from the cache when it holds the full response; otherwise forwards the projected request, whose
+     * response is not cached because it lacks fields that later unprojected requests need.
+     */
+    @Override
+    public ProjectedPlaceResults geocode(GeocodeInput input, PlaceProjection projection) {
+        Optional<PlaceResults> cached = cache.lookupGeocode(input);
+        return cached.isPresent() ? projection.project(cached.get()) : delegate().geocode(input, projection);
+    }
+
+    @Override
+    public Place lookupPlace(String placeId, String language) {
+        Optional<Place> cached = cache.lookupPlace(placeId, language);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        Place place = delegate().lookupPlace(placeId, language);
+        cache.storePlace(placeId, language, place);
+        return place;
+    }
+}
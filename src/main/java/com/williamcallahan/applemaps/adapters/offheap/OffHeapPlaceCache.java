@@ -0,0 +1,161 @@
+package com.williamcallahan.applemaps.adapters.offheap;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.williamcallahan.applemaps.adapters.binarycodec.BinaryModelCodec;
+import com.williamcallahan.applemaps.adapters.geocodecache.AddressCanonicalizer;
+import com.williamcallahan.applemaps.adapters.geocodecache.Fingerprint64;
+import com.williamcallahan.applemaps.domain.model.Place;
+import com.williamcallahan.applemaps.domain.model.PlaceResults;
+import com.williamcallahan.applemaps.domain.request.GeocodeInput;
+
+/**
+ * Caches places looked up by ID and geocode responses in an {@link OffHeapStore}, encoded with
+ * {@link BinaryModelCodec} and decoded only when a lookup hits.
+ *
+ * <p>Places are keyed by a {@link Fingerprint64} of their ID and language, and geocode responses by
+ * {@link AddressCanonicalizer#geocodeKey(GeocodeInput)}; neither the ID nor the address is kept. A value that
+ * fails to decode, such as one stored under a colliding key of the other kind, is removed and counted as a
+ * miss.</p>
+ */
+public final class OffHeapPlaceCache {
+    private final OffHeapStore store;
+    private final AddressCanonicalizer canonicalizer;
+    private final BinaryModelCodec codec = new BinaryModelCodec();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Creates a cache over a store, keying geocode responses with the standard canonicalizer.
+     *
+     * @param store store that holds the encoded values
+     */
+    public OffHeapPlaceCache(OffHeapStore store) {
+        this(store, AddressCanonicalizer.standard());
+    }
+
+    /**
+     * Creates a cache over a store.
+     *
+     * @param store store that holds the encoded values
+     * @param canonicalizer canonicalizer that derives geocode keys from requests
+     */
+    public OffHeapPlaceCache(OffHeapStore store, AddressCanonicalizer canonicalizer) {
+        this.store = Objects.requireNonNull(store, "store");
+        this.canonicalizer = Objects.requireNonNull(canonicalizer, "canonicalizer");
+    }
+
+    /**
+     * Returns the cached place for an ID and language.
+     *
+     * @param placeId the place ID
+     * @param language the response language
+     * @return the cached place, or empty on a miss
+     */
+    public Optional<Place> lookupPlace(String placeId, String language) {
+        long key = placeKey(placeId, language);
+        byte[] bytes = store.get(key);
+        Place place = null;
+        if (bytes != null) {
+            try {
+                place = codec.decodePlace(bytes);
+            } catch (IllegalArgumentException e) {
+                store.remove(key);
+            }
+        }
+        return Optional.ofNullable(count(place));
+    }
+
+    /**
+     * Caches the place returned for an ID and language.
+     *
+     * @param placeId the place ID
+     * @param language the response language
+     * @param place the API response
+     * @return whether the place was stored; {@code false} when its encoding exceeds a segment
+     */
+    public boolean storePlace(String placeId, String language, Place place) {
+        byte[] bytes = codec.encode(Objects.requireNonNull(place, "place"));
+        return store.put(placeKey(placeId, language), bytes);
+    }
+
+    /**
+     * Returns the cached response for a geocode request.
+     *
+     * @param input the geocode request
+     * @return the cached response, or empty on a miss
+     */
+    public Optional<PlaceResults> lookupGeocode(GeocodeInput input) {
+        long key = canonicalizer.geocodeKey(Objects.requireNonNull(input, "input"));
+        byte[] bytes = store.get(key);
+        PlaceResults results = null;
+        if (bytes != null) {
+            try {
+                results = codec.decodePlaceResults(bytes);
+            } catch (IllegalArgumentException e) {
+                store.remove(key);
+            }
+        }
+        return Optional.ofNullable(count(results));
+    }
+
+    /**
+     * Caches the response to a geocode request.
+     *
+     * @param input the geocode request
+     * @param results the API response
+     * @return whether the response was stored; {@code false} when its encoding exceeds a segment
+     */
+    public boolean storeGeocode(GeocodeInput input, PlaceResults results) {
+        byte[] bytes = codec.encode(Objects.requireNonNull(results, "results"));
+        return store.put(canonicalizer.geocodeKey(Objects.requireNonNull(input, "input")), bytes);
+    }
+
+    /**
+     * Returns the canonicalizer that keys geocode responses.
+     *
+     * @return the canonicalizer
+     */
+    public AddressCanonicalizer canonicalizer() {
+        return canonicalizer;
+    }
+
+    /**
+     * Returns the store that holds the encoded values.
+     *
+     * @return the store
+     */
+    public OffHeapStore store() {
+        return store;
+    }
+
+    /**
+     * Returns the number of lookups answered from the cache.
+     *
+     * @return the hit count
+     */
+    public long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of lookups that found no live entry.
+     *
+     * @return the miss count
+     */
+    public long misses() {
+        return misses.sum();
+    }
+
+    private <T> T count(T value) {
+        (value == null ? misses : hits).increment();
+        return value;
+    }
+
+    private static long placeKey(String placeId, String language) {
+        return Fingerprint64.extend(Fingerprint64.of(Objects.requireNonNull(placeId, "placeId")),
+            Objects.requireNonNull(language, "language"));
+    }
+}
@@ -0,0 +1,326 @@
+package com.williamcallahan.applemaps.adapters.offheap;
+
+import java.nio.ByteBuffer;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Byte-array cache whose values live outside the Java heap, so caches of many gigabytes add almost nothing to
+ * garbage collection work.
+ *
+ * <p>Values are appended to fixed-size direct {@link ByteBuffer} segments used as a ring. The only heap
+ * structures are two primitive arrays that map each 64-bit key to the segment and offset of its value. When
+ * the ring is full, the oldest segment is reclaimed in place: values read since the segment was last
+ * reclaimed are kept and compacted to its start, and the rest are evicted, so eviction approximates least
+ * recently used in the manner of the clock algorithm. Replaced and removed values free their space when their
+ * segment is next reclaimed.</p>
+ *
+ * <p>Segments are allocated when first written and are released to the collector, together with their native
+ * memory, once the store is unreachable. Every method is synchronized.</p>
+ */
+public final class OffHeapStore {
+    private static final int HEADER_BYTES = Long.BYTES + Long.BYTES + Integer.BYTES;
+    private static final int KEY_OFFSET = 0;
+    private static final int EXPIRY_OFFSET = Long.BYTES;
+    private static final int LENGTH_OFFSET = Long.BYTES + Long.BYTES;
+    private static final long REFERENCED = 1L << 62;
+    private static final int MAX_SEGMENTS = 1 << 30;
+    private static final int COPY_CHUNK_BYTES = 8192;
+
+    private final int segmentBytes;
+    private final long timeToLiveMillis;
+    private final Clock clock;
+    private final ByteBuffer[] segments;
+    private final int[] segmentEnds;
+    private final LongIndex index = new LongIndex();
+    private final byte[] copyChunk = new byte[COPY_CHUNK_BYTES];
+    private int writeSegment;
+    private long liveBytes;
+    private long evictions;
+
+    private OffHeapStore(Builder builder) {
+        this.segmentBytes = builder.segmentBytes;
+        this.timeToLiveMillis = builder.timeToLive.toMillis();
+        this.clock = builder.clock;
+        this.segments = new ByteBuffer[(int) (builder.maxBytes / builder.segmentBytes)];
+        this.segmentEnds = new int[segments.length];
+    }
+
+    /**
+     * Creates a builder for a 256 MiB store of 16 MiB segments whose values are kept for one hour.
+     *
+     * @return a builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns a copy of the value stored under a key and marks it as recently used.
+     *
+     * @param key the key
+     * @return the value, or {@code null} when absent or expired
+     */
+    public synchronized byte[] get(long key) {
+        int slot = index.find(key);
+        if (slot < 0) {
+            return null;
+        }
+        long location = index.valueAt(slot);
+        ByteBuffer segment = segments[segment(location)];
+        int offset = offset(location);
+        if (segment.getLong(offset + EXPIRY_OFFSET) <= clock.millis()) {
+            index.removeAt(slot);
+            liveBytes -= HEADER_BYTES + segment.getInt(offset + LENGTH_OFFSET);
+            return null;
+        }
+        byte[] value = new byte[segment.getInt(offset + LENGTH_OFFSET)];
+        segment.get(offset + HEADER_BYTES, value);
+        index.setValueAt(slot, location | REFERENCED);
+        return value;
+    }
+
+    /**
+     * Stores a value under a key, replacing any stored before, and evicts values to make room.
+     *
+     * @param key the key
+     * @param value the value
+     * @return whether the value was stored; {@code false} when it does not fit in one segment
+     */
+    public synchronized boolean put(long key, byte[] value) {
+        Objects.requireNonNull(value, "value");
+        int size = HEADER_BYTES + value.length;
+        if (value.length > segmentBytes - HEADER_BYTES) {
+            return false;
+        }
+        remove(key);
+        while (segmentEnds[writeSegment] > segmentBytes - size) {
+            writeSegment = (writeSegment + 1) % segments.length;
+            reclaim(writeSegment);
+        }
+        ByteBuffer segment = segment(writeSegment);
+        int offset = segmentEnds[writeSegment];
+        segment.putLong(offset + KEY_OFFSET, key);
+        segment.putLong(offset + EXPIRY_OFFSET, clock.millis() + timeToLiveMillis);
+        segment.putInt(offset + LENGTH_OFFSET, value.length);
+        segment.put(offset + HEADER_BYTES, value);
+        segmentEnds[writeSegment] = offset + size;
+        index.put(key, location(writeSegment, offset));
+        liveBytes += size;
+        return true;
+    }
+
+    /**
+     * Removes the value stored under a key.
+     *
+     * @param key the key
+     * @return whether a value was removed
+     */
+    public synchronized boolean remove(long key) {
+        int slot = index.find(key);
+        if (slot < 0) {
+            return false;
+        }
+        long location = index.valueAt(slot);
+        liveBytes -= HEADER_BYTES + segments[segment(location)].getInt(offset(location) + LENGTH_OFFSET);
+        index.removeAt(slot);
+        return true;
+    }
+
+    /**
+     * Returns the number of stored values, including expired ones not yet removed.
+     *
+     * @return the entry count
+     */
+    public synchronized int size() {
+        return index.size();
+    }
+
+    /**
+     * Returns the off-heap bytes held by stored values and their headers.
+     *
+     * @return the live byte count
+     */
+    public synchronized long liveBytes() {
+        return liveBytes;
+    }
+
+    /**
+     * Returns the most off-heap memory the store will allocate.
+     *
+     * @return the capacity in bytes
+     */
+    public long capacityBytes() {
+        return (long) segments.length * segmentBytes;
+    }
+
+    /**
+     * Returns the number of values evicted or dropped as expired to make room.
+     *
+     * @return the eviction count
+     */
+    public synchronized long evictions() {
+        return evictions;
+    }
+
+    /**
+     * Removes every value. Allocated segments are kept for reuse.
+     */
+    public synchronized void clear() {
+        index.clear();
+        Arrays.fill(segmentEnds, 0);
+        writeSegment = 0;
+        liveBytes = 0;
+    }
+
+    /**
+     * Compacts the values of a segment that are still indexed, unexpired and were read since the last pass to
+     * its start, clearing their referenced marks, and evicts the others.
+     */
+    private void reclaim(int segmentIndex) {
+        ByteBuffer segment = segment(segmentIndex);
+        long now = clock.millis();
+        int end = segmentEnds[segmentIndex];
+        int read = 0;
+        int write = 0;
+        while (read < end) {
+            long key = segment.getLong(read + KEY_OFFSET);
+            int size = HEADER_BYTES + segment.getInt(read + LENGTH_OFFSET);
+            int slot = index.find(key);
+            if (slot >= 0 && (index.valueAt(slot) & ~REFERENCED) == location(segmentIndex, read)) {
+                if ((index.valueAt(slot) & REFERENCED) != 0 && segment.getLong(read + EXPIRY_OFFSET) > now) {
+                    move(segment, read, write, size);
+                    index.setValueAt(slot, location(segmentIndex, write));
+                    write += size;
+                } else {
+                    index.removeAt(slot);
+                    liveBytes -= size;
+                    evictions++;
+                }
+            }
+            read += size;
+        }
+        segmentEnds[segmentIndex] = write;
+    }
+
+    /**
+     * Copies bytes towards the start of a segment; chunks are read before the bytes they overwrite.
+     */
+    private void move(ByteBuffer segment, int from, int to, int length) {
+        if (from == to) {
+            return;
+        }
+        for (int copied = 0; copied < length; copied += COPY_CHUNK_BYTES) {
+            int chunk = Math.min(COPY_CHUNK_BYTES, length - copied);
+            segment.get(from + copied, copyChunk, 0, chunk);
+            segment.put(to + copied, copyChunk, 0, chunk);
+        }
+    }
+
+    private ByteBuffer segment(int segmentIndex) {
+        if (segments[segmentIndex] == null) {
+            segments[segmentIndex] = ByteBuffer.allocateDirect(segmentBytes);
+        }
+        return segments[segmentIndex];
+    }
+
+    private static long location(int segment, int offset) {
+        return ((long) segment << Integer.SIZE) | offset;
+    }
+
+    private static int segment(long location) {
+        return (int) ((location & ~REFERENCED) >>> Integer.SIZE);
+    }
+
+    private static int offset(long location) {
+        return (int) location;
+    }
+
+    /**
+     * Builder for {@link OffHeapStore}.
+     */
+    public static final class Builder {
+        private static final int MIN_SEGMENT_BYTES = 4096;
+
+        private long maxBytes = 256L << 20;
+        private int segmentBytes = 16 << 20;
+        private Duration timeToLive = Duration.ofHours(1);
+        private Clock clock = Clock.systemUTC();
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the most off-heap memory to allocate, rounded down to whole segments.
+         *
+         * @param maxBytes byte count of at least one segment
+         * @return this builder
+         */
+        public Builder maxBytes(long maxBytes) {
+            if (maxBytes < 1) {
+                throw new IllegalArgumentException("maxBytes must be positive.");
+            }
+            this.maxBytes = maxBytes;
+            return this;
+        }
+
+        /**
+         * Sets the size of each segment, which bounds the largest value that can be stored and the memory
+         * reclaimed by one eviction pass.
+         *
+         * @param segmentBytes byte count of at least 4096
+         * @return this builder
+         */
+        public Builder segmentBytes(int segmentBytes) {
+            if (segmentBytes < MIN_SEGMENT_BYTES) {
+                throw new IllegalArgumentException("segmentBytes must be at least " + MIN_SEGMENT_BYTES + ".");
+            }
+            this.segmentBytes = segmentBytes;
+            return this;
+        }
+
+        /**
+         * Sets how long a stored value answers reads.
+         *
+         * @param timeToLive positive duration
+         * @return this builder
+         */
+        public Builder timeToLive(Duration timeToLive) {
+            Objects.requireNonNull(timeToLive, "timeToLive");
+            if (timeToLive.isNegative() || timeToLive.isZero()) {
+                throw new IllegalArgumentException("timeToLive must be positive.");
+            }
+            this.timeToLive = timeToLive;
+            return this;
+        }
+
+        /**
+         * Sets the clock used for expiry.
+         *
+         * @param clock the clock
+         * @return this builder
+         */
+        public Builder clock(Clock clock) {
+            this.clock = Objects.requireNonNull(clock, "clock");
+            return this;
+        }
+
+        /**
+         * Builds a validated {@link OffHeapStore}.
+         *
+         * @return a store
+         */
+        public OffHeapStore build() {
+            long segmentCount = maxBytes / segmentBytes;
+            if (segmentCount < 1) {
+                throw new IllegalArgumentException("maxBytes must be at least segmentBytes.");
+            }
+            if (segmentCount > MAX_SEGMENTS) {
+                throw new IllegalArgumentException("maxBytes must be at most " + MAX_SEGMENTS + " segments.");
+            }
+            return new OffHeapStore(this);
+        }
+    }
+}
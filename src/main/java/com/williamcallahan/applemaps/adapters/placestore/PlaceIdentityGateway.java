@@ -0,0 +1,112 @@
+package com.williamcallahan.applemaps.adapters.placestore;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import com.williamcallahan.applemaps.domain.model.AlternateIdsEntry;
+import com.williamcallahan.applemaps.domain.model.AlternateIdsResponse;
+import com.williamcallahan.applemaps.domain.model.Place;
+import com.williamcallahan.applemaps.domain.model.PlaceResults;
+import com.williamcallahan.applemaps.domain.model.PlacesResponse;
+import com.williamcallahan.applemaps.domain.model.SearchResponse;
+import com.williamcallahan.applemaps.domain.model.SearchResponsePlace;
+import com.williamcallahan.applemaps.domain.port.AppleMapsGateway;
+import com.williamcallahan.applemaps.domain.port.ForwardingAppleMapsGateway;
+import com.williamcallahan.applemaps.domain.request.AlternateIdsInput;
+import com.williamcallahan.applemaps.domain.request.GeocodeInput;
+import com.williamcallahan.applemaps.domain.request.PlaceLookupInput;
+import com.williamcallahan.applemaps.domain.request.SearchInput;
+
+/**
+ * Gateway decorator that replaces the places in decoded responses with their canonical instances from a
+ * {@link PlaceIdentityStore}, and records the ids linked by alternate-id lookups.
+ *
+ * <p>Geocode, reverse geocode, search, completion URL and place lookup responses are canonicalized. Projected,
+ * autocomplete and directions responses are passed through unchanged. Wrap the gateway passed to
+ * {@code AppleMaps} so long-lived caches above it hold shared instances:</p>
+ *
+ * <pre>{@code
+ * PlaceIdentityStore store = PlaceIdentityStore.builder().build();
+ * AppleMaps maps = new AppleMaps(new PlaceIdentityGateway(new HttpAppleMapsGateway(token, timeout), store));
+ * }</pre>
+ */
+public final class PlaceIdentityGateway extends ForwardingAppleMapsGateway {
+    private final PlaceIdentityStore store;
+
+    /**
+     * Creates a gateway that canonicalizes the responses of another.
+     *
+     * @param delegate gateway that performs the calls; closed with this gateway
+     * @param store store that holds canonical places
+     */
+    public PlaceIdentityGateway(AppleMapsGateway delegate, PlaceIdentityStore store) {
+        super(delegate);
+        this.store = Objects.requireNonNull(store, "store");
+    }
+
+    /**
+     * Returns the store this gateway canonicalizes against.
+     *
+     * @return the store
+     */
+    public PlaceIdentityStore store() {
+        return store;
+    }
+
+    @Override
+    public PlaceResults geocode(GeocodeInput input) {
+        return new PlaceResults(canonicalizeAll(delegate().geocode(input).results()));
+    }
+
+    @Override
+    public SearchResponse search(SearchInput input) {
+        return canonicalizeSearch(delegate().search(input));
+    }
+
+    @Override
+    public SearchResponse resolveCompletionUrl(String completionUrl) {
+        return canonicalizeSearch(delegate().resolveCompletionUrl(completionUrl));
+    }
+
+    @Override
+    public PlaceResults reverseGeocode(double latitude, double longitude, String language) {
+        return new PlaceResults(canonicalizeAll(delegate().reverseGeocode(latitude, longitude, language).results()));
+    }
+
+    @Override
+    public Place lookupPlace(String placeId, String language) {
+        return store.canonicalize(delegate().lookupPlace(placeId, language));
+    }
+
+    @Override
+    public PlacesResponse lookupPlaces(PlaceLookupInput input) {
+        PlacesResponse response = delegate().lookupPlaces(input);
+        return new PlacesResponse(canonicalizeAll(response.results()), response.errors());
+    }
+
+    @Override
+    public AlternateIdsResponse lookupAlternateIds(AlternateIdsInput input) {
+        AlternateIdsResponse response = delegate().lookupAlternateIds(input);
+        for (AlternateIdsEntry entry : response.results()) {
+            store.recordAlternateIds(entry);
+        }
+        return response;
+    }
+
+    private SearchResponse canonicalizeSearch(SearchResponse response) {
+        List<SearchResponsePlace> places = new ArrayList<>(response.results().size());
+        for (SearchResponsePlace place : response.results()) {
+            places.add(store.canonicalize(place));
+        }
+        return new SearchResponse(response.displayMapRegion(), response.paginationInfo(), places);
+    }
+
+    private List<Place> canonicalizeAll(List<Place> places) {
+        List<Place> canonical = new ArrayList<>(places.size());
+        for (Place place : places) {
+            canonical.add(store.canonicalize(place));
+        }
+        return canonical;
+    }
+}
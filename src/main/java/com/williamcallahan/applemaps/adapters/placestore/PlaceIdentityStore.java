@@ -0,0 +1,327 @@
+package com.williamcallahan.applemaps.adapters.placestore;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+import com.williamcallahan.applemaps.domain.model.AlternateIdsEntry;
+import com.williamcallahan.applemaps.domain.model.Place;
+import com.williamcallahan.applemaps.domain.model.SearchResponsePlace;
+import com.williamcallahan.applemaps.domain.model.StructuredAddress;
+
+/**
+ * Keeps one canonical instance per place identity, so that a place seen in many responses is held once.
+ *
+ * <p>A place identity is the set of ids known to name one place: a place's {@code id}, its
+ * {@code alternateIds}, and the ids linked by alternate-id lookups. Ids seen together are merged into one
+ * identity, and canonical places carry every other id of their identity as {@code alternateIds}. When a place
+ * arrives that equals the canonical instance for its id, that instance is returned and the new one can be
+ * dropped; otherwise the new place becomes canonical, keeping the parts that did not change.</p>
+ *
+ * <p>Country names and codes and the administrative-area, locality and post-code fields of structured
+ * addresses are interned, up to a limit, across all places. Places without an id are interned but not stored.
+ * Above the size limit the least recently seen identities are dropped.</p>
+ */
+public final class PlaceIdentityStore {
+    private final int maxPlaces;
+    private final StringInterner interner;
+    private final Map<String, Identity> identitiesById = new HashMap<>();
+    private final LinkedHashSet<Identity> recency = new LinkedHashSet<>();
+    private long reusedInstances;
+
+    private PlaceIdentityStore(Builder builder) {
+        this.maxPlaces = builder.maxPlaces;
+        this.interner = new StringInterner(builder.maxInternedStrings);
+    }
+
+    /**
+     * Creates a builder for a store of 100,000 place identities and 50,000 interned strings.
+     *
+     * @return a builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the canonical instance of a place, merging its ids into its identity.
+     *
+     * @param place a decoded place
+     * @return the stored instance when it equals {@code place} with merged alternate ids, otherwise a new
+     *     canonical instance
+     */
+    public synchronized Place canonicalize(Place place) {
+        Objects.requireNonNull(place, "place");
+        Identity identity = place.id().map(id -> merge(id, place.alternateIds())).orElse(null);
+        Place existing = identity == null ? null : identity.place;
+        Place candidate = new Place(
+            reuse(existing, Place::id, place.id()),
+            identity == null ? place.alternateIds() : identity.alternateIdsOf(place.id().get()),
+            reuse(existing, Place::name, place.name()),
+            reuse(existing, Place::coordinate, place.coordinate()),
+            reuse(existing, Place::displayMapRegion, place.displayMapRegion()),
+            reuse(existing, Place::formattedAddressLines, place.formattedAddressLines()),
+            reuse(existing, Place::structuredAddress, intern(place.structuredAddress())),
+            interner.intern(place.country()),
+            interner.intern(place.countryCode())
+        );
+        if (candidate.equals(existing)) {
+            reusedInstances++;
+            return existing;
+        }
+        if (identity != null) {
+            identity.place = candidate;
+        }
+        return candidate;
+    }
+
+    /**
+     * Returns the canonical instance of a search result place, merging its ids into its identity.
+     *
+     * @param place a decoded search result place
+     * @return the stored instance when it equals {@code place} with merged alternate ids, otherwise a new
+     *     canonical instance
+     */
+    public synchronized SearchResponsePlace canonicalize(SearchResponsePlace place) {
+        Objects.requireNonNull(place, "place");
+        Identity identity = place.id().map(id -> merge(id, place.alternateIds())).orElse(null);
+        SearchResponsePlace existing = identity == null ? null : identity.searchPlace;
+        SearchResponsePlace candidate = new SearchResponsePlace(
+            reuse(existing, SearchResponsePlace::id, place.id()),
+            identity == null ? place.alternateIds() : identity.alternateIdsOf(place.id().get()),
+            reuse(existing, SearchResponsePlace::name, place.name()),
+            reuse(existing, SearchResponsePlace::coordinate, place.coordinate()),
+            reuse(existing, SearchResponsePlace::displayMapRegion, place.displayMapRegion()),
+            reuse(existing, SearchResponsePlace::formattedAddressLines, place.formattedAddressLines()),
+            reuse(existing, SearchResponsePlace::structuredAddress, intern(place.structuredAddress())),
+            interner.intern(place.country()),
+            interner.intern(place.countryCode()),
+            place.poiCategory()
+        );
+        if (candidate.equals(existing)) {
+            reusedInstances++;
+            return existing;
+        }
+        if (identity != null) {
+            identity.searchPlace = candidate;
+        }
+        return candidate;
+    }
+
+    /**
+     * Merges the ids of an alternate-id lookup result into one identity.
+     *
+     * @param entry an alternate-id lookup result; ignored when it has no id
+     */
+    public synchronized void recordAlternateIds(AlternateIdsEntry entry) {
+        Objects.requireNonNull(entry, "entry");
+        entry.id().ifPresent(id -> merge(id, entry.alternateIds()));
+    }
+
+    /**
+     * Returns the canonical place for an id or any of its alternate ids.
+     *
+     * @param id a place id
+     * @return the place, or empty when no place with this identity has been canonicalized
+     */
+    public synchronized Optional<Place> findPlace(String id) {
+        Identity identity = identitiesById.get(Objects.requireNonNull(id, "id"));
+        return Optional.ofNullable(identity == null ? null : identity.place);
+    }
+
+    /**
+     * Returns every id known to name the same place as an id, including the id itself.
+     *
+     * @param id a place id
+     * @return the ids in the order first seen, or an empty list when the id is unknown
+     */
+    public synchronized List<String> identifiers(String id) {
+        Identity identity = identitiesById.get(Objects.requireNonNull(id, "id"));
+        return identity == null ? List.of() : List.copyOf(identity.ids);
+    }
+
+    /**
+     * Returns the number of place identities held.
+     *
+     * @return the identity count
+     */
+    public synchronized int size() {
+        return recency.size();
+    }
+
+    /**
+     * Returns the number of distinct interned strings.
+     *
+     * @return the interned string count
+     */
+    public int internedStrings() {
+        return interner.size();
+    }
+
+    /**
+     * Returns how many canonicalized places were answered with an already stored instance.
+     *
+     * @return the reuse count
+     */
+    public synchronized long reusedInstances() {
+        return reusedInstances;
+    }
+
+    /**
+     * Removes every identity and interned string.
+     */
+    public synchronized void clear() {
+        identitiesById.clear();
+        recency.clear();
+        interner.clear();
+    }
+
+    /**
+     * Returns the identity for a place id, merging every identity any of the ids already belongs to.
+     */
+    private Identity merge(String id, List<String> alternateIds) {
+        Identity target = identitiesById.get(id);
+        for (int index = 0; target == null && index < alternateIds.size(); index++) {
+            target = identitiesById.get(alternateIds.get(index));
+        }
+        if (target == null) {
+            target = new Identity();
+        }
+        absorb(target, id);
+        for (String alternateId : alternateIds) {
+            absorb(target, alternateId);
+        }
+        recency.remove(target);
+        recency.add(target);
+        while (recency.size() > maxPlaces) {
+            Identity eldest = recency.iterator().next();
+            recency.remove(eldest);
+            for (String eldestId : eldest.ids) {
+                identitiesById.remove(eldestId);
+            }
+        }
+        return target;
+    }
+
+    private void absorb(Identity target, String id) {
+        Identity other = identitiesById.get(id);
+        if (other == target) {
+            return;
+        }
+        if (other == null) {
+            target.ids.add(id);
+            identitiesById.put(id, target);
+            return;
+        }
+        for (String otherId : other.ids) {
+            target.ids.add(otherId);
+            identitiesById.put(otherId, target);
+        }
+        target.place = target.place == null ? other.place : target.place;
+        target.searchPlace = target.searchPlace == null ? other.searchPlace : target.searchPlace;
+        recency.remove(other);
+    }
+
+    private Optional<StructuredAddress> intern(Optional<StructuredAddress> address) {
+        if (address.isEmpty()) {
+            return address;
+        }
+        StructuredAddress value = address.get();
+        return Optional.of(new StructuredAddress(
+            interner.intern(value.administrativeArea()),
+            interner.intern(value.administrativeAreaCode()),
+            interner.intern(value.subAdministrativeArea()),
+            interner.intern(value.areasOfInterest()),
+            interner.intern(value.dependentLocalities()),
+            value.fullThoroughfare(),
+            interner.intern(value.locality()),
+            interner.intern(value.postCode()),
+            interner.intern(value.subLocality()),
+            value.subThoroughfare(),
+            value.thoroughfare()
+        ));
+    }
+
+    /**
+     * Returns the existing instance's field when it equals the incoming value, so unchanged parts are shared.
+     */
+    private static <P, T> T reuse(P existing, Function<P, T> field, T incoming) {
+        if (existing == null) {
+            return incoming;
+        }
+        T current = field.apply(existing);
+        return current.equals(incoming) ? current : incoming;
+    }
+
+    /**
+     * The ids naming one place and its latest canonical instances; compared by identity.
+     */
+    private static final class Identity {
+        private final LinkedHashSet<String> ids = new LinkedHashSet<>();
+        private Place place;
+        private SearchResponsePlace searchPlace;
+
+        List<String> alternateIdsOf(String id) {
+            List<String> alternateIds = new ArrayList<>(ids.size() - 1);
+            for (String candidate : ids) {
+                if (!candidate.equals(id)) {
+                    alternateIds.add(candidate);
+                }
+            }
+            return alternateIds;
+        }
+    }
+
+    /**
+     * Builder for {@link PlaceIdentityStore}.
+     */
+    public static final class Builder {
+        private int maxPlaces = 100_000;
+        private int maxInternedStrings = 50_000;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the number of place identities above which the least recently seen are dropped.
+         *
+         * @param maxPlaces positive identity count
+         * @return this builder
+         */
+        public Builder maxPlaces(int maxPlaces) {
+            if (maxPlaces < 1) {
+                throw new IllegalArgumentException("maxPlaces must be positive.");
+            }
+            this.maxPlaces = maxPlaces;
+            return this;
+        }
+
+        /**
+         * Sets the number of distinct strings interned; later new strings are kept as they are.
+         *
+         * @param maxInternedStrings non-negative string count
+         * @return this builder
+         */
+        public Builder maxInternedStrings(int maxInternedStrings) {
+            if (maxInternedStrings < 0) {
+                throw new IllegalArgumentException("maxInternedStrings must not be negative.");
+            }
+            this.maxInternedStrings = maxInternedStrings;
+            return this;
+        }
+
+        /**
+         * Builds a validated {@link PlaceIdentityStore}.
+         *
+         * @return a store
+         */
+        public PlaceIdentityStore build() {
+            return new PlaceIdentityStore(this);
+        }
+    }
+}
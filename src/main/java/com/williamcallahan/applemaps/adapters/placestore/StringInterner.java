@@ -0,0 +1,58 @@
+package com.williamcallahan.applemaps.adapters.placestore;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bounded interner for low-cardinality strings, which also shares one {@link Optional} per interned value.
+ * Once full, it returns new values unchanged rather than evicting, so the values seen first stay shared.
+ */
+final class StringInterner {
+    private final int maxEntries;
+    private final ConcurrentHashMap<String, Optional<String>> values = new ConcurrentHashMap<>();
+
+    StringInterner(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    String intern(String value) {
+        Optional<String> interned = intern(Optional.of(value));
+        return interned.get();
+    }
+
+    Optional<String> intern(Optional<String> value) {
+        if (value.isEmpty()) {
+            return value;
+        }
+        Optional<String> interned = values.get(value.get());
+        if (interned != null) {
+            return interned;
+        }
+        if (values.size() >= maxEntries) {
+            return value;
+        }
+        Optional<String> previous = values.putIfAbsent(value.get(), value);
+        return previous == null ? value : previous;
+    }
+
+    List<String> intern(List<String> values) {
+        if (values.isEmpty()) {
+            return values;
+        }
+        List<String> interned = new ArrayList<>(values.size());
+        for (String value : values) {
+            interned.add(intern(value));
+        }
+        return interned;
+    }
+
+    int size() {
+        return values.size();
+    }
+
+    void clear() {
+        values.clear();
+    }
+}
@@ -0,0 +1,20 @@
+package com.williamcallahan.applemaps.adapters.quota;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Counts for one day.
+ */
+record DayWindow(LocalDate day, Instant end, Map<String, TenantUsage> tenants) {
+    DayWindow(LocalDate day, ZoneId zone) {
+        this(day, day.plusDays(1).atStartOfDay(zone).toInstant(), new ConcurrentHashMap<>());
+    }
+
+    TenantUsage tenant(String tenant) {
+        return tenants.computeIfAbsent(tenant, ignored -> new TenantUsage());
+    }
+}
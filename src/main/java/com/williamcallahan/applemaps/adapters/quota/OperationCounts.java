@@ -0,0 +1,27 @@
+package com.williamcallahan.applemaps.adapters.quota;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts for one tenant and operation on one day.
+ */
+final class OperationCounts {
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    void countCall() {
+        calls.increment();
+    }
+
+    void countRejection() {
+        rejected.increment();
+    }
+
+    long calls() {
+        return calls.sum();
+    }
+
+    long rejected() {
+        return rejected.sum();
+    }
+}
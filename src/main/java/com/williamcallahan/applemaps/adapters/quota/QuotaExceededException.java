@@ -0,0 +1,63 @@
+package com.williamcallahan.applemaps.adapters.quota;
+
+import java.util.Objects;
+
+/**
+ * Indicates that a call was refused because its tenant has used its budget for the last 24 hours.
+ */
+public final class QuotaExceededException extends RuntimeException {
+    /**
+     * Tenant whose budget is exhausted.
+     */
+    private final String tenant;
+    /**
+     * Operation that was refused.
+     */
+    private final String operation;
+    /**
+     * The tenant's budget.
+     */
+    private final long budget;
+
+    /**
+     * Creates an exception for a refused call.
+     *
+     * @param tenant tenant key
+     * @param operation operation name, e.g. {@code geocode}
+     * @param budget the tenant's budget
+     */
+    public QuotaExceededException(String tenant, String operation, long budget) {
+        super("Quota of " + budget + " calls per 24 hours exhausted for tenant "
+            + Objects.requireNonNull(tenant, "tenant") + " (" + Objects.requireNonNull(operation, "operation") + ")");
+        this.tenant = tenant;
+        this.operation = operation;
+        this.budget = budget;
+    }
+
+    /**
+     * Returns the tenant whose budget is exhausted.
+     *
+     * @return the tenant key
+     */
+    public String tenant() {
+        return tenant;
+    }
+
+    /**
+     * Returns the operation that was refused.
+     *
+     * @return the operation name
+     */
+    public String operation() {
+        return operation;
+    }
+
+    /**
+     * Returns the tenant's budget.
+     *
+     * @return calls per rolling 24 hours
+     */
+    public long budget() {
+        return budget;
+    }
+}
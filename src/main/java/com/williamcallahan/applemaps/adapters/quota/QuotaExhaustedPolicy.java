@@ -0,0 +1,17 @@
+package com.williamcallahan.applemaps.adapters.quota;
+
+/**
+ * What a {@link QuotaLedger} does with a call whose tenant has used its budget.
+ */
+public enum QuotaExhaustedPolicy {
+    /**
+     * Fails the call immediately with a {@link QuotaExceededException}.
+     */
+    REJECT,
+
+    /**
+     * Holds the call until the budget is raised or calls older than 24 hours stop counting against it, then
+     * fails it if the ledger's queue wait or the call's deadline runs out first.
+     */
+    QUEUE
+}
@@ -0,0 +1,222 @@
+package com.williamcallahan.applemaps.adapters.quota;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.williamcallahan.applemaps.adapters.mapsserver.ApiInterceptor;
+
+/**
+ * Counts calls per tenant and operation in daily windows and enforces a call budget per tenant over a rolling
+ * 24 hours.
+ *
+ * <p>A limited tenant's calls are admitted against hourly buckets covering the last 24 hours, with a
+ * compare-and-set loop on their total, so no 24-hour period holds more calls than the budget, a call under
+ * budget is never refused, and there is no burst at midnight. A call stops counting against the budget
+ * between 24 and 25 hours after it was made. Unlimited tenants are only counted. What happens to a refused
+ * call is decided by the {@link QuotaExhaustedPolicy}.</p>
+ *
+ * <p>For reporting, per-operation counts are {@link java.util.concurrent.atomic.LongAdder}s kept in calendar
+ * days that start at midnight in the ledger's zone; the ledger keeps the current day and a configurable number
+ * of previous ones for {@link #snapshot()}.</p>
+ */
+public final class QuotaLedger {
+    /**
+     * Tenant key used for calls that do not name a tenant.
+     */
+    public static final String DEFAULT_TENANT = "default";
+
+    /**
+     * Budget meaning no limit.
+     */
+    public static final long UNLIMITED = Long.MAX_VALUE;
+
+    private final Clock clock;
+    private final ZoneId zone;
+    private final int retainedDays;
+    private final QuotaExhaustedPolicy exhaustedPolicy;
+    private final Duration maxQueueWait;
+    private final long defaultBudget;
+    private final Map<String, Long> budgets;
+    private final Map<String, RollingCount> admitted = new ConcurrentHashMap<>();
+    private final AtomicReference<DayWindow> currentWindow;
+    private final Deque<DayWindow> previousWindows = new ConcurrentLinkedDeque<>();
+    private final ReentrantLock waitLock = new ReentrantLock();
+    private final Condition budgetChanged = waitLock.newCondition();
+    private volatile long budgetVersion;
+
+    QuotaLedger(QuotaLedgerBuilder builder) {
+        this.clock = builder.clock;
+        this.zone = builder.zone;
+        this.retainedDays = builder.retainedDays;
+        this.exhaustedPolicy = builder.exhaustedPolicy;
+        this.maxQueueWait = builder.maxQueueWait;
+        this.defaultBudget = builder.defaultBudget;
+        this.budgets = new ConcurrentHashMap<>(builder.budgets);
+        this.currentWindow = new AtomicReference<>(new DayWindow(LocalDate.ofInstant(clock.instant(), zone), zone));
+    }
+
+    /**
+     * Creates a builder for a ledger in UTC with unlimited budgets, the {@link QuotaExhaustedPolicy#REJECT}
+     * policy and seven previous days retained.
+     *
+     * @return a builder
+     */
+    public static QuotaLedgerBuilder builder() {
+        return new QuotaLedgerBuilder();
+    }
+
+    /**
+     * Returns an interceptor that charges every exchange to the tenant named in its
+     * {@link com.williamcallahan.applemaps.adapters.mapsserver.CallOptions}, or to {@link #DEFAULT_TENANT}.
+     * Refused calls fail with an {@code AppleMapsClientException} caused by a {@link QuotaExceededException}.
+     *
+     * @return the interceptor
+     */
+    public ApiInterceptor interceptor() {
+        return (call, chain) -> {
+            acquire(call.options().tenant().orElse(DEFAULT_TENANT), call.operation(), call.options().deadline());
+            return chain.proceed(call);
+        };
+    }
+
+    /**
+     * Charges one call to a tenant, waiting under the {@link QuotaExhaustedPolicy#QUEUE} policy when the
+     * budget is exhausted.
+     *
+     * @param tenant tenant key
+     * @param operation operation name, e.g. {@code geocode}
+     * @param deadline instant after which a queued call is refused, in addition to the ledger's queue wait
+     * @throws QuotaExceededException if the call is refused
+     * @throws InterruptedException if interrupted while queued
+     */
+    public void acquire(String tenant, String operation, Optional<Instant> deadline) throws InterruptedException {
+        Objects.requireNonNull(tenant, "tenant");
+        Objects.requireNonNull(operation, "operation");
+        Objects.requireNonNull(deadline, "deadline");
+        Instant queueDeadline = null;
+        while (true) {
+            long observedBudgetVersion = budgetVersion;
+            long budget = budget(tenant);
+            long hour = Math.floorDiv(clock.millis(), RollingCount.HOUR_MILLIS);
+            TenantUsage usage = window().tenant(tenant);
+            if (budget == UNLIMITED
+                || admitted.computeIfAbsent(tenant, ignored -> new RollingCount()).tryAdmit(budget, hour)) {
+                usage.count(operation);
+                return;
+            }
+            if (queueDeadline == null) {
+                queueDeadline = clock.instant().plus(maxQueueWait);
+                if (deadline.isPresent() && deadline.get().isBefore(queueDeadline)) {
+                    queueDeadline = deadline.get();
+                }
+            }
+            if (exhaustedPolicy == QuotaExhaustedPolicy.REJECT
+                || !awaitBudget(observedBudgetVersion, queueDeadline,
+                    Instant.ofEpochMilli((hour + 1) * RollingCount.HOUR_MILLIS))) {
+                usage.reject(operation);
+                throw new QuotaExceededException(tenant, operation, budget);
+            }
+        }
+    }
+
+    /**
+     * Returns the budget of a tenant.
+     *
+     * @param tenant tenant key
+     * @return calls per rolling 24 hours, or {@link #UNLIMITED}
+     */
+    public long budget(String tenant) {
+        return budgets.getOrDefault(Objects.requireNonNull(tenant, "tenant"), defaultBudget);
+    }
+
+    /**
+     * Sets the budget of a tenant, taking effect immediately, including for queued calls.
+     *
+     * @param tenant tenant key
+     * @param budget calls per rolling 24 hours, or {@link #UNLIMITED}
+     */
+    public void setBudget(String tenant, long budget) {
+        Objects.requireNonNull(tenant, "tenant");
+        if (budget < 0) {
+            throw new IllegalArgumentException("budget must not be negative.");
+        }
+        budgets.put(tenant, budget);
+        waitLock.lock();
+        try {
+            budgetVersion++;
+            budgetChanged.signalAll();
+        } finally {
+            waitLock.unlock();
+        }
+    }
+
+    /**
+     * Copies the counts of the current and retained daily windows.
+     *
+     * @return usage per day, tenant and operation, newest day first
+     */
+    public QuotaSnapshot snapshot() {
+        List<DayWindow> windows = new ArrayList<>();
+        windows.add(window());
+        windows.addAll(previousWindows);
+        List<QuotaUsage> usage = new ArrayList<>();
+        for (DayWindow window : windows) {
+            List<QuotaUsage> dayUsage = new ArrayList<>();
+            window.tenants().forEach((tenant, tenantUsage) -> tenantUsage.operations().forEach((operation, counts) ->
+                dayUsage.add(new QuotaUsage(window.day(), tenant, operation, counts.calls(), counts.rejected()))));
+            dayUsage.sort(Comparator.comparing(QuotaUsage::tenant).thenComparing(QuotaUsage::operation));
+            usage.addAll(dayUsage);
+        }
+        return new QuotaSnapshot(usage);
+    }
+
+    private DayWindow window() {
+        DayWindow window = currentWindow.get();
+        if (clock.millis() < window.end().toEpochMilli()) {
+            return window;
+        }
+        DayWindow next = new DayWindow(LocalDate.ofInstant(clock.instant(), zone), zone);
+        if (!currentWindow.compareAndSet(window, next)) {
+            return currentWindow.get();
+        }
+        previousWindows.addFirst(window);
+        while (previousWindows.size() > retainedDays) {
+            previousWindows.pollLast();
+        }
+        return next;
+    }
+
+    private boolean awaitBudget(long observedBudgetVersion, Instant queueDeadline, Instant nextHour)
+        throws InterruptedException {
+        waitLock.lockInterruptibly();
+        try {
+            if (budgetVersion != observedBudgetVersion) {
+                return true;
+            }
+            Instant now = clock.instant();
+            if (!now.isBefore(queueDeadline)) {
+                return false;
+            }
+            Instant wakeAt = nextHour.isBefore(queueDeadline) ? nextHour : queueDeadline;
+            budgetChanged.awaitNanos(Math.max(1L, Duration.between(now, wakeAt).toNanos()));
+            return true;
+        } finally {
+            waitLock.unlock();
+        }
+    }
+}
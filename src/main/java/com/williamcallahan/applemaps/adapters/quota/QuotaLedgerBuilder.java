@@ -0,0 +1,126 @@
+package com.williamcallahan.applemaps.adapters.quota;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Builder for {@link QuotaLedger}.
+ */
+public final class QuotaLedgerBuilder {
+    Clock clock = Clock.systemUTC();
+    ZoneId zone = ZoneOffset.UTC;
+    int retainedDays = 7;
+    QuotaExhaustedPolicy exhaustedPolicy = QuotaExhaustedPolicy.REJECT;
+    Duration maxQueueWait = Duration.ofSeconds(30);
+    long defaultBudget = QuotaLedger.UNLIMITED;
+    final Map<String, Long> budgets = new ConcurrentHashMap<>();
+
+    QuotaLedgerBuilder() {
+    }
+
+    /**
+     * Sets the budget of tenants without their own budget, including {@link QuotaLedger#DEFAULT_TENANT}.
+     *
+     * @param budget calls per rolling 24 hours, or {@link QuotaLedger#UNLIMITED}
+     * @return this builder
+     */
+    public QuotaLedgerBuilder defaultBudget(long budget) {
+        this.defaultBudget = requireNonNegative(budget);
+        return this;
+    }
+
+    /**
+     * Sets the budget of one tenant.
+     *
+     * @param tenant tenant key
+     * @param budget calls per rolling 24 hours, or {@link QuotaLedger#UNLIMITED}
+     * @return this builder
+     */
+    public QuotaLedgerBuilder budget(String tenant, long budget) {
+        budgets.put(Objects.requireNonNull(tenant, "tenant"), requireNonNegative(budget));
+        return this;
+    }
+
+    /**
+     * Sets what happens to calls over budget.
+     *
+     * @param exhaustedPolicy the policy
+     * @return this builder
+     */
+    public QuotaLedgerBuilder exhaustedPolicy(QuotaExhaustedPolicy exhaustedPolicy) {
+        this.exhaustedPolicy = Objects.requireNonNull(exhaustedPolicy, "exhaustedPolicy");
+        return this;
+    }
+
+    /**
+     * Sets how long a call may wait under the {@link QuotaExhaustedPolicy#QUEUE} policy.
+     *
+     * @param maxQueueWait non-negative wait
+     * @return this builder
+     */
+    public QuotaLedgerBuilder maxQueueWait(Duration maxQueueWait) {
+        Objects.requireNonNull(maxQueueWait, "maxQueueWait");
+        if (maxQueueWait.isNegative()) {
+            throw new IllegalArgumentException("maxQueueWait must not be negative.");
+        }
+        this.maxQueueWait = maxQueueWait;
+        return this;
+    }
+
+    /**
+     * Sets the zone whose midnight starts each daily reporting window.
+     *
+     * @param zone the zone
+     * @return this builder
+     */
+    public QuotaLedgerBuilder zone(ZoneId zone) {
+        this.zone = Objects.requireNonNull(zone, "zone");
+        return this;
+    }
+
+    /**
+     * Sets how many previous daily windows are kept for snapshots.
+     *
+     * @param retainedDays non-negative day count
+     * @return this builder
+     */
+    public QuotaLedgerBuilder retainedDays(int retainedDays) {
+        if (retainedDays < 0) {
+            throw new IllegalArgumentException("retainedDays must not be negative.");
+        }
+        this.retainedDays = retainedDays;
+        return this;
+    }
+
+    /**
+     * Sets the clock used for budgets, daily windows and queue waits.
+     *
+     * @param clock the clock
+     * @return this builder
+     */
+    public QuotaLedgerBuilder clock(Clock clock) {
+        this.clock = Objects.requireNonNull(clock, "clock");
+        return this;
+    }
+
+    /**
+     * Builds a validated {@link QuotaLedger}.
+     *
+     * @return a ledger
+     */
+    public QuotaLedger build() {
+        return new QuotaLedger(this);
+    }
+
+    private static long requireNonNegative(long budget) {
+        if (budget < 0) {
+            throw new IllegalArgumentException("budget must not be negative.");
+        }
+        return budget;
+    }
+}
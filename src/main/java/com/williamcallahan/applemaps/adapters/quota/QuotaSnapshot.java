@@ -0,0 +1,71 @@
+package com.williamcallahan.applemaps.adapters.quota;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Point-in-time usage of every tenant and operation across the daily windows a {@link QuotaLedger} retains,
+ * newest day first.
+ */
+public record QuotaSnapshot(List<QuotaUsage> usage) {
+    private static final String CSV_HEADER = "day,tenant,operation,calls,rejected";
+
+    /**
+     * Canonical constructor that copies the usage list.
+     *
+     * @param usage usage per day, tenant and operation
+     */
+    public QuotaSnapshot {
+        usage = List.copyOf(Objects.requireNonNull(usage, "usage"));
+    }
+
+    /**
+     * Returns the calls a tenant made on one day, across all operations.
+     *
+     * @param day the daily window
+     * @param tenant tenant key
+     * @return admitted calls
+     */
+    public long calls(LocalDate day, String tenant) {
+        Objects.requireNonNull(day, "day");
+        Objects.requireNonNull(tenant, "tenant");
+        long calls = 0L;
+        for (QuotaUsage entry : usage) {
+            if (entry.day().equals(day) && entry.tenant().equals(tenant)) {
+                calls += entry.calls();
+            }
+        }
+        return calls;
+    }
+
+    /**
+     * Writes the usage as CSV with a header row, one line per day, tenant and operation. Tenant keys and
+     * operation names containing commas, quotes or line breaks are quoted.
+     *
+     * @param out destination
+     * @throws IOException if writing fails
+     */
+    public void writeCsv(Appendable out) throws IOException {
+        Objects.requireNonNull(out, "out");
+        out.append(CSV_HEADER).append('\n');
+        for (QuotaUsage entry : usage) {
+            out.append(entry.day().toString()).append(',');
+            appendCsvField(out, entry.tenant());
+            out.append(',');
+            appendCsvField(out, entry.operation());
+            out.append(',').append(Long.toString(entry.calls()))
+                .append(',').append(Long.toString(entry.rejected()))
+                .append('\n');
+        }
+    }
+
+    private static void appendCsvField(Appendable out, String value) throws IOException {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            out.append(value);
+            return;
+        }
+        out.append('"').append(value.replace("\"", "\"\"")).append('"');
+    }
+}
@@ -0,0 +1,27 @@
+package com.williamcallahan.applemaps.adapters.quota;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Calls one tenant made to one operation during one daily window.
+ */
+public record QuotaUsage(LocalDate day, String tenant, String operation, long calls, long rejected) {
+    /**
+     * Canonical constructor that validates required fields and counts.
+     *
+     * @param day the daily window
+     * @param tenant tenant key
+     * @param operation operation name, e.g. {@code geocode}
+     * @param calls calls admitted against the budget
+     * @param rejected calls refused because the budget was exhausted
+     */
+    public QuotaUsage {
+        Objects.requireNonNull(day, "day");
+        Objects.requireNonNull(tenant, "tenant");
+        Objects.requireNonNull(operation, "operation");
+        if (calls < 0 || rejected < 0) {
+            throw new IllegalArgumentException("calls and rejected must not be negative.");
+        }
+    }
+}
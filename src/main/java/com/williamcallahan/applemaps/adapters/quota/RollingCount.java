@@ -0,0 +1,56 @@
+package com.williamcallahan.applemaps.adapters.quota;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Calls admitted for one tenant over a rolling 24 hours, kept in hourly buckets.
+ *
+ * <p>A call is counted from its hour until the 25th hour after it begins, so no 24-hour period, wherever it
+ * starts, holds more calls than the budget; a call stops counting between 24 and 25 hours after it was made.
+ * Admission is a compare-and-set loop on the total, so concurrent calls for the last unit of budget admit
+ * exactly one of them. Buckets are cleared as hours pass, under this object's lock.</p>
+ */
+final class RollingCount {
+    static final long HOUR_MILLIS = 3_600_000L;
+    private static final int BUCKETS = 25;
+    private static final long NO_HOUR = Long.MIN_VALUE;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final AtomicLong admitted = new AtomicLong();
+    private volatile long currentHour = NO_HOUR;
+
+    /**
+     * Admits one call if fewer than the budget were admitted in the window ending at the given hour.
+     *
+     * @param budget calls allowed in the window
+     * @param hour hours since the epoch
+     * @return whether the call was admitted
+     */
+    boolean tryAdmit(long budget, long hour) {
+        if (hour > currentHour) {
+            advance(hour);
+        }
+        long count;
+        do {
+            count = admitted.get();
+            if (count >= budget) {
+                return false;
+            }
+        } while (!admitted.compareAndSet(count, count + 1));
+        buckets.incrementAndGet(Math.floorMod(hour, BUCKETS));
+        return true;
+    }
+
+    private synchronized void advance(long hour) {
+        long current = currentHour;
+        if (hour <= current) {
+            return;
+        }
+        long from = current == NO_HOUR ? hour : Math.max(current + 1, hour - BUCKETS + 1);
+        for (long expired = from; expired <= hour; expired++) {
+            admitted.addAndGet(-buckets.getAndSet(Math.floorMod(expired, BUCKETS), 0L));
+        }
+        currentHour = hour;
+    }
+}
@@ -0,0 +1,25 @@
+package com.williamcallahan.applemaps.adapters.quota;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Counts for one tenant on one day.
+ */
+record TenantUsage(Map<String, OperationCounts> operations) {
+    TenantUsage() {
+        this(new ConcurrentHashMap<>());
+    }
+
+    void count(String operation) {
+        operation(operation).countCall();
+    }
+
+    void reject(String operation) {
+        operation(operation).countRejection();
+    }
+
+    private OperationCounts operation(String operation) {
+        return operations.computeIfAbsent(operation, ignored -> new OperationCounts());
+    }
+}
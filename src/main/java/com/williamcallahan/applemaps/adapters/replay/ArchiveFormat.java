@@ -0,0 +1,69 @@
+package com.williamcallahan.applemaps.adapters.replay;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.URI;
+
+/**
+ * Layout of a traffic archive: a gzip stream holding a 4-byte magic, a format version and then one entry per
+ * exchange until end of stream. Each entry is the operation and request target as modified UTF-8, the status
+ * as an int, the response time in nanoseconds as a long and the body as an int length followed by its bytes.
+ */
+final class ArchiveFormat {
+    private static final int MAGIC = 0x414d5241;
+    private static final int VERSION = 1;
+
+    private ArchiveFormat() {
+    }
+
+    static void writeHeader(DataOutputStream out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+    }
+
+    static void readHeader(DataInputStream in) throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a traffic archive.");
+        }
+        int version = in.readInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported traffic archive version " + version + ".");
+        }
+    }
+
+    static void writeEntry(DataOutputStream out, RecordedExchange exchange) throws IOException {
+        out.writeUTF(exchange.operation());
+        out.writeUTF(exchange.requestTarget());
+        out.writeInt(exchange.statusCode());
+        out.writeLong(exchange.responseNanos());
+        out.writeInt(exchange.body().length);
+        out.write(exchange.body());
+    }
+
+    /**
+     * Reads the next entry.
+     *
+     * @return the entry, or {@code null} at end of stream
+     */
+    static RecordedExchange readEntry(DataInputStream in) throws IOException {
+        String operation;
+        try {
+            operation = in.readUTF();
+        } catch (EOFException endOfArchive) {
+            return null;
+        }
+        String requestTarget = in.readUTF();
+        int statusCode = in.readInt();
+        long responseNanos = in.readLong();
+        byte[] body = new byte[in.readInt()];
+        in.readFully(body);
+        return new RecordedExchange(operation, requestTarget, statusCode, responseNanos, body);
+    }
+
+    static String requestTarget(URI uri) {
+        String query = uri.getRawQuery();
+        return query == null ? uri.getRawPath() : uri.getRawPath() + '?' + query;
+    }
+}
@@ -0,0 +1,44 @@
+package com.williamcallahan.applemaps.adapters.replay;
+
+import java.util.Objects;
+
+/**
+ * One recorded network exchange: the request it answered and the raw response.
+ *
+ * <p>The body array is shared, not copied.</p>
+ */
+public record RecordedExchange(String operation, String requestTarget, int statusCode, long responseNanos, byte[] body) {
+    /**
+     * Canonical constructor that validates required fields.
+     *
+     * @param operation operation name, e.g. {@code geocode}
+     * @param requestTarget request path and query string, without scheme or host
+     * @param statusCode HTTP status
+     * @param responseNanos time from sending the request until the body was fully read
+     * @param body response body
+     */
+    public RecordedExchange {
+        Objects.requireNonNull(operation, "operation");
+        Objects.requireNonNull(requestTarget, "requestTarget");
+        if (statusCode < 100 || statusCode > 599) {
+            throw new IllegalArgumentException("statusCode must be between 100 and 599.");
+        }
+        if (responseNanos < 0) {
+            throw new IllegalArgumentException("responseNanos must not be negative.");
+        }
+        Objects.requireNonNull(body, "body");
+    }
+
+    /**
+     * Returns the key replay uses to find responses for a request.
+     *
+     * @return operation and request target
+     */
+    public String key() {
+        return key(operation, requestTarget);
+    }
+
+    static String key(String operation, String requestTarget) {
+        return operation + ' ' + requestTarget;
+    }
+}
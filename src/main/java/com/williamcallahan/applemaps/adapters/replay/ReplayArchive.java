@@ -0,0 +1,120 @@
+package com.williamcallahan.applemaps.adapters.replay;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.net.http.HttpHeaders;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import com.williamcallahan.applemaps.adapters.mapsserver.ApiInterceptor;
+import com.williamcallahan.applemaps.adapters.mapsserver.ApiResponse;
+import com.williamcallahan.applemaps.adapters.mapsserver.HttpAppleMapsGateway;
+import com.williamcallahan.applemaps.adapters.mapsserver.HttpGatewayOptions;
+
+/**
+ * Exchanges loaded from a traffic archive written by {@link TrafficRecorder}, served back without a network.
+ *
+ * <p>A request recorded several times is answered with its recordings in turn, wrapping around, so a replay
+ * sees the same mix of responses, including errors, as the recording. A request that was never recorded
+ * fails with an {@link IOException}.</p>
+ */
+public final class ReplayArchive {
+    private static final String REPLAY_AUTH_TOKEN = "replay";
+    private static final HttpHeaders NO_HEADERS = HttpHeaders.of(Map.of(), (name, value) -> true);
+
+    private final List<RecordedExchange> exchanges;
+    private final Map<String, Recordings> recordingsByKey = new LinkedHashMap<>();
+
+    private ReplayArchive(List<RecordedExchange> exchanges) {
+        this.exchanges = List.copyOf(exchanges);
+        for (RecordedExchange exchange : this.exchanges) {
+            recordingsByKey.computeIfAbsent(exchange.key(), ignored -> new Recordings()).exchanges.add(exchange);
+        }
+    }
+
+    /**
+     * Loads an archive file.
+     *
+     * @param archive archive file
+     * @return the loaded archive
+     * @throws IOException if the file cannot be read or is not a traffic archive
+     */
+    public static ReplayArchive read(Path archive) throws IOException {
+        Objects.requireNonNull(archive, "archive");
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+            new GZIPInputStream(Files.newInputStream(archive))))) {
+            ArchiveFormat.readHeader(in);
+            List<RecordedExchange> exchanges = new ArrayList<>();
+            RecordedExchange exchange;
+            while ((exchange = ArchiveFormat.readEntry(in)) != null) {
+                exchanges.add(exchange);
+            }
+            return new ReplayArchive(exchanges);
+        }
+    }
+
+    /**
+     * Returns every recorded exchange in the order it completed.
+     *
+     * @return the exchanges
+     */
+    public List<RecordedExchange> exchanges() {
+        return exchanges;
+    }
+
+    /**
+     * Returns an interceptor that answers every call from the archive and never proceeds to the network.
+     *
+     * @param simulateLatency whether to wait for each exchange's recorded response time before answering
+     * @return the interceptor
+     */
+    public ApiInterceptor replayer(boolean simulateLatency) {
+        return (call, chain) -> {
+            String requestTarget = ArchiveFormat.requestTarget(call.uri());
+            Recordings recordings = recordingsByKey.get(RecordedExchange.key(call.operation(), requestTarget));
+            if (recordings == null) {
+                throw new IOException("No recorded response for " + call.operation() + " " + requestTarget);
+            }
+            RecordedExchange exchange = recordings.next();
+            if (!simulateLatency) {
+                return new ApiResponse(exchange.statusCode(), NO_HEADERS, exchange.body(), 0L);
+            }
+            TimeUnit.NANOSECONDS.sleep(exchange.responseNanos());
+            return new ApiResponse(exchange.statusCode(), NO_HEADERS, exchange.body(), exchange.responseNanos());
+        };
+    }
+
+    /**
+     * Creates a gateway that answers from the archive. Interceptors already added to the options, such as
+     * caches or schedulers under test, run in front of the replay; no token exchange takes place.
+     *
+     * @param options gateway options; the replay interceptor is appended last
+     * @param simulateLatency whether to wait for each exchange's recorded response time before answering
+     * @return the gateway
+     */
+    public HttpAppleMapsGateway gateway(HttpGatewayOptions.Builder options, boolean simulateLatency) {
+        Objects.requireNonNull(options, "options");
+        return new HttpAppleMapsGateway(REPLAY_AUTH_TOKEN, options.interceptor(replayer(simulateLatency)).build());
+    }
+
+    /**
+     * Recordings of one request, answered in turn.
+     */
+    private static final class Recordings {
+        private final List<RecordedExchange> exchanges = new ArrayList<>();
+        private final AtomicInteger nextIndex = new AtomicInteger();
+
+        RecordedExchange next() {
+            return exchanges.get(Math.floorMod(nextIndex.getAndIncrement(), exchanges.size()));
+        }
+    }
+}
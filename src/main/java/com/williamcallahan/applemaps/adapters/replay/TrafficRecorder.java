@@ -0,0 +1,98 @@
+package com.williamcallahan.applemaps.adapters.replay;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.zip.GZIPOutputStream;
+
+import com.williamcallahan.applemaps.adapters.mapsserver.ApiCall;
+import com.williamcallahan.applemaps.adapters.mapsserver.ApiInterceptor;
+import com.williamcallahan.applemaps.adapters.mapsserver.ApiResponse;
+
+/**
+ * Interceptor that writes every exchange passing through it, with its raw response body and response time, to
+ * a traffic archive that {@link ReplayArchive} can serve back.
+ *
+ * <p>Add it as the last interceptor so it records exactly what the Maps Server returned. Requests are keyed
+ * by operation, path and query string, without the host, so an archive recorded against one server replays
+ * for any other. Close the recorder to finish the archive.</p>
+ */
+public final class TrafficRecorder implements ApiInterceptor, AutoCloseable {
+    private final DataOutputStream out;
+    private long recorded;
+    private boolean closed;
+
+    private TrafficRecorder(DataOutputStream out) {
+        this.out = out;
+    }
+
+    /**
+     * Creates or replaces an archive file and starts recording into it.
+     *
+     * @param archive archive file
+     * @return the recorder
+     * @throws IOException if the file cannot be written
+     */
+    public static TrafficRecorder open(Path archive) throws IOException {
+        Objects.requireNonNull(archive, "archive");
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+            new GZIPOutputStream(Files.newOutputStream(archive))));
+        try {
+            ArchiveFormat.writeHeader(out);
+        } catch (IOException exception) {
+            out.close();
+            throw exception;
+        }
+        return new TrafficRecorder(out);
+    }
+
+    @Override
+    public ApiResponse intercept(ApiCall call, Chain chain) throws IOException, InterruptedException {
+        ApiResponse response = chain.proceed(call);
+        record(new RecordedExchange(
+            call.operation(),
+            ArchiveFormat.requestTarget(call.uri()),
+            response.statusCode(),
+            response.responseNanos(),
+            response.body()
+        ));
+        return response;
+    }
+
+    /**
+     * Returns the number of exchanges recorded so far.
+     *
+     * @return the count
+     */
+    public synchronized long recorded() {
+        return recorded;
+    }
+
+    /**
+     * Finishes and closes the archive; exchanges completing afterwards pass through unrecorded.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            out.close();
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private synchronized void record(RecordedExchange exchange) throws IOException {
+        if (closed) {
+            return;
+        }
+        ArchiveFormat.writeEntry(out, exchange);
+        recorded++;
+    }
+}
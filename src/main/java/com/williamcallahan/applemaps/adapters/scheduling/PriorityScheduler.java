@@ -0,0 +1,314 @@
+package com.williamcallahan.applemaps.adapters.scheduling;
+
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.williamcallahan.applemaps.adapters.mapsserver.ApiInterceptor;
+import com.williamcallahan.applemaps.adapters.mapsserver.RequestPriority;
+
+/**
+ * Shares a fixed number of concurrent calls between {@link RequestPriority} classes.
+ *
+ * <p>Each class may reserve slots that only it can use; the remaining slots are shared. When a slot frees up,
+ * waiting calls are admitted in weighted-fair order: each class advances a virtual clock by
+ * {@code 1 / weight} per admitted call and the class with the earliest clock goes next, so with weights 8 and
+ * 1 interactive calls get eight shared slots for every batch call while both are waiting. Batch traffic
+ * therefore backs off as interactive load rises and takes the spare capacity back when it falls. A class
+ * that was idle rejoins at the current virtual time instead of spending credit saved while idle.</p>
+ *
+ * <p>Calls wait at most until their deadline or the scheduler's queue wait, then fail with an
+ * {@code AppleMapsClientException} caused by an {@link HttpTimeoutException}.</p>
+ */
+public final class PriorityScheduler {
+    private final Duration maxQueueWait;
+    private final int sharedSlots;
+    private final Map<RequestPriority, PriorityClass> classes = new EnumMap<>(RequestPriority.class);
+    private final ReentrantLock lock = new ReentrantLock();
+    private int sharedInFlight;
+    private double virtualTime;
+
+    private PriorityScheduler(Builder builder) {
+        this.maxQueueWait = builder.maxQueueWait;
+        int reservedSlots = 0;
+        for (RequestPriority priority : RequestPriority.values()) {
+            int reserved = builder.reservations.getOrDefault(priority, 0);
+            reservedSlots += reserved;
+            classes.put(priority, new PriorityClass(reserved, 1.0 / builder.weights.get(priority)));
+        }
+        if (reservedSlots > builder.maxConcurrency) {
+            throw new IllegalArgumentException("Reservations must not exceed maxConcurrency.");
+        }
+        this.sharedSlots = builder.maxConcurrency - reservedSlots;
+    }
+
+    /**
+     * Creates a builder for 16 concurrent calls, no reservations, weights of 8, 4 and 1 for interactive, normal
+     * and batch calls and a 30 second queue wait.
+     *
+     * @return a builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns an interceptor that holds a slot for the class named in each call's
+     * {@link com.williamcallahan.applemaps.adapters.mapsserver.CallOptions}, or {@link RequestPriority#NORMAL},
+     * while the rest of the chain runs. Add it first so retries and hedges run inside one slot.
+     *
+     * @return the interceptor
+     */
+    public ApiInterceptor interceptor() {
+        return (call, chain) -> {
+            RequestPriority priority = call.options().priority().orElse(RequestPriority.NORMAL);
+            acquire(priority, call.options().deadline());
+            try {
+                return chain.proceed(call);
+            } finally {
+                release(priority);
+            }
+        };
+    }
+
+    /**
+     * Returns the number of admitted calls of a class that have not completed.
+     *
+     * @param priority the class
+     * @return the in-flight count
+     */
+    public int inFlight(RequestPriority priority) {
+        lock.lock();
+        try {
+            return classes.get(Objects.requireNonNull(priority, "priority")).inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of calls of a class waiting for a slot.
+     *
+     * @param priority the class
+     * @return the waiting count
+     */
+    public int waiting(RequestPriority priority) {
+        lock.lock();
+        try {
+            return classes.get(Objects.requireNonNull(priority, "priority")).waiters.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void acquire(RequestPriority priority, Optional<Instant> deadline)
+        throws HttpTimeoutException, InterruptedException {
+        PriorityClass priorityClass = classes.get(priority);
+        Instant waitUntil = Instant.now().plus(maxQueueWait);
+        if (deadline.isPresent() && deadline.get().isBefore(waitUntil)) {
+            waitUntil = deadline.get();
+        }
+        lock.lock();
+        try {
+            if (priorityClass.waiters.isEmpty() && hasSlot(priorityClass)) {
+                admit(priorityClass);
+                return;
+            }
+            if (priorityClass.waiters.isEmpty()) {
+                priorityClass.pass = Math.max(priorityClass.pass, virtualTime);
+            }
+            Waiter waiter = new Waiter(lock.newCondition());
+            priorityClass.waiters.addLast(waiter);
+            try {
+                long remainingNanos = Duration.between(Instant.now(), waitUntil).toNanos();
+                while (!waiter.admitted) {
+                    if (remainingNanos <= 0L) {
+                        priorityClass.waiters.remove(waiter);
+                        throw new HttpTimeoutException("No " + priority + " slot became available before the deadline.");
+                    }
+                    remainingNanos = waiter.admittedCondition.awaitNanos(remainingNanos);
+                }
+            } catch (InterruptedException exception) {
+                if (waiter.admitted) {
+                    releaseLocked(priorityClass);
+                } else {
+                    priorityClass.waiters.remove(waiter);
+                }
+                throw exception;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void release(RequestPriority priority) {
+        lock.lock();
+        try {
+            releaseLocked(classes.get(priority));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void releaseLocked(PriorityClass priorityClass) {
+        priorityClass.inFlight--;
+        if (priorityClass.inFlight >= priorityClass.reserved) {
+            sharedInFlight--;
+        }
+        dispatch();
+    }
+
+    private void dispatch() {
+        while (true) {
+            PriorityClass next = null;
+            for (PriorityClass candidate : classes.values()) {
+                if (!candidate.waiters.isEmpty() && hasSlot(candidate) && (next == null || candidate.pass < next.pass)) {
+                    next = candidate;
+                }
+            }
+            if (next == null) {
+                return;
+            }
+            Waiter waiter = next.waiters.pollFirst();
+            virtualTime = next.pass;
+            next.pass += next.stride;
+            admit(next);
+            waiter.admitted = true;
+            waiter.admittedCondition.signal();
+        }
+    }
+
+    private boolean hasSlot(PriorityClass priorityClass) {
+        return priorityClass.inFlight < priorityClass.reserved || sharedInFlight < sharedSlots;
+    }
+
+    private void admit(PriorityClass priorityClass) {
+        if (priorityClass.inFlight >= priorityClass.reserved) {
+            sharedInFlight++;
+        }
+        priorityClass.inFlight++;
+    }
+
+    /**
+     * Slots, queue and virtual clock of one priority class; guarded by the scheduler lock.
+     */
+    private static final class PriorityClass {
+        private final int reserved;
+        private final double stride;
+        private final ArrayDeque<Waiter> waiters = new ArrayDeque<>();
+        private int inFlight;
+        private double pass;
+
+        PriorityClass(int reserved, double stride) {
+            this.reserved = reserved;
+            this.stride = stride;
+        }
+    }
+
+    /**
+     * One queued call; guarded by the scheduler lock.
+     */
+    private static final class Waiter {
+        private final Condition admittedCondition;
+        private boolean admitted;
+
+        Waiter(Condition admittedCondition) {
+            this.admittedCondition = admittedCondition;
+        }
+    }
+
+    /**
+     * Builder for {@link PriorityScheduler}.
+     */
+    public static final class Builder {
+        private int maxConcurrency = 16;
+        private Duration maxQueueWait = Duration.ofSeconds(30);
+        private final Map<RequestPriority, Integer> reservations = new EnumMap<>(RequestPriority.class);
+        private final Map<RequestPriority, Integer> weights = new EnumMap<>(Map.of(
+            RequestPriority.INTERACTIVE, 8,
+            RequestPriority.NORMAL, 4,
+            RequestPriority.BATCH, 1
+        ));
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the total number of concurrent calls.
+         *
+         * @param maxConcurrency positive slot count
+         * @return this builder
+         */
+        public Builder maxConcurrency(int maxConcurrency) {
+            if (maxConcurrency < 1) {
+                throw new IllegalArgumentException("maxConcurrency must be positive.");
+            }
+            this.maxConcurrency = maxConcurrency;
+            return this;
+        }
+
+        /**
+         * Reserves slots that only one class can use.
+         *
+         * @param priority the class
+         * @param slots non-negative slot count
+         * @return this builder
+         */
+        public Builder reserve(RequestPriority priority, int slots) {
+            Objects.requireNonNull(priority, "priority");
+            if (slots < 0) {
+                throw new IllegalArgumentException("slots must not be negative.");
+            }
+            reservations.put(priority, slots);
+            return this;
+        }
+
+        /**
+         * Sets a class's share of shared slots relative to other waiting classes.
+         *
+         * @param priority the class
+         * @param weight positive weight
+         * @return this builder
+         */
+        public Builder weight(RequestPriority priority, int weight) {
+            Objects.requireNonNull(priority, "priority");
+            if (weight < 1) {
+                throw new IllegalArgumentException("weight must be positive.");
+            }
+            weights.put(priority, weight);
+            return this;
+        }
+
+        /**
+         * Sets how long a call may wait for a slot when its own deadline is later or absent.
+         *
+         * @param maxQueueWait non-negative wait
+         * @return this builder
+         */
+        public Builder maxQueueWait(Duration maxQueueWait) {
+            Objects.requireNonNull(maxQueueWait, "maxQueueWait");
+            if (maxQueueWait.isNegative()) {
+                throw new IllegalArgumentException("maxQueueWait must not be negative.");
+            }
+            this.maxQueueWait = maxQueueWait;
+            return this;
+        }
+
+        /**
+         * Builds a validated {@link PriorityScheduler}.
+         *
+         * @return a scheduler
+         * @throws IllegalArgumentException if the reservations exceed the total concurrency
+         */
+        public PriorityScheduler build() {
+            return new PriorityScheduler(this);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.williamcallahan.applemaps.adapters.searchcache;
+
+import java.util.Optional;
+
+import com.williamcallahan.applemaps.domain.model.SearchMapRegion;
+import com.williamcallahan.applemaps.domain.model.SearchRegion;
+
+/**
+ * A search region's bounds, with the east edge shifted past 180 degrees when the region crosses the
+ * antimeridian so that longitude containment is a plain interval test.
+ */
+record RegionBounds(double north, double east, double south, double west) {
+    private static final int COORDINATE_COUNT = 4;
+    private static final double FULL_TURN_DEGREES = 360.0;
+
+    /**
+     * Parses the {@code north,east,south,west} bounds of a search region.
+     *
+     * @return the bounds, or empty when the region is malformed
+     */
+    static Optional<RegionBounds> parse(SearchRegion region) {
+        String[] coordinates = region.coordinateBounds().split(",", -1);
+        if (coordinates.length != COORDINATE_COUNT) {
+            return Optional.empty();
+        }
+        try {
+            return of(Double.parseDouble(coordinates[0]), Double.parseDouble(coordinates[1]),
+                Double.parseDouble(coordinates[2]), Double.parseDouble(coordinates[3]));
+        } catch (NumberFormatException exception) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Creates bounds from edges in decimal degrees.
+     *
+     * @return the bounds, or empty when an edge is out of range or south is north of north
+     */
+    static Optional<RegionBounds> of(double north, double east, double south, double west) {
+        if (!(south >= -90.0 && north <= 90.0 && south <= north)
+            || !(west >= -180.0 && west <= 180.0 && east >= -180.0 && east <= 180.0)) {
+            return Optional.empty();
+        }
+        return Optional.of(new RegionBounds(north, east < west ? east + FULL_TURN_DEGREES : east, south, west));
+    }
+
+    boolean contains(RegionBounds other) {
+        if (other.south < south || other.north > north) {
+            return false;
+        }
+        return containsLongitudes(other.west, other.east)
+            || containsLongitudes(other.west + FULL_TURN_DEGREES, other.east + FULL_TURN_DEGREES)
+            || containsLongitudes(other.west - FULL_TURN_DEGREES, other.east - FULL_TURN_DEGREES);
+    }
+
+    boolean contains(double latitude, double longitude) {
+        return latitude >= south && latitude <= north
+            && (containsLongitudes(longitude, longitude)
+                || containsLongitudes(longitude + FULL_TURN_DEGREES, longitude + FULL_TURN_DEGREES));
+    }
+
+    SearchMapRegion toSearchMapRegion() {
+        return new SearchMapRegion(north, east > 180.0 ? east - FULL_TURN_DEGREES : east, south, west);
+    }
+
+    private boolean containsLongitudes(double otherWest, double otherEast) {
+        return otherWest >= west && otherEast <= east;
+    }
+}
@@ -0,0 +1,311 @@
+package com.williamcallahan.applemaps.adapters.searchcache;
+
+import java.text.Normalizer;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+import com.williamcallahan.applemaps.domain.model.PaginationInfo;
+import com.williamcallahan.applemaps.domain.model.SearchRegionPriority;
+import com.williamcallahan.applemaps.domain.model.SearchResponse;
+import com.williamcallahan.applemaps.domain.model.SearchResponsePlace;
+import com.williamcallahan.applemaps.domain.request.SearchInput;
+
+/**
+ * Answers region-restricted searches from earlier searches over a larger region.
+ *
+ * <p>Only searches whose {@code searchRegionPriority} is {@code required} take part: the API then returns
+ * only places inside the region, so a complete result page for a region also holds every result for any
+ * region inside it. A later search with the same query, filters, language and locations, whose region lies
+ * inside a cached one, is answered by keeping the cached results inside the new region, in their cached
+ * order. Queries match after Unicode normalization, case folding and whitespace collapsing.</p>
+ *
+ * <p>Only searches with {@code enablePagination} set to {@code true} take part, because without pagination
+ * the API returns a capped first page with no sign that results were left out. A response is cached only when
+ * it is complete: it has pagination info, no next page, and a total result count no greater than the results
+ * returned. Requests for a specific page are never cached. A region inside one already cached
+ * for the same search is not stored again; storing a larger region drops the smaller ones it covers. Entries
+ * expire after a fixed time and the least recently used entries are evicted above the size limit.</p>
+ */
+public final class SearchRegionCache {
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final int maxEntries;
+    private final Duration timeToLive;
+    private final Clock clock;
+    private final Map<String, List<Entry>> entriesBySearch = new HashMap<>();
+    private final LinkedHashSet<Entry> recency = new LinkedHashSet<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private SearchRegionCache(Builder builder) {
+        this.maxEntries = builder.maxEntries;
+        this.timeToLive = builder.timeToLive;
+        this.clock = builder.clock;
+    }
+
+    /**
+     * Creates a builder for a cache of 1,000 regions kept for 10 minutes.
+     *
+     * @return a builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the cached results for a search, if a cached region contains the search region.
+     *
+     * @param input the search
+     * @return the results inside the search region, or empty on a miss or when the search cannot be cached
+     */
+    public Optional<SearchResponse> lookup(SearchInput input) {
+        Optional<CacheKey> key = key(Objects.requireNonNull(input, "input"));
+        if (key.isEmpty()) {
+            return Optional.empty();
+        }
+        Entry containing = findContaining(key.get());
+        if (containing == null) {
+            misses.increment();
+            return Optional.empty();
+        }
+        hits.increment();
+        RegionBounds region = key.get().region();
+        List<SearchResponsePlace> results = new ArrayList<>();
+        for (SearchResponsePlace place : containing.response.results()) {
+            if (region.contains(place.coordinate().latitude(), place.coordinate().longitude())) {
+                results.add(place);
+            }
+        }
+        return Optional.of(new SearchResponse(Optional.of(region.toSearchMapRegion()), Optional.empty(), results));
+    }
+
+    /**
+     * Caches the response to a search, if the search and response are cacheable.
+     *
+     * @param input the search
+     * @param response the API response
+     * @return whether the response was stored
+     */
+    public boolean store(SearchInput input, SearchResponse response) {
+        Objects.requireNonNull(response, "response");
+        Optional<CacheKey> key = key(Objects.requireNonNull(input, "input"));
+        if (key.isEmpty() || !isComplete(response)) {
+            return false;
+        }
+        RegionBounds region = key.get().region();
+        Instant now = clock.instant();
+        synchronized (this) {
+            List<Entry> entries = entriesBySearch.computeIfAbsent(key.get().search(), ignored -> new ArrayList<>());
+            Iterator<Entry> iterator = entries.iterator();
+            while (iterator.hasNext()) {
+                Entry entry = iterator.next();
+                if (entry.expiresAt.isAfter(now) && entry.region.contains(region)) {
+                    return false;
+                }
+                if (!entry.expiresAt.isAfter(now) || region.contains(entry.region)) {
+                    iterator.remove();
+                    recency.remove(entry);
+                }
+            }
+            Entry entry = new Entry(key.get().search(), region, response, now.plus(timeToLive));
+            entries.add(entry);
+            recency.add(entry);
+            while (recency.size() > maxEntries) {
+                evict(recency.iterator().next());
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Returns the number of cacheable lookups answered from the cache.
+     *
+     * @return the hit count
+     */
+    public long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of cacheable lookups that found no containing region.
+     *
+     * @return the miss count
+     */
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the number of cached regions, including expired ones not yet removed.
+     *
+     * @return the entry count
+     */
+    public synchronized int size() {
+        return recency.size();
+    }
+
+    /**
+     * Removes every cached region.
+     */
+    public synchronized void clear() {
+        entriesBySearch.clear();
+        recency.clear();
+    }
+
+    private synchronized Entry findContaining(CacheKey key) {
+        List<Entry> entries = entriesBySearch.get(key.search());
+        if (entries == null) {
+            return null;
+        }
+        Instant now = clock.instant();
+        Entry containing = null;
+        for (Entry entry : List.copyOf(entries)) {
+            if (!entry.expiresAt.isAfter(now)) {
+                evict(entry);
+            } else if (containing == null && entry.region.contains(key.region())) {
+                containing = entry;
+            }
+        }
+        if (containing != null) {
+            recency.remove(containing);
+            recency.add(containing);
+        }
+        return containing;
+    }
+
+    private void evict(Entry entry) {
+        recency.remove(entry);
+        List<Entry> entries = entriesBySearch.get(entry.search);
+        if (entries != null) {
+            entries.remove(entry);
+            if (entries.isEmpty()) {
+                entriesBySearch.remove(entry.search);
+            }
+        }
+    }
+
+    private static Optional<CacheKey> key(SearchInput input) {
+        if (input.searchRegion().isEmpty() || input.pageToken().isPresent()
+            || !input.enablePagination().orElse(false)
+            || input.searchRegionPriority().orElse(SearchRegionPriority.DEFAULT) != SearchRegionPriority.REQUIRED) {
+            return Optional.empty();
+        }
+        return RegionBounds.parse(input.searchRegion().get()).map(region -> new CacheKey(search(input), region));
+    }
+
+    /**
+     * Returns the canonical query string of a search without its region, with the query text normalized.
+     */
+    private static String search(SearchInput input) {
+        String query = Normalizer.normalize(input.q(), Normalizer.Form.NFKC).toLowerCase(Locale.ROOT).strip();
+        return new SearchInput(WHITESPACE.matcher(query).replaceAll(" "), input.excludePoiCategories(),
+            input.includePoiCategories(), input.limitToCountries(), input.resultTypeFilter(),
+            input.includeAddressCategories(), input.excludeAddressCategories(), input.language(),
+            input.searchLocation(), Optional.empty(), input.userLocation(), Optional.empty(),
+            input.enablePagination(), Optional.empty()).toQueryString();
+    }
+
+    private static boolean isComplete(SearchResponse response) {
+        if (response.paginationInfo().isEmpty()) {
+            return false;
+        }
+        PaginationInfo pagination = response.paginationInfo().get();
+        return pagination.nextPageToken().isEmpty() && pagination.totalResults() <= response.results().size();
+    }
+
+    /**
+     * A cacheable search: everything but its region, and its region.
+     */
+    private record CacheKey(String search, RegionBounds region) {
+    }
+
+    /**
+     * One cached response; compared by identity so equal responses for different regions stay distinct.
+     */
+    private static final class Entry {
+        private final String search;
+        private final RegionBounds region;
+        private final SearchResponse response;
+        private final Instant expiresAt;
+
+        Entry(String search, RegionBounds region, SearchResponse response, Instant expiresAt) {
+            this.search = search;
+            this.region = region;
+            this.response = response;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    /**
+     * Builder for {@link SearchRegionCache}.
+     */
+    public static final class Builder {
+        private int maxEntries = 1_000;
+        private Duration timeToLive = Duration.ofMinutes(10);
+        private Clock clock = Clock.systemUTC();
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the number of cached regions above which the least recently used are evicted.
+         *
+         * @param maxEntries positive entry count
+         * @return this builder
+         */
+        public Builder maxEntries(int maxEntries) {
+            if (maxEntries < 1) {
+                throw new IllegalArgumentException("maxEntries must be positive.");
+            }
+            this.maxEntries = maxEntries;
+            return this;
+        }
+
+        /**
+         * Sets how long a cached region answers searches.
+         *
+         * @param timeToLive positive duration
+         * @return this builder
+         */
+        public Builder timeToLive(Duration timeToLive) {
+            Objects.requireNonNull(timeToLive, "timeToLive");
+            if (timeToLive.isNegative() || timeToLive.isZero()) {
+                throw new IllegalArgumentException("timeToLive must be positive.");
+            }
+            this.timeToLive = timeToLive;
+            return this;
+        }
+
+        /**
+         * Sets the clock used for expiry.
+         *
+         * @param clock the clock
+         * @return this builder
+         */
+        public Builder clock(Clock clock) {
+            this.clock = Objects.requireNonNull(clock, "clock");
+            return this;
+        }
+
+        /**
+         * Builds a validated {@link SearchRegionCache}.
+         *
+         * @return a cache
+         */
+        public SearchRegionCache build() {
+            return new SearchRegionCache(this);
+        }
+    }
+}
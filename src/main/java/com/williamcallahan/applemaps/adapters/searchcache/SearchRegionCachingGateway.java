@@ -0,0 +1,56 @@
+package com.williamcallahan.applemaps.adapters.searchcache;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import com.williamcallahan.applemaps.domain.model.PlaceProjection;
+import com.williamcallahan.applemaps.domain.model.ProjectedPlaceResults;
+import com.williamcallahan.applemaps.domain.model.SearchResponse;
+import com.williamcallahan.applemaps.domain.port.AppleMapsGateway;
+import com.williamcallahan.applemaps.domain.port.ForwardingAppleMapsGateway;
+import com.williamcallahan.applemaps.domain.request.SearchInput;
+
+/**
+ * Gateway decorator that answers searches from a {@link SearchRegionCache} when it can and caches the
+ * responses of the searches it forwards.
+ *
+ * <pre>{@code
+ * SearchRegionCache cache = SearchRegionCache.builder().build();
+ * AppleMaps maps = new AppleMaps(new SearchRegionCachingGateway(new HttpAppleMapsGateway(token, timeout), cache));
+ * }</pre>
+ */
+public final class SearchRegionCachingGateway extends ForwardingAppleMapsGateway {
+    private final SearchRegionCache cache;
+
+    /**
+     * Creates a gateway that caches the searches of another.
+     *
+     * @param delegate gateway that performs the calls; closed with this gateway
+     * @param cache cache to answer from and store into
+     */
+    public SearchRegionCachingGateway(AppleMapsGateway delegate, SearchRegionCache cache) {
+        super(delegate);
+        this.cache = Objects.requireNonNull(cache, "cache");
+    }
+
+    @Override
+    public SearchResponse search(SearchInput input) {
+        Optional<SearchResponse> cached = cache.lookup(input);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        SearchResponse response = delegate().search(input);
+        cache.store(input, response);
+        return response;
+    }
+
+    /**
+     * Answers from the cache when a cached region contains the search region; otherwise forwards the projected
+     * search, whose response is not cached because it lacks the coordinates needed to filter it.
+     */
+    @Override
+    public ProjectedPlaceResults search(SearchInput input, PlaceProjection projection) {
+        Optional<SearchResponse> cached = cache.lookup(input);
+        return cached.isPresent() ? projection.project(cached.get()) : delegate().search(input, projection);
+    }
+}
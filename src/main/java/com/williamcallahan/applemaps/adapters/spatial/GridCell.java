@@ -0,0 +1,77 @@
+package com.williamcallahan.applemaps.adapters.spatial;
+
+import java.util.Arrays;
+
+/**
+ * The places of one {@link PlaceIndex} grid cell, with their coordinates packed into primitive arrays so a
+ * query can reject most of them without touching the place records.
+ *
+ * <p>Cells are immutable: updates build a new cell and swap it in, so readers never see a half-applied
+ * change and never lock.</p>
+ */
+final class GridCell {
+    static final GridCell EMPTY = new GridCell(new double[0], new double[0], new IndexedPlace[0]);
+
+    final double[] latitudes;
+    final double[] longitudes;
+    final IndexedPlace[] places;
+
+    private GridCell(double[] latitudes, double[] longitudes, IndexedPlace[] places) {
+        this.latitudes = latitudes;
+        this.longitudes = longitudes;
+        this.places = places;
+    }
+
+    int size() {
+        return places.length;
+    }
+
+    /**
+     * Returns a copy of this cell holding {@code place} in place of any entry with the same key.
+     */
+    GridCell with(IndexedPlace place) {
+        int slot = indexOf(place.key());
+        int size = places.length;
+        double[] newLatitudes = Arrays.copyOf(latitudes, slot < 0 ? size + 1 : size);
+        double[] newLongitudes = Arrays.copyOf(longitudes, newLatitudes.length);
+        IndexedPlace[] newPlaces = Arrays.copyOf(places, newLatitudes.length);
+        int target = slot < 0 ? size : slot;
+        newLatitudes[target] = place.coordinate().latitude();
+        newLongitudes[target] = place.coordinate().longitude();
+        newPlaces[target] = place;
+        return new GridCell(newLatitudes, newLongitudes, newPlaces);
+    }
+
+    /**
+     * Returns a copy of this cell without the entry with {@code key}, or this cell when there is none.
+     */
+    GridCell without(String key) {
+        int slot = indexOf(key);
+        if (slot < 0) {
+            return this;
+        }
+        int size = places.length;
+        if (size == 1) {
+            return EMPTY;
+        }
+        double[] newLatitudes = new double[size - 1];
+        double[] newLongitudes = new double[size - 1];
+        IndexedPlace[] newPlaces = new IndexedPlace[size - 1];
+        System.arraycopy(latitudes, 0, newLatitudes, 0, slot);
+        System.arraycopy(latitudes, slot + 1, newLatitudes, slot, size - slot - 1);
+        System.arraycopy(longitudes, 0, newLongitudes, 0, slot);
+        System.arraycopy(longitudes, slot + 1, newLongitudes, slot, size - slot - 1);
+        System.arraycopy(places, 0, newPlaces, 0, slot);
+        System.arraycopy(places, slot + 1, newPlaces, slot, size - slot - 1);
+        return new GridCell(newLatitudes, newLongitudes, newPlaces);
+    }
+
+    private int indexOf(String key) {
+        for (int slot = 0; slot < places.length; slot++) {
+            if (places[slot].key().equals(key)) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,82 @@
+package com.williamcallahan.applemaps.adapters.spatial;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import com.williamcallahan.applemaps.domain.model.AutocompleteResult;
+import com.williamcallahan.applemaps.domain.model.Location;
+import com.williamcallahan.applemaps.domain.model.Place;
+import com.williamcallahan.applemaps.domain.model.PoiCategory;
+import com.williamcallahan.applemaps.domain.model.SearchResponsePlace;
+
+/**
+ * A place held by a {@link PlaceIndex}: enough to answer proximity queries and to look the full place up again.
+ */
+public record IndexedPlace(
+    String key,
+    Optional<String> id,
+    String name,
+    Location coordinate,
+    Optional<PoiCategory> poiCategory
+) {
+    private static final String COORDINATE_KEY_PREFIX = "@";
+
+    /**
+     * Canonical constructor that validates its components.
+     *
+     * @param key identity within the index: the place id, or the name and coordinate of a place without one
+     * @param id Apple Maps place identifier, when the response carried one
+     * @param name display name
+     * @param coordinate place coordinate
+     * @param poiCategory point-of-interest category, when known
+     */
+    public IndexedPlace {
+        Objects.requireNonNull(key, "key");
+        id = Objects.requireNonNullElse(id, Optional.empty());
+        Objects.requireNonNull(name, "name");
+        Objects.requireNonNull(coordinate, "coordinate");
+        poiCategory = Objects.requireNonNullElse(poiCategory, Optional.empty());
+    }
+
+    /**
+     * Creates an entry for a geocode, lookup or directions place. Such places carry no category, so
+     * {@link PlaceIndex#add(IndexedPlace)} keeps the category of any entry the new one replaces.
+     *
+     * @param place the place
+     * @return the entry
+     */
+    public static IndexedPlace of(Place place) {
+        Objects.requireNonNull(place, "place");
+        return create(place.id(), place.name(), place.coordinate(), Optional.empty());
+    }
+
+    /**
+     * Creates an entry for a search result, keeping its category.
+     *
+     * @param place the search result
+     * @return the entry
+     */
+    public static IndexedPlace of(SearchResponsePlace place) {
+        Objects.requireNonNull(place, "place");
+        return create(place.id(), place.name(), place.coordinate(), place.poiCategory());
+    }
+
+    /**
+     * Creates an entry for an autocomplete suggestion that carries a location, named by its first display line.
+     *
+     * @param result the suggestion
+     * @return the entry, or empty when the suggestion has no location
+     */
+    public static Optional<IndexedPlace> of(AutocompleteResult result) {
+        Objects.requireNonNull(result, "result");
+        String name = result.displayLines().isEmpty() ? result.completionUrl() : result.displayLines().get(0);
+        return result.location().map(location -> create(Optional.empty(), name, location, Optional.empty()));
+    }
+
+    private static IndexedPlace create(Optional<String> id, String name, Location coordinate,
+        Optional<PoiCategory> poiCategory) {
+        String key = id.orElseGet(() ->
+            name + COORDINATE_KEY_PREFIX + coordinate.latitude() + "," + coordinate.longitude());
+        return new IndexedPlace(key, id, name, coordinate, poiCategory);
+    }
+}
@@ -0,0 +1,21 @@
+package com.williamcallahan.applemaps.adapters.spatial;
+
+import java.util.Objects;
+
+/**
+ * A {@link PlaceIndex} match and its great-circle distance from the query point.
+ */
+public record NearbyPlace(IndexedPlace place, double distanceMeters) {
+    /**
+     * Canonical constructor that validates its components.
+     *
+     * @param place the matched place
+     * @param distanceMeters non-negative distance in metres
+     */
+    public NearbyPlace {
+        Objects.requireNonNull(place, "place");
+        if (!(distanceMeters >= 0.0)) {
+            throw new IllegalArgumentException("distanceMeters must not be negative.");
+        }
+    }
+}
@@ -0,0 +1,323 @@
+package com.williamcallahan.applemaps.adapters.spatial;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+import com.williamcallahan.applemaps.domain.model.Location;
+import com.williamcallahan.applemaps.domain.model.MapRegion;
+import com.williamcallahan.applemaps.domain.model.PoiCategory;
+
+/**
+ * In-memory index of places already seen in API responses, answering radius, bounding-box and nearest-place
+ * queries without a network call.
+ *
+ * <p>Places are bucketed into a grid of square cells of a fixed size in degrees, and each cell keeps its
+ * coordinates in primitive arrays. A query visits only the cells its area overlaps, or every occupied cell
+ * when that is fewer, and measures great-circle distance only for points inside the area's latitude band.
+ * Updates are serialized and replace whole cells, so queries never block and always see each cell either
+ * before or after an update. Places are keyed by {@link IndexedPlace#key()}; adding a place again moves it
+ * to its new coordinate. A move adds the place to its new cell before removing it from the old one, and
+ * queries drop repeated keys, so a query that runs during a move never returns the place twice; it may miss
+ * it when it reads the new cell before the move and the old cell after.</p>
+ */
+public final class PlaceIndex {
+    private static final double EARTH_RADIUS_METERS = 6_371_008.8;
+    private static final double METERS_PER_DEGREE = Math.toRadians(1.0) * EARTH_RADIUS_METERS;
+    private static final double MIN_COSINE = 1e-6;
+    private static final int NEAREST_RADIUS_GROWTH = 4;
+
+    private final double cellDegrees;
+    private final double cellMeters;
+    private final int rows;
+    private final int columns;
+    private final ConcurrentHashMap<Long, GridCell> cells = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, IndexedPlace> placesByKey = new ConcurrentHashMap<>();
+    private final ReentrantLock updateLock = new ReentrantLock();
+
+    /**
+     * Creates an index with cells of roughly the given size at the equator. Cells of about twice the usual
+     * query radius keep most queries to four cells.
+     *
+     * @param cellSizeMeters positive cell edge length in metres
+     */
+    public PlaceIndex(double cellSizeMeters) {
+        if (!Double.isFinite(cellSizeMeters) || cellSizeMeters <= 0.0) {
+            throw new IllegalArgumentException("cellSizeMeters must be a finite, positive value.");
+        }
+        // Columns must tile the globe exactly, so a cell never straddles the antimeridian.
+        this.columns = (int) Math.ceil(360.0 / Math.min(cellSizeMeters / METERS_PER_DEGREE, 180.0));
+        this.cellDegrees = 360.0 / columns;
+        this.cellMeters = cellDegrees * METERS_PER_DEGREE;
+        this.rows = (int) Math.ceil(180.0 / cellDegrees);
+    }
+
+    /**
+     * Creates an index with 500 metre cells.
+     */
+    public PlaceIndex() {
+        this(500.0);
+    }
+
+    /**
+     * Adds a place, replacing and moving any place with the same key. A place without a category keeps the
+     * category of the place it replaces, so looking up a place found by a search does not lose its category.
+     *
+     * @param place the place
+     */
+    public void add(IndexedPlace place) {
+        Objects.requireNonNull(place, "place");
+        long cellKey = cellKey(place.coordinate().latitude(), place.coordinate().longitude());
+        updateLock.lock();
+        try {
+            IndexedPlace previous = placesByKey.get(place.key());
+            IndexedPlace merged = previous != null && place.poiCategory().isEmpty()
+                ? new IndexedPlace(place.key(), place.id(), place.name(), place.coordinate(), previous.poiCategory())
+                : place;
+            placesByKey.put(merged.key(), merged);
+            cells.put(cellKey, cells.getOrDefault(cellKey, GridCell.EMPTY).with(merged));
+            if (previous != null) {
+                long previousCellKey = cellKey(previous.coordinate().latitude(), previous.coordinate().longitude());
+                if (previousCellKey != cellKey) {
+                    removeFromCell(previousCellKey, previous.key());
+                }
+            }
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    /**
+     * Removes a place.
+     *
+     * @param key the place's {@link IndexedPlace#key()}
+     * @return the removed place, or empty when none was indexed under the key
+     */
+    public Optional<IndexedPlace> remove(String key) {
+        Objects.requireNonNull(key, "key");
+        updateLock.lock();
+        try {
+            IndexedPlace removed = placesByKey.remove(key);
+            if (removed != null) {
+                removeFromCell(cellKey(removed.coordinate().latitude(), removed.coordinate().longitude()), key);
+            }
+            return Optional.ofNullable(removed);
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the place indexed under a key.
+     *
+     * @param key the place's {@link IndexedPlace#key()}, usually its Apple Maps id
+     * @return the place, or empty when none is indexed under the key
+     */
+    public Optional<IndexedPlace> get(String key) {
+        return Optional.ofNullable(placesByKey.get(Objects.requireNonNull(key, "key")));
+    }
+
+    /**
+     * Returns the number of indexed places.
+     *
+     * @return the place count
+     */
+    public int size() {
+        return placesByKey.size();
+    }
+
+    /**
+     * Removes every place.
+     */
+    public void clear() {
+        updateLock.lock();
+        try {
+            cells.clear();
+            placesByKey.clear();
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the places within a distance of a point, nearest first.
+     *
+     * @param center query point
+     * @param radiusMeters non-negative radius in metres
+     * @return matching places and their distances
+     */
+    public List<NearbyPlace> withinRadius(Location center, double radiusMeters) {
+        Objects.requireNonNull(center, "center");
+        requireDistance(radiusMeters, "radiusMeters");
+        return withinRadius(center, radiusMeters, place -> true);
+    }
+
+    /**
+     * Returns up to {@code limit} places nearest to a point, within a maximum distance and optionally limited
+     * to some point-of-interest categories.
+     *
+     * <p>The search starts with a radius of one cell and widens until enough places are found or the maximum
+     * distance is reached, so a small maximum distance keeps the search cheap in dense areas.</p>
+     *
+     * @param center query point
+     * @param limit positive maximum number of places
+     * @param maxDistanceMeters non-negative maximum distance in metres
+     * @param categories categories to accept; empty to accept places with any category or none
+     * @return matching places and their distances, nearest first
+     */
+    public List<NearbyPlace> nearest(Location center, int limit, double maxDistanceMeters,
+        Set<PoiCategory> categories) {
+        Objects.requireNonNull(center, "center");
+        requireDistance(maxDistanceMeters, "maxDistanceMeters");
+        if (limit < 1) {
+            throw new IllegalArgumentException("limit must be positive.");
+        }
+        Set<PoiCategory> accepted = Set.copyOf(Objects.requireNonNull(categories, "categories"));
+        Predicate<IndexedPlace> filter = accepted.isEmpty()
+            ? place -> true
+            : place -> place.poiCategory().isPresent() && accepted.contains(place.poiCategory().get());
+        double radius = Math.min(cellMeters, maxDistanceMeters);
+        while (true) {
+            List<NearbyPlace> matches = withinRadius(center, radius, filter);
+            if (matches.size() >= limit || radius >= maxDistanceMeters) {
+                return matches.size() > limit ? List.copyOf(matches.subList(0, limit)) : matches;
+            }
+            radius = Math.min(radius * NEAREST_RADIUS_GROWTH, maxDistanceMeters);
+        }
+    }
+
+    /**
+     * Returns the places inside a region. A region whose west edge is east of its east edge crosses the
+     * antimeridian.
+     *
+     * @param region the region
+     * @return matching places, in no particular order
+     */
+    public List<IndexedPlace> withinBounds(MapRegion region) {
+        Objects.requireNonNull(region, "region");
+        double south = region.southLatitude();
+        double north = region.northLatitude();
+        double west = region.westLongitude();
+        double east = region.eastLongitude();
+        boolean crossesAntimeridian = west > east;
+        List<IndexedPlace> matches = new ArrayList<>();
+        for (GridCell cell : candidateCells(south, north, west, crossesAntimeridian ? east + 360.0 : east)) {
+            for (int slot = 0; slot < cell.size(); slot++) {
+                double latitude = cell.latitudes[slot];
+                double longitude = cell.longitudes[slot];
+                boolean insideLongitude = crossesAntimeridian
+                    ? longitude >= west || longitude <= east
+                    : longitude >= west && longitude <= east;
+                if (latitude >= south && latitude <= north && insideLongitude) {
+                    matches.add(cell.places[slot]);
+                }
+            }
+        }
+        if (matches.size() > 1) {
+            Set<String> seen = new HashSet<>();
+            matches.removeIf(place -> !seen.add(place.key()));
+        }
+        return matches;
+    }
+
+    private List<NearbyPlace> withinRadius(Location center, double radiusMeters, Predicate<IndexedPlace> filter) {
+        double latitude = center.latitude();
+        double longitude = center.longitude();
+        double latitudeSpan = radiusMeters / METERS_PER_DEGREE;
+        double cosine = Math.cos(Math.toRadians(Math.min(90.0, Math.abs(latitude) + latitudeSpan)));
+        double longitudeSpan = cosine < MIN_COSINE ? 360.0 : Math.min(360.0, latitudeSpan / cosine);
+        double centerLatitudeRadians = Math.toRadians(latitude);
+        double centerCosine = Math.cos(centerLatitudeRadians);
+        List<NearbyPlace> matches = new ArrayList<>();
+        for (GridCell cell : candidateCells(latitude - latitudeSpan, latitude + latitudeSpan,
+            longitude - longitudeSpan, longitude + longitudeSpan)) {
+            for (int slot = 0; slot < cell.size(); slot++) {
+                double pointLatitude = cell.latitudes[slot];
+                if (Math.abs(pointLatitude - latitude) > latitudeSpan) {
+                    continue;
+                }
+                double distance = distanceMeters(centerLatitudeRadians, centerCosine, longitude, pointLatitude,
+                    cell.longitudes[slot]);
+                if (distance <= radiusMeters && filter.test(cell.places[slot])) {
+                    matches.add(new NearbyPlace(cell.places[slot], distance));
+                }
+            }
+        }
+        matches.sort(Comparator.comparingDouble(NearbyPlace::distanceMeters));
+        if (matches.size() > 1) {
+            Set<String> seen = new HashSet<>();
+            matches.removeIf(match -> !seen.add(match.place().key()));
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the cells overlapping a latitude band and a longitude range that may extend past ±180 degrees.
+     */
+    private Collection<GridCell> candidateCells(double south, double north, double west, double east) {
+        int firstRow = row(Math.max(-90.0, south));
+        int lastRow = row(Math.min(90.0, north));
+        long firstColumn = (long) Math.floor((west + 180.0) / cellDegrees);
+        long lastColumn = (long) Math.floor((east + 180.0) / cellDegrees);
+        long columnCount = Math.min(columns, lastColumn - firstColumn + 1);
+        if (lastRow < firstRow || columnCount < 1) {
+            return List.of();
+        }
+        long overlapped = (lastRow - firstRow + 1L) * columnCount;
+        if (overlapped >= cells.size()) {
+            return cells.values();
+        }
+        List<GridCell> candidates = new ArrayList<>((int) Math.min(overlapped, 64L));
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (long offset = 0; offset < columnCount; offset++) {
+                GridCell cell = cells.get((long) row * columns + Math.floorMod(firstColumn + offset, columns));
+                if (cell != null) {
+                    candidates.add(cell);
+                }
+            }
+        }
+        return candidates;
+    }
+
+    private void removeFromCell(long cellKey, String key) {
+        GridCell remaining = cells.getOrDefault(cellKey, GridCell.EMPTY).without(key);
+        if (remaining.size() == 0) {
+            cells.remove(cellKey);
+        } else {
+            cells.put(cellKey, remaining);
+        }
+    }
+
+    private long cellKey(double latitude, double longitude) {
+        return (long) row(latitude) * columns + Math.floorMod((long) Math.floor((longitude + 180.0) / cellDegrees),
+            columns);
+    }
+
+    private int row(double latitude) {
+        return Math.min(rows - 1, (int) Math.floor((latitude + 90.0) / cellDegrees));
+    }
+
+    private static double distanceMeters(double fromLatitudeRadians, double fromCosine, double fromLongitude,
+        double toLatitude, double toLongitude) {
+        double toLatitudeRadians = Math.toRadians(toLatitude);
+        double sinHalfLatitude = Math.sin((toLatitudeRadians - fromLatitudeRadians) / 2.0);
+        double sinHalfLongitude = Math.sin(Math.toRadians(toLongitude - fromLongitude) / 2.0);
+        double haversine = sinHalfLatitude * sinHalfLatitude
+            + fromCosine * Math.cos(toLatitudeRadians) * sinHalfLongitude * sinHalfLongitude;
+        return 2.0 * EARTH_RADIUS_METERS * Math.asin(Math.min(1.0, Math.sqrt(haversine)));
+    }
+
+    private static void requireDistance(double meters, String name) {
+        if (!Double.isFinite(meters) || meters < 0.0) {
+            throw new IllegalArgumentException(name + " must be a finite, non-negative value.");
+        }
+    }
+}
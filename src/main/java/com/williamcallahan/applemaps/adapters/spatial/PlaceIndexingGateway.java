@@ -0,0 +1,129 @@
+package com.williamcallahan.applemaps.adapters.spatial;
+
+import java.util.List;
+import java.util.Objects;
+
+import com.williamcallahan.applemaps.domain.model.AutocompleteResult;
+import com.williamcallahan.applemaps.domain.model.DirectionsResponse;
+import com.williamcallahan.applemaps.domain.model.Place;
+import com.williamcallahan.applemaps.domain.model.PlaceResults;
+import com.williamcallahan.applemaps.domain.model.PlacesResponse;
+import com.williamcallahan.applemaps.domain.model.SearchAutocompleteResponse;
+import com.williamcallahan.applemaps.domain.model.SearchResponse;
+import com.williamcallahan.applemaps.domain.model.SearchResponsePlace;
+import com.williamcallahan.applemaps.domain.port.AppleMapsGateway;
+import com.williamcallahan.applemaps.domain.port.ForwardingAppleMapsGateway;
+import com.williamcallahan.applemaps.domain.request.DirectionsInput;
+import com.williamcallahan.applemaps.domain.request.GeocodeInput;
+import com.williamcallahan.applemaps.domain.request.PlaceLookupInput;
+import com.williamcallahan.applemaps.domain.request.SearchAutocompleteInput;
+import com.williamcallahan.applemaps.domain.request.SearchInput;
+
+/**
+ * Gateway decorator that adds every place in a decoded response to a {@link PlaceIndex}.
+ *
+ * <p>Geocode, reverse geocode, search, completion URL, autocomplete, directions and place lookup responses
+ * are indexed; projected responses are passed through unindexed, since they may lack a name or coordinate.
+ * Wrap the gateway passed to {@code AppleMaps} and query the index for places already seen:</p>
+ *
+ * <pre>{@code
+ * PlaceIndex index = new PlaceIndex();
+ * AppleMaps maps = new AppleMaps(new PlaceIndexingGateway(new HttpAppleMapsGateway(token, timeout), index));
+ * }</pre>
+ */
+public final class PlaceIndexingGateway extends ForwardingAppleMapsGateway {
+    private final PlaceIndex index;
+
+    /**
+     * Creates a gateway that indexes the responses of another.
+     *
+     * @param delegate gateway that performs the calls; closed with this gateway
+     * @param index index to add places to
+     */
+    public PlaceIndexingGateway(AppleMapsGateway delegate, PlaceIndex index) {
+        super(delegate);
+        this.index = Objects.requireNonNull(index, "index");
+    }
+
+    /**
+     * Returns the index this gateway populates.
+     *
+     * @return the index
+     */
+    public PlaceIndex index() {
+        return index;
+    }
+
+    @Override
+    public PlaceResults geocode(GeocodeInput input) {
+        return indexPlaces(delegate().geocode(input));
+    }
+
+    @Override
+    public SearchResponse search(SearchInput input) {
+        return indexSearch(delegate().search(input));
+    }
+
+    @Override
+    public SearchAutocompleteResponse autocomplete(SearchAutocompleteInput input) {
+        SearchAutocompleteResponse response = delegate().autocomplete(input);
+        for (AutocompleteResult result : response.results()) {
+            IndexedPlace.of(result).ifPresent(index::add);
+        }
+        return response;
+    }
+
+    @Override
+    public SearchResponse resolveCompletionUrl(String completionUrl) {
+        return indexSearch(delegate().resolveCompletionUrl(completionUrl));
+    }
+
+    @Override
+    public PlaceResults reverseGeocode(double latitude, double longitude, String language) {
+        return indexPlaces(delegate().reverseGeocode(latitude, longitude, language));
+    }
+
+    @Override
+    public DirectionsResponse directions(DirectionsInput input) {
+        DirectionsResponse response = delegate().directions(input);
+        response.origin().ifPresent(this::add);
+        response.destination().ifPresent(this::add);
+        return response;
+    }
+
+    @Override
+    public Place lookupPlace(String placeId, String language) {
+        Place place = delegate().lookupPlace(placeId, language);
+        add(place);
+        return place;
+    }
+
+    @Override
+    public PlacesResponse lookupPlaces(PlaceLookupInput input) {
+        PlacesResponse response = delegate().lookupPlaces(input);
+        addAll(response.results());
+        return response;
+    }
+
+    private PlaceResults indexPlaces(PlaceResults results) {
+        addAll(results.results());
+        return results;
+    }
+
+    private SearchResponse indexSearch(SearchResponse response) {
+        for (SearchResponsePlace place : response.results()) {
+            index.add(IndexedPlace.of(place));
+        }
+        return response;
+    }
+
+    private void addAll(List<Place> places) {
+        for (Place place : places) {
+            add(place);
+        }
+    }
+
+    private void add(Place place) {
+        index.add(IndexedPlace.of(place));
+    }
+}
@@ -0,0 +1,148 @@
+package com.williamcallahan.applemaps.domain.geometry;
+
+import com.williamcallahan.applemaps.domain.model.Location;
+import com.williamcallahan.applemaps.domain.model.Polyline;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Encodes and decodes paths in the encoded-polyline text format.
+ *
+ * <p>Each coordinate is scaled to an integer, delta-encoded against the previous point, zig-zag encoded
+ * and written as 5-bit groups offset into printable ASCII. {@link #STANDARD} uses five decimals, the
+ * precision most mapping clients expect; {@link #withPrecision(int)} trades size for accuracy.</p>
+ */
+public final class EncodedPolylineCodec {
+    private static final int STANDARD_PRECISION = 5;
+    private static final int MIN_PRECISION = 1;
+    private static final int MAX_PRECISION = 7;
+    private static final int CHUNK_BITS = 5;
+    private static final int CHUNK_MASK = 0x1F;
+    private static final int CONTINUATION_BIT = 0x20;
+    private static final int CHARACTER_OFFSET = 63;
+    private static final int MAX_ENCODED_CHARACTER = CHARACTER_OFFSET + CONTINUATION_BIT + CHUNK_MASK;
+    private static final int MAX_VALUE_BITS = 64;
+    private static final int ESTIMATED_CHARACTERS_PER_POINT = 10;
+
+    /**
+     * Five-decimal codec (about 1.1 m resolution).
+     */
+    public static final EncodedPolylineCodec STANDARD = new EncodedPolylineCodec(STANDARD_PRECISION);
+
+    private final double scale;
+
+    private EncodedPolylineCodec(int precision) {
+        this.scale = Math.pow(10, precision);
+    }
+
+    /**
+     * Returns a codec using the given number of decimals.
+     *
+     * @param precision number of decimals, between 1 and 7
+     * @return a codec
+     */
+    public static EncodedPolylineCodec withPrecision(int precision) {
+        if (precision < MIN_PRECISION || precision > MAX_PRECISION) {
+            throw new IllegalArgumentException(
+                "precision must be between " + MIN_PRECISION + " and " + MAX_PRECISION + "."
+            );
+        }
+        return new EncodedPolylineCodec(precision);
+    }
+
+    /**
+     * Encodes a path.
+     *
+     * @param path path to encode; {@code null} locations are skipped
+     * @return the encoded text
+     */
+    public String encode(List<Location> path) {
+        Polyline polyline = Polyline.fromLocations(Objects.requireNonNull(path, "path"));
+        StringBuilder encoded = new StringBuilder(polyline.size() * ESTIMATED_CHARACTERS_PER_POINT);
+        long previousLatitude = 0;
+        long previousLongitude = 0;
+        for (int index = 0; index < polyline.size(); index++) {
+            long latitude = Math.round(polyline.latitude(index) * scale);
+            long longitude = Math.round(polyline.longitude(index) * scale);
+            appendSigned(encoded, latitude - previousLatitude);
+            appendSigned(encoded, longitude - previousLongitude);
+            previousLatitude = latitude;
+            previousLongitude = longitude;
+        }
+        return encoded.toString();
+    }
+
+    /**
+     * Decodes encoded text into a path.
+     *
+     * @param encoded encoded text
+     * @return the decoded path
+     * @throws IllegalArgumentException if the text is malformed or decodes to out-of-range coordinates
+     */
+    public Polyline decode(CharSequence encoded) {
+        Objects.requireNonNull(encoded, "encoded");
+        Polyline.Builder builder = Polyline.builder(encoded.length() / ESTIMATED_CHARACTERS_PER_POINT);
+        Cursor cursor = new Cursor(encoded);
+        long latitude = 0;
+        long longitude = 0;
+        while (cursor.hasMore()) {
+            latitude += cursor.readSigned();
+            if (!cursor.hasMore()) {
+                throw new IllegalArgumentException("Encoded polyline ends after a latitude value.");
+            }
+            longitude += cursor.readSigned();
+            builder.add(latitude / scale, longitude / scale);
+        }
+        return builder.build();
+    }
+
+    private static void appendSigned(StringBuilder encoded, long value) {
+        long remaining = (value << 1) ^ (value >> (MAX_VALUE_BITS - 1));
+        while (remaining >= CONTINUATION_BIT) {
+            encoded.append((char) ((CONTINUATION_BIT | (remaining & CHUNK_MASK)) + CHARACTER_OFFSET));
+            remaining >>>= CHUNK_BITS;
+        }
+        encoded.append((char) (remaining + CHARACTER_OFFSET));
+    }
+
+    /**
+     * Reads zig-zag varints from encoded text.
+     */
+    private static final class Cursor {
+        private final CharSequence encoded;
+        private int position;
+
+        private Cursor(CharSequence encoded) {
+            this.encoded = encoded;
+        }
+
+        private boolean hasMore() {
+            return position < encoded.length();
+        }
+
+        private long readSigned() {
+            long result = 0;
+            int shift = 0;
+            int chunk;
+            do {
+                if (position >= encoded.length()) {
+                    throw new IllegalArgumentException("Encoded polyline is truncated at position " + position + ".");
+                }
+                if (shift >= MAX_VALUE_BITS) {
+                    throw new IllegalArgumentException("Encoded polyline value is too long at position " + position + ".");
+                }
+                char character = encoded.charAt(position);
+                if (character < CHARACTER_OFFSET || character > MAX_ENCODED_CHARACTER) {
+                    throw new IllegalArgumentException(
+                        "Invalid encoded polyline character at position " + position + "."
+                    );
+                }
+                position++;
+                chunk = character - CHARACTER_OFFSET;
+                result |= (long) (chunk & CHUNK_MASK) << shift;
+                shift += CHUNK_BITS;
+            } while (chunk >= CONTINUATION_BIT);
+            return (result >>> 1) ^ -(result & 1);
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.williamcallahan.applemaps.domain.geometry;
+
+import com.williamcallahan.applemaps.domain.model.DirectionsResponse;
+import com.williamcallahan.applemaps.domain.model.Polyline;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Douglas–Peucker simplification with a tolerance in metres.
+ *
+ * <p>Distances are measured in a local equirectangular projection anchored at the start of each
+ * segment, which is accurate to well under a metre at route scale. The algorithm runs iteratively over
+ * the packed coordinates, allocating only a keep-mask, a small index stack and the result.
+ * Instances are immutable and safe to share across threads.</p>
+ */
+public final class PolylineSimplifier {
+    private static final double EARTH_RADIUS_METERS = 6_371_008.8;
+    private static final double METERS_PER_DEGREE = Math.toRadians(1.0) * EARTH_RADIUS_METERS;
+    private static final double FULL_TURN_DEGREES = 360.0;
+    private static final double HALF_TURN_DEGREES = 180.0;
+    private static final int INITIAL_STACK_CAPACITY = 64;
+    private static final int MIN_SIMPLIFIABLE_POINTS = 3;
+
+    private final double toleranceSquared;
+
+    /**
+     * Creates a simplifier.
+     *
+     * @param toleranceMeters maximum distance in metres a removed point may lie from the simplified path
+     */
+    public PolylineSimplifier(double toleranceMeters) {
+        if (!Double.isFinite(toleranceMeters) || toleranceMeters < 0) {
+            throw new IllegalArgumentException("toleranceMeters must be a finite, non-negative value.");
+        }
+        this.toleranceSquared = toleranceMeters * toleranceMeters;
+    }
+
+    /**
+     * Simplifies a single path, always keeping its first and last points.
+     *
+     * @param path path to simplify
+     * @return the simplified path, or {@code path} itself when no point can be removed
+     */
+    public Polyline simplify(Polyline path) {
+        Objects.requireNonNull(path, "path");
+        int size = path.size();
+        if (size < MIN_SIMPLIFIABLE_POINTS) {
+            return path;
+        }
+        boolean[] keep = new boolean[size];
+        keep[0] = true;
+        keep[size - 1] = true;
+        int keptCount = 2;
+        int[] stack = new int[INITIAL_STACK_CAPACITY];
+        int stackSize = 0;
+        stack[stackSize++] = 0;
+        stack[stackSize++] = size - 1;
+        while (stackSize > 0) {
+            int last = stack[--stackSize];
+            int first = stack[--stackSize];
+            int farthest = farthestPointBeyondTolerance(path, first, last);
+            if (farthest < 0) {
+                continue;
+            }
+            keep[farthest] = true;
+            keptCount++;
+            if (stackSize + 4 > stack.length) {
+                stack = Arrays.copyOf(stack, stack.length * 2);
+            }
+            stack[stackSize++] = first;
+            stack[stackSize++] = farthest;
+            stack[stackSize++] = farthest;
+            stack[stackSize++] = last;
+        }
+        if (keptCount == size) {
+            return path;
+        }
+        Polyline.Builder builder = Polyline.builder(keptCount);
+        for (int index = 0; index < size; index++) {
+            if (keep[index]) {
+                builder.add(path.latitude(index), path.longitude(index));
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Simplifies several paths in parallel on the common fork-join pool.
+     *
+     * @param paths paths to simplify
+     * @return simplified paths in input order
+     */
+    public List<Polyline> simplifyAll(List<Polyline> paths) {
+        Objects.requireNonNull(paths, "paths");
+        return paths.parallelStream()
+            .map(this::simplify)
+            .toList();
+    }
+
+    /**
+     * Assembles and simplifies every route of a directions response in parallel.
+     *
+     * @param response directions response
+     * @return one simplified path per route, in route order
+     */
+    public List<Polyline> simplifyRoutes(DirectionsResponse response) {
+        Objects.requireNonNull(response, "response");
+        return response.routes().parallelStream()
+            .map(route -> simplify(RouteGeometry.routePath(response, route)))
+            .toList();
+    }
+
+    private int farthestPointBeyondTolerance(Polyline path, int first, int last) {
+        double originLatitude = path.latitude(first);
+        double originLongitude = path.longitude(first);
+        double longitudeScale = Math.cos(Math.toRadians(originLatitude)) * METERS_PER_DEGREE;
+        double endX = longitudeDelta(path.longitude(last), originLongitude) * longitudeScale;
+        double endY = (path.latitude(last) - originLatitude) * METERS_PER_DEGREE;
+        double segmentLengthSquared = endX * endX + endY * endY;
+        double farthestDistanceSquared = toleranceSquared;
+        int farthest = -1;
+        for (int index = first + 1; index < last; index++) {
+            double pointX = longitudeDelta(path.longitude(index), originLongitude) * longitudeScale;
+            double pointY = (path.latitude(index) - originLatitude) * METERS_PER_DEGREE;
+            double distanceSquared = distanceToSegmentSquared(pointX, pointY, endX, endY, segmentLengthSquared);
+            if (distanceSquared > farthestDistanceSquared) {
+                farthestDistanceSquared = distanceSquared;
+                farthest = index;
+            }
+        }
+        return farthest;
+    }
+
+    private static double distanceToSegmentSquared(
+        double pointX,
+        double pointY,
+        double endX,
+        double endY,
+        double segmentLengthSquared
+    ) {
+        double projection = segmentLengthSquared == 0
+            ? 0
+            : Math.max(0, Math.min(1, (pointX * endX + pointY * endY) / segmentLengthSquared));
+        double deltaX = pointX - projection * endX;
+        double deltaY = pointY - projection * endY;
+        return deltaX * deltaX + deltaY * deltaY;
+    }
+
+    private static double longitudeDelta(double longitude, double originLongitude) {
+        double delta = longitude - originLongitude;
+        if (delta > HALF_TURN_DEGREES) {
+            return delta - FULL_TURN_DEGREES;
+        }
+        if (delta < -HALF_TURN_DEGREES) {
+            return delta + FULL_TURN_DEGREES;
+        }
+        return delta;
+    }
+}
@@ -0,0 +1,87 @@
+package com.williamcallahan.applemaps.domain.geometry;
+
+import com.williamcallahan.applemaps.domain.model.DirectionsResponse;
+import com.williamcallahan.applemaps.domain.model.DirectionsRoute;
+import com.williamcallahan.applemaps.domain.model.DirectionsStep;
+import com.williamcallahan.applemaps.domain.model.Polyline;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Assembles whole-route geometries from the step paths of a {@link DirectionsResponse}.
+ */
+public final class RouteGeometry {
+
+    private RouteGeometry() {}
+
+    /**
+     * Returns one polyline per route, in route order.
+     *
+     * @param response directions response
+     * @return route paths
+     */
+    public static List<Polyline> routePaths(DirectionsResponse response) {
+        Objects.requireNonNull(response, "response");
+        return response.routes().stream()
+            .map(route -> routePath(response, route))
+            .toList();
+    }
+
+    /**
+     * Concatenates the step paths of a route, following its step indexes.
+     *
+     * <p>Steps without a resolvable path are skipped, and a point shared by the end of one step and the
+     * start of the next is written once.</p>
+     *
+     * @param response directions response that owns the route
+     * @param route route to assemble
+     * @return the route path
+     */
+    public static Polyline routePath(DirectionsResponse response, DirectionsRoute route) {
+        Objects.requireNonNull(response, "response");
+        Objects.requireNonNull(route, "route");
+        List<Polyline> stepPolylines = response.stepPolylines();
+        List<DirectionsStep> steps = response.steps();
+        Polyline.Builder builder = Polyline.builder(estimatePointCount(route, steps, stepPolylines));
+        double lastLatitude = Double.NaN;
+        double lastLongitude = Double.NaN;
+        for (Integer stepIndex : route.stepIndexes()) {
+            Polyline stepPath = stepPath(stepIndex, steps, stepPolylines);
+            for (int point = 0; point < stepPath.size(); point++) {
+                double latitude = stepPath.latitude(point);
+                double longitude = stepPath.longitude(point);
+                if (point == 0 && latitude == lastLatitude && longitude == lastLongitude) {
+                    continue;
+                }
+                builder.add(latitude, longitude);
+                lastLatitude = latitude;
+                lastLongitude = longitude;
+            }
+        }
+        return builder.build();
+    }
+
+    private static int estimatePointCount(
+        DirectionsRoute route,
+        List<DirectionsStep> steps,
+        List<Polyline> stepPolylines
+    ) {
+        int pointCount = 0;
+        for (Integer stepIndex : route.stepIndexes()) {
+            pointCount += stepPath(stepIndex, steps, stepPolylines).size();
+        }
+        return pointCount;
+    }
+
+    private static Polyline stepPath(int stepIndex, List<DirectionsStep> steps, List<Polyline> stepPolylines) {
+        if (stepIndex < 0 || stepIndex >= steps.size()) {
+            return Polyline.empty();
+        }
+        Optional<Integer> stepPathIndex = steps.get(stepIndex).stepPathIndex();
+        if (stepPathIndex.isEmpty() || stepPathIndex.get() < 0 || stepPathIndex.get() >= stepPolylines.size()) {
+            return Polyline.empty();
+        }
+        return stepPolylines.get(stepPathIndex.get());
+    }
+}
@@ -0,0 +1,182 @@
+package com.williamcallahan.applemaps.domain.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Objects;
+
+/**
+ * Formats coordinate values in plain decimal notation for query parameters.
+ *
+ * <p>{@link #SHORTEST} writes the shortest decimal that parses back to the same {@code double}. Candidates
+ * are checked with an exact integer-over-power-of-ten division, which is correctly rounded whenever the
+ * digits fit in 53 bits; this covers every coordinate value, and anything else falls back to
+ * {@link BigDecimal}. {@link #fixedDecimals(int)} rounds the exact value of the {@code double} to a fixed
+ * number of decimals, which keeps request strings (and cache keys derived from them) stable for nearby
+ * inputs.</p>
+ *
+ * <p>Both modes write at least one fractional digit and drop trailing zeros, so {@code 10.0} stays
+ * {@code "10.0"} and {@code 53.570000} becomes {@code "53.57"}.</p>
+ */
+public final class CoordinateFormat {
+    private static final int SHORTEST_DECIMALS_MARKER = -1;
+    private static final int MAX_FIXED_DECIMALS = 12;
+    private static final long MAX_EXACT_INTEGER = 1L << 53;
+    private static final double HALF = 0.5;
+    private static final char DECIMAL_POINT = '.';
+    private static final char MINUS_SIGN = '-';
+    private static final double[] DOUBLE_POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9,
+        1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18
+    };
+    private static final long[] LONG_POWERS_OF_TEN = createLongPowersOfTen();
+
+    /**
+     * Shortest round-trip formatting.
+     */
+    public static final CoordinateFormat SHORTEST = new CoordinateFormat(SHORTEST_DECIMALS_MARKER);
+
+    private final int decimals;
+
+    private CoordinateFormat(int decimals) {
+        this.decimals = decimals;
+    }
+
+    /**
+     * Returns a format that rounds to a fixed number of decimals (half away from zero).
+     *
+     * @param decimals number of decimals, between 0 and 12
+     * @return a fixed-precision format
+     */
+    public static CoordinateFormat fixedDecimals(int decimals) {
+        if (decimals < 0 || decimals > MAX_FIXED_DECIMALS) {
+            throw new IllegalArgumentException("decimals must be between 0 and " + MAX_FIXED_DECIMALS + ".");
+        }
+        return new CoordinateFormat(decimals);
+    }
+
+    /**
+     * Formats a single coordinate value.
+     *
+     * @param coordinate coordinate value in decimal degrees
+     * @return the formatted value
+     */
+    public String format(double coordinate) {
+        return appendTo(new StringBuilder(), coordinate).toString();
+    }
+
+    /**
+     * Appends a formatted coordinate value to an existing buffer.
+     *
+     * @param target buffer to append to
+     * @param coordinate coordinate value in decimal degrees
+     * @return the target buffer
+     */
+    public StringBuilder appendTo(StringBuilder target, double coordinate) {
+        Objects.requireNonNull(target, "target");
+        if (!Double.isFinite(coordinate)) {
+            return target.append(coordinate);
+        }
+        boolean negative = Double.doubleToRawLongBits(coordinate) < 0;
+        double magnitude = Math.abs(coordinate);
+        boolean written = decimals == SHORTEST_DECIMALS_MARKER
+            ? appendShortest(target, negative, magnitude)
+            : appendFixed(target, negative, magnitude, decimals);
+        if (!written) {
+            appendPlain(target, negative, magnitude);
+        }
+        return target;
+    }
+
+    private static boolean appendShortest(StringBuilder target, boolean negative, double magnitude) {
+        for (int candidateDecimals = 0; candidateDecimals < DOUBLE_POWERS_OF_TEN.length; candidateDecimals++) {
+            double powerOfTen = DOUBLE_POWERS_OF_TEN[candidateDecimals];
+            double scaled = magnitude * powerOfTen;
+            if (scaled >= MAX_EXACT_INTEGER - 1) {
+                return false;
+            }
+            long nearest = Math.round(scaled);
+            if (appendIfRoundTrips(target, negative, magnitude, nearest, candidateDecimals)) {
+                return true;
+            }
+            // The rounded product only misses the exact nearest candidate when it lands near a half-way point.
+            if (Math.abs(scaled - nearest) >= HALF - Math.ulp(scaled)
+                && (appendIfRoundTrips(target, negative, magnitude, nearest - 1, candidateDecimals)
+                    || appendIfRoundTrips(target, negative, magnitude, nearest + 1, candidateDecimals))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean appendIfRoundTrips(
+        StringBuilder target,
+        boolean negative,
+        double magnitude,
+        long digits,
+        int scaleDecimals
+    ) {
+        if (digits < 0 || digits / DOUBLE_POWERS_OF_TEN[scaleDecimals] != magnitude) {
+            return false;
+        }
+        appendScaled(target, negative, digits, scaleDecimals);
+        return true;
+    }
+
+    private static boolean appendFixed(StringBuilder target, boolean negative, double magnitude, int fixedDecimals) {
+        double scaled = magnitude * DOUBLE_POWERS_OF_TEN[fixedDecimals];
+        if (scaled >= MAX_EXACT_INTEGER) {
+            return false;
+        }
+        long digits = Math.round(scaled);
+        // The product is itself rounded, so near a half-way point round the exact binary value instead.
+        if (Math.abs(scaled - Math.floor(scaled) - HALF) <= Math.ulp(scaled)) {
+            digits = new BigDecimal(magnitude).setScale(fixedDecimals, RoundingMode.HALF_UP)
+                .unscaledValue()
+                .longValueExact();
+        }
+        int trimmedDecimals = fixedDecimals;
+        while (trimmedDecimals > 0 && digits % 10 == 0) {
+            digits /= 10;
+            trimmedDecimals--;
+        }
+        // Values that round to zero are written without a sign.
+        appendScaled(target, negative && digits != 0, digits, trimmedDecimals);
+        return true;
+    }
+
+    private static void appendScaled(StringBuilder target, boolean negative, long digits, int scaleDecimals) {
+        if (negative) {
+            target.append(MINUS_SIGN);
+        }
+        long divisor = LONG_POWERS_OF_TEN[scaleDecimals];
+        target.append(digits / divisor).append(DECIMAL_POINT);
+        if (scaleDecimals == 0) {
+            target.append('0');
+            return;
+        }
+        long fraction = digits % divisor;
+        for (int place = scaleDecimals - 1; place >= 0; place--) {
+            target.append((char) ('0' + (fraction / LONG_POWERS_OF_TEN[place]) % 10));
+        }
+    }
+
+    private static void appendPlain(StringBuilder target, boolean negative, double magnitude) {
+        if (negative) {
+            target.append(MINUS_SIGN);
+        }
+        String plain = new BigDecimal(Double.toString(magnitude)).toPlainString();
+        target.append(plain);
+        if (plain.indexOf(DECIMAL_POINT) < 0) {
+            target.append(DECIMAL_POINT).append('0');
+        }
+    }
+
+    private static long[] createLongPowersOfTen() {
+        long[] powers = new long[DOUBLE_POWERS_OF_TEN.length];
+        powers[0] = 1L;
+        for (int exponent = 1; exponent < powers.length; exponent++) {
+            powers[exponent] = powers[exponent - 1] * 10L;
+        }
+        return powers;
+    }
+}
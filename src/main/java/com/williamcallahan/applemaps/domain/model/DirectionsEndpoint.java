@@ -7,6 +7,7 @@ import java.util.Objects;
  */
 public record DirectionsEndpoint(String formattedLocation) {
     private static final String COORDINATE_SEPARATOR = ",";
+    private static final int COORDINATE_PAIR_CAPACITY = 32;
 
     /**
      * Canonical constructor that validates the formatted location is non-null.
@@ -35,8 +36,25 @@ public record DirectionsEndpoint(String formattedLocation) {
      * @return a directions endpoint
      */
     public static DirectionsEndpoint fromLatitudeLongitude(double latitude, double longitude) {
+        return fromLatitudeLongitude(latitude, longitude, CoordinateFormat.SHORTEST);
+    }
+
+    /**
+     * Creates an endpoint from latitude/longitude coordinates using a specific coordinate format.
+     *
+     * @param latitude latitude in decimal degrees
+     * @param longitude longitude in decimal degrees
+     * @param coordinateFormat format used to write each coordinate
+     * @return a directions endpoint
+     */
+    public static DirectionsEndpoint fromLatitudeLongitude(
+        double latitude,
+        double longitude,
+        CoordinateFormat coordinateFormat
+    ) {
         Location.validateLatitudeLongitude(latitude, longitude);
-        return new DirectionsEndpoint(formatCoordinatePair(latitude, longitude));
+        Objects.requireNonNull(coordinateFormat, "coordinateFormat");
+        return new DirectionsEndpoint(formatCoordinatePair(latitude, longitude, coordinateFormat));
     }
 
     /**
@@ -48,7 +66,9 @@ public record DirectionsEndpoint(String formattedLocation) {
         return formattedLocation;
     }
 
-    private static String formatCoordinatePair(double latitude, double longitude) {
-        return Double.toString(latitude) + COORDINATE_SEPARATOR + Double.toString(longitude);
+    private static String formatCoordinatePair(double latitude, double longitude, CoordinateFormat coordinateFormat) {
+        StringBuilder coordinatePair = new StringBuilder(COORDINATE_PAIR_CAPACITY);
+        coordinateFormat.appendTo(coordinatePair, latitude).append(COORDINATE_SEPARATOR);
+        return coordinateFormat.appendTo(coordinatePair, longitude).toString();
     }
 }
@@ -1,11 +1,14 @@
 package com.williamcallahan.applemaps.domain.model;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
 /**
  * Directions results including routes, steps, and step paths.
+ *
+ * <p>Each step path is stored as a {@link Polyline}; {@link #stepPaths()} exposes them as location lists.</p>
  */
 public record DirectionsResponse(
     Optional<Place> origin,
@@ -44,22 +47,25 @@ public record DirectionsResponse(
             .toList();
     }
 
+    /**
+     * Returns the step paths as packed polylines, indexed like {@link #stepPaths()}.
+     *
+     * @return step paths as polylines
+     */
+    @SuppressWarnings("unchecked")
+    public List<Polyline> stepPolylines() {
+        // normalizeStepPaths stores only Polyline instances.
+        return (List<Polyline>) (List<?>) stepPaths;
+    }
+
     private static List<List<Location>> normalizeStepPaths(List<List<Location>> rawList) {
         if (rawList == null) {
             return List.of();
         }
-        return rawList.stream()
-            .map(DirectionsResponse::normalizeStepPath)
-            .toList();
-    }
-
-    private static List<Location> normalizeStepPath(List<Location> rawPath) {
-        if (rawPath == null) {
-            return List.of();
+        List<Polyline> polylines = new ArrayList<>(rawList.size());
+        for (List<Location> rawPath : rawList) {
+            polylines.add(rawPath == null ? Polyline.empty() : Polyline.fromLocations(rawPath));
         }
-        return rawPath.stream()
-            .filter(Objects::nonNull)
-            .toList();
+        return List.copyOf(polylines);
     }
-
 }
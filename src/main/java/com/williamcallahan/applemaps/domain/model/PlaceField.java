@@ -0,0 +1,27 @@
+package com.williamcallahan.applemaps.domain.model;
+
+/**
+ * Fields of a place result that can be requested through a {@link PlaceProjection}.
+ */
+public enum PlaceField {
+    /** Place identifier. */
+    ID,
+    /** Alternate place identifiers. */
+    ALTERNATE_IDS,
+    /** Place name. */
+    NAME,
+    /** Place coordinate. */
+    COORDINATE,
+    /** Map region to display. */
+    DISPLAY_MAP_REGION,
+    /** Formatted address lines. */
+    FORMATTED_ADDRESS_LINES,
+    /** Structured address. */
+    STRUCTURED_ADDRESS,
+    /** Country name. */
+    COUNTRY,
+    /** Country code. */
+    COUNTRY_CODE,
+    /** Point-of-interest category (search results only). */
+    POI_CATEGORY
+}
@@ -0,0 +1,164 @@
+package com.williamcallahan.applemaps.domain.model;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * The set of place fields a caller needs from search or geocode results.
+ *
+ * <p>Decoders that understand projections skip unrequested fields without materializing them. The
+ * {@code project} methods apply the same projection to fully decoded responses.</p>
+ */
+public final class PlaceProjection {
+    private static final PlaceProjection ALL = new PlaceProjection(EnumSet.allOf(PlaceField.class));
+
+    private final EnumSet<PlaceField> fields;
+
+    private PlaceProjection(EnumSet<PlaceField> fields) {
+        this.fields = fields;
+    }
+
+    /**
+     * Creates a projection of the given fields.
+     *
+     * @param field a requested field
+     * @param moreFields further requested fields
+     * @return a projection
+     */
+    public static PlaceProjection of(PlaceField field, PlaceField... moreFields) {
+        Objects.requireNonNull(field, "field");
+        Objects.requireNonNull(moreFields, "moreFields");
+        EnumSet<PlaceField> requested = EnumSet.of(field);
+        for (PlaceField moreField : moreFields) {
+            requested.add(Objects.requireNonNull(moreField, "moreFields"));
+        }
+        return new PlaceProjection(requested);
+    }
+
+    /**
+     * Returns a projection of every field.
+     *
+     * @return a projection of every field
+     */
+    public static PlaceProjection all() {
+        return ALL;
+    }
+
+    /**
+     * Returns whether a field is requested.
+     *
+     * @param field field to check
+     * @return {@code true} if the field is part of this projection
+     */
+    public boolean includes(PlaceField field) {
+        return fields.contains(field);
+    }
+
+    /**
+     * Returns the requested fields.
+     *
+     * @return an unmodifiable view of the requested fields
+     */
+    public Set<PlaceField> fields() {
+        return Collections.unmodifiableSet(fields);
+    }
+
+    /**
+     * Projects decoded search results.
+     *
+     * @param response search response
+     * @return projected results, including pagination information
+     */
+    public ProjectedPlaceResults project(SearchResponse response) {
+        Objects.requireNonNull(response, "response");
+        return new ProjectedPlaceResults(
+            response.results().stream().map(this::project).toList(),
+            response.paginationInfo()
+        );
+    }
+
+    /**
+     * Projects decoded geocode results.
+     *
+     * @param results geocode results
+     * @return projected results
+     */
+    public ProjectedPlaceResults project(PlaceResults results) {
+        Objects.requireNonNull(results, "results");
+        return new ProjectedPlaceResults(
+            results.results().stream().map(this::project).toList(),
+            Optional.empty()
+        );
+    }
+
+    /**
+     * Projects a decoded search result.
+     *
+     * @param place search result
+     * @return the projected place
+     */
+    public ProjectedPlace project(SearchResponsePlace place) {
+        Objects.requireNonNull(place, "place");
+        return new ProjectedPlace(
+            pick(PlaceField.ID, place.id()),
+            pick(PlaceField.ALTERNATE_IDS, place.alternateIds()),
+            pick(PlaceField.NAME, Optional.of(place.name())),
+            pick(PlaceField.COORDINATE, Optional.of(place.coordinate())),
+            pick(PlaceField.DISPLAY_MAP_REGION, place.displayMapRegion()),
+            pick(PlaceField.FORMATTED_ADDRESS_LINES, place.formattedAddressLines()),
+            pick(PlaceField.STRUCTURED_ADDRESS, place.structuredAddress()),
+            pick(PlaceField.COUNTRY, Optional.of(place.country())),
+            pick(PlaceField.COUNTRY_CODE, Optional.of(place.countryCode())),
+            pick(PlaceField.POI_CATEGORY, place.poiCategory())
+        );
+    }
+
+    /**
+     * Projects a decoded place.
+     *
+     * @param place place
+     * @return the projected place
+     */
+    public ProjectedPlace project(Place place) {
+        Objects.requireNonNull(place, "place");
+        return new ProjectedPlace(
+            pick(PlaceField.ID, place.id()),
+            pick(PlaceField.ALTERNATE_IDS, place.alternateIds()),
+            pick(PlaceField.NAME, Optional.of(place.name())),
+            pick(PlaceField.COORDINATE, Optional.of(place.coordinate())),
+            pick(PlaceField.DISPLAY_MAP_REGION, place.displayMapRegion()),
+            pick(PlaceField.FORMATTED_ADDRESS_LINES, place.formattedAddressLines()),
+            pick(PlaceField.STRUCTURED_ADDRESS, place.structuredAddress()),
+            pick(PlaceField.COUNTRY, Optional.of(place.country())),
+            pick(PlaceField.COUNTRY_CODE, Optional.of(place.countryCode())),
+            Optional.empty()
+        );
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof PlaceProjection projection && fields.equals(projection.fields);
+    }
+
+    @Override
+    public int hashCode() {
+        return fields.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "PlaceProjection" + fields;
+    }
+
+    private <T> Optional<T> pick(PlaceField field, Optional<T> value) {
+        return includes(field) ? value : Optional.empty();
+    }
+
+    private <T> List<T> pick(PlaceField field, List<T> value) {
+        return includes(field) ? value : List.of();
+    }
+}
@@ -0,0 +1,170 @@
+package com.williamcallahan.applemaps.domain.model;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * An immutable sequence of coordinates packed into a single {@code double[]}.
+ *
+ * <p>Latitudes and longitudes are stored interleaved, 16 bytes per point. {@link #get(int)} creates
+ * {@link Location} views on demand, so a polyline can be used anywhere a {@code List<Location>} is
+ * expected while only the primitive array stays in memory.</p>
+ */
+public final class Polyline extends AbstractList<Location> implements RandomAccess {
+    private static final int VALUES_PER_POINT = 2;
+    private static final int DEFAULT_BUILDER_CAPACITY = 16;
+    private static final Polyline EMPTY = new Polyline(new double[0]);
+
+    private final double[] coordinates;
+
+    private Polyline(double[] coordinates) {
+        this.coordinates = coordinates;
+    }
+
+    /**
+     * Returns an empty polyline.
+     *
+     * @return the empty polyline
+     */
+    public static Polyline empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Creates a polyline from locations, skipping {@code null} entries.
+     *
+     * @param locations locations in path order
+     * @return a polyline holding the same points
+     */
+    public static Polyline fromLocations(List<Location> locations) {
+        Objects.requireNonNull(locations, "locations");
+        if (locations instanceof Polyline polyline) {
+            return polyline;
+        }
+        Builder builder = new Builder(locations.size());
+        for (Location location : locations) {
+            if (location != null) {
+                builder.appendValidated(location.latitude(), location.longitude());
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Creates a builder for a polyline.
+     *
+     * @param expectedPoints expected number of points, used to size the backing array
+     * @return a new builder
+     */
+    public static Builder builder(int expectedPoints) {
+        return new Builder(expectedPoints);
+    }
+
+    /**
+     * Returns the latitude of a point without creating a {@link Location}.
+     *
+     * @param index point index
+     * @return latitude in decimal degrees
+     */
+    public double latitude(int index) {
+        Objects.checkIndex(index, size());
+        return coordinates[index * VALUES_PER_POINT];
+    }
+
+    /**
+     * Returns the longitude of a point without creating a {@link Location}.
+     *
+     * @param index point index
+     * @return longitude in decimal degrees
+     */
+    public double longitude(int index) {
+        Objects.checkIndex(index, size());
+        return coordinates[index * VALUES_PER_POINT + 1];
+    }
+
+    /**
+     * Returns a copy of the packed coordinates as {@code [lat0, lng0, lat1, lng1, ...]}.
+     *
+     * @return interleaved latitude and longitude values
+     */
+    public double[] toCoordinateArray() {
+        return coordinates.clone();
+    }
+
+    @Override
+    public Location get(int index) {
+        return new Location(latitude(index), longitude(index));
+    }
+
+    @Override
+    public int size() {
+        return coordinates.length / VALUES_PER_POINT;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other instanceof Polyline polyline) {
+            return Arrays.equals(coordinates, polyline.coordinates);
+        }
+        return super.equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+
+    /**
+     * Builder for {@link Polyline}.
+     */
+    public static final class Builder {
+        private double[] coordinates;
+        private int length;
+
+        private Builder(int expectedPoints) {
+            if (expectedPoints < 0) {
+                throw new IllegalArgumentException("expectedPoints must not be negative.");
+            }
+            int capacity = expectedPoints == 0 ? DEFAULT_BUILDER_CAPACITY : expectedPoints;
+            this.coordinates = new double[capacity * VALUES_PER_POINT];
+        }
+
+        /**
+         * Appends a point after validating its bounds.
+         *
+         * @param latitude latitude in decimal degrees
+         * @param longitude longitude in decimal degrees
+         * @return this builder
+         */
+        public Builder add(double latitude, double longitude) {
+            Location.validateLatitudeLongitude(latitude, longitude);
+            appendValidated(latitude, longitude);
+            return this;
+        }
+
+        /**
+         * Builds the polyline; the builder must not be used afterwards.
+         *
+         * @return the polyline
+         */
+        public Polyline build() {
+            if (length == 0) {
+                return EMPTY;
+            }
+            double[] packed = length == coordinates.length ? coordinates : Arrays.copyOf(coordinates, length);
+            coordinates = null;
+            return new Polyline(packed);
+        }
+
+        private void appendValidated(double latitude, double longitude) {
+            if (length + VALUES_PER_POINT > coordinates.length) {
+                coordinates = Arrays.copyOf(coordinates, Math.max(coordinates.length * 2, VALUES_PER_POINT));
+            }
+            coordinates[length++] = latitude;
+            coordinates[length++] = longitude;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.williamcallahan.applemaps.domain.model;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A place result holding only the fields requested by a {@link PlaceProjection}.
+ *
+ * <p>Fields outside the projection are always empty, even when the API returned them.</p>
+ */
+public record ProjectedPlace(
+    Optional<String> id,
+    List<String> alternateIds,
+    Optional<String> name,
+    Optional<Location> coordinate,
+    Optional<MapRegion> displayMapRegion,
+    List<String> formattedAddressLines,
+    Optional<StructuredAddress> structuredAddress,
+    Optional<String> country,
+    Optional<String> countryCode,
+    Optional<PoiCategory> poiCategory
+) {
+    /**
+     * Canonical constructor that normalizes potentially-null optionals and lists.
+     *
+     * @param id place identifier, if requested and available
+     * @param alternateIds alternate place identifiers, if requested
+     * @param name place name, if requested and available
+     * @param coordinate place coordinate, if requested and available
+     * @param displayMapRegion map region to display, if requested and available
+     * @param formattedAddressLines formatted address lines, if requested
+     * @param structuredAddress structured address, if requested and available
+     * @param country country name, if requested and available
+     * @param countryCode country code, if requested and available
+     * @param poiCategory point-of-interest category, if requested and available
+     */
+    public ProjectedPlace {
+        id = normalizeOptional(id);
+        alternateIds = normalizeList(alternateIds);
+        name = normalizeOptional(name);
+        coordinate = normalizeOptional(coordinate);
+        displayMapRegion = normalizeOptional(displayMapRegion);
+        formattedAddressLines = normalizeList(formattedAddressLines);
+        structuredAddress = normalizeOptional(structuredAddress);
+        country = normalizeOptional(country);
+        countryCode = normalizeOptional(countryCode);
+        poiCategory = normalizeOptional(poiCategory);
+    }
+
+    private static <T> Optional<T> normalizeOptional(Optional<T> optionalInput) {
+        return Objects.requireNonNullElse(optionalInput, Optional.empty());
+    }
+
+    private static <T> List<T> normalizeList(List<T> rawList) {
+        if (rawList == null) {
+            return List.of();
+        }
+        return rawList.stream()
+            .filter(Objects::nonNull)
+            .toList();
+    }
+}
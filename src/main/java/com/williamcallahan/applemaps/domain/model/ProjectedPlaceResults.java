@@ -0,0 +1,30 @@
+package com.williamcallahan.applemaps.domain.model;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Projected place results from a search or geocode request.
+ */
+public record ProjectedPlaceResults(List<ProjectedPlace> results, Optional<PaginationInfo> paginationInfo) {
+    /**
+     * Canonical constructor that normalizes potentially-null optionals and lists.
+     *
+     * @param results projected places returned by the API
+     * @param paginationInfo pagination information, if available (search only)
+     */
+    public ProjectedPlaceResults {
+        results = normalizeList(results);
+        paginationInfo = Objects.requireNonNullElse(paginationInfo, Optional.empty());
+    }
+
+    private static List<ProjectedPlace> normalizeList(List<ProjectedPlace> rawList) {
+        if (rawList == null) {
+            return List.of();
+        }
+        return rawList.stream()
+            .filter(Objects::nonNull)
+            .toList();
+    }
+}
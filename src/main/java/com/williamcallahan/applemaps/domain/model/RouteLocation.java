@@ -7,6 +7,7 @@ import java.util.Objects;
  */
 public record RouteLocation(String coordinatePair) {
     private static final String COORDINATE_SEPARATOR = ",";
+    private static final int COORDINATE_PAIR_CAPACITY = 32;
 
     /**
      * Canonical constructor that validates the coordinate pair is non-null.
@@ -25,7 +26,20 @@ public record RouteLocation(String coordinatePair) {
      * @return a route location
      */
     public static RouteLocation fromLatitudeLongitude(double latitude, double longitude) {
-        return new RouteLocation(formatCoordinatePair(latitude, longitude));
+        return fromLatitudeLongitude(latitude, longitude, CoordinateFormat.SHORTEST);
+    }
+
+    /**
+     * Creates a route location from latitude/longitude coordinates using a specific coordinate format.
+     *
+     * @param latitude latitude in decimal degrees
+     * @param longitude longitude in decimal degrees
+     * @param coordinateFormat format used to write each coordinate
+     * @return a route location
+     */
+    public static RouteLocation fromLatitudeLongitude(double latitude, double longitude, CoordinateFormat coordinateFormat) {
+        Objects.requireNonNull(coordinateFormat, "coordinateFormat");
+        return new RouteLocation(formatCoordinatePair(latitude, longitude, coordinateFormat));
     }
 
     /**
@@ -37,7 +51,9 @@ public record RouteLocation(String coordinatePair) {
         return coordinatePair;
     }
 
-    private static String formatCoordinatePair(double latitude, double longitude) {
-        return Double.toString(latitude) + COORDINATE_SEPARATOR + Double.toString(longitude);
+    private static String formatCoordinatePair(double latitude, double longitude, CoordinateFormat coordinateFormat) {
+        StringBuilder coordinatePair = new StringBuilder(COORDINATE_PAIR_CAPACITY);
+        coordinateFormat.appendTo(coordinatePair, latitude).append(COORDINATE_SEPARATOR);
+        return coordinateFormat.appendTo(coordinatePair, longitude).toString();
     }
 }
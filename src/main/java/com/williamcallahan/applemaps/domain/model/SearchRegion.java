@@ -1,6 +1,5 @@
 package com.williamcallahan.applemaps.domain.model;
 
-import java.util.List;
 import java.util.Objects;
 
 /**
@@ -8,6 +7,7 @@ import java.util.Objects;
  */
 public record SearchRegion(String coordinateBounds) {
     private static final String COORDINATE_SEPARATOR = ",";
+    private static final int COORDINATE_BOUNDS_CAPACITY = 64;
 
     /**
      * Canonical constructor that validates the coordinate bounds are non-null.
@@ -33,7 +33,30 @@ public record SearchRegion(String coordinateBounds) {
         double southLatitude,
         double westLongitude
     ) {
-        return new SearchRegion(formatBounds(northLatitude, eastLongitude, southLatitude, westLongitude));
+        return fromBounds(northLatitude, eastLongitude, southLatitude, westLongitude, CoordinateFormat.SHORTEST);
+    }
+
+    /**
+     * Creates a search region from a bounding box using a specific coordinate format.
+     *
+     * @param northLatitude northern latitude in decimal degrees
+     * @param eastLongitude eastern longitude in decimal degrees
+     * @param southLatitude southern latitude in decimal degrees
+     * @param westLongitude western longitude in decimal degrees
+     * @param coordinateFormat format used to write each coordinate
+     * @return a search region
+     */
+    public static SearchRegion fromBounds(
+        double northLatitude,
+        double eastLongitude,
+        double southLatitude,
+        double westLongitude,
+        CoordinateFormat coordinateFormat
+    ) {
+        Objects.requireNonNull(coordinateFormat, "coordinateFormat");
+        return new SearchRegion(
+            formatBounds(northLatitude, eastLongitude, southLatitude, westLongitude, coordinateFormat)
+        );
     }
 
     /**
@@ -65,16 +88,13 @@ public record SearchRegion(String coordinateBounds) {
         double northLatitude,
         double eastLongitude,
         double southLatitude,
-        double westLongitude
+        double westLongitude,
+        CoordinateFormat coordinateFormat
     ) {
-        return String.join(
-            COORDINATE_SEPARATOR,
-            List.of(
-                Double.toString(northLatitude),
-                Double.toString(eastLongitude),
-                Double.toString(southLatitude),
-                Double.toString(westLongitude)
-            )
-        );
+        StringBuilder coordinateBounds = new StringBuilder(COORDINATE_BOUNDS_CAPACITY);
+        coordinateFormat.appendTo(coordinateBounds, northLatitude).append(COORDINATE_SEPARATOR);
+        coordinateFormat.appendTo(coordinateBounds, eastLongitude).append(COORDINATE_SEPARATOR);
+        coordinateFormat.appendTo(coordinateBounds, southLatitude).append(COORDINATE_SEPARATOR);
+        return coordinateFormat.appendTo(coordinateBounds, westLongitude).toString();
     }
 }
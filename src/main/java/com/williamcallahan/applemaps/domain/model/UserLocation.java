@@ -7,6 +7,7 @@ import java.util.Objects;
  */
 public record UserLocation(String coordinatePair) {
     private static final String COORDINATE_SEPARATOR = ",";
+    private static final int COORDINATE_PAIR_CAPACITY = 32;
 
     /**
      * Canonical constructor that validates the coordinate pair is non-null.
@@ -28,7 +29,24 @@ public record UserLocation(String coordinatePair) {
         double latitude,
         double longitude
     ) {
-        return new UserLocation(formatCoordinatePair(latitude, longitude));
+        return fromLatitudeLongitude(latitude, longitude, CoordinateFormat.SHORTEST);
+    }
+
+    /**
+     * Creates a user location from latitude/longitude coordinates using a specific coordinate format.
+     *
+     * @param latitude latitude in decimal degrees
+     * @param longitude longitude in decimal degrees
+     * @param coordinateFormat format used to write each coordinate
+     * @return a user location
+     */
+    public static UserLocation fromLatitudeLongitude(
+        double latitude,
+        double longitude,
+        CoordinateFormat coordinateFormat
+    ) {
+        Objects.requireNonNull(coordinateFormat, "coordinateFormat");
+        return new UserLocation(formatCoordinatePair(latitude, longitude, coordinateFormat));
     }
 
     /**
@@ -42,12 +60,11 @@ public record UserLocation(String coordinatePair) {
 
     private static String formatCoordinatePair(
         double latitude,
-        double longitude
+        double longitude,
+        CoordinateFormat coordinateFormat
     ) {
-        return (
-            Double.toString(latitude) +
-            COORDINATE_SEPARATOR +
-            Double.toString(longitude)
-        );
+        StringBuilder coordinatePair = new StringBuilder(COORDINATE_PAIR_CAPACITY);
+        coordinateFormat.appendTo(coordinatePair, latitude).append(COORDINATE_SEPARATOR);
+        return coordinateFormat.appendTo(coordinatePair, longitude).toString();
     }
 }
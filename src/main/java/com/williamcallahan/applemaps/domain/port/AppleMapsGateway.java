@@ -4,8 +4,10 @@ import com.williamcallahan.applemaps.domain.model.AlternateIdsResponse;
 import com.williamcallahan.applemaps.domain.model.DirectionsResponse;
 import com.williamcallahan.applemaps.domain.model.EtaResponse;
 import com.williamcallahan.applemaps.domain.model.Place;
+import com.williamcallahan.applemaps.domain.model.PlaceProjection;
 import com.williamcallahan.applemaps.domain.model.PlaceResults;
 import com.williamcallahan.applemaps.domain.model.PlacesResponse;
+import com.williamcallahan.applemaps.domain.model.ProjectedPlaceResults;
 import com.williamcallahan.applemaps.domain.model.SearchAutocompleteResponse;
 import com.williamcallahan.applemaps.domain.model.SearchResponse;
 import com.williamcallahan.applemaps.domain.request.AlternateIdsInput;
@@ -28,6 +30,20 @@ public interface AppleMapsGateway {
      */
     PlaceResults geocode(GeocodeInput input);
 
+    /**
+     * Performs a geocode request, keeping only the projected place fields.
+     *
+     * <p>The default implementation projects a fully decoded {@link #geocode(GeocodeInput)} response;
+     * adapters may skip unrequested fields while decoding instead.</p>
+     *
+     * @param input request parameters
+     * @param projection place fields to keep
+     * @return projected geocode results
+     */
+    default ProjectedPlaceResults geocode(GeocodeInput input, PlaceProjection projection) {
+        return projection.project(geocode(input));
+    }
+
     /**
      * Performs a text search request.
      *
@@ -36,6 +52,20 @@ public interface AppleMapsGateway {
      */
     SearchResponse search(SearchInput input);
 
+    /**
+     * Performs a text search request, keeping only the projected place fields.
+     *
+     * <p>The default implementation projects a fully decoded {@link #search(SearchInput)} response;
+     * adapters may skip unrequested fields while decoding instead.</p>
+     *
+     * @param input request parameters
+     * @param projection place fields to keep
+     * @return projected search results
+     */
+    default ProjectedPlaceResults search(SearchInput input, PlaceProjection projection) {
+        return projection.project(search(input));
+    }
+
     /**
      * Performs an autocomplete request.
      *
@@ -0,0 +1,112 @@
+package com.williamcallahan.applemaps.domain.port;
+
+import java.util.Objects;
+
+import com.williamcallahan.applemaps.domain.model.AlternateIdsResponse;
+import com.williamcallahan.applemaps.domain.model.DirectionsResponse;
+import com.williamcallahan.applemaps.domain.model.EtaResponse;
+import com.williamcallahan.applemaps.domain.model.Place;
+import com.williamcallahan.applemaps.domain.model.PlaceProjection;
+import com.williamcallahan.applemaps.domain.model.PlaceResults;
+import com.williamcallahan.applemaps.domain.model.PlacesResponse;
+import com.williamcallahan.applemaps.domain.model.ProjectedPlaceResults;
+import com.williamcallahan.applemaps.domain.model.SearchAutocompleteResponse;
+import com.williamcallahan.applemaps.domain.model.SearchResponse;
+import com.williamcallahan.applemaps.domain.request.AlternateIdsInput;
+import com.williamcallahan.applemaps.domain.request.DirectionsInput;
+import com.williamcallahan.applemaps.domain.request.EtaInput;
+import com.williamcallahan.applemaps.domain.request.GeocodeInput;
+import com.williamcallahan.applemaps.domain.request.PlaceLookupInput;
+import com.williamcallahan.applemaps.domain.request.SearchAutocompleteInput;
+import com.williamcallahan.applemaps.domain.request.SearchInput;
+
+/**
+ * Gateway decorator that passes every operation, including projected requests and {@link #close()}, to
+ * another gateway. Subclasses override only the operations they change.
+ */
+public abstract class ForwardingAppleMapsGateway implements AppleMapsGateway {
+    private final AppleMapsGateway delegate;
+
+    /**
+     * Creates a gateway that forwards to another.
+     *
+     * @param delegate gateway that performs the calls; closed with this gateway
+     */
+    protected ForwardingAppleMapsGateway(AppleMapsGateway delegate) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+    }
+
+    /**
+     * Returns the gateway that performs the calls.
+     *
+     * @return the delegate
+     */
+    protected final AppleMapsGateway delegate() {
+        return delegate;
+    }
+
+    @Override
+    public PlaceResults geocode(GeocodeInput input) {
+        return delegate.geocode(input);
+    }
+
+    @Override
+    public ProjectedPlaceResults geocode(GeocodeInput input, PlaceProjection projection) {
+        return delegate.geocode(input, projection);
+    }
+
+    @Override
+    public SearchResponse search(SearchInput input) {
+        return delegate.search(input);
+    }
+
+    @Override
+    public ProjectedPlaceResults search(SearchInput input, PlaceProjection projection) {
+        return delegate.search(input, projection);
+    }
+
+    @Override
+    public SearchAutocompleteResponse autocomplete(SearchAutocompleteInput input) {
+        return delegate.autocomplete(input);
+    }
+
+    @Override
+    public SearchResponse resolveCompletionUrl(String completionUrl) {
+        return delegate.resolveCompletionUrl(completionUrl);
+    }
+
+    @Override
+    public PlaceResults reverseGeocode(double latitude, double longitude, String language) {
+        return delegate.reverseGeocode(latitude, longitude, language);
+    }
+
+    @Override
+    public DirectionsResponse directions(DirectionsInput input) {
+        return delegate.directions(input);
+    }
+
+    @Override
+    public EtaResponse etas(EtaInput input) {
+        return delegate.etas(input);
+    }
+
+    @Override
+    public Place lookupPlace(String placeId, String language) {
+        return delegate.lookupPlace(placeId, language);
+    }
+
+    @Override
+    public PlacesResponse lookupPlaces(PlaceLookupInput input) {
+        return delegate.lookupPlaces(input);
+    }
+
+    @Override
+    public AlternateIdsResponse lookupAlternateIds(AlternateIdsInput input) {
+        return delegate.lookupAlternateIds(input);
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+}
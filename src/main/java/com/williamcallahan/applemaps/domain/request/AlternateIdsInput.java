@@ -1,17 +1,13 @@
 package com.williamcallahan.applemaps.domain.request;
 
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Function;
 
 /**
  * Input parameters for alternate place ID requests.
  */
 public record AlternateIdsInput(List<String> ids) {
-    private static final String QUERY_PREFIX = "?";
-    private static final String PARAMETER_SEPARATOR = "&";
     private static final String PARAMETER_IDS = "ids";
     private static final String LIST_SEPARATOR = ",";
 
@@ -31,9 +27,9 @@ public record AlternateIdsInput(List<String> ids) {
      * @return a query string beginning with {@code ?}
      */
     public String toQueryString() {
-        List<String> parameters = new ArrayList<>();
-        parameters.add(formatParameter(PARAMETER_IDS, joinEncoded(ids)));
-        return QUERY_PREFIX + String.join(PARAMETER_SEPARATOR, parameters);
+        return new QueryStringWriter()
+            .encodedListParameter(PARAMETER_IDS, ids, Function.identity(), LIST_SEPARATOR)
+            .toQueryString();
     }
 
     /**
@@ -56,21 +52,6 @@ public record AlternateIdsInput(List<String> ids) {
         return List.copyOf(Objects.requireNonNullElse(rawList, List.of()));
     }
 
-    private static String joinEncoded(List<String> values) {
-        return values.stream()
-            .map(AlternateIdsInput::encode)
-            .reduce((left, right) -> left + LIST_SEPARATOR + right)
-            .orElse("");
-    }
-
-    private static String formatParameter(String name, String parameterText) {
-        return name + "=" + parameterText;
-    }
-
-    private static String encode(String rawText) {
-        return URLEncoder.encode(rawText, StandardCharsets.UTF_8);
-    }
-
     /**
      * Builder for {@link AlternateIdsInput}.
      */
@@ -5,13 +5,9 @@ import com.williamcallahan.applemaps.domain.model.DirectionsEndpoint;
 import com.williamcallahan.applemaps.domain.model.RouteLocation;
 import com.williamcallahan.applemaps.domain.model.SearchRegion;
 import com.williamcallahan.applemaps.domain.model.TransportType;
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.function.Function;
 
 /**
  * Input parameters for directions requests.
@@ -29,8 +25,6 @@ public record DirectionsInput(
     Optional<TransportType> transportType,
     Optional<RouteLocation> userLocation
 ) {
-    private static final String QUERY_PREFIX = "?";
-    private static final String PARAMETER_SEPARATOR = "&";
     private static final String LIST_SEPARATOR = ",";
     private static final String PARAMETER_ORIGIN = "origin";
     private static final String PARAMETER_DESTINATION = "destination";
@@ -80,26 +74,37 @@ public record DirectionsInput(
      * @return a query string beginning with {@code ?}
      */
     public String toQueryString() {
-        List<String> parameters = new ArrayList<>();
-        parameters.add(formatParameter(PARAMETER_ORIGIN, encode(origin.toQueryString())));
-        parameters.add(formatParameter(PARAMETER_DESTINATION, encode(destination.toQueryString())));
-        arrivalDate.ifPresent(arrivalDateText -> parameters.add(formatParameter(PARAMETER_ARRIVAL_DATE, encode(arrivalDateText))));
+        QueryStringWriter writer = new QueryStringWriter()
+            .encodedParameter(PARAMETER_ORIGIN, origin.toQueryString())
+            .encodedParameter(PARAMETER_DESTINATION, destination.toQueryString());
+        if (arrivalDate.isPresent()) {
+            writer.encodedParameter(PARAMETER_ARRIVAL_DATE, arrivalDate.get());
+        }
         if (!avoid.isEmpty()) {
-            parameters.add(formatParameter(PARAMETER_AVOID, joinApiValues(avoid, DirectionsAvoid::apiValue)));
+            writer.apiValuesParameter(PARAMETER_AVOID, avoid, EncodedApiValues.DIRECTIONS_AVOID, LIST_SEPARATOR);
+        }
+        if (departureDate.isPresent()) {
+            writer.encodedParameter(PARAMETER_DEPARTURE_DATE, departureDate.get());
+        }
+        if (language.isPresent()) {
+            writer.encodedParameter(PARAMETER_LANGUAGE, language.get());
+        }
+        if (requestsAlternateRoutes.isPresent()) {
+            writer.parameter(PARAMETER_REQUESTS_ALTERNATE_ROUTES, requestsAlternateRoutes.get().booleanValue());
+        }
+        if (searchLocation.isPresent()) {
+            writer.parameter(PARAMETER_SEARCH_LOCATION, searchLocation.get().toQueryString());
+        }
+        if (searchRegion.isPresent()) {
+            writer.parameter(PARAMETER_SEARCH_REGION, searchRegion.get().toQueryString());
+        }
+        if (transportType.isPresent()) {
+            writer.apiValueParameter(PARAMETER_TRANSPORT_TYPE, transportType.get(), EncodedApiValues.TRANSPORT_TYPES);
         }
-        departureDate.ifPresent(departureDateText -> parameters.add(formatParameter(PARAMETER_DEPARTURE_DATE, encode(departureDateText))));
-        language.ifPresent(languageTag -> parameters.add(formatParameter(PARAMETER_LANGUAGE, encode(languageTag))));
-        requestsAlternateRoutes.ifPresent(alternateRoutesFlag ->
-            parameters.add(formatParameter(PARAMETER_REQUESTS_ALTERNATE_ROUTES, alternateRoutesFlag.toString())));
-        searchLocation.ifPresent(searchLocationInput ->
-            parameters.add(formatParameter(PARAMETER_SEARCH_LOCATION, searchLocationInput.toQueryString())));
-        searchRegion.ifPresent(searchRegionInput ->
-            parameters.add(formatParameter(PARAMETER_SEARCH_REGION, searchRegionInput.toQueryString())));
-        transportType.ifPresent(transportMode ->
-            parameters.add(formatParameter(PARAMETER_TRANSPORT_TYPE, transportMode.apiValue())));
-        userLocation.ifPresent(userLocationInput ->
-            parameters.add(formatParameter(PARAMETER_USER_LOCATION, userLocationInput.toQueryString())));
-        return QUERY_PREFIX + String.join(PARAMETER_SEPARATOR, parameters);
+        if (userLocation.isPresent()) {
+            writer.parameter(PARAMETER_USER_LOCATION, userLocation.get().toQueryString());
+        }
+        return writer.toQueryString();
     }
 
     /**
@@ -127,21 +132,6 @@ public record DirectionsInput(
         return Objects.requireNonNullElse(optionalInput, Optional.empty());
     }
 
-    private static <T> String joinApiValues(List<T> values, Function<T, String> apiMapper) {
-        return values.stream()
-            .map(apiMapper)
-            .reduce((left, right) -> left + LIST_SEPARATOR + right)
-            .orElse("");
-    }
-
-    private static String formatParameter(String name, String parameterText) {
-        return name + "=" + parameterText;
-    }
-
-    private static String encode(String rawText) {
-        return URLEncoder.encode(rawText, StandardCharsets.UTF_8);
-    }
-
     /**
      * Builder for {@link DirectionsInput}.
      */
@@ -0,0 +1,61 @@
+package com.williamcallahan.applemaps.domain.request;
+
+import com.williamcallahan.applemaps.domain.model.AddressCategory;
+import com.williamcallahan.applemaps.domain.model.DirectionsAvoid;
+import com.williamcallahan.applemaps.domain.model.PoiCategory;
+import com.williamcallahan.applemaps.domain.model.SearchACResultType;
+import com.williamcallahan.applemaps.domain.model.SearchRegionPriority;
+import com.williamcallahan.applemaps.domain.model.SearchResultType;
+import com.williamcallahan.applemaps.domain.model.TransportType;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Query-encoded API values for an enum type, computed once and indexed by ordinal.
+ *
+ * @param <E> enum type
+ */
+final class EncodedApiValues<E extends Enum<E>> {
+    static final EncodedApiValues<PoiCategory> POI_CATEGORIES =
+        of(PoiCategory.class, PoiCategory::apiValue);
+    static final EncodedApiValues<AddressCategory> ADDRESS_CATEGORIES =
+        of(AddressCategory.class, AddressCategory::apiValue);
+    static final EncodedApiValues<SearchResultType> SEARCH_RESULT_TYPES =
+        of(SearchResultType.class, SearchResultType::apiValue);
+    static final EncodedApiValues<SearchACResultType> AUTOCOMPLETE_RESULT_TYPES =
+        of(SearchACResultType.class, SearchACResultType::apiValue);
+    static final EncodedApiValues<SearchRegionPriority> SEARCH_REGION_PRIORITIES =
+        of(SearchRegionPriority.class, SearchRegionPriority::apiValue);
+    static final EncodedApiValues<DirectionsAvoid> DIRECTIONS_AVOID =
+        of(DirectionsAvoid.class, DirectionsAvoid::apiValue);
+    static final EncodedApiValues<TransportType> TRANSPORT_TYPES =
+        of(TransportType.class, TransportType::apiValue);
+
+    private final String[] encodedByOrdinal;
+
+    private EncodedApiValues(String[] encodedByOrdinal) {
+        this.encodedByOrdinal = encodedByOrdinal;
+    }
+
+    /**
+     * Returns the query-encoded API value for the given constant.
+     *
+     * @param value enum constant
+     * @return the encoded API value
+     */
+    String encoded(E value) {
+        return encodedByOrdinal[Objects.requireNonNull(value, "value").ordinal()];
+    }
+
+    private static <E extends Enum<E>> EncodedApiValues<E> of(Class<E> enumType, Function<E, String> apiValueMapper) {
+        E[] constants = enumType.getEnumConstants();
+        String[] encodedByOrdinal = new String[constants.length];
+        for (E constant : constants) {
+            encodedByOrdinal[constant.ordinal()] =
+                URLEncoder.encode(apiValueMapper.apply(constant), StandardCharsets.UTF_8);
+        }
+        return new EncodedApiValues<>(encodedByOrdinal);
+    }
+}
@@ -2,9 +2,6 @@ package com.williamcallahan.applemaps.domain.request;
 
 import com.williamcallahan.applemaps.domain.model.RouteLocation;
 import com.williamcallahan.applemaps.domain.model.TransportType;
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -20,9 +17,7 @@ public record EtaInput(
     Optional<String> arrivalDate
 ) {
     private static final int MAX_DESTINATIONS = 10;
-    private static final String QUERY_PREFIX = "?";
-    private static final String PARAMETER_SEPARATOR = "&";
-    private static final String DESTINATION_SEPARATOR = "|";
+    private static final String ENCODED_DESTINATION_SEPARATOR = "%7C";
     private static final String PARAMETER_ORIGIN = "origin";
     private static final String PARAMETER_DESTINATIONS = "destinations";
     private static final String PARAMETER_TRANSPORT_TYPE = "transportType";
@@ -53,13 +48,19 @@ public record EtaInput(
      * @return a query string beginning with {@code ?}
      */
     public String toQueryString() {
-        List<String> parameters = new ArrayList<>();
-        parameters.add(formatParameter(PARAMETER_ORIGIN, encode(origin.toQueryString())));
-        parameters.add(formatParameter(PARAMETER_DESTINATIONS, encode(joinDestinations(destinations))));
-        transportType.ifPresent(transportMode -> parameters.add(formatParameter(PARAMETER_TRANSPORT_TYPE, transportMode.apiValue())));
-        departureDate.ifPresent(departureDateText -> parameters.add(formatParameter(PARAMETER_DEPARTURE_DATE, encode(departureDateText))));
-        arrivalDate.ifPresent(arrivalDateText -> parameters.add(formatParameter(PARAMETER_ARRIVAL_DATE, encode(arrivalDateText))));
-        return QUERY_PREFIX + String.join(PARAMETER_SEPARATOR, parameters);
+        QueryStringWriter writer = new QueryStringWriter()
+            .encodedParameter(PARAMETER_ORIGIN, origin.toQueryString())
+            .encodedListParameter(PARAMETER_DESTINATIONS, destinations, RouteLocation::toQueryString, ENCODED_DESTINATION_SEPARATOR);
+        if (transportType.isPresent()) {
+            writer.apiValueParameter(PARAMETER_TRANSPORT_TYPE, transportType.get(), EncodedApiValues.TRANSPORT_TYPES);
+        }
+        if (departureDate.isPresent()) {
+            writer.encodedParameter(PARAMETER_DEPARTURE_DATE, departureDate.get());
+        }
+        if (arrivalDate.isPresent()) {
+            writer.encodedParameter(PARAMETER_ARRIVAL_DATE, arrivalDate.get());
+        }
+        return writer.toQueryString();
     }
 
     /**
@@ -90,21 +91,6 @@ public record EtaInput(
         return Objects.requireNonNullElse(optionalInput, Optional.empty());
     }
 
-    private static String joinDestinations(List<RouteLocation> destinations) {
-        return destinations.stream()
-            .map(RouteLocation::toQueryString)
-            .reduce((left, right) -> left + DESTINATION_SEPARATOR + right)
-            .orElse("");
-    }
-
-    private static String formatParameter(String name, String parameterText) {
-        return name + "=" + parameterText;
-    }
-
-    private static String encode(String rawText) {
-        return URLEncoder.encode(rawText, StandardCharsets.UTF_8);
-    }
-
     /**
      * Builder for {@link EtaInput}.
      */
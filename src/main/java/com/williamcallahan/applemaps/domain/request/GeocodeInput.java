@@ -3,12 +3,10 @@ package com.williamcallahan.applemaps.domain.request;
 import com.williamcallahan.applemaps.domain.model.SearchLocation;
 import com.williamcallahan.applemaps.domain.model.SearchRegion;
 import com.williamcallahan.applemaps.domain.model.UserLocation;
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 
 /**
  * Input parameters for the geocoding API.
@@ -21,8 +19,6 @@ public record GeocodeInput(
     Optional<SearchRegion> searchRegion,
     Optional<UserLocation> userLocation
 ) {
-    private static final String QUERY_PREFIX = "?";
-    private static final String PARAMETER_SEPARATOR = "&";
     private static final String LIST_SEPARATOR = ",";
     private static final String PARAMETER_QUERY = "q";
     private static final String PARAMETER_LIMIT_TO_COUNTRIES = "limitToCountries";
@@ -56,16 +52,23 @@ public record GeocodeInput(
      * @return a query string beginning with {@code ?}
      */
     public String toQueryString() {
-        List<String> parameters = new ArrayList<>();
-        parameters.add(formatParameter(PARAMETER_QUERY, encode(address)));
+        QueryStringWriter writer = new QueryStringWriter().encodedParameter(PARAMETER_QUERY, address);
         if (!limitToCountries.isEmpty()) {
-            parameters.add(formatParameter(PARAMETER_LIMIT_TO_COUNTRIES, joinEncoded(limitToCountries)));
+            writer.encodedListParameter(PARAMETER_LIMIT_TO_COUNTRIES, limitToCountries, Function.identity(), LIST_SEPARATOR);
         }
-        language.ifPresent(value -> parameters.add(formatParameter(PARAMETER_LANGUAGE, encode(value))));
-        searchLocation.ifPresent(value -> parameters.add(formatParameter(PARAMETER_SEARCH_LOCATION, value.toQueryString())));
-        searchRegion.ifPresent(value -> parameters.add(formatParameter(PARAMETER_SEARCH_REGION, value.toQueryString())));
-        userLocation.ifPresent(value -> parameters.add(formatParameter(PARAMETER_USER_LOCATION, value.toQueryString())));
-        return QUERY_PREFIX + String.join(PARAMETER_SEPARATOR, parameters);
+        if (language.isPresent()) {
+            writer.encodedParameter(PARAMETER_LANGUAGE, language.get());
+        }
+        if (searchLocation.isPresent()) {
+            writer.parameter(PARAMETER_SEARCH_LOCATION, searchLocation.get().toQueryString());
+        }
+        if (searchRegion.isPresent()) {
+            writer.parameter(PARAMETER_SEARCH_REGION, searchRegion.get().toQueryString());
+        }
+        if (userLocation.isPresent()) {
+            writer.parameter(PARAMETER_USER_LOCATION, userLocation.get().toQueryString());
+        }
+        return writer.toQueryString();
     }
 
     /**
@@ -86,21 +89,6 @@ public record GeocodeInput(
         return Objects.requireNonNullElse(optionalInput, Optional.empty());
     }
 
-    private static String joinEncoded(List<String> values) {
-        return values.stream()
-            .map(GeocodeInput::encode)
-            .reduce((left, right) -> left + LIST_SEPARATOR + right)
-            .orElse("");
-    }
-
-    private static String formatParameter(String name, String value) {
-        return name + "=" + value;
-    }
-
-    private static String encode(String value) {
-        return URLEncoder.encode(value, StandardCharsets.UTF_8);
-    }
-
     /**
      * Builder for {@link GeocodeInput}.
      */
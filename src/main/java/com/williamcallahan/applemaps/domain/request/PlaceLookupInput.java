@@ -1,18 +1,14 @@
 package com.williamcallahan.applemaps.domain.request;
 
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 
 /**
  * Input parameters for place lookup requests.
  */
 public record PlaceLookupInput(List<String> ids, Optional<String> language) {
-    private static final String QUERY_PREFIX = "?";
-    private static final String PARAMETER_SEPARATOR = "&";
     private static final String LIST_SEPARATOR = ",";
     private static final String PARAMETER_IDS = "ids";
     private static final String PARAMETER_LANGUAGE = "lang";
@@ -35,10 +31,12 @@ public record PlaceLookupInput(List<String> ids, Optional<String> language) {
      * @return a query string beginning with {@code ?}
      */
     public String toQueryString() {
-        List<String> parameters = new ArrayList<>();
-        parameters.add(formatParameter(PARAMETER_IDS, joinEncoded(ids)));
-        language.ifPresent(languageTag -> parameters.add(formatParameter(PARAMETER_LANGUAGE, encode(languageTag))));
-        return QUERY_PREFIX + String.join(PARAMETER_SEPARATOR, parameters);
+        QueryStringWriter writer = new QueryStringWriter()
+            .encodedListParameter(PARAMETER_IDS, ids, Function.identity(), LIST_SEPARATOR);
+        if (language.isPresent()) {
+            writer.encodedParameter(PARAMETER_LANGUAGE, language.get());
+        }
+        return writer.toQueryString();
     }
 
     /**
@@ -65,21 +63,6 @@ public record PlaceLookupInput(List<String> ids, Optional<String> language) {
         return Objects.requireNonNullElse(optionalInput, Optional.empty());
     }
 
-    private static String joinEncoded(List<String> values) {
-        return values.stream()
-            .map(PlaceLookupInput::encode)
-            .reduce((left, right) -> left + LIST_SEPARATOR + right)
-            .orElse("");
-    }
-
-    private static String formatParameter(String name, String parameterText) {
-        return name + "=" + parameterText;
-    }
-
-    private static String encode(String rawText) {
-        return URLEncoder.encode(rawText, StandardCharsets.UTF_8);
-    }
-
     /**
      * Builder for {@link PlaceLookupInput}.
      */
@@ -0,0 +1,211 @@
+package com.williamcallahan.applemaps.domain.request;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Writes Apple Maps Server API query strings into a single buffer.
+ *
+ * <p>Values are percent-encoded exactly as {@link URLEncoder} would encode them, but ASCII text is
+ * written character by character without intermediate strings. Only text containing non-ASCII
+ * characters falls back to {@link URLEncoder}. Each thread reuses one buffer across calls, so the
+ * returned string is the only per-call allocation for typical requests.</p>
+ */
+final class QueryStringWriter {
+    private static final int INITIAL_CAPACITY = 512;
+    private static final int MAX_RETAINED_CAPACITY = 8192;
+    private static final int ASCII_LIMIT = 0x80;
+    private static final char QUERY_PREFIX = '?';
+    private static final char PARAMETER_SEPARATOR = '&';
+    private static final char NAME_VALUE_SEPARATOR = '=';
+    private static final char ENCODED_SPACE = '+';
+    private static final char PERCENT_ESCAPE = '%';
+    private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+    private static final boolean[] UNRESERVED_ASCII = createUnreservedAsciiTable();
+    private static final ThreadLocal<StringBuilder> THREAD_BUFFER =
+        ThreadLocal.withInitial(() -> new StringBuilder(INITIAL_CAPACITY));
+
+    private final StringBuilder query;
+
+    /**
+     * Creates a writer backed by the current thread's buffer, or by a new buffer when that one is in use.
+     */
+    QueryStringWriter() {
+        StringBuilder threadBuffer = THREAD_BUFFER.get();
+        this.query = threadBuffer.length() == 0 ? threadBuffer : new StringBuilder(INITIAL_CAPACITY);
+        query.append(QUERY_PREFIX);
+    }
+
+    /**
+     * Appends a parameter whose value is percent-encoded.
+     *
+     * @param name parameter name
+     * @param rawText unencoded parameter value
+     * @return this writer
+     */
+    QueryStringWriter encodedParameter(String name, String rawText) {
+        startParameter(name);
+        appendEncoded(rawText);
+        return this;
+    }
+
+    /**
+     * Appends a parameter whose value is already in query form and is written verbatim.
+     *
+     * @param name parameter name
+     * @param queryValue parameter value in query form
+     * @return this writer
+     */
+    QueryStringWriter parameter(String name, String queryValue) {
+        startParameter(name);
+        query.append(queryValue);
+        return this;
+    }
+
+    /**
+     * Appends a boolean parameter.
+     *
+     * @param name parameter name
+     * @param flag parameter value
+     * @return this writer
+     */
+    QueryStringWriter parameter(String name, boolean flag) {
+        startParameter(name);
+        query.append(flag);
+        return this;
+    }
+
+    /**
+     * Appends a single enum parameter using its precomputed encoded API value.
+     *
+     * @param name parameter name
+     * @param value enum value
+     * @param encodedApiValues precomputed encoded API values for the enum type
+     * @param <E> enum type
+     * @return this writer
+     */
+    <E extends Enum<E>> QueryStringWriter apiValueParameter(
+        String name,
+        E value,
+        EncodedApiValues<E> encodedApiValues
+    ) {
+        startParameter(name);
+        query.append(encodedApiValues.encoded(value));
+        return this;
+    }
+
+    /**
+     * Appends a list of enum values using their precomputed encoded API values.
+     *
+     * @param name parameter name
+     * @param values enum values, written in list order
+     * @param encodedApiValues precomputed encoded API values for the enum type
+     * @param separator separator written between values, already in query form
+     * @param <E> enum type
+     * @return this writer
+     */
+    <E extends Enum<E>> QueryStringWriter apiValuesParameter(
+        String name,
+        List<E> values,
+        EncodedApiValues<E> encodedApiValues,
+        String separator
+    ) {
+        startParameter(name);
+        for (int index = 0; index < values.size(); index++) {
+            if (index > 0) {
+                query.append(separator);
+            }
+            query.append(encodedApiValues.encoded(values.get(index)));
+        }
+        return this;
+    }
+
+    /**
+     * Appends a list of values, percent-encoding the text of each value.
+     *
+     * @param name parameter name
+     * @param values values, written in list order
+     * @param textMapper maps each value to its unencoded text
+     * @param separator separator written between values, already in query form
+     * @param <T> value type
+     * @return this writer
+     */
+    <T> QueryStringWriter encodedListParameter(
+        String name,
+        List<T> values,
+        Function<T, String> textMapper,
+        String separator
+    ) {
+        startParameter(name);
+        for (int index = 0; index < values.size(); index++) {
+            if (index > 0) {
+                query.append(separator);
+            }
+            appendEncoded(textMapper.apply(values.get(index)));
+        }
+        return this;
+    }
+
+    /**
+     * Returns the query string and releases the buffer; the writer must not be used afterwards.
+     *
+     * @return a query string beginning with {@code ?}
+     */
+    String toQueryString() {
+        String queryString = query.toString();
+        query.setLength(0);
+        if (query.capacity() > MAX_RETAINED_CAPACITY && THREAD_BUFFER.get() == query) {
+            THREAD_BUFFER.remove();
+        }
+        return queryString;
+    }
+
+    private void startParameter(String name) {
+        if (query.length() > 1) {
+            query.append(PARAMETER_SEPARATOR);
+        }
+        query.append(name).append(NAME_VALUE_SEPARATOR);
+    }
+
+    private void appendEncoded(String rawText) {
+        int length = rawText.length();
+        for (int index = 0; index < length; index++) {
+            if (rawText.charAt(index) >= ASCII_LIMIT) {
+                query.append(URLEncoder.encode(rawText, StandardCharsets.UTF_8));
+                return;
+            }
+        }
+        for (int index = 0; index < length; index++) {
+            char character = rawText.charAt(index);
+            if (UNRESERVED_ASCII[character]) {
+                query.append(character);
+            } else if (character == ' ') {
+                query.append(ENCODED_SPACE);
+            } else {
+                query.append(PERCENT_ESCAPE)
+                    .append(HEX_DIGITS[character >> 4])
+                    .append(HEX_DIGITS[character & 0xF]);
+            }
+        }
+    }
+
+    private static boolean[] createUnreservedAsciiTable() {
+        boolean[] unreserved = new boolean[ASCII_LIMIT];
+        for (char character = 'a'; character <= 'z'; character++) {
+            unreserved[character] = true;
+        }
+        for (char character = 'A'; character <= 'Z'; character++) {
+            unreserved[character] = true;
+        }
+        for (char character = '0'; character <= '9'; character++) {
+            unreserved[character] = true;
+        }
+        unreserved['-'] = true;
+        unreserved['_'] = true;
+        unreserved['.'] = true;
+        unreserved['*'] = true;
+        return unreserved;
+    }
+}
@@ -7,9 +7,6 @@ import com.williamcallahan.applemaps.domain.model.SearchLocation;
 import com.williamcallahan.applemaps.domain.model.SearchRegion;
 import com.williamcallahan.applemaps.domain.model.SearchRegionPriority;
 import com.williamcallahan.applemaps.domain.model.UserLocation;
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -32,8 +29,6 @@ public record SearchAutocompleteInput(
     Optional<UserLocation> userLocation,
     Optional<SearchRegionPriority> searchRegionPriority
 ) {
-    private static final String QUERY_PREFIX = "?";
-    private static final String PARAMETER_SEPARATOR = "&";
     private static final String LIST_SEPARATOR = ",";
     private static final String PARAMETER_QUERY = "q";
     private static final String PARAMETER_EXCLUDE_POI = "excludePoiCategories";
@@ -85,32 +80,41 @@ public record SearchAutocompleteInput(
      * @return a query string beginning with {@code ?}
      */
     public String toQueryString() {
-        List<String> parameters = new ArrayList<>();
-        parameters.add(formatParameter(PARAMETER_QUERY, encode(q)));
+        QueryStringWriter writer = new QueryStringWriter().encodedParameter(PARAMETER_QUERY, q);
         if (!excludePoiCategories.isEmpty()) {
-            parameters.add(formatParameter(PARAMETER_EXCLUDE_POI, joinApiValues(excludePoiCategories, PoiCategory::apiValue)));
+            writer.apiValuesParameter(PARAMETER_EXCLUDE_POI, excludePoiCategories, EncodedApiValues.POI_CATEGORIES, LIST_SEPARATOR);
         }
         if (!includePoiCategories.isEmpty()) {
-            parameters.add(formatParameter(PARAMETER_INCLUDE_POI, joinApiValues(includePoiCategories, PoiCategory::apiValue)));
+            writer.apiValuesParameter(PARAMETER_INCLUDE_POI, includePoiCategories, EncodedApiValues.POI_CATEGORIES, LIST_SEPARATOR);
         }
         if (!limitToCountries.isEmpty()) {
-            parameters.add(formatParameter(PARAMETER_LIMIT_TO_COUNTRIES, joinEncoded(limitToCountries)));
+            writer.encodedListParameter(PARAMETER_LIMIT_TO_COUNTRIES, limitToCountries, Function.identity(), LIST_SEPARATOR);
         }
         if (!resultTypeFilter.isEmpty()) {
-            parameters.add(formatParameter(PARAMETER_RESULT_TYPE_FILTER, joinApiValues(resultTypeFilter, SearchACResultType::apiValue)));
+            writer.apiValuesParameter(PARAMETER_RESULT_TYPE_FILTER, resultTypeFilter, EncodedApiValues.AUTOCOMPLETE_RESULT_TYPES, LIST_SEPARATOR);
         }
         if (!includeAddressCategories.isEmpty()) {
-            parameters.add(formatParameter(PARAMETER_INCLUDE_ADDRESS_CATEGORIES, joinApiValues(includeAddressCategories, AddressCategory::apiValue)));
+            writer.apiValuesParameter(PARAMETER_INCLUDE_ADDRESS_CATEGORIES, includeAddressCategories, EncodedApiValues.ADDRESS_CATEGORIES, LIST_SEPARATOR);
         }
         if (!excludeAddressCategories.isEmpty()) {
-            parameters.add(formatParameter(PARAMETER_EXCLUDE_ADDRESS_CATEGORIES, joinApiValues(excludeAddressCategories, AddressCategory::apiValue)));
+            writer.apiValuesParameter(PARAMETER_EXCLUDE_ADDRESS_CATEGORIES, excludeAddressCategories, EncodedApiValues.ADDRESS_CATEGORIES, LIST_SEPARATOR);
         }
-        language.ifPresent(value -> parameters.add(formatParameter(PARAMETER_LANGUAGE, encode(value))));
-        searchLocation.ifPresent(value -> parameters.add(formatParameter(PARAMETER_SEARCH_LOCATION, value.toQueryString())));
-        searchRegion.ifPresent(value -> parameters.add(formatParameter(PARAMETER_SEARCH_REGION, value.toQueryString())));
-        userLocation.ifPresent(value -> parameters.add(formatParameter(PARAMETER_USER_LOCATION, value.toQueryString())));
-        searchRegionPriority.ifPresent(value -> parameters.add(formatParameter(PARAMETER_SEARCH_REGION_PRIORITY, value.apiValue())));
-        return QUERY_PREFIX + String.join(PARAMETER_SEPARATOR, parameters);
+        if (language.isPresent()) {
+            writer.encodedParameter(PARAMETER_LANGUAGE, language.get());
+        }
+        if (searchLocation.isPresent()) {
+            writer.parameter(PARAMETER_SEARCH_LOCATION, searchLocation.get().toQueryString());
+        }
+        if (searchRegion.isPresent()) {
+            writer.parameter(PARAMETER_SEARCH_REGION, searchRegion.get().toQueryString());
+        }
+        if (userLocation.isPresent()) {
+            writer.parameter(PARAMETER_USER_LOCATION, userLocation.get().toQueryString());
+        }
+        if (searchRegionPriority.isPresent()) {
+            writer.apiValueParameter(PARAMETER_SEARCH_REGION_PRIORITY, searchRegionPriority.get(), EncodedApiValues.SEARCH_REGION_PRIORITIES);
+        }
+        return writer.toQueryString();
     }
 
     /**
@@ -131,28 +135,6 @@ public record SearchAutocompleteInput(
         return Objects.requireNonNullElse(optionalInput, Optional.empty());
     }
 
-    private static String joinEncoded(List<String> values) {
-        return values.stream()
-            .map(SearchAutocompleteInput::encode)
-            .reduce((left, right) -> left + LIST_SEPARATOR + right)
-            .orElse("");
-    }
-
-    private static <T> String joinApiValues(List<T> values, Function<T, String> valueMapper) {
-        return values.stream()
-            .map(valueMapper)
-            .reduce((left, right) -> left + LIST_SEPARATOR + right)
-            .orElse("");
-    }
-
-    private static String formatParameter(String name, String value) {
-        return name + "=" + value;
-    }
-
-    private static String encode(String value) {
-        return URLEncoder.encode(value, StandardCharsets.UTF_8);
-    }
-
     /**
      * Builder for {@link SearchAutocompleteInput}.
      */
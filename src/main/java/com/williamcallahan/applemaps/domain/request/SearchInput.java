@@ -7,9 +7,6 @@ import com.williamcallahan.applemaps.domain.model.SearchRegion;
 import com.williamcallahan.applemaps.domain.model.SearchRegionPriority;
 import com.williamcallahan.applemaps.domain.model.SearchResultType;
 import com.williamcallahan.applemaps.domain.model.UserLocation;
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -34,8 +31,6 @@ public record SearchInput(
     Optional<Boolean> enablePagination,
     Optional<String> pageToken
 ) {
-    private static final String QUERY_PREFIX = "?";
-    private static final String PARAMETER_SEPARATOR = "&";
     private static final String LIST_SEPARATOR = ",";
     private static final String PARAMETER_QUERY = "q";
     private static final String PARAMETER_EXCLUDE_POI = "excludePoiCategories";
@@ -93,34 +88,47 @@ public record SearchInput(
      * @return a query string beginning with {@code ?}
      */
     public String toQueryString() {
-        List<String> parameters = new ArrayList<>();
-        parameters.add(formatParameter(PARAMETER_QUERY, encode(q)));
+        QueryStringWriter writer = new QueryStringWriter().encodedParameter(PARAMETER_QUERY, q);
         if (!excludePoiCategories.isEmpty()) {
-            parameters.add(formatParameter(PARAMETER_EXCLUDE_POI, joinApiValues(excludePoiCategories, PoiCategory::apiValue)));
+            writer.apiValuesParameter(PARAMETER_EXCLUDE_POI, excludePoiCategories, EncodedApiValues.POI_CATEGORIES, LIST_SEPARATOR);
         }
         if (!includePoiCategories.isEmpty()) {
-            parameters.add(formatParameter(PARAMETER_INCLUDE_POI, joinApiValues(includePoiCategories, PoiCategory::apiValue)));
+            writer.apiValuesParameter(PARAMETER_INCLUDE_POI, includePoiCategories, EncodedApiValues.POI_CATEGORIES, LIST_SEPARATOR);
         }
         if (!limitToCountries.isEmpty()) {
-            parameters.add(formatParameter(PARAMETER_LIMIT_TO_COUNTRIES, joinEncoded(limitToCountries)));
+            writer.encodedListParameter(PARAMETER_LIMIT_TO_COUNTRIES, limitToCountries, Function.identity(), LIST_SEPARATOR);
         }
         if (!resultTypeFilter.isEmpty()) {
-            parameters.add(formatParameter(PARAMETER_RESULT_TYPE_FILTER, joinApiValues(resultTypeFilter, SearchResultType::apiValue)));
+            writer.apiValuesParameter(PARAMETER_RESULT_TYPE_FILTER, resultTypeFilter, EncodedApiValues.SEARCH_RESULT_TYPES, LIST_SEPARATOR);
         }
         if (!includeAddressCategories.isEmpty()) {
-            parameters.add(formatParameter(PARAMETER_INCLUDE_ADDRESS_CATEGORIES, joinApiValues(includeAddressCategories, AddressCategory::apiValue)));
+            writer.apiValuesParameter(PARAMETER_INCLUDE_ADDRESS_CATEGORIES, includeAddressCategories, EncodedApiValues.ADDRESS_CATEGORIES, LIST_SEPARATOR);
         }
         if (!excludeAddressCategories.isEmpty()) {
-            parameters.add(formatParameter(PARAMETER_EXCLUDE_ADDRESS_CATEGORIES, joinApiValues(excludeAddressCategories, AddressCategory::apiValue)));
+            writer.apiValuesParameter(PARAMETER_EXCLUDE_ADDRESS_CATEGORIES, excludeAddressCategories, EncodedApiValues.ADDRESS_CATEGORIES, LIST_SEPARATOR);
         }
-        language.ifPresent(value -> parameters.add(formatParameter(PARAMETER_LANGUAGE, encode(value))));
-        searchLocation.ifPresent(value -> parameters.add(formatParameter(PARAMETER_SEARCH_LOCATION, value.toQueryString())));
-        searchRegion.ifPresent(value -> parameters.add(formatParameter(PARAMETER_SEARCH_REGION, value.toQueryString())));
-        userLocation.ifPresent(value -> parameters.add(formatParameter(PARAMETER_USER_LOCATION, value.toQueryString())));
-        searchRegionPriority.ifPresent(value -> parameters.add(formatParameter(PARAMETER_SEARCH_REGION_PRIORITY, value.apiValue())));
-        enablePagination.ifPresent(value -> parameters.add(formatParameter(PARAMETER_ENABLE_PAGINATION, value.toString())));
-        pageToken.ifPresent(value -> parameters.add(formatParameter(PARAMETER_PAGE_TOKEN, encode(value))));
-        return QUERY_PREFIX + String.join(PARAMETER_SEPARATOR, parameters);
+        if (language.isPresent()) {
+            writer.encodedParameter(PARAMETER_LANGUAGE, language.get());
+        }
+        if (searchLocation.isPresent()) {
+            writer.parameter(PARAMETER_SEARCH_LOCATION, searchLocation.get().toQueryString());
+        }
+        if (searchRegion.isPresent()) {
+            writer.parameter(PARAMETER_SEARCH_REGION, searchRegion.get().toQueryString());
+        }
+        if (userLocation.isPresent()) {
+            writer.parameter(PARAMETER_USER_LOCATION, userLocation.get().toQueryString());
+        }
+        if (searchRegionPriority.isPresent()) {
+            writer.apiValueParameter(PARAMETER_SEARCH_REGION_PRIORITY, searchRegionPriority.get(), EncodedApiValues.SEARCH_REGION_PRIORITIES);
+        }
+        if (enablePagination.isPresent()) {
+            writer.parameter(PARAMETER_ENABLE_PAGINATION, enablePagination.get().booleanValue());
+        }
+        if (pageToken.isPresent()) {
+            writer.encodedParameter(PARAMETER_PAGE_TOKEN, pageToken.get());
+        }
+        return writer.toQueryString();
     }
 
     /**
@@ -141,28 +149,6 @@ public record SearchInput(
         return Objects.requireNonNullElse(optionalInput, Optional.empty());
     }
 
-    private static String joinEncoded(List<String> values) {
-        return values.stream()
-            .map(SearchInput::encode)
-            .reduce((left, right) -> left + LIST_SEPARATOR + right)
-            .orElse("");
-    }
-
-    private static <T> String joinApiValues(List<T> values, Function<T, String> valueMapper) {
-        return values.stream()
-            .map(valueMapper)
-            .reduce((left, right) -> left + LIST_SEPARATOR + right)
-            .orElse("");
-    }
-
-    private static String formatParameter(String name, String value) {
-        return name + "=" + value;
-    }
-
-    private static String encode(String value) {
-        return URLEncoder.encode(value, StandardCharsets.UTF_8);
-    }
-
     /**
      * Builder for {@link SearchInput}.
      */
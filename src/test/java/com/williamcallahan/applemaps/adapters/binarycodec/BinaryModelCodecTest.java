@@ -0,0 +1,111 @@
+package com.williamcallahan.applemaps.adapters.binarycodec;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import com.williamcallahan.applemaps.adapters.fakeserver.SyntheticPayloads;
+import com.williamcallahan.applemaps.adapters.jackson.AppleMapsObjectMapperFactory;
+import com.williamcallahan.applemaps.domain.model.DirectionsResponse;
+import com.williamcallahan.applemaps.domain.model.DirectionsRoute;
+import com.williamcallahan.applemaps.domain.model.EtaResponse;
+import com.williamcallahan.applemaps.domain.model.Location;
+import com.williamcallahan.applemaps.domain.model.Place;
+import com.williamcallahan.applemaps.domain.model.PlaceResults;
+import com.williamcallahan.applemaps.domain.model.SearchAutocompleteResponse;
+import com.williamcallahan.applemaps.domain.model.SearchResponse;
+import com.williamcallahan.applemaps.domain.model.TransportType;
+import tools.jackson.databind.ObjectMapper;
+
+class BinaryModelCodecTest {
+    private final BinaryModelCodec codec = new BinaryModelCodec();
+    private final ObjectMapper mapper = AppleMapsObjectMapperFactory.create();
+    private final SyntheticPayloads payloads = SyntheticPayloads.builder().build();
+
+    @Test
+    void everyModelDecodesEqualToTheDecodedJson() {
+        Place place = mapper.readValue(payloads.place(), Place.class);
+        PlaceResults geocode = mapper.readValue(payloads.geocode(), PlaceResults.class);
+        SearchResponse search = mapper.readValue(payloads.search(), SearchResponse.class);
+        SearchAutocompleteResponse autocomplete = mapper.readValue(payloads.autocomplete(),
+            SearchAutocompleteResponse.class);
+        DirectionsResponse directions = mapper.readValue(payloads.directions(), DirectionsResponse.class);
+        EtaResponse etas = mapper.readValue(payloads.etas(), EtaResponse.class);
+
+        assertEquals(place, codec.decodePlace(codec.encode(place)));
+        assertEquals(geocode, codec.decodePlaceResults(codec.encode(geocode)));
+        assertEquals(search, codec.decodeSearchResponse(codec.encode(search)));
+        assertEquals(autocomplete, codec.decodeAutocompleteResponse(codec.encode(autocomplete)));
+        assertEquals(directions, codec.decodeDirectionsResponse(codec.encode(directions)));
+        assertEquals(etas, codec.decodeEtaResponse(codec.encode(etas)));
+    }
+
+    @Test
+    void encodingIsMuchSmallerThanJson() {
+        SearchResponse search = mapper.readValue(payloads.search(), SearchResponse.class);
+        DirectionsResponse directions = mapper.readValue(payloads.directions(), DirectionsResponse.class);
+
+        assertTrue(codec.encode(search).length * 3 < payloads.search().length);
+        assertTrue(codec.encode(directions).length * 6 < payloads.directions().length);
+    }
+
+    @Test
+    void coordinatesBeyondSevenDecimalsAndEdgeValuesAreExact() {
+        Place place = new Place(Optional.empty(), List.of(), "Precise", new Location(1.0 / 3.0, -0.0),
+            Optional.empty(), List.of(), Optional.empty(), "", "");
+        DirectionsResponse directions = new DirectionsResponse(Optional.empty(), Optional.empty(),
+            List.of(new DirectionsRoute(Optional.empty(), Optional.of(-1L), Optional.of(Long.MAX_VALUE),
+                Optional.of(false), List.of(0, -2), Optional.of(TransportType.CYCLING))),
+            List.of(),
+            List.of(List.of(new Location(53.5, 9.9), new Location(Math.PI, -Math.E), new Location(53.51, 9.91)),
+                List.of(new Location(Math.PI, -Math.E)), List.of()));
+
+        assertEquals(place, codec.decodePlace(codec.encode(place)));
+        assertEquals(directions, codec.decodeDirectionsResponse(codec.encode(directions)));
+    }
+
+    @Test
+    void onlyInexactPathPointsAreStoredRaw() {
+        List<Location> exact = new ArrayList<>();
+        for (int point = 0; point < 1_000; point++) {
+            exact.add(new Location((535_000_000 + point * 1_000) / 1e7, (99_000_000 + point * 1_000) / 1e7));
+        }
+        List<Location> oneInexact = new ArrayList<>(exact);
+        oneInexact.set(500, new Location(1.0 / 3.0, 9.95));
+        DirectionsResponse packed = pathOnly(exact);
+        DirectionsResponse mixed = pathOnly(oneInexact);
+
+        byte[] encoded = codec.encode(mixed);
+        assertEquals(mixed, codec.decodeDirectionsResponse(encoded));
+        assertTrue(encoded.length <= codec.encode(packed).length + 2 * Long.BYTES + 1);
+    }
+
+    @Test
+    void malformedPayloadsAreRejected() {
+        byte[] encoded = codec.encode(new EtaResponse(List.of()));
+        byte[] badMagic = encoded.clone();
+        badMagic[0] = 'X';
+        byte[] futureVersion = encoded.clone();
+        futureVersion[3] = 2;
+        byte[] trailing = Arrays.copyOf(encoded, encoded.length + 1);
+
+        assertThrows(IllegalArgumentException.class, () -> codec.decodeEtaResponse(badMagic));
+        assertThrows(IllegalArgumentException.class, () -> codec.decodeEtaResponse(futureVersion));
+        assertThrows(IllegalArgumentException.class, () -> codec.decodeEtaResponse(trailing));
+        assertThrows(IllegalArgumentException.class, () -> codec.decodeSearchResponse(encoded));
+        byte[] search = codec.encode(mapper.readValue(payloads.search(), SearchResponse.class));
+        assertThrows(IllegalArgumentException.class,
+            () -> codec.decodeSearchResponse(Arrays.copyOf(search, search.length - 1)));
+    }
+
+    private static DirectionsResponse pathOnly(List<Location> path) {
+        return new DirectionsResponse(Optional.empty(), Optional.empty(), List.of(), List.of(), List.of(path));
+    }
+}
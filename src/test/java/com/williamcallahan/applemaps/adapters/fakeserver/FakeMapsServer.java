@@ -0,0 +1,350 @@
+package com.williamcallahan.applemaps.adapters.fakeserver;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Local stand-in for the Apple Maps Server API, for load and latency testing without quotas or cost.
+ *
+ * <p>Serves {@code /v1/token} and every API endpoint from {@link ResponseFixtures} (or bodies supplied
+ * with {@link Builder#respond(String, byte[])} or {@link Builder#payloads(SyntheticPayloads)}) on a loopback
+ * port. Each API response can be delayed by a {@link LatencyDistribution} and replaced by an injected
+ * {@code 429} or {@code 500}; token exchange is delayed but never fails, so injected faults only hit the
+ * operation under test.</p>
+ *
+ * <pre>{@code
+ * try (FakeMapsServer server = FakeMapsServer.builder()
+ *         .latency(LatencyDistribution.logNormal(Duration.ofMillis(40), Duration.ofMillis(250)))
+ *         .throttleRate(0.01)
+ *         .start()) {
+ *     HttpAppleMapsGateway gateway = new HttpAppleMapsGateway("token", timeout, null, server.baseUri());
+ *     ...
+ * }
+ * }</pre>
+ */
+public final class FakeMapsServer implements AutoCloseable {
+    /**
+     * Path key used for {@code /v1/place/{id}} lookups.
+     */
+    public static final String PLACE_BY_ID_PATH = "/v1/place/{id}";
+
+    private static final String TOKEN_PATH = "/v1/token";
+    private static final String PLACE_PATH_PREFIX = "/v1/place/";
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final int OK = 200;
+    private static final int UNAUTHORIZED = 401;
+    private static final int NOT_FOUND = 404;
+    private static final int METHOD_NOT_ALLOWED = 405;
+    private static final int TOO_MANY_REQUESTS = 429;
+    private static final int INTERNAL_SERVER_ERROR = 500;
+    private static final int BACKLOG = 1024;
+    private static final String HANDLER_THREAD_NAME_PREFIX = "fake-maps-server-";
+
+    private final HttpServer httpServer;
+    private final ExecutorService handlerExecutor;
+    private final Map<String, byte[]> responsesByPath;
+    private final LatencyDistribution latency;
+    private final double throttleRate;
+    private final double errorRate;
+    private final int retryAfterSeconds;
+    private final Duration accessTokenLifetime;
+    private final Map<String, LongAdder> requestCounts = new ConcurrentHashMap<>();
+
+    private FakeMapsServer(Builder builder) throws IOException {
+        this.responsesByPath = Map.copyOf(builder.responsesByPath);
+        this.latency = builder.latency;
+        this.throttleRate = builder.throttleRate;
+        this.errorRate = builder.errorRate;
+        this.retryAfterSeconds = builder.retryAfterSeconds;
+        this.accessTokenLifetime = builder.accessTokenLifetime;
+        this.handlerExecutor = Executors.newCachedThreadPool(daemonThreadFactory());
+        this.httpServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), BACKLOG);
+        this.httpServer.setExecutor(handlerExecutor);
+        this.httpServer.createContext("/", this::handle);
+        this.httpServer.start();
+    }
+
+    /**
+     * Creates a builder whose routes serve the default {@link ResponseFixtures}.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the base URI to pass to the gateway, e.g. {@code http://127.0.0.1:54321}.
+     *
+     * @return the server's base URI
+     */
+    public URI baseUri() {
+        InetSocketAddress address = httpServer.getAddress();
+        return URI.create("http://" + address.getAddress().getHostAddress() + ":" + address.getPort());
+    }
+
+    /**
+     * Returns how many requests were received for a path, including failed and injected-fault requests.
+     *
+     * @param path request path, e.g. {@code /v1/search}
+     * @return the request count
+     */
+    public long requestCount(String path) {
+        LongAdder count = requestCounts.get(path);
+        return count == null ? 0L : count.sum();
+    }
+
+    /**
+     * Returns how many requests were received across all paths.
+     *
+     * @return the request count
+     */
+    public long requestCount() {
+        return requestCounts.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    @Override
+    public void close() {
+        httpServer.stop(0);
+        handlerExecutor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            String path = exchange.getRequestURI().getPath();
+            requestCounts.computeIfAbsent(path, ignored -> new LongAdder()).increment();
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                sendError(exchange, METHOD_NOT_ALLOWED, "Method Not Allowed");
+                return;
+            }
+            String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+            if (authorization == null || !authorization.startsWith(BEARER_PREFIX)) {
+                sendError(exchange, UNAUTHORIZED, "Not Authorized");
+                return;
+            }
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            sleepNanos(latency.sampleNanos(random));
+            if (TOKEN_PATH.equals(path)) {
+                send(exchange, OK, ResponseFixtures.token(Instant.now().plus(accessTokenLifetime)));
+                return;
+            }
+            double fault = random.nextDouble();
+            if (fault < throttleRate) {
+                exchange.getResponseHeaders().set("Retry-After", Integer.toString(retryAfterSeconds));
+                sendError(exchange, TOO_MANY_REQUESTS, "Too Many Requests");
+                return;
+            }
+            if (fault < throttleRate + errorRate) {
+                sendError(exchange, INTERNAL_SERVER_ERROR, "Internal Server Error");
+                return;
+            }
+            byte[] body = route(path);
+            if (body == null) {
+                sendError(exchange, NOT_FOUND, "Not Found");
+                return;
+            }
+            send(exchange, OK, body);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private byte[] route(String path) {
+        byte[] body = responsesByPath.get(path);
+        if (body == null && path.startsWith(PLACE_PATH_PREFIX)) {
+            return responsesByPath.get(PLACE_BY_ID_PATH);
+        }
+        return body;
+    }
+
+    private static void sendError(HttpExchange exchange, int statusCode, String message) throws IOException {
+        send(exchange, statusCode, ("{\"error\":{\"message\":\"" + message + "\",\"details\":[]}}")
+            .getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void send(HttpExchange exchange, int statusCode, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(statusCode, body.length);
+        try (OutputStream responseBody = exchange.getResponseBody()) {
+            responseBody.write(body);
+        }
+    }
+
+    private static void sleepNanos(long delayNanos) {
+        if (delayNanos <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(delayNanos);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static ThreadFactory daemonThreadFactory() {
+        AtomicInteger threadSequence = new AtomicInteger(1);
+        return runnable -> {
+            Thread thread = new Thread(runnable, HANDLER_THREAD_NAME_PREFIX + threadSequence.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Builder for {@link FakeMapsServer}.
+     */
+    public static final class Builder {
+        private final Map<String, byte[]> responsesByPath = new HashMap<>();
+        private LatencyDistribution latency = LatencyDistribution.none();
+        private double throttleRate;
+        private double errorRate;
+        private int retryAfterSeconds = 1;
+        private Duration accessTokenLifetime = Duration.ofMinutes(30);
+
+        private Builder() {
+            routes(ResponseFixtures.geocode(), ResponseFixtures.search(), ResponseFixtures.autocomplete(),
+                ResponseFixtures.directions(), ResponseFixtures.etas(), ResponseFixtures.places(),
+                ResponseFixtures.alternateIds(), ResponseFixtures.place());
+        }
+
+        /**
+         * Serves a fixed {@code 200} body for a path, replacing the default fixture.
+         *
+         * @param path request path, or {@link #PLACE_BY_ID_PATH}
+         * @param body UTF-8 JSON body
+         * @return this builder
+         */
+        public Builder respond(String path, byte[] body) {
+            responsesByPath.put(Objects.requireNonNull(path, "path"), Objects.requireNonNull(body, "body").clone());
+            return this;
+        }
+
+        /**
+         * Serves generated payloads on every API path, replacing the default fixtures and earlier bodies.
+         *
+         * @param payloads payload generator
+         * @return this builder
+         */
+        public Builder payloads(SyntheticPayloads payloads) {
+            Objects.requireNonNull(payloads, "payloads");
+            routes(payloads.geocode(), payloads.search(), payloads.autocomplete(), payloads.directions(),
+                payloads.etas(), payloads.places(), payloads.alternateIds(), payloads.place());
+            return this;
+        }
+
+        /**
+         * Sets the delay added before every response, including token exchange.
+         *
+         * @param latency latency distribution
+         * @return this builder
+         */
+        public Builder latency(LatencyDistribution latency) {
+            this.latency = Objects.requireNonNull(latency, "latency");
+            return this;
+        }
+
+        /**
+         * Sets the fraction of API requests answered with {@code 429 Too Many Requests}.
+         *
+         * @param throttleRate probability between 0 and 1
+         * @return this builder
+         */
+        public Builder throttleRate(double throttleRate) {
+            this.throttleRate = requireProbability(throttleRate, "throttleRate");
+            return this;
+        }
+
+        /**
+         * Sets the fraction of API requests answered with {@code 500 Internal Server Error}.
+         *
+         * @param errorRate probability between 0 and 1
+         * @return this builder
+         */
+        public Builder errorRate(double errorRate) {
+            this.errorRate = requireProbability(errorRate, "errorRate");
+            return this;
+        }
+
+        /**
+         * Sets the {@code Retry-After} value sent with injected {@code 429} responses.
+         *
+         * @param retryAfterSeconds seconds, not negative
+         * @return this builder
+         */
+        public Builder retryAfterSeconds(int retryAfterSeconds) {
+            if (retryAfterSeconds < 0) {
+                throw new IllegalArgumentException("retryAfterSeconds must not be negative.");
+            }
+            this.retryAfterSeconds = retryAfterSeconds;
+            return this;
+        }
+
+        /**
+         * Sets how long issued access tokens stay valid.
+         *
+         * @param accessTokenLifetime token lifetime
+         * @return this builder
+         */
+        public Builder accessTokenLifetime(Duration accessTokenLifetime) {
+            this.accessTokenLifetime = Objects.requireNonNull(accessTokenLifetime, "accessTokenLifetime");
+            return this;
+        }
+
+        /**
+         * Binds a loopback port and starts serving.
+         *
+         * @return the running server
+         */
+        public FakeMapsServer start() {
+            if (throttleRate + errorRate > 1.0) {
+                throw new IllegalArgumentException("throttleRate and errorRate must not add up to more than 1.");
+            }
+            try {
+                return new FakeMapsServer(this);
+            } catch (IOException exception) {
+                throw new UncheckedIOException("Unable to start fake Maps Server", exception);
+            }
+        }
+
+        private void routes(byte[] geocode, byte[] search, byte[] autocomplete, byte[] directions, byte[] etas,
+            byte[] places, byte[] alternateIds, byte[] place) {
+            responsesByPath.put("/v1/geocode", geocode);
+            responsesByPath.put("/v1/reverseGeocode", geocode);
+            responsesByPath.put("/v1/search", search);
+            responsesByPath.put("/v1/searchAutocomplete", autocomplete);
+            responsesByPath.put("/v1/directions", directions);
+            responsesByPath.put("/v1/etas", etas);
+            responsesByPath.put("/v1/place", places);
+            responsesByPath.put("/v1/place/alternateIds", alternateIds);
+            responsesByPath.put(PLACE_BY_ID_PATH, place);
+        }
+
+        private static double requireProbability(double value, String name) {
+            if (!(value >= 0.0 && value <= 1.0)) {
+                throw new IllegalArgumentException(name + " must be between 0 and 1.");
+            }
+            return value;
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.williamcallahan.applemaps.adapters.fakeserver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.williamcallahan.applemaps.adapters.mapsserver.AppleMapsApiException;
+import com.williamcallahan.applemaps.adapters.mapsserver.HttpAppleMapsGateway;
+import com.williamcallahan.applemaps.domain.model.DirectionsEndpoint;
+import com.williamcallahan.applemaps.domain.model.RouteLocation;
+import com.williamcallahan.applemaps.domain.request.AlternateIdsInput;
+import com.williamcallahan.applemaps.domain.request.DirectionsInput;
+import com.williamcallahan.applemaps.domain.request.EtaInput;
+import com.williamcallahan.applemaps.domain.request.GeocodeInput;
+import com.williamcallahan.applemaps.domain.request.PlaceLookupInput;
+import com.williamcallahan.applemaps.domain.request.SearchAutocompleteInput;
+import com.williamcallahan.applemaps.domain.request.SearchInput;
+
+class FakeMapsServerTest {
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    @Test
+    void gatewayCallsEveryEndpointOnConfiguredApiServer() {
+        try (FakeMapsServer server = FakeMapsServer.builder().start()) {
+            HttpAppleMapsGateway gateway = gateway(server.baseUri());
+            try {
+                assertEquals(1, gateway.geocode(GeocodeInput.builder("Jungfernstieg 1").build()).results().size());
+                assertEquals(25, gateway.search(SearchInput.builder("coffee").build()).results().size());
+                assertFalse(gateway.autocomplete(SearchAutocompleteInput.builder("cof").build()).results().isEmpty());
+                assertFalse(gateway.resolveCompletionUrl("/v1/search?q=coffee").results().isEmpty());
+                assertEquals(1, gateway.reverseGeocode(53.55, 9.99, "en-US").results().size());
+                assertFalse(gateway.directions(DirectionsInput.builder(
+                    DirectionsEndpoint.fromAddress("Jungfernstieg 1"),
+                    DirectionsEndpoint.fromLatitudeLongitude(53.54, 9.98)
+                ).build()).routes().isEmpty());
+                assertFalse(gateway.etas(EtaInput.builder(
+                    RouteLocation.fromLatitudeLongitude(53.55, 9.99),
+                    List.of(RouteLocation.fromLatitudeLongitude(53.54, 9.98))
+                ).build()).etas().isEmpty());
+                assertEquals("Place 0", gateway.lookupPlace("I0", "en-US").name());
+                assertFalse(gateway.lookupPlaces(PlaceLookupInput.builder(List.of("I0")).build()).results().isEmpty());
+                assertFalse(gateway.lookupAlternateIds(AlternateIdsInput.builder(List.of("I0")).build()).results().isEmpty());
+
+                assertEquals(1, server.requestCount("/v1/token"));
+                assertEquals(2, server.requestCount("/v1/search"));
+            } finally {
+                gateway.close();
+            }
+        }
+    }
+
+    @Test
+    void trailingSlashOnApiServerIsIgnored() {
+        try (FakeMapsServer server = FakeMapsServer.builder().start()) {
+            HttpAppleMapsGateway gateway = gateway(URI.create(server.baseUri() + "/"));
+            try {
+                gateway.geocode(GeocodeInput.builder("Jungfernstieg 1").build());
+
+                assertEquals(1, server.requestCount("/v1/geocode"));
+            } finally {
+                gateway.close();
+            }
+        }
+    }
+
+    @Test
+    void syntheticPayloadsReplaceDefaultFixtures() {
+        SyntheticPayloads payloads = SyntheticPayloads.builder().results(200).steps(100).pathPointsPerStep(200).build();
+        try (FakeMapsServer server = FakeMapsServer.builder().payloads(payloads).start()) {
+            HttpAppleMapsGateway gateway = gateway(server.baseUri());
+            try {
+                assertEquals(200, gateway.search(SearchInput.builder("coffee").build()).results().size());
+                assertEquals(20_000, gateway.directions(DirectionsInput.builder(
+                    DirectionsEndpoint.fromAddress("Jungfernstieg 1"),
+                    DirectionsEndpoint.fromLatitudeLongitude(53.54, 9.98)
+                ).build()).stepPaths().stream().mapToInt(List::size).sum());
+            } finally {
+                gateway.close();
+            }
+        }
+    }
+
+    @Test
+    void invalidApiServerIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> gateway(URI.create("ftp://127.0.0.1")));
+        assertThrows(IllegalArgumentException.class, () -> gateway(URI.create("http://127.0.0.1?x=1")));
+    }
+
+    @Test
+    void injectedThrottlingAnswersTooManyRequests() {
+        try (FakeMapsServer server = FakeMapsServer.builder().throttleRate(1.0).start()) {
+            HttpAppleMapsGateway gateway = gateway(server.baseUri());
+            try {
+                AppleMapsApiException exception = assertThrows(
+                    AppleMapsApiException.class,
+                    () -> gateway.geocode(GeocodeInput.builder("Jungfernstieg 1").build())
+                );
+
+                assertEquals(429, exception.statusCode());
+            } finally {
+                gateway.close();
+            }
+        }
+    }
+
+    @Test
+    void injectedErrorsAnswerInternalServerError() {
+        try (FakeMapsServer server = FakeMapsServer.builder().errorRate(1.0).start()) {
+            HttpAppleMapsGateway gateway = gateway(server.baseUri());
+            try {
+                AppleMapsApiException exception = assertThrows(
+                    AppleMapsApiException.class,
+                    () -> gateway.search(SearchInput.builder("coffee").build())
+                );
+
+                assertEquals(500, exception.statusCode());
+            } finally {
+                gateway.close();
+            }
+        }
+    }
+
+    @Test
+    void configuredLatencyDelaysResponses() {
+        Duration delay = Duration.ofMillis(50);
+        try (FakeMapsServer server = FakeMapsServer.builder().latency(LatencyDistribution.fixed(delay)).start()) {
+            HttpAppleMapsGateway gateway = gateway(server.baseUri());
+            try {
+                long startNanos = System.nanoTime();
+                gateway.geocode(GeocodeInput.builder("Jungfernstieg 1").build());
+                long elapsedNanos = System.nanoTime() - startNanos;
+
+                // Token exchange and the geocode call are each delayed.
+                assertTrue(elapsedNanos >= 2 * delay.toNanos());
+            } finally {
+                gateway.close();
+            }
+        }
+    }
+
+    @Test
+    void logNormalLatencyMatchesConfiguredPercentiles() {
+        LatencyDistribution distribution = LatencyDistribution.logNormal(Duration.ofMillis(40), Duration.ofMillis(250));
+        Random random = new Random(7);
+        int samples = 20_000;
+        long[] sampledNanos = new long[samples];
+        for (int index = 0; index < samples; index++) {
+            sampledNanos[index] = distribution.sampleNanos(random);
+        }
+        Arrays.sort(sampledNanos);
+
+        assertEquals(40.0, sampledNanos[samples / 2] / 1e6, 2.0);
+        assertEquals(250.0, sampledNanos[samples * 99 / 100] / 1e6, 25.0);
+    }
+
+    @Test
+    void faultRatesMustFormAProbability() {
+        assertThrows(IllegalArgumentException.class, () -> FakeMapsServer.builder().errorRate(1.5));
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> FakeMapsServer.builder().errorRate(0.6).throttleRate(0.6).start()
+        );
+    }
+
+    private static HttpAppleMapsGateway gateway(URI apiServer) {
+        return new HttpAppleMapsGateway("auth-token", TIMEOUT, null, apiServer);
+    }
+}
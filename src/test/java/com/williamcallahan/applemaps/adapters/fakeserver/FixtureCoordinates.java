@@ -0,0 +1,20 @@
+package com.williamcallahan.applemaps.adapters.fakeserver;
+
+/**
+ * Coordinates for generated fixtures: whole multiples of 10<sup>-7</sup> degrees, the precision the API
+ * reports, so they print with at most seven decimals and encode exactly in fixed point.
+ */
+final class FixtureCoordinates {
+    private static final double UNITS_PER_DEGREE = 1e7;
+    private static final long STEP_UNITS = 1_000;
+
+    private FixtureCoordinates() {
+    }
+
+    /**
+     * Returns the coordinate a number of 0.0001 degree steps from an origin.
+     */
+    static double coordinate(double origin, long steps) {
+        return (Math.round(origin * UNITS_PER_DEGREE) + steps * STEP_UNITS) / UNITS_PER_DEGREE;
+    }
+}
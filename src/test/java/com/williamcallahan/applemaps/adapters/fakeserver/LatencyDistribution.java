@@ -0,0 +1,87 @@
+package com.williamcallahan.applemaps.adapters.fakeserver;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.random.RandomGenerator;
+
+/**
+ * Server-side delay added by {@link FakeMapsServer} before each response.
+ */
+@FunctionalInterface
+public interface LatencyDistribution {
+    /**
+     * Draws one delay.
+     *
+     * @param random random source for the calling handler thread
+     * @return delay in nanoseconds, never negative
+     */
+    long sampleNanos(RandomGenerator random);
+
+    /**
+     * Responds without added delay.
+     *
+     * @return the distribution
+     */
+    static LatencyDistribution none() {
+        return random -> 0L;
+    }
+
+    /**
+     * Delays every response by the same amount.
+     *
+     * @param delay delay per response
+     * @return the distribution
+     */
+    static LatencyDistribution fixed(Duration delay) {
+        long delayNanos = requireNonNegative(delay, "delay");
+        return random -> delayNanos;
+    }
+
+    /**
+     * Delays responses uniformly between two bounds.
+     *
+     * @param min shortest delay
+     * @param max longest delay
+     * @return the distribution
+     */
+    static LatencyDistribution uniform(Duration min, Duration max) {
+        long minNanos = requireNonNegative(min, "min");
+        long maxNanos = requireNonNegative(max, "max");
+        if (maxNanos < minNanos) {
+            throw new IllegalArgumentException("max must not be shorter than min.");
+        }
+        if (maxNanos == minNanos) {
+            return random -> minNanos;
+        }
+        return random -> random.nextLong(minNanos, maxNanos + 1);
+    }
+
+    /**
+     * Delays responses following a log-normal distribution, the usual shape of network and service latency:
+     * most responses cluster around the median with a long right tail.
+     *
+     * @param median 50th percentile delay
+     * @param p99 99th percentile delay
+     * @return the distribution
+     */
+    static LatencyDistribution logNormal(Duration median, Duration p99) {
+        long medianNanos = requireNonNegative(median, "median");
+        long p99Nanos = requireNonNegative(p99, "p99");
+        if (medianNanos == 0 || p99Nanos < medianNanos) {
+            throw new IllegalArgumentException("median must be positive and p99 must not be shorter than median.");
+        }
+        // z-score of the 99th percentile of the standard normal distribution
+        double p99ZScore = 2.3263478740408408;
+        double mu = Math.log(medianNanos);
+        double sigma = Math.log((double) p99Nanos / medianNanos) / p99ZScore;
+        return random -> (long) Math.exp(mu + sigma * random.nextGaussian());
+    }
+
+    private static long requireNonNegative(Duration duration, String name) {
+        Objects.requireNonNull(duration, name);
+        if (duration.isNegative()) {
+            throw new IllegalArgumentException(name + " must not be negative.");
+        }
+        return duration.toNanos();
+    }
+}
@@ -0,0 +1,207 @@
+package com.williamcallahan.applemaps.adapters.fakeserver;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Representative Apple Maps Server API response payloads shared by the benchmarks.
+ *
+ * <p>Sizes follow what the live API returns for a busy city-centre query: a full page of search
+ * results, a handful of autocomplete suggestions and a multi-route directions response with
+ * per-step paths.</p>
+ */
+public final class ResponseFixtures {
+    private static final int SEARCH_RESULT_COUNT = 25;
+    private static final int AUTOCOMPLETE_RESULT_COUNT = 10;
+    private static final int DIRECTIONS_ROUTE_COUNT = 3;
+    private static final int DIRECTIONS_STEP_COUNT = 40;
+    private static final int STEP_PATH_POINT_COUNT = 30;
+    private static final int ETA_DESTINATION_COUNT = 10;
+    private static final int LOOKUP_PLACE_COUNT = 10;
+
+    private ResponseFixtures() {}
+
+    /**
+     * Returns a {@code /v1/search} response with a full page of points of interest.
+     *
+     * @return UTF-8 JSON
+     */
+    public static byte[] search() {
+        StringBuilder json = new StringBuilder("{\"displayMapRegion\":")
+            .append(regionJson(0))
+            .append(",\"paginationInfo\":{\"nextPageToken\":\"token\",\"totalPageCount\":4,\"totalResults\":100}")
+            .append(",\"results\":[");
+        for (int index = 0; index < SEARCH_RESULT_COUNT; index++) {
+            json.append(index == 0 ? "" : ",").append(placeJson(index, true));
+        }
+        return utf8(json.append("]}"));
+    }
+
+    /**
+     * Returns a {@code /v1/geocode} or {@code /v1/reverseGeocode} response with one address.
+     *
+     * @return UTF-8 JSON
+     */
+    public static byte[] geocode() {
+        return utf8(new StringBuilder("{\"results\":[").append(placeJson(0, false)).append("]}"));
+    }
+
+    /**
+     * Returns a {@code /v1/searchAutocomplete} response.
+     *
+     * @return UTF-8 JSON
+     */
+    public static byte[] autocomplete() {
+        StringBuilder json = new StringBuilder("{\"results\":[");
+        for (int index = 0; index < AUTOCOMPLETE_RESULT_COUNT; index++) {
+            json.append(index == 0 ? "" : ",")
+                .append("{\"completionUrl\":\"/v1/search?q=coffee+").append(index).append("\",")
+                .append("\"displayLines\":[\"Coffee ").append(index).append("\",\"Hamburg\"],")
+                .append("\"location\":{\"lat\":").append(53.5 + index * 0.001)
+                .append(",\"lng\":").append(9.9 + index * 0.001).append("},")
+                .append("\"structuredAddress\":{\"locality\":\"Hamburg\",\"postCode\":\"20354\"}}");
+        }
+        return utf8(json.append("]}"));
+    }
+
+    /**
+     * Returns a {@code /v1/directions} response with alternate routes and per-step paths.
+     *
+     * @return UTF-8 JSON
+     */
+    public static byte[] directions() {
+        StringBuilder json = new StringBuilder("{\"origin\":")
+            .append(placeJson(0, false))
+            .append(",\"destination\":")
+            .append(placeJson(1, false))
+            .append(",\"routes\":[");
+        for (int route = 0; route < DIRECTIONS_ROUTE_COUNT; route++) {
+            json.append(route == 0 ? "" : ",")
+                .append("{\"name\":\"Route ").append(route)
+                .append("\",\"distanceMeters\":12000,\"durationSeconds\":900,\"hasTolls\":false,")
+                .append("\"transportType\":\"Automobile\",\"stepIndexes\":[");
+            for (int step = 0; step < DIRECTIONS_STEP_COUNT; step++) {
+                json.append(step == 0 ? "" : ",").append(step);
+            }
+            json.append("]}");
+        }
+        json.append("],\"steps\":[");
+        for (int step = 0; step < DIRECTIONS_STEP_COUNT; step++) {
+            json.append(step == 0 ? "" : ",")
+                .append("{\"stepPathIndex\":").append(step)
+                .append(",\"distanceMeters\":300,\"durationSeconds\":22,")
+                .append("\"instructions\":\"Turn right onto Street ").append(step)
+                .append("\",\"transportType\":\"Automobile\"}");
+        }
+        json.append("],\"stepPaths\":[");
+        for (int step = 0; step < DIRECTIONS_STEP_COUNT; step++) {
+            json.append(step == 0 ? "[" : ",[");
+            for (int point = 0; point < STEP_PATH_POINT_COUNT; point++) {
+                int sequence = step * STEP_PATH_POINT_COUNT + point;
+                json.append(point == 0 ? "" : ",")
+                    .append("{\"latitude\":").append(FixtureCoordinates.coordinate(53.5, sequence))
+                    .append(",\"longitude\":").append(FixtureCoordinates.coordinate(9.9, sequence))
+                    .append('}');
+            }
+            json.append(']');
+        }
+        return utf8(json.append("]}"));
+    }
+
+    /**
+     * Returns a {@code /v1/etas} response with one estimate per destination.
+     *
+     * @return UTF-8 JSON
+     */
+    public static byte[] etas() {
+        StringBuilder json = new StringBuilder("{\"etas\":[");
+        for (int index = 0; index < ETA_DESTINATION_COUNT; index++) {
+            json.append(index == 0 ? "" : ",")
+                .append("{\"destination\":{\"latitude\":").append(53.5 + index * 0.01)
+                .append(",\"longitude\":").append(9.9 + index * 0.01).append("},")
+                .append("\"distanceMeters\":").append(1000 + index * 250)
+                .append(",\"expectedTravelTimeSeconds\":").append(120 + index * 30)
+                .append(",\"staticTravelTimeSeconds\":").append(100 + index * 30)
+                .append(",\"transportType\":\"Automobile\"}");
+        }
+        return utf8(json.append("]}"));
+    }
+
+    /**
+     * Returns a single {@code /v1/place/{id}} response.
+     *
+     * @return UTF-8 JSON
+     */
+    public static byte[] place() {
+        return utf8(new StringBuilder(placeJson(0, false)));
+    }
+
+    /**
+     * Returns a {@code /v1/place} batch lookup response with one failed identifier.
+     *
+     * @return UTF-8 JSON
+     */
+    public static byte[] places() {
+        StringBuilder json = new StringBuilder("{\"results\":[");
+        for (int index = 0; index < LOOKUP_PLACE_COUNT; index++) {
+            json.append(index == 0 ? "" : ",").append(placeJson(index, false));
+        }
+        return utf8(json.append("],\"errors\":[{\"errorCode\":\"FAILED_NOT_FOUND\",\"id\":\"I404\"}]}"));
+    }
+
+    /**
+     * Returns a {@code /v1/place/alternateIds} response with one failed identifier.
+     *
+     * @return UTF-8 JSON
+     */
+    public static byte[] alternateIds() {
+        StringBuilder json = new StringBuilder("{\"results\":[");
+        for (int index = 0; index < LOOKUP_PLACE_COUNT; index++) {
+            json.append(index == 0 ? "" : ",")
+                .append("{\"id\":\"I").append(index).append("\",\"alternateIds\":[\"A")
+                .append(index).append("\",\"B").append(index).append("\"]}");
+        }
+        return utf8(json.append("],\"errors\":[{\"errorCode\":\"FAILED_INVALID_ID\",\"id\":\"bad\"}]}"));
+    }
+
+    /**
+     * Returns a {@code /v1/token} response whose access token is an unsigned JWT expiring at the given instant.
+     *
+     * @param expiresAt access token expiry
+     * @return UTF-8 JSON
+     */
+    public static byte[] token(Instant expiresAt) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        String header = encoder.encodeToString("{\"alg\":\"none\"}".getBytes(StandardCharsets.UTF_8));
+        String claims = encoder.encodeToString(
+            ("{\"exp\":" + expiresAt.getEpochSecond() + "}").getBytes(StandardCharsets.UTF_8)
+        );
+        return utf8(new StringBuilder("{\"accessToken\":\"").append(header).append('.').append(claims)
+            .append(".\",\"expiresInSeconds\":1800}"));
+    }
+
+    private static String placeJson(int index, boolean withPoiCategory) {
+        return "{\"id\":\"I" + index + "\",\"alternateIds\":[\"A" + index + "\"],"
+            + "\"name\":\"Place " + index + "\","
+            + "\"coordinate\":{\"latitude\":" + (53.55 + index * 0.001) + ",\"longitude\":" + (9.99 + index * 0.001) + "},"
+            + "\"displayMapRegion\":" + regionJson(index) + ","
+            + "\"formattedAddressLines\":[\"Jungfernstieg " + index + "\",\"20354 Hamburg\",\"Germany\"],"
+            + "\"structuredAddress\":{\"administrativeArea\":\"Hamburg\",\"administrativeAreaCode\":\"HH\","
+            + "\"locality\":\"Hamburg\",\"postCode\":\"20354\",\"thoroughfare\":\"Jungfernstieg\","
+            + "\"subThoroughfare\":\"" + index + "\",\"fullThoroughfare\":\"Jungfernstieg " + index + "\","
+            + "\"areasOfInterest\":[\"Binnenalster\"],\"dependentLocalities\":[\"Neustadt\"]},"
+            + "\"country\":\"Germany\",\"countryCode\":\"DE\""
+            + (withPoiCategory ? ",\"poiCategory\":\"Cafe\"" : "")
+            + "}";
+    }
+
+    private static String regionJson(int index) {
+        return "{\"northLatitude\":" + (53.56 + index * 0.001) + ",\"eastLongitude\":" + (10.0 + index * 0.001)
+            + ",\"southLatitude\":" + (53.54 + index * 0.001) + ",\"westLongitude\":" + (9.98 + index * 0.001) + "}";
+    }
+
+    private static byte[] utf8(CharSequence json) {
+        return json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,348 @@
+package com.williamcallahan.applemaps.adapters.fakeserver;
+
+import java.nio.charset.StandardCharsets;
+
+import com.williamcallahan.applemaps.domain.model.PoiCategory;
+
+/**
+ * Generates Apple Maps Server API response payloads of a chosen size, for measuring decode time and retained
+ * memory well beyond what {@link ResponseFixtures} covers.
+ *
+ * <p>Every payload populates every field of its response model, so it decodes into fully-populated records.
+ * Names, identifiers and coordinates differ per element, as they do in real responses, so decoders cannot
+ * benefit from repeated strings that live traffic would not repeat. Output is deterministic for a given
+ * configuration.</p>
+ */
+public final class SyntheticPayloads {
+    private static final PoiCategory[] POI_CATEGORIES = PoiCategory.values();
+
+    private final int resultCount;
+    private final int addressLineCount;
+    private final int alternateIdCount;
+    private final int routeCount;
+    private final int stepCount;
+    private final int pathPointsPerStep;
+
+    private SyntheticPayloads(Builder builder) {
+        this.resultCount = builder.resultCount;
+        this.addressLineCount = builder.addressLineCount;
+        this.alternateIdCount = builder.alternateIdCount;
+        this.routeCount = builder.routeCount;
+        this.stepCount = builder.stepCount;
+        this.pathPointsPerStep = builder.pathPointsPerStep;
+    }
+
+    /**
+     * Creates a builder with the same sizes as {@link ResponseFixtures}: 25 results with three address lines
+     * and one alternate id each, and three routes over 40 steps of 30 path points.
+     *
+     * @return a builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns a {@code /v1/search} response with one page of results.
+     *
+     * @return UTF-8 JSON
+     */
+    public byte[] search() {
+        StringBuilder json = new StringBuilder(resultCount * 1024 + 256).append("{\"displayMapRegion\":");
+        appendRegion(json, 0).append(",\"paginationInfo\":{\"nextPageToken\":\"next-").append(resultCount)
+            .append("\",\"prevPageToken\":\"prev-").append(resultCount)
+            .append("\",\"totalPageCount\":4,\"totalResults\":").append(resultCount * 4L).append("},\"results\":[");
+        for (int index = 0; index < resultCount; index++) {
+            appendPlace(json.append(index == 0 ? "" : ","), index, true);
+        }
+        return utf8(json.append("]}"));
+    }
+
+    /**
+     * Returns a {@code /v1/geocode} or {@code /v1/reverseGeocode} response with one place per result.
+     *
+     * @return UTF-8 JSON
+     */
+    public byte[] geocode() {
+        return utf8(appendPlaces(new StringBuilder(resultCount * 1024 + 32).append("{\"results\":")).append('}'));
+    }
+
+    /**
+     * Returns a {@code /v1/searchAutocomplete} response with one suggestion per result.
+     *
+     * @return UTF-8 JSON
+     */
+    public byte[] autocomplete() {
+        StringBuilder json = new StringBuilder(resultCount * 512 + 32).append("{\"results\":[");
+        for (int index = 0; index < resultCount; index++) {
+            json.append(index == 0 ? "" : ",")
+                .append("{\"completionUrl\":\"/v1/search?q=place+").append(index).append("\",\"displayLines\":[");
+            for (int line = 0; line < addressLineCount; line++) {
+                json.append(line == 0 ? "\"" : ",\"").append(addressLine(index, line)).append('"');
+            }
+            json.append("],\"location\":");
+            appendStructuredAddress(appendLocation(json, index).append(",\"structuredAddress\":"), index).append('}');
+        }
+        return utf8(json.append("]}"));
+    }
+
+    /**
+     * Returns a {@code /v1/directions} response in which every route uses every step.
+     *
+     * @return UTF-8 JSON
+     */
+    public byte[] directions() {
+        StringBuilder json = new StringBuilder(stepCount * (pathPointsPerStep * 48 + routeCount * 4 + 128) + 4096)
+            .append("{\"origin\":");
+        appendPlace(json, 0, false).append(",\"destination\":");
+        appendPlace(json, 1, false).append(",\"routes\":[");
+        for (int route = 0; route < routeCount; route++) {
+            json.append(route == 0 ? "" : ",").append("{\"name\":\"Route ").append(route)
+                .append("\",\"distanceMeters\":").append(stepCount * 300L + route * 100L)
+                .append(",\"durationSeconds\":").append(stepCount * 22L + route * 10L).append(",\"hasTolls\":")
+                .append(route % 2 == 1).append(",\"transportType\":\"Automobile\",\"stepIndexes\":[");
+            for (int step = 0; step < stepCount; step++) {
+                json.append(step == 0 ? "" : ",").append(step);
+            }
+            json.append("]}");
+        }
+        json.append("],\"steps\":[");
+        for (int step = 0; step < stepCount; step++) {
+            json.append(step == 0 ? "" : ",").append("{\"stepPathIndex\":").append(step)
+                .append(",\"distanceMeters\":300,\"durationSeconds\":22,\"instructions\":\"Turn right onto Street ")
+                .append(step).append("\",\"transportType\":\"Automobile\"}");
+        }
+        json.append("],\"stepPaths\":[");
+        for (int step = 0; step < stepCount; step++) {
+            json.append(step == 0 ? "[" : ",[");
+            for (int point = 0; point < pathPointsPerStep; point++) {
+                int sequence = step * pathPointsPerStep + point;
+                json.append(point == 0 ? "{\"latitude\":" : ",{\"latitude\":")
+                    .append(FixtureCoordinates.coordinate(53.5, sequence))
+                    .append(",\"longitude\":").append(FixtureCoordinates.coordinate(9.9, sequence)).append('}');
+            }
+            json.append(']');
+        }
+        return utf8(json.append("]}"));
+    }
+
+    /**
+     * Returns a {@code /v1/etas} response with one estimate per result.
+     *
+     * @return UTF-8 JSON
+     */
+    public byte[] etas() {
+        StringBuilder json = new StringBuilder(resultCount * 192 + 32).append("{\"etas\":[");
+        for (int index = 0; index < resultCount; index++) {
+            json.append(index == 0 ? "{\"destination\":" : ",{\"destination\":");
+            appendLocation(json, index).append(",\"distanceMeters\":").append(1000L + index * 250L)
+                .append(",\"expectedTravelTimeSeconds\":").append(120L + index * 30L)
+                .append(",\"staticTravelTimeSeconds\":").append(100L + index * 30L)
+                .append(",\"transportType\":\"Automobile\"}");
+        }
+        return utf8(json.append("]}"));
+    }
+
+    /**
+     * Returns a single {@code /v1/place/{id}} response.
+     *
+     * @return UTF-8 JSON
+     */
+    public byte[] place() {
+        return utf8(appendPlace(new StringBuilder(1024), 0, false));
+    }
+
+    /**
+     * Returns a {@code /v1/place} batch lookup response with one place per result and one failed identifier.
+     *
+     * @return UTF-8 JSON
+     */
+    public byte[] places() {
+        return utf8(appendPlaces(new StringBuilder(resultCount * 1024 + 128).append("{\"results\":"))
+            .append(",\"errors\":[{\"errorCode\":\"FAILED_NOT_FOUND\",\"id\":\"I-missing\"}]}"));
+    }
+
+    /**
+     * Returns a {@code /v1/place/alternateIds} response with one entry per result and one failed identifier.
+     *
+     * @return UTF-8 JSON
+     */
+    public byte[] alternateIds() {
+        StringBuilder json = new StringBuilder(resultCount * (alternateIdCount * 24 + 32) + 128)
+            .append("{\"results\":[");
+        for (int index = 0; index < resultCount; index++) {
+            json.append(index == 0 ? "{\"id\":\"" : ",{\"id\":\"").append(id(index)).append("\",\"alternateIds\":");
+            appendAlternateIds(json, index).append('}');
+        }
+        return utf8(json.append("],\"errors\":[{\"errorCode\":\"FAILED_INVALID_ID\",\"id\":\"bad\"}]}"));
+    }
+
+    private StringBuilder appendPlaces(StringBuilder json) {
+        json.append('[');
+        for (int index = 0; index < resultCount; index++) {
+            appendPlace(json.append(index == 0 ? "" : ","), index, false);
+        }
+        return json.append(']');
+    }
+
+    private StringBuilder appendPlace(StringBuilder json, int index, boolean withPoiCategory) {
+        json.append("{\"id\":\"").append(id(index)).append("\",\"alternateIds\":");
+        appendAlternateIds(json, index).append(",\"name\":\"Place ").append(index).append("\",\"coordinate\":");
+        appendLocation(json, index).append(",\"displayMapRegion\":");
+        appendRegion(json, index).append(",\"formattedAddressLines\":[");
+        for (int line = 0; line < addressLineCount; line++) {
+            json.append(line == 0 ? "\"" : ",\"").append(addressLine(index, line)).append('"');
+        }
+        appendStructuredAddress(json.append("],\"structuredAddress\":"), index)
+            .append(",\"country\":\"Germany\",\"countryCode\":\"DE\"");
+        if (withPoiCategory) {
+            json.append(",\"poiCategory\":\"").append(POI_CATEGORIES[index % POI_CATEGORIES.length]).append('"');
+        }
+        return json.append('}');
+    }
+
+    private StringBuilder appendAlternateIds(StringBuilder json, int index) {
+        json.append('[');
+        for (int alternate = 0; alternate < alternateIdCount; alternate++) {
+            json.append(alternate == 0 ? "\"" : ",\"").append((char) ('A' + alternate % 26)).append(alternate / 26)
+                .append('-').append(id(index)).append('"');
+        }
+        return json.append(']');
+    }
+
+    private static StringBuilder appendStructuredAddress(StringBuilder json, int index) {
+        return json.append("{\"administrativeArea\":\"Hamburg\",\"administrativeAreaCode\":\"HH\",")
+            .append("\"subAdministrativeArea\":\"Hamburg\",\"areasOfInterest\":[\"Binnenalster\"],")
+            .append("\"dependentLocalities\":[\"Neustadt\"],\"fullThoroughfare\":\"Street ").append(index % 1000)
+            .append(' ').append(index).append("\",\"locality\":\"Hamburg\",\"postCode\":\"")
+            .append(20000 + index % 1000).append("\",\"subLocality\":\"District ").append(index % 50)
+            .append("\",\"subThoroughfare\":\"").append(index).append("\",\"thoroughfare\":\"Street ")
+            .append(index % 1000).append("\"}");
+    }
+
+    private static StringBuilder appendLocation(StringBuilder json, int index) {
+        return json.append("{\"latitude\":").append(FixtureCoordinates.coordinate(53.55, index))
+            .append(",\"longitude\":").append(FixtureCoordinates.coordinate(9.99, index)).append('}');
+    }
+
+    private static StringBuilder appendRegion(StringBuilder json, int index) {
+        return json.append("{\"northLatitude\":").append(FixtureCoordinates.coordinate(53.56, index))
+            .append(",\"eastLongitude\":").append(FixtureCoordinates.coordinate(10.0, index))
+            .append(",\"southLatitude\":").append(FixtureCoordinates.coordinate(53.54, index))
+            .append(",\"westLongitude\":").append(FixtureCoordinates.coordinate(9.98, index)).append('}');
+    }
+
+    private static String id(int index) {
+        return "I" + Integer.toHexString(0x5EED0000 + index);
+    }
+
+    private static String addressLine(int index, int line) {
+        return switch (line) {
+            case 0 -> "Street " + index % 1000 + " " + index;
+            case 1 -> (20000 + index % 1000) + " Hamburg";
+            case 2 -> "Germany";
+            default -> "Address line " + line + " of place " + index;
+        };
+    }
+
+    private static byte[] utf8(StringBuilder json) {
+        return json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Builder for {@link SyntheticPayloads}.
+     */
+    public static final class Builder {
+        private int resultCount = 25;
+        private int addressLineCount = 3;
+        private int alternateIdCount = 1;
+        private int routeCount = 3;
+        private int stepCount = 40;
+        private int pathPointsPerStep = 30;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the number of places, suggestions, estimates or lookup entries in list responses.
+         *
+         * @param resultCount non-negative count
+         * @return this builder
+         */
+        public Builder results(int resultCount) {
+            this.resultCount = requireNonNegative(resultCount, "resultCount");
+            return this;
+        }
+
+        /**
+         * Sets the number of formatted address lines of each place, and display lines of each suggestion.
+         *
+         * @param addressLineCount non-negative count
+         * @return this builder
+         */
+        public Builder addressLines(int addressLineCount) {
+            this.addressLineCount = requireNonNegative(addressLineCount, "addressLineCount");
+            return this;
+        }
+
+        /**
+         * Sets the number of alternate identifiers of each place.
+         *
+         * @param alternateIdCount non-negative count
+         * @return this builder
+         */
+        public Builder alternateIds(int alternateIdCount) {
+            this.alternateIdCount = requireNonNegative(alternateIdCount, "alternateIdCount");
+            return this;
+        }
+
+        /**
+         * Sets the number of alternate routes in a directions response.
+         *
+         * @param routeCount non-negative count
+         * @return this builder
+         */
+        public Builder routes(int routeCount) {
+            this.routeCount = requireNonNegative(routeCount, "routeCount");
+            return this;
+        }
+
+        /**
+         * Sets the number of steps in a directions response.
+         *
+         * @param stepCount non-negative count
+         * @return this builder
+         */
+        public Builder steps(int stepCount) {
+            this.stepCount = requireNonNegative(stepCount, "stepCount");
+            return this;
+        }
+
+        /**
+         * Sets the number of path points of each directions step.
+         *
+         * @param pathPointsPerStep non-negative count
+         * @return this builder
+         */
+        public Builder pathPointsPerStep(int pathPointsPerStep) {
+            this.pathPointsPerStep = requireNonNegative(pathPointsPerStep, "pathPointsPerStep");
+            return this;
+        }
+
+        /**
+         * Builds a validated {@link SyntheticPayloads}.
+         *
+         * @return a payload generator
+         */
+        public SyntheticPayloads build() {
+            return new SyntheticPayloads(this);
+        }
+
+        private static int requireNonNegative(int value, String name) {
+            if (value < 0) {
+                throw new IllegalArgumentException(name + " must not be negative.");
+            }
+            return value;
+        }
+    }
+}
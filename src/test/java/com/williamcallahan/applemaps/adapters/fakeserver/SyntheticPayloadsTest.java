@@ -0,0 +1,141 @@
+package com.williamcallahan.applemaps.adapters.fakeserver;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import com.williamcallahan.applemaps.adapters.jackson.AppleMapsObjectMapperFactory;
+import com.williamcallahan.applemaps.domain.model.AlternateIdsResponse;
+import com.williamcallahan.applemaps.domain.model.AutocompleteResult;
+import com.williamcallahan.applemaps.domain.model.DirectionsResponse;
+import com.williamcallahan.applemaps.domain.model.EtaResponse;
+import com.williamcallahan.applemaps.domain.model.Place;
+import com.williamcallahan.applemaps.domain.model.PlaceResults;
+import com.williamcallahan.applemaps.domain.model.PlacesResponse;
+import com.williamcallahan.applemaps.domain.model.SearchAutocompleteResponse;
+import com.williamcallahan.applemaps.domain.model.SearchResponse;
+import com.williamcallahan.applemaps.domain.model.SearchResponsePlace;
+import com.williamcallahan.applemaps.domain.model.StructuredAddress;
+
+import tools.jackson.databind.ObjectMapper;
+
+class SyntheticPayloadsTest {
+    private static final SyntheticPayloads PAYLOADS = SyntheticPayloads.builder()
+        .results(120)
+        .addressLines(5)
+        .alternateIds(30)
+        .routes(4)
+        .steps(250)
+        .pathPointsPerStep(80)
+        .build();
+
+    private final ObjectMapper streamingMapper = AppleMapsObjectMapperFactory.create();
+
+    @Test
+    void searchPayloadDecodesIntoFullyPopulatedPlaces() {
+        SearchResponse response = streamingMapper.readValue(PAYLOADS.search(), SearchResponse.class);
+
+        assertEquals(120, response.results().size());
+        assertTrue(response.displayMapRegion().isPresent());
+        assertEquals(480L, response.paginationInfo().orElseThrow().totalResults());
+        assertTrue(response.paginationInfo().orElseThrow().prevPageToken().isPresent());
+        SearchResponsePlace last = response.results().get(119);
+        assertEquals("Place 119", last.name());
+        assertEquals(5, last.formattedAddressLines().size());
+        assertEquals(30, last.alternateIds().size());
+        assertTrue(last.poiCategory().isPresent());
+        assertFullyPopulated(last.structuredAddress().orElseThrow());
+    }
+
+    @Test
+    void placePayloadsDecodeWithConfiguredCounts() {
+        PlaceResults geocode = streamingMapper.readValue(PAYLOADS.geocode(), PlaceResults.class);
+        PlacesResponse places = streamingMapper.readValue(PAYLOADS.places(), PlacesResponse.class);
+        AlternateIdsResponse alternateIds = streamingMapper.readValue(PAYLOADS.alternateIds(), AlternateIdsResponse.class);
+        Place place = streamingMapper.readValue(PAYLOADS.place(), Place.class);
+
+        assertEquals(120, geocode.results().size());
+        assertEquals(120, places.results().size());
+        assertEquals(1, places.errors().size());
+        assertEquals(120, alternateIds.results().size());
+        assertEquals(30, alternateIds.results().get(0).alternateIds().size());
+        assertEquals(geocode.results().get(0), place);
+        assertTrue(place.id().isPresent());
+        assertTrue(place.displayMapRegion().isPresent());
+    }
+
+    @Test
+    void autocompleteAndEtaPayloadsDecodeWithConfiguredCounts() {
+        SearchAutocompleteResponse autocomplete =
+            streamingMapper.readValue(PAYLOADS.autocomplete(), SearchAutocompleteResponse.class);
+        EtaResponse etas = streamingMapper.readValue(PAYLOADS.etas(), EtaResponse.class);
+
+        assertEquals(120, autocomplete.results().size());
+        AutocompleteResult suggestion = autocomplete.results().get(7);
+        assertEquals(5, suggestion.displayLines().size());
+        assertTrue(suggestion.location().isPresent());
+        assertFullyPopulated(suggestion.structuredAddress().orElseThrow());
+        assertEquals(120, etas.etas().size());
+        assertTrue(etas.etas().get(119).transportType().isPresent());
+    }
+
+    @Test
+    void directionsPayloadCarriesEveryPathPoint() {
+        DirectionsResponse directions = streamingMapper.readValue(PAYLOADS.directions(), DirectionsResponse.class);
+
+        assertEquals(4, directions.routes().size());
+        assertEquals(250, directions.routes().get(3).stepIndexes().size());
+        assertEquals(250, directions.steps().size());
+        assertEquals(250, directions.stepPaths().size());
+        assertEquals(20_000, directions.stepPaths().stream().mapToInt(path -> path.size()).sum());
+        assertTrue(directions.origin().isPresent());
+        assertTrue(directions.destination().isPresent());
+    }
+
+    @Test
+    void defaultSizesMatchResponseFixtures() {
+        SyntheticPayloads defaults = SyntheticPayloads.builder().build();
+
+        assertEquals(
+            streamingMapper.readValue(ResponseFixtures.search(), SearchResponse.class).results().size(),
+            streamingMapper.readValue(defaults.search(), SearchResponse.class).results().size()
+        );
+        assertEquals(
+            streamingMapper.readValue(ResponseFixtures.directions(), DirectionsResponse.class).stepPaths(),
+            streamingMapper.readValue(defaults.directions(), DirectionsResponse.class).stepPaths()
+        );
+    }
+
+    @Test
+    void payloadsAreDeterministicAndEmptySizesStayValid() {
+        SyntheticPayloads empty = SyntheticPayloads.builder()
+            .results(0)
+            .addressLines(0)
+            .alternateIds(0)
+            .routes(0)
+            .steps(0)
+            .build();
+
+        assertArrayEquals(PAYLOADS.search(), PAYLOADS.search());
+        assertTrue(streamingMapper.readValue(empty.search(), SearchResponse.class).results().isEmpty());
+        assertTrue(streamingMapper.readValue(empty.directions(), DirectionsResponse.class).stepPaths().isEmpty());
+        assertTrue(streamingMapper.readValue(empty.place(), Place.class).formattedAddressLines().isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> SyntheticPayloads.builder().results(-1));
+    }
+
+    private static void assertFullyPopulated(StructuredAddress address) {
+        assertTrue(address.administrativeArea().isPresent());
+        assertTrue(address.administrativeAreaCode().isPresent());
+        assertTrue(address.subAdministrativeArea().isPresent());
+        assertTrue(address.fullThoroughfare().isPresent());
+        assertTrue(address.locality().isPresent());
+        assertTrue(address.postCode().isPresent());
+        assertTrue(address.subLocality().isPresent());
+        assertTrue(address.subThoroughfare().isPresent());
+        assertTrue(address.thoroughfare().isPresent());
+        assertTrue(!address.areasOfInterest().isEmpty() && !address.dependentLocalities().isEmpty());
+    }
+}
@@ -0,0 +1,79 @@
+package com.williamcallahan.applemaps.adapters.geocodecache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.williamcallahan.applemaps.domain.request.GeocodeInput;
+
+class AddressCanonicalizerTest {
+    private final AddressCanonicalizer canonicalizer = AddressCanonicalizer.standard();
+
+    @Test
+    void caseSpacingPunctuationAndAbbreviationsAreCanonicalized() {
+        assertEquals("880 harrison street san francisco ca 94107",
+            canonicalizer.canonicalize("880 Harrison St., San Francisco,  CA 94107"));
+        assertEquals("12 north main street apartment 4b",
+            canonicalizer.canonicalize("  12 N. Main St #Apt. 4B "));
+        assertEquals("oconnell street", canonicalizer.canonicalize("O'Connell St"));
+        assertEquals("", canonicalizer.canonicalize(" ,.; "));
+    }
+
+    @Test
+    void unicodeTextIsNormalizedAndCaseFolded() {
+        assertEquals("jungfernstieg 1 hamburg", canonicalizer.canonicalize("ＪＵＮＧＦＥＲＮＳＴＩＥＧ １, Hamburg"));
+        assertEquals("hauptstrasse 5 münchen", canonicalizer.canonicalize("Hauptstraße 5, MÜNCHEN"));
+        assertEquals("hauptstrasse 5 münchen", canonicalizer.canonicalize("Hauptstr. 5, München"));
+        assertEquals("rue de léglise", canonicalizer.canonicalize("Rue de l’Église"));
+    }
+
+    @Test
+    void fingerprintsMatchExactlyWhenCanonicalFormsMatch() {
+        List<String> spellings = List.of("880 Harrison St, San Francisco", "880 HARRISON STREET SAN FRANCISCO",
+            "880 harrison st. - san francisco");
+        for (String spelling : spellings) {
+            assertEquals(canonicalizer.fingerprint(spellings.get(0)), canonicalizer.fingerprint(spelling));
+        }
+        assertNotEquals(canonicalizer.fingerprint("880 Harrison St"), canonicalizer.fingerprint("881 Harrison St"));
+        assertNotEquals(canonicalizer.fingerprint("ab c"), canonicalizer.fingerprint("a bc"));
+        assertEquals(Fingerprint64.of("880 harrison street san francisco"),
+            canonicalizer.fingerprint(spellings.get(0)));
+    }
+
+    @Test
+    void geocodeKeysIncludeTheOtherParametersExactly() {
+        GeocodeInput plain = GeocodeInput.builder("1 Main St").build();
+        GeocodeInput german = GeocodeInput.builder("1 main street").language("de-DE").build();
+
+        assertEquals(canonicalizer.fingerprint("1 main street"), canonicalizer.geocodeKey(plain));
+        assertNotEquals(canonicalizer.geocodeKey(plain), canonicalizer.geocodeKey(german));
+        assertEquals(canonicalizer.geocodeKey(german),
+            canonicalizer.geocodeKey(GeocodeInput.builder("1 MAIN ST").language("de-DE").build()));
+    }
+
+    @Test
+    void customAbbreviationsExtendOrReplaceTheStandardTables() {
+        AddressCanonicalizer custom = AddressCanonicalizer.builder()
+            .clearAbbreviations()
+            .abbreviation("C", "Calle")
+            .suffixAbbreviation("gt", "gata")
+            .build();
+
+        assertEquals("calle mayor 3 st", custom.canonicalize("C/ Mayor 3 St"));
+        assertEquals("storgata 1", custom.canonicalize("Storgt. 1"));
+        assertThrows(IllegalArgumentException.class, () -> AddressCanonicalizer.builder().abbreviation("St.", "Street"));
+        assertThrows(IllegalArgumentException.class, () -> AddressCanonicalizer.builder().abbreviation("pl", " place"));
+    }
+
+    @Test
+    void longInputsGrowTheBuffer() {
+        String address = "Main St ".repeat(100);
+
+        assertEquals("main street ".repeat(100).strip(), canonicalizer.canonicalize(address));
+        assertEquals(canonicalizer.fingerprint("main street ".repeat(100)), canonicalizer.fingerprint(address));
+    }
+}
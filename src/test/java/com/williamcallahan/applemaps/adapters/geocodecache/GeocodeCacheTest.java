@@ -0,0 +1,110 @@
+package com.williamcallahan.applemaps.adapters.geocodecache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.williamcallahan.applemaps.adapters.fakeserver.FakeMapsServer;
+import com.williamcallahan.applemaps.adapters.mapsserver.HttpAppleMapsGateway;
+import com.williamcallahan.applemaps.domain.model.PlaceResults;
+import com.williamcallahan.applemaps.domain.request.GeocodeInput;
+
+class GeocodeCacheTest {
+    private static final PlaceResults EMPTY = new PlaceResults(List.of());
+
+    @Test
+    void differentSpellingsOfOneAddressShareAnEntry() {
+        GeocodeCache cache = GeocodeCache.builder().build();
+        cache.store(GeocodeInput.builder("880 Harrison St, San Francisco").build(), EMPTY);
+
+        assertSame(EMPTY, cache.lookup(GeocodeInput.builder("880 HARRISON STREET  san francisco").build())
+            .orElseThrow());
+        assertTrue(cache.lookup(GeocodeInput.builder("880 Harrison St, San Francisco").language("fr").build())
+            .isEmpty());
+        assertEquals(1, cache.hits());
+        assertEquals(1, cache.misses());
+    }
+
+    @Test
+    void entriesExpireAndTheLeastRecentlyUsedIsEvicted() {
+        MutableClock clock = new MutableClock(Instant.parse("2026-05-01T10:00:00Z"));
+        GeocodeCache cache = GeocodeCache.builder().clock(clock).timeToLive(Duration.ofMinutes(5)).maxEntries(2)
+            .build();
+        cache.store(GeocodeInput.builder("a").build(), EMPTY);
+        cache.store(GeocodeInput.builder("b").build(), EMPTY);
+        cache.lookup(GeocodeInput.builder("A").build());
+        cache.store(GeocodeInput.builder("c").build(), EMPTY);
+
+        assertTrue(cache.lookup(GeocodeInput.builder("b").build()).isEmpty());
+        assertTrue(cache.lookup(GeocodeInput.builder("a").build()).isPresent());
+
+        clock.advance(Duration.ofMinutes(5));
+        assertTrue(cache.lookup(GeocodeInput.builder("c").build()).isEmpty());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void gatewayAndBulkGeocoderCallOncePerCanonicalAddress() {
+        GeocodeCache cache = GeocodeCache.builder().build();
+        try (FakeMapsServer server = FakeMapsServer.builder().start()) {
+            GeocodeCachingGateway gateway = new GeocodeCachingGateway(
+                new HttpAppleMapsGateway("auth-token", Duration.ofSeconds(5), null, server.baseUri()),
+                cache
+            );
+            try {
+                List<PlaceResults> results = new BulkGeocoder(gateway, cache.canonicalizer()).geocodeAll(List.of(
+                    GeocodeInput.builder("Jungfernstieg 1, Hamburg").build(),
+                    GeocodeInput.builder("jungfernstieg 1 hamburg").build(),
+                    GeocodeInput.builder("Hauptstr. 5").build(),
+                    GeocodeInput.builder("HAUPTSTRASSE 5").build()
+                ));
+
+                assertEquals(4, results.size());
+                assertSame(results.get(0), results.get(1));
+                assertSame(results.get(2), results.get(3));
+                assertEquals(2, server.requestCount("/v1/geocode"));
+
+                gateway.geocode(GeocodeInput.builder("JUNGFERNSTIEG 1 - HAMBURG").build());
+                assertEquals(2, server.requestCount("/v1/geocode"));
+            } finally {
+                gateway.close();
+            }
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.williamcallahan.applemaps.adapters.jackson;
+
+import com.williamcallahan.applemaps.domain.model.Location;
+import com.williamcallahan.applemaps.domain.model.PlaceField;
+import com.williamcallahan.applemaps.domain.model.PlaceProjection;
+import com.williamcallahan.applemaps.domain.model.PlaceResults;
+import com.williamcallahan.applemaps.domain.model.ProjectedPlace;
+import com.williamcallahan.applemaps.domain.model.ProjectedPlaceResults;
+import com.williamcallahan.applemaps.domain.model.SearchResponse;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.ObjectMapper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ProjectedPlaceResultsDeserializerTest {
+    private static final String PLACE_JSON = """
+        {
+          "id": "I1",
+          "alternateIds": ["A1"],
+          "name": "Jungfernstieg",
+          "coordinate": { "latitude": 53.5533, "longitude": 9.9925 },
+          "displayMapRegion": {
+            "northLatitude": 53.56, "eastLongitude": 10.0, "southLatitude": 53.54, "westLongitude": 9.98
+          },
+          "formattedAddressLines": ["Jungfernstieg 1", "20354 Hamburg"],
+          "structuredAddress": { "locality": "Hamburg", "areasOfInterest": ["Binnenalster"] },
+          "country": "Germany",
+          "countryCode": "DE",
+          "poiCategory": "Cafe"
+        }
+        """;
+    private static final String SEARCH_JSON = """
+        {
+          "displayMapRegion": {
+            "northLatitude": 54.0, "eastLongitude": 10.5, "southLatitude": 53.0, "westLongitude": 9.5
+          },
+          "paginationInfo": { "nextPageToken": "next", "totalPageCount": 3, "totalResults": 42 },
+          "results": [%s, null]
+        }
+        """.formatted(PLACE_JSON);
+    private static final String GEOCODE_JSON = "{ \"results\": [" + PLACE_JSON + "] }";
+
+    private final ObjectMapper objectMapper = AppleMapsObjectMapperFactory.create();
+
+    @Test
+    void decodesOnlyRequestedFields() throws Exception {
+        PlaceProjection projection = PlaceProjection.of(PlaceField.ID, PlaceField.COORDINATE);
+
+        ProjectedPlaceResults results = AppleMapsObjectMapperFactory
+            .projectedPlaceResultsReader(objectMapper, projection)
+            .readValue(SEARCH_JSON);
+
+        ProjectedPlace place = results.results().get(0);
+        assertEquals(1, results.results().size());
+        assertEquals(Optional.of("I1"), place.id());
+        assertEquals(Optional.of(new Location(53.5533, 9.9925)), place.coordinate());
+        assertEquals(Optional.empty(), place.name());
+        assertEquals(Optional.empty(), place.structuredAddress());
+        assertEquals(List.of(), place.formattedAddressLines());
+        assertEquals(42L, results.paginationInfo().orElseThrow().totalResults());
+    }
+
+    @Test
+    void streamingProjectionMatchesProjectingDecodedSearchResponse() throws Exception {
+        PlaceProjection projection = PlaceProjection.of(
+            PlaceField.NAME,
+            PlaceField.STRUCTURED_ADDRESS,
+            PlaceField.POI_CATEGORY
+        );
+
+        ProjectedPlaceResults streamed = AppleMapsObjectMapperFactory
+            .projectedPlaceResultsReader(objectMapper, projection)
+            .readValue(SEARCH_JSON);
+        SearchResponse decoded = objectMapper.readValue(SEARCH_JSON, SearchResponse.class);
+
+        assertEquals(projection.project(decoded), streamed);
+    }
+
+    @Test
+    void streamingProjectionMatchesProjectingDecodedPlaceResults() throws Exception {
+        PlaceProjection projection = PlaceProjection.of(PlaceField.NAME, PlaceField.COORDINATE, PlaceField.COUNTRY_CODE);
+
+        ProjectedPlaceResults streamed = AppleMapsObjectMapperFactory
+            .projectedPlaceResultsReader(objectMapper, projection)
+            .readValue(GEOCODE_JSON);
+        PlaceResults decoded = objectMapper.readValue(GEOCODE_JSON, PlaceResults.class);
+
+        assertEquals(projection.project(decoded), streamed);
+    }
+
+    @Test
+    void readsEveryFieldWithoutProjectionAttribute() throws Exception {
+        ProjectedPlaceResults results = objectMapper.readValue(SEARCH_JSON, ProjectedPlaceResults.class);
+        SearchResponse decoded = objectMapper.readValue(SEARCH_JSON, SearchResponse.class);
+
+        assertEquals(PlaceProjection.all().project(decoded), results);
+    }
+}
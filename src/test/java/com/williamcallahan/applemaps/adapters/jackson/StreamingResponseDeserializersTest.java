@@ -0,0 +1,180 @@
+package com.williamcallahan.applemaps.adapters.jackson;
+
+import com.williamcallahan.applemaps.domain.model.DirectionsResponse;
+import com.williamcallahan.applemaps.domain.model.Location;
+import com.williamcallahan.applemaps.domain.model.PlaceResults;
+import com.williamcallahan.applemaps.domain.model.PoiCategory;
+import com.williamcallahan.applemaps.domain.model.SearchAutocompleteResponse;
+import com.williamcallahan.applemaps.domain.model.SearchResponse;
+import com.williamcallahan.applemaps.domain.model.TransportType;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.DatabindException;
+import tools.jackson.databind.ObjectMapper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class StreamingResponseDeserializersTest {
+    private static final String PLACE_JSON = """
+        {
+          "id": "I1",
+          "alternateIds": ["A1", null, "A2"],
+          "name": "Jungfernstieg",
+          "coordinate": { "latitude": 53.5533, "longitude": 9.9925 },
+          "displayMapRegion": {
+            "northLatitude": 53.56, "eastLongitude": 10.0, "southLatitude": 53.54, "westLongitude": 9.98
+          },
+          "formattedAddressLines": ["Jungfernstieg 1", "20354 Hamburg"],
+          "structuredAddress": {
+            "administrativeArea": "Hamburg",
+            "areasOfInterest": ["Binnenalster"],
+            "dependentLocalities": null,
+            "locality": "Hamburg",
+            "postCode": "20354",
+            "thoroughfare": "Jungfernstieg",
+            "futureField": { "nested": [1, 2, 3] }
+          },
+          "country": "Germany",
+          "countryCode": "DE",
+          "poiCategory": "Cafe",
+          "unknownArray": [{ "a": 1 }]
+        }
+        """;
+    private static final String SEARCH_JSON = """
+        {
+          "displayMapRegion": {
+            "northLatitude": 54.0, "eastLongitude": 10.5, "southLatitude": 53.0, "westLongitude": 9.5
+          },
+          "paginationInfo": { "nextPageToken": "next", "totalPageCount": 3, "totalResults": "42" },
+          "results": [%s, null, {
+            "name": "Unknown Category",
+            "coordinate": { "lat": 1.5, "lng": 2.5 },
+            "country": "Germany",
+            "countryCode": "DE",
+            "poiCategory": "NewCategoryAppleAdded"
+          }]
+        }
+        """.formatted(PLACE_JSON);
+    private static final String AUTOCOMPLETE_JSON = """
+        {
+          "results": [
+            {
+              "completionUrl": "/v1/search?q=coffee",
+              "displayLines": ["Coffee", "Search Nearby"],
+              "location": { "lat": 37.7, "lng": -122.4 },
+              "structuredAddress": { "locality": "San Francisco" }
+            },
+            { "completionUrl": "/v1/search?q=cafe", "displayLines": [] }
+          ]
+        }
+        """;
+    private static final String DIRECTIONS_JSON = """
+        {
+          "origin": %s,
+          "destination": null,
+          "routes": [
+            {
+              "name": "A7",
+              "distanceMeters": 1200,
+              "durationSeconds": 300.0,
+              "hasTolls": false,
+              "stepIndexes": [0, 1, null],
+              "transportType": "Automobile"
+            }
+          ],
+          "steps": [
+            { "stepPathIndex": 0, "distanceMeters": 700, "instructions": "Head north", "transportType": "Walking" },
+            { "stepPathIndex": 1, "transportType": "Hovercraft" }
+          ],
+          "stepPaths": [
+            [{ "latitude": 53.55, "longitude": 9.99 }, null, { "latitude": 53.56, "longitude": 10.0 }],
+            null,
+            []
+          ]
+        }
+        """.formatted(PLACE_JSON);
+
+    private final ObjectMapper streamingMapper = AppleMapsObjectMapperFactory.create();
+    private final ObjectMapper reflectiveMapper = AppleMapsObjectMapperFactory.createReflective();
+
+    @Test
+    void searchResponseMatchesReflectiveBinding() throws Exception {
+        SearchResponse response = assertParity(SEARCH_JSON, SearchResponse.class);
+
+        assertEquals(2, response.results().size());
+        assertEquals(List.of("A1", "A2"), response.results().get(0).alternateIds());
+        assertEquals(Optional.of(PoiCategory.CAFE), response.results().get(0).poiCategory());
+        assertEquals(Optional.empty(), response.results().get(1).poiCategory());
+        assertEquals(42L, response.paginationInfo().orElseThrow().totalResults());
+    }
+
+    @Test
+    void placeResultsMatchReflectiveBinding() throws Exception {
+        PlaceResults results = assertParity("{\"results\": [" + PLACE_JSON + "]}", PlaceResults.class);
+
+        assertEquals("Jungfernstieg", results.results().get(0).name());
+    }
+
+    @Test
+    void autocompleteResponseMatchesReflectiveBinding() throws Exception {
+        SearchAutocompleteResponse response = assertParity(AUTOCOMPLETE_JSON, SearchAutocompleteResponse.class);
+
+        assertEquals(Optional.of(new Location(37.7, -122.4)), response.results().get(0).location());
+    }
+
+    @Test
+    void directionsResponseMatchesReflectiveBinding() throws Exception {
+        DirectionsResponse response = assertParity(DIRECTIONS_JSON, DirectionsResponse.class);
+
+        assertEquals(3, response.stepPaths().size());
+        assertEquals(2, response.stepPaths().get(0).size());
+        assertEquals(List.of(), response.stepPaths().get(1));
+        assertEquals(53.56, response.stepPolylines().get(0).latitude(1));
+        assertEquals(Optional.of(TransportType.AUTOMOBILE), response.routes().get(0).transportType());
+        assertEquals(Optional.of(300L), response.routes().get(0).durationSeconds());
+        assertEquals(Optional.empty(), response.steps().get(1).transportType());
+    }
+
+    @Test
+    void emptyObjectsMatchReflectiveBinding() throws Exception {
+        assertParity("{}", SearchResponse.class);
+        assertParity("{}", PlaceResults.class);
+        assertParity("{}", SearchAutocompleteResponse.class);
+        assertParity("{}", DirectionsResponse.class);
+    }
+
+    @Test
+    void missingRequiredPropertyFailsLikeReflectiveBinding() {
+        String json = """
+            { "results": [{ "coordinate": { "lat": 1.0, "lng": 2.0 }, "country": "Germany", "countryCode": "DE" }] }
+            """;
+
+        assertThrows(DatabindException.class, () -> reflectiveMapper.readValue(json, PlaceResults.class));
+        assertThrows(DatabindException.class, () -> streamingMapper.readValue(json, PlaceResults.class));
+    }
+
+    @Test
+    void outOfRangeCoordinateFailsLikeReflectiveBinding() {
+        String json = """
+            { "results": [{ "completionUrl": "/x", "location": { "lat": 91.0, "lng": 2.0 } }] }
+            """;
+
+        assertThrows(DatabindException.class, () -> reflectiveMapper.readValue(json, SearchAutocompleteResponse.class));
+        assertThrows(DatabindException.class, () -> streamingMapper.readValue(json, SearchAutocompleteResponse.class));
+    }
+
+    @Test
+    void nonObjectRootFailsLikeReflectiveBinding() {
+        assertThrows(DatabindException.class, () -> reflectiveMapper.readValue("[]", SearchResponse.class));
+        assertThrows(DatabindException.class, () -> streamingMapper.readValue("[]", SearchResponse.class));
+    }
+
+    private <T> T assertParity(String json, Class<T> responseType) throws Exception {
+        T streamed = streamingMapper.readValue(json, responseType);
+        T reflected = reflectiveMapper.readValue(json, responseType);
+        assertEquals(reflected, streamed);
+        return streamed;
+    }
+}
@@ -0,0 +1,120 @@
+package com.williamcallahan.applemaps.adapters.jmx;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+
+import javax.management.Attribute;
+import javax.management.MBeanServer;
+import javax.management.openmbean.CompositeData;
+
+import org.junit.jupiter.api.Test;
+
+import com.williamcallahan.applemaps.adapters.fakeserver.FakeMapsServer;
+import com.williamcallahan.applemaps.adapters.geocodecache.GeocodeCache;
+import com.williamcallahan.applemaps.adapters.geocodecache.GeocodeCachingGateway;
+import com.williamcallahan.applemaps.adapters.mapsserver.HttpAppleMapsGateway;
+import com.williamcallahan.applemaps.adapters.mapsserver.HttpGatewayOptions;
+import com.williamcallahan.applemaps.adapters.metrics.InMemoryAppleMapsMetrics;
+import com.williamcallahan.applemaps.domain.request.GeocodeInput;
+
+class AppleMapsClientMonitorTest {
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+    private static final MBeanServer PLATFORM = ManagementFactory.getPlatformMBeanServer();
+
+    @Test
+    void exposesOperationStatisticsAndTokenState() throws Exception {
+        InMemoryAppleMapsMetrics metrics = new InMemoryAppleMapsMetrics();
+        try (FakeMapsServer server = FakeMapsServer.builder().start()) {
+            HttpAppleMapsGateway gateway = gateway(server.baseUri(), metrics);
+            try (AppleMapsClientMonitor monitor = AppleMapsClientMonitor.register("statistics", gateway, metrics)) {
+                gateway.geocode(GeocodeInput.builder("Jungfernstieg 1").build());
+
+                CompositeData[] operations = (CompositeData[]) PLATFORM.getAttribute(monitor.objectName(), "Operations");
+
+                assertEquals(1, operations.length);
+                assertEquals("geocode", operations[0].get("operation"));
+                assertEquals(1L, operations[0].get("requests"));
+                assertTrue((Long) operations[0].get("bytesReceived") > 0);
+                assertEquals(0, PLATFORM.getAttribute(monitor.objectName(), "InFlightRequests"));
+                assertEquals(0, ((CompositeData[]) PLATFORM.getAttribute(monitor.objectName(), "Caches")).length);
+                assertEquals(1L, PLATFORM.getAttribute(monitor.objectName(), "TokenRefreshes"));
+                assertFalse(((String) PLATFORM.getAttribute(monitor.objectName(), "AccessTokenExpiry")).isEmpty());
+            } finally {
+                gateway.close();
+            }
+        }
+    }
+
+    @Test
+    void exposesStatisticsOfRegisteredCaches() throws Exception {
+        InMemoryAppleMapsMetrics metrics = new InMemoryAppleMapsMetrics();
+        GeocodeCache cache = GeocodeCache.builder().build();
+        try (FakeMapsServer server = FakeMapsServer.builder().start()) {
+            HttpAppleMapsGateway gateway = gateway(server.baseUri(), metrics);
+            GeocodeCachingGateway cachingGateway = new GeocodeCachingGateway(gateway, cache);
+            Map<String, CacheStatisticsSource> caches =
+                Map.of("geocode", CacheStatisticsSource.of(cache::hits, cache::misses));
+            try (AppleMapsClientMonitor monitor = AppleMapsClientMonitor.register("caches", gateway, metrics, caches)) {
+                cachingGateway.geocode(GeocodeInput.builder("Jungfernstieg 1").build());
+                cachingGateway.geocode(GeocodeInput.builder("JUNGFERNSTIEG 1").build());
+                cachingGateway.geocode(GeocodeInput.builder("jungfernstieg  1").build());
+
+                CompositeData[] rows = (CompositeData[]) PLATFORM.getAttribute(monitor.objectName(), "Caches");
+
+                assertEquals(1, rows.length);
+                assertEquals("geocode", rows[0].get("cache"));
+                assertEquals(2L, rows[0].get("hits"));
+                assertEquals(1L, rows[0].get("misses"));
+                assertEquals(2.0 / 3.0, (Double) rows[0].get("hitRatio"), 1e-9);
+            } finally {
+                cachingGateway.close();
+            }
+        }
+    }
+
+    @Test
+    void writableAttributesTuneGatewayLimits() throws Exception {
+        InMemoryAppleMapsMetrics metrics = new InMemoryAppleMapsMetrics();
+        HttpAppleMapsGateway gateway = gateway(null, metrics);
+        try (AppleMapsClientMonitor monitor = AppleMapsClientMonitor.register("tuning", gateway, metrics)) {
+            PLATFORM.setAttribute(monitor.objectName(), new Attribute("RateLimit", 25.0));
+            PLATFORM.setAttribute(monitor.objectName(), new Attribute("ConcurrencyLimit", 4));
+            PLATFORM.setAttribute(monitor.objectName(), new Attribute("TimeoutMillis", 750L));
+
+            assertEquals(25.0, gateway.limits().rateLimit());
+            assertEquals(4, gateway.limits().concurrencyLimit());
+            assertEquals(Duration.ofMillis(750), gateway.limits().timeout());
+        } finally {
+            gateway.close();
+        }
+    }
+
+    @Test
+    void closeUnregistersAndDuplicateNamesAreRejected() {
+        InMemoryAppleMapsMetrics metrics = new InMemoryAppleMapsMetrics();
+        HttpAppleMapsGateway gateway = gateway(null, metrics);
+        try {
+            AppleMapsClientMonitor monitor = AppleMapsClientMonitor.register("lifecycle", gateway, metrics);
+            assertThrows(IllegalStateException.class,
+                () -> AppleMapsClientMonitor.register("lifecycle", gateway, metrics));
+
+            monitor.close();
+
+            assertFalse(PLATFORM.isRegistered(monitor.objectName()));
+        } finally {
+            gateway.close();
+        }
+    }
+
+    private static HttpAppleMapsGateway gateway(URI apiServer, InMemoryAppleMapsMetrics metrics) {
+        return new HttpAppleMapsGateway("auth-token",
+            HttpGatewayOptions.builder().timeout(TIMEOUT).apiServer(apiServer).metrics(metrics).build());
+    }
+}
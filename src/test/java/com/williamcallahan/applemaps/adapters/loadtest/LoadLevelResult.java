@@ -0,0 +1,61 @@
+package com.williamcallahan.applemaps.adapters.loadtest;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+import com.williamcallahan.applemaps.adapters.metrics.LatencyHistogram;
+
+/**
+ * Outcome of one load level (a target rate at a given concurrency).
+ *
+ * @param targetRate requested rate in requests per second
+ * @param concurrency worker thread count
+ * @param measuredSeconds seconds from the end of warm-up until the last measured request completed
+ * @param completed measured requests that completed, successfully or not
+ * @param overall latency of all measured requests
+ * @param byOperation latency of measured requests per operation
+ * @param errors measured failures by kind, e.g. {@code HTTP 429}
+ * @param peakThreads peak live JVM thread count during the level
+ * @param peakHeapBytes highest sampled heap usage during the level
+ * @param gcCount garbage collections during the level
+ * @param gcMillis garbage collection time during the level
+ */
+record LoadLevelResult(
+    double targetRate,
+    int concurrency,
+    double measuredSeconds,
+    long completed,
+    LatencyHistogram.Snapshot overall,
+    Map<LoadOperation, LatencyHistogram.Snapshot> byOperation,
+    Map<String, Long> errors,
+    int peakThreads,
+    long peakHeapBytes,
+    long gcCount,
+    long gcMillis
+) {
+    LoadLevelResult {
+        Objects.requireNonNull(overall, "overall");
+        byOperation = Collections.unmodifiableMap(new TreeMap<>(byOperation));
+        errors = Collections.unmodifiableMap(new TreeMap<>(errors));
+    }
+
+    /**
+     * Returns the achieved throughput of measured requests.
+     *
+     * @return requests per second
+     */
+    double throughput() {
+        return measuredSeconds <= 0.0 ? 0.0 : completed / measuredSeconds;
+    }
+
+    /**
+     * Returns the number of measured requests that failed.
+     *
+     * @return the error count
+     */
+    long errorCount() {
+        return errors.values().stream().mapToLong(Long::longValue).sum();
+    }
+}
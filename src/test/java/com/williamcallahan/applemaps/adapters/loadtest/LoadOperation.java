@@ -0,0 +1,80 @@
+package com.williamcallahan.applemaps.adapters.loadtest;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.random.RandomGenerator;
+
+import com.williamcallahan.applemaps.AppleMaps;
+import com.williamcallahan.applemaps.domain.model.SearchLocation;
+import com.williamcallahan.applemaps.domain.model.UserLocation;
+import com.williamcallahan.applemaps.domain.request.GeocodeInput;
+import com.williamcallahan.applemaps.domain.request.SearchAutocompleteInput;
+import com.williamcallahan.applemaps.domain.request.SearchInput;
+
+/**
+ * An operation the load generator can issue, with a small rotating set of realistic inputs.
+ */
+enum LoadOperation {
+    GEOCODE {
+        @Override
+        void invoke(AppleMaps client, RandomGenerator random) {
+            client.geocode(GeocodeInput.builder(pick(ADDRESSES, random)).build());
+        }
+    },
+    SEARCH {
+        @Override
+        void invoke(AppleMaps client, RandomGenerator random) {
+            client.search(SearchInput.builder(pick(SEARCH_QUERIES, random))
+                .searchLocation(SearchLocation.fromLatitudeLongitude(53.5511, 9.9937))
+                .build());
+        }
+    },
+    AUTOCOMPLETE {
+        @Override
+        void invoke(AppleMaps client, RandomGenerator random) {
+            client.autocomplete(SearchAutocompleteInput.builder(pick(AUTOCOMPLETE_PREFIXES, random))
+                .userLocation(UserLocation.fromLatitudeLongitude(53.5511, 9.9937))
+                .build());
+        }
+    };
+
+    private static final List<String> ADDRESSES = List.of(
+        "Jungfernstieg 1, 20354 Hamburg",
+        "1 Apple Park Way, Cupertino, CA",
+        "10 Downing Street, London",
+        "Champ de Mars, 5 Av. Anatole France, Paris",
+        "Unter den Linden 77, Berlin"
+    );
+    private static final List<String> SEARCH_QUERIES = List.of("coffee", "pharmacy", "bakery", "museum", "parking");
+    private static final List<String> AUTOCOMPLETE_PREFIXES = List.of("cof", "jungf", "hamb", "alst", "elbph");
+
+    /**
+     * Issues one request.
+     *
+     * @param client client under test
+     * @param random random source of the calling worker
+     */
+    abstract void invoke(AppleMaps client, RandomGenerator random);
+
+    /**
+     * Returns the lower-case name used on the command line and in reports.
+     *
+     * @return the operation name
+     */
+    String displayName() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    static LoadOperation fromDisplayName(String name) {
+        for (LoadOperation operation : values()) {
+            if (operation.displayName().equals(name)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("Unknown operation '" + name + "', expected one of geocode, search, autocomplete.");
+    }
+
+    private static String pick(List<String> values, RandomGenerator random) {
+        return values.get(random.nextInt(values.size()));
+    }
+}
@@ -0,0 +1,149 @@
+package com.williamcallahan.applemaps.adapters.loadtest;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Command-line options for {@link LoadTestRunner}.
+ *
+ * @param endpoint API server to load; empty to start an embedded fake Maps Server
+ * @param authToken authorization token sent to the endpoint
+ * @param rates target request rates in requests per second, one run each
+ * @param concurrencies worker thread counts, one run each per rate
+ * @param warmup warm-up period per run whose results are discarded
+ * @param duration measured period per run
+ * @param timeout request timeout
+ * @param mix weighted operation mix
+ * @param fakeLatencyMedian median latency of the embedded fake server
+ * @param fakeLatencyP99 99th percentile latency of the embedded fake server
+ * @param fakeErrorRate fraction of fake server responses answered with {@code 500}
+ * @param fakeThrottleRate fraction of fake server responses answered with {@code 429}
+ */
+record LoadTestOptions(
+    Optional<URI> endpoint,
+    String authToken,
+    List<Double> rates,
+    List<Integer> concurrencies,
+    Duration warmup,
+    Duration duration,
+    Duration timeout,
+    OperationMix mix,
+    Duration fakeLatencyMedian,
+    Duration fakeLatencyP99,
+    double fakeErrorRate,
+    double fakeThrottleRate
+) {
+    static final String USAGE = """
+        Usage: gradle loadTest -PloadTestArgs="--rates=100,200 --concurrency=32 --duration=30s"
+
+          --endpoint=URI            API server to load (default: embedded fake Maps Server)
+          --token=TOKEN             authorization token (default: $APPLE_MAPS_TOKEN, required with --endpoint)
+          --rates=R[,R...]          target requests/second, one run each (default: 100)
+          --concurrency=N[,N...]    worker threads, one run each per rate (default: 32)
+          --warmup=DURATION         discarded warm-up per run (default: 5s)
+          --duration=DURATION       measured period per run (default: 30s)
+          --timeout=DURATION        request timeout (default: 10s)
+          --mix=OP=W[,OP=W...]      operation weights (default: geocode=6,search=3,autocomplete=1)
+          --fake-latency-median=D   fake server median latency (default: 40ms)
+          --fake-latency-p99=D      fake server p99 latency (default: 250ms)
+          --fake-error-rate=F       fake server 500 rate (default: 0)
+          --fake-throttle-rate=F    fake server 429 rate (default: 0)
+
+        Durations accept ms, s and m suffixes.
+        """;
+
+    LoadTestOptions {
+        Objects.requireNonNull(endpoint, "endpoint");
+        Objects.requireNonNull(authToken, "authToken");
+        rates = List.copyOf(rates);
+        concurrencies = List.copyOf(concurrencies);
+        Objects.requireNonNull(warmup, "warmup");
+        Objects.requireNonNull(duration, "duration");
+        Objects.requireNonNull(timeout, "timeout");
+        Objects.requireNonNull(mix, "mix");
+        Objects.requireNonNull(fakeLatencyMedian, "fakeLatencyMedian");
+        Objects.requireNonNull(fakeLatencyP99, "fakeLatencyP99");
+        if (rates.isEmpty() || rates.stream().anyMatch(rate -> !(rate > 0.0))) {
+            throw new IllegalArgumentException("rates must be positive.");
+        }
+        if (concurrencies.isEmpty() || concurrencies.stream().anyMatch(concurrency -> concurrency < 1)) {
+            throw new IllegalArgumentException("concurrency must be at least 1.");
+        }
+        if (duration.isZero() || duration.isNegative() || warmup.isNegative()) {
+            throw new IllegalArgumentException("duration must be positive and warmup must not be negative.");
+        }
+    }
+
+    /**
+     * Parses {@code --name=value} arguments.
+     *
+     * @param args command-line arguments
+     * @param environmentToken value of {@code APPLE_MAPS_TOKEN}, may be {@code null}
+     * @return the options
+     */
+    static LoadTestOptions parse(String[] args, String environmentToken) {
+        Map<String, String> values = new HashMap<>();
+        for (String argument : args) {
+            if (!argument.startsWith("--") || !argument.contains("=")) {
+                throw new IllegalArgumentException("Arguments must look like --name=value: " + argument);
+            }
+            int separator = argument.indexOf('=');
+            values.put(argument.substring(2, separator), argument.substring(separator + 1));
+        }
+        Optional<URI> endpoint = Optional.ofNullable(values.remove("endpoint")).map(URI::create);
+        String token = Optional.ofNullable(values.remove("token")).orElse(environmentToken);
+        if (token == null || token.isBlank()) {
+            if (endpoint.isPresent()) {
+                throw new IllegalArgumentException("--token or APPLE_MAPS_TOKEN is required with --endpoint.");
+            }
+            token = "load-test";
+        }
+        LoadTestOptions options = new LoadTestOptions(
+            endpoint,
+            token,
+            list(values.remove("rates"), "100", Double::parseDouble),
+            list(values.remove("concurrency"), "32", Integer::parseInt),
+            duration(values.remove("warmup"), "5s"),
+            duration(values.remove("duration"), "30s"),
+            duration(values.remove("timeout"), "10s"),
+            OperationMix.parse(Optional.ofNullable(values.remove("mix")).orElse("geocode=6,search=3,autocomplete=1")),
+            duration(values.remove("fake-latency-median"), "40ms"),
+            duration(values.remove("fake-latency-p99"), "250ms"),
+            Double.parseDouble(Optional.ofNullable(values.remove("fake-error-rate")).orElse("0")),
+            Double.parseDouble(Optional.ofNullable(values.remove("fake-throttle-rate")).orElse("0"))
+        );
+        if (!values.isEmpty()) {
+            throw new IllegalArgumentException("Unknown options: " + values.keySet());
+        }
+        return options;
+    }
+
+    private static <T> List<T> list(String value, String defaultValue, Function<String, T> parser) {
+        List<T> parsed = new ArrayList<>();
+        for (String element : Optional.ofNullable(value).orElse(defaultValue).split(",")) {
+            parsed.add(parser.apply(element.trim()));
+        }
+        return parsed;
+    }
+
+    private static Duration duration(String value, String defaultValue) {
+        String text = Optional.ofNullable(value).orElse(defaultValue).trim();
+        if (text.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(text.substring(0, text.length() - 2)));
+        }
+        if (text.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(text.substring(0, text.length() - 1)));
+        }
+        if (text.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(text.substring(0, text.length() - 1)));
+        }
+        throw new IllegalArgumentException("Durations need an ms, s or m suffix: " + text);
+    }
+}
@@ -0,0 +1,63 @@
+package com.williamcallahan.applemaps.adapters.loadtest;
+
+import java.util.Locale;
+import java.util.Map;
+
+import com.williamcallahan.applemaps.adapters.metrics.LatencyHistogram;
+
+/**
+ * Formats {@link LoadLevelResult}s as plain-text tables.
+ */
+final class LoadTestReport {
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final long BYTES_PER_MEGABYTE = 1024L * 1024L;
+    private static final String ROW_FORMAT = "  %-14s %9d %9.2f %9.2f %9.2f %9.2f %9.2f %9.2f%n";
+    private static final String HEADER_FORMAT = "  %-14s %9s %9s %9s %9s %9s %9s %9s%n";
+
+    private LoadTestReport() {}
+
+    static String format(LoadLevelResult result) {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format(Locale.ROOT,
+            "== target %.1f req/s, %d workers ==%n", result.targetRate(), result.concurrency()));
+        report.append(String.format(Locale.ROOT,
+            "throughput %.1f req/s over %.1f s, %d requests, %d errors (%.2f%%)%n",
+            result.throughput(),
+            result.measuredSeconds(),
+            result.completed(),
+            result.errorCount(),
+            result.completed() == 0 ? 0.0 : 100.0 * result.errorCount() / result.completed()));
+        report.append(String.format(Locale.ROOT,
+            "latency from scheduled start, ms:%n"));
+        report.append(String.format(Locale.ROOT, HEADER_FORMAT,
+            "operation", "count", "mean", "p50", "p90", "p99", "p99.9", "max"));
+        for (Map.Entry<LoadOperation, LatencyHistogram.Snapshot> entry : result.byOperation().entrySet()) {
+            appendRow(report, entry.getKey().displayName(), entry.getValue());
+        }
+        appendRow(report, "all", result.overall());
+        if (!result.errors().isEmpty()) {
+            report.append("errors:");
+            result.errors().forEach((kind, count) -> report.append(' ').append(kind).append('=').append(count));
+            report.append(System.lineSeparator());
+        }
+        report.append(String.format(Locale.ROOT,
+            "jvm: peak threads %d, peak heap %d MB, %d GCs taking %d ms%n",
+            result.peakThreads(),
+            result.peakHeapBytes() / BYTES_PER_MEGABYTE,
+            result.gcCount(),
+            result.gcMillis()));
+        return report.toString();
+    }
+
+    private static void appendRow(StringBuilder report, String name, LatencyHistogram.Snapshot snapshot) {
+        report.append(String.format(Locale.ROOT, ROW_FORMAT,
+            name,
+            snapshot.count(),
+            snapshot.meanNanos() / NANOS_PER_MILLI,
+            snapshot.valueAtPercentile(50.0) / NANOS_PER_MILLI,
+            snapshot.valueAtPercentile(90.0) / NANOS_PER_MILLI,
+            snapshot.valueAtPercentile(99.0) / NANOS_PER_MILLI,
+            snapshot.valueAtPercentile(99.9) / NANOS_PER_MILLI,
+            snapshot.maxNanos() / NANOS_PER_MILLI));
+    }
+}
@@ -0,0 +1,81 @@
+package com.williamcallahan.applemaps.adapters.loadtest;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Optional;
+
+import com.williamcallahan.applemaps.AppleMaps;
+import com.williamcallahan.applemaps.adapters.fakeserver.FakeMapsServer;
+import com.williamcallahan.applemaps.adapters.fakeserver.LatencyDistribution;
+import com.williamcallahan.applemaps.adapters.mapsserver.HttpAppleMapsGateway;
+
+/**
+ * Drives a weighted mix of operations through one {@link AppleMaps} instance at open-loop target rates and
+ * prints throughput, latency percentiles, errors and JVM resource use for each rate and concurrency level.
+ *
+ * <p>Runs against an embedded {@link FakeMapsServer} unless {@code --endpoint} is given. Start it with
+ * {@code gradle loadTest -PloadTestArgs="..."}; see {@link LoadTestOptions#USAGE}.</p>
+ */
+public final class LoadTestRunner {
+    private static final Duration MINIMUM_DRAIN_TIMEOUT = Duration.ofSeconds(30);
+
+    private LoadTestRunner() {}
+
+    /**
+     * Runs the load test.
+     *
+     * @param args {@code --name=value} options
+     * @throws InterruptedException if interrupted while a level is running
+     */
+    public static void main(String[] args) throws InterruptedException {
+        LoadTestOptions options;
+        try {
+            options = LoadTestOptions.parse(args, System.getenv("APPLE_MAPS_TOKEN"));
+        } catch (IllegalArgumentException exception) {
+            System.err.println(exception.getMessage());
+            System.err.print(LoadTestOptions.USAGE);
+            System.exit(2);
+            return;
+        }
+        Optional<FakeMapsServer> fakeServer = options.endpoint().isPresent()
+            ? Optional.empty()
+            : Optional.of(startFakeServer(options));
+        URI endpoint = options.endpoint().orElseGet(() -> fakeServer.orElseThrow().baseUri());
+        try (AppleMaps client = new AppleMaps(
+            new HttpAppleMapsGateway(options.authToken(), options.timeout(), null, endpoint)
+        )) {
+            System.out.printf("load test against %s%s, mix %s%n",
+                endpoint,
+                fakeServer.isPresent() ? " (embedded fake)" : "",
+                options.mix());
+            OpenLoopDriver driver = new OpenLoopDriver(client, options.mix());
+            Duration drainTimeout = max(MINIMUM_DRAIN_TIMEOUT, options.timeout().multipliedBy(3));
+            for (double rate : options.rates()) {
+                for (int concurrency : options.concurrencies()) {
+                    LoadLevelResult result = driver.run(
+                        rate,
+                        concurrency,
+                        options.warmup(),
+                        options.duration(),
+                        drainTimeout
+                    );
+                    System.out.println(LoadTestReport.format(result));
+                }
+            }
+        } finally {
+            fakeServer.ifPresent(FakeMapsServer::close);
+        }
+    }
+
+    private static FakeMapsServer startFakeServer(LoadTestOptions options) {
+        return FakeMapsServer.builder()
+            .latency(LatencyDistribution.logNormal(options.fakeLatencyMedian(), options.fakeLatencyP99()))
+            .errorRate(options.fakeErrorRate())
+            .throttleRate(options.fakeThrottleRate())
+            .start();
+    }
+
+    private static Duration max(Duration left, Duration right) {
+        return left.compareTo(right) >= 0 ? left : right;
+    }
+}
@@ -0,0 +1,177 @@
+package com.williamcallahan.applemaps.adapters.loadtest;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import com.williamcallahan.applemaps.AppleMaps;
+import com.williamcallahan.applemaps.adapters.mapsserver.AppleMapsApiException;
+import com.williamcallahan.applemaps.adapters.metrics.LatencyHistogram;
+
+/**
+ * Issues requests on a fixed schedule, independent of how fast earlier requests complete.
+ *
+ * <p>Request {@code i} is due at {@code start + i / rate}. A scheduler thread hands each request to a
+ * fixed pool of workers when it falls due; if all workers are busy it waits in the pool's queue. Latency
+ * is measured from the <em>scheduled</em> start rather than from when a worker picked it up, so time
+ * spent waiting behind slow requests is counted. This avoids coordinated omission: a stall shows up in
+ * every request it delayed, not only in the one that was in flight.</p>
+ */
+final class OpenLoopDriver {
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static final long HEAP_SAMPLE_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final String WORKER_THREAD_NAME_PREFIX = "load-worker-";
+
+    private final AppleMaps client;
+    private final OperationMix mix;
+
+    OpenLoopDriver(AppleMaps client, OperationMix mix) {
+        this.client = Objects.requireNonNull(client, "client");
+        this.mix = Objects.requireNonNull(mix, "mix");
+    }
+
+    /**
+     * Runs one load level and waits for every issued request to finish.
+     *
+     * @param rate target requests per second
+     * @param concurrency worker threads
+     * @param warmup period whose results are discarded
+     * @param duration measured period
+     * @param drainTimeout how long to wait for in-flight requests after the schedule ends
+     * @return the measured result
+     * @throws InterruptedException if interrupted while waiting
+     */
+    LoadLevelResult run(double rate, int concurrency, Duration warmup, Duration duration, Duration drainTimeout)
+        throws InterruptedException {
+        long intervalNanos = Math.max(1L, Math.round(NANOS_PER_SECOND / rate));
+        Map<LoadOperation, LatencyHistogram> histograms = new EnumMap<>(LoadOperation.class);
+        mix.weights().keySet().forEach(operation -> histograms.put(operation, new LatencyHistogram()));
+        LatencyHistogram overall = new LatencyHistogram();
+        Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+        AtomicLong lastCompletionNanos = new AtomicLong();
+        LongAdder completed = new LongAdder();
+
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        threads.resetPeakThreadCount();
+        long gcCountBefore = gcCount();
+        long gcMillisBefore = gcMillis();
+        long peakHeapBytes = memory.getHeapMemoryUsage().getUsed();
+
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency, workerThreadFactory());
+        SplittableRandom scheduleRandom = new SplittableRandom();
+        long startNanos = System.nanoTime();
+        long measureStartNanos = startNanos + warmup.toNanos();
+        long endNanos = measureStartNanos + duration.toNanos();
+        long nextHeapSampleNanos = startNanos;
+        try {
+            for (long request = 0; ; request++) {
+                long scheduledNanos = startNanos + request * intervalNanos;
+                if (scheduledNanos >= endNanos) {
+                    break;
+                }
+                long now;
+                while ((now = System.nanoTime()) < scheduledNanos) {
+                    LockSupport.parkNanos(scheduledNanos - now);
+                }
+                if (now >= nextHeapSampleNanos) {
+                    peakHeapBytes = Math.max(peakHeapBytes, memory.getHeapMemoryUsage().getUsed());
+                    nextHeapSampleNanos = now + HEAP_SAMPLE_INTERVAL_NANOS;
+                }
+                LoadOperation operation = mix.next(scheduleRandom);
+                boolean measured = scheduledNanos >= measureStartNanos;
+                workers.execute(() -> {
+                    String error = invoke(operation);
+                    long completedNanos = System.nanoTime();
+                    if (!measured) {
+                        return;
+                    }
+                    long latencyNanos = completedNanos - scheduledNanos;
+                    histograms.get(operation).recordNanos(latencyNanos);
+                    overall.recordNanos(latencyNanos);
+                    completed.increment();
+                    lastCompletionNanos.accumulateAndGet(completedNanos, Math::max);
+                    if (error != null) {
+                        errors.computeIfAbsent(error, ignored -> new LongAdder()).increment();
+                    }
+                });
+            }
+        } finally {
+            workers.shutdown();
+        }
+        if (!workers.awaitTermination(drainTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+            workers.shutdownNow();
+        }
+        peakHeapBytes = Math.max(peakHeapBytes, memory.getHeapMemoryUsage().getUsed());
+
+        Map<LoadOperation, LatencyHistogram.Snapshot> snapshots = new EnumMap<>(LoadOperation.class);
+        histograms.forEach((operation, histogram) -> snapshots.put(operation, histogram.snapshot()));
+        Map<String, Long> errorCounts = new TreeMap<>();
+        errors.forEach((kind, count) -> errorCounts.put(kind, count.sum()));
+        long measuredEndNanos = Math.max(endNanos, lastCompletionNanos.get());
+        return new LoadLevelResult(
+            rate,
+            concurrency,
+            (double) (measuredEndNanos - measureStartNanos) / NANOS_PER_SECOND,
+            completed.sum(),
+            overall.snapshot(),
+            snapshots,
+            errorCounts,
+            threads.getPeakThreadCount(),
+            peakHeapBytes,
+            gcCount() - gcCountBefore,
+            gcMillis() - gcMillisBefore
+        );
+    }
+
+    private String invoke(LoadOperation operation) {
+        try {
+            operation.invoke(client, ThreadLocalRandom.current());
+            return null;
+        } catch (AppleMapsApiException exception) {
+            return "HTTP " + exception.statusCode();
+        } catch (RuntimeException exception) {
+            return exception.getClass().getSimpleName();
+        }
+    }
+
+    private static long gcCount() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+            .mapToLong(GarbageCollectorMXBean::getCollectionCount)
+            .filter(count -> count > 0)
+            .sum();
+    }
+
+    private static long gcMillis() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+            .mapToLong(GarbageCollectorMXBean::getCollectionTime)
+            .filter(millis -> millis > 0)
+            .sum();
+    }
+
+    private static ThreadFactory workerThreadFactory() {
+        AtomicInteger threadSequence = new AtomicInteger(1);
+        return runnable -> {
+            Thread thread = new Thread(runnable, WORKER_THREAD_NAME_PREFIX + threadSequence.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
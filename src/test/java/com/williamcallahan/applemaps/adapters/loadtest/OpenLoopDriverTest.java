@@ -0,0 +1,78 @@
+package com.williamcallahan.applemaps.adapters.loadtest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import com.williamcallahan.applemaps.AppleMaps;
+import com.williamcallahan.applemaps.adapters.fakeserver.FakeMapsServer;
+import com.williamcallahan.applemaps.adapters.fakeserver.LatencyDistribution;
+import com.williamcallahan.applemaps.adapters.mapsserver.HttpAppleMapsGateway;
+
+class OpenLoopDriverTest {
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    @Test
+    void issuesRequestsAtTargetRateAndRecordsLatencyPerOperation() throws InterruptedException {
+        Duration serverLatency = Duration.ofMillis(5);
+        try (FakeMapsServer server = FakeMapsServer.builder().latency(LatencyDistribution.fixed(serverLatency)).start();
+             AppleMaps client = client(server)) {
+            OpenLoopDriver driver = new OpenLoopDriver(client, OperationMix.parse("geocode=1,search=1"));
+
+            LoadLevelResult result = driver.run(200.0, 8, Duration.ofMillis(200), Duration.ofMillis(500), TIMEOUT);
+
+            assertEquals(100, result.completed());
+            assertEquals(0, result.errorCount());
+            assertEquals(100, result.byOperation().values().stream().mapToLong(snapshot -> snapshot.count()).sum());
+            assertTrue(result.overall().valueAtPercentile(50.0) >= serverLatency.toNanos());
+            assertTrue(result.peakThreads() >= 8);
+        }
+    }
+
+    @Test
+    void queueingBehindSaturatedWorkersCountsTowardsLatency() throws InterruptedException {
+        Duration serverLatency = Duration.ofMillis(50);
+        try (FakeMapsServer server = FakeMapsServer.builder().latency(LatencyDistribution.fixed(serverLatency)).start();
+             AppleMaps client = client(server)) {
+            OpenLoopDriver driver = new OpenLoopDriver(client, OperationMix.parse("geocode=1"));
+
+            // One worker can complete 20 req/s; at 100 req/s requests queue and waiting time must be measured.
+            LoadLevelResult result = driver.run(100.0, 1, Duration.ZERO, Duration.ofMillis(300), TIMEOUT);
+
+            assertEquals(30, result.completed());
+            assertTrue(result.overall().maxNanos() > 10 * serverLatency.toNanos());
+            assertTrue(result.throughput() < 30.0);
+        }
+    }
+
+    @Test
+    void countsInjectedFailuresByKind() throws InterruptedException {
+        try (FakeMapsServer server = FakeMapsServer.builder().throttleRate(1.0).start();
+             AppleMaps client = client(server)) {
+            OpenLoopDriver driver = new OpenLoopDriver(client, OperationMix.parse("autocomplete=1"));
+
+            LoadLevelResult result = driver.run(100.0, 4, Duration.ZERO, Duration.ofMillis(200), TIMEOUT);
+
+            assertEquals(20, result.completed());
+            assertEquals(20L, result.errors().get("HTTP 429"));
+        }
+    }
+
+    @Test
+    void optionsRejectMissingTokenForExternalEndpoint() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> LoadTestOptions.parse(new String[] {"--endpoint=https://maps-api.apple.com"}, null)
+        );
+        assertThrows(IllegalArgumentException.class, () -> LoadTestOptions.parse(new String[] {"--mix=route=1"}, null));
+        assertEquals(2, LoadTestOptions.parse(new String[] {"--rates=50,100"}, null).rates().size());
+    }
+
+    private static AppleMaps client(FakeMapsServer server) {
+        return new AppleMaps(new HttpAppleMapsGateway("auth-token", TIMEOUT, null, server.baseUri()));
+    }
+}
@@ -0,0 +1,94 @@
+package com.williamcallahan.applemaps.adapters.loadtest;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.random.RandomGenerator;
+
+/**
+ * Weighted choice between {@link LoadOperation}s, e.g. {@code geocode=6,search=3,autocomplete=1}.
+ */
+final class OperationMix {
+    private final LoadOperation[] operations;
+    private final int[] cumulativeWeights;
+    private final int totalWeight;
+    private final Map<LoadOperation, Integer> weights;
+
+    private OperationMix(Map<LoadOperation, Integer> weights) {
+        this.weights = Map.copyOf(weights);
+        this.operations = new LoadOperation[weights.size()];
+        this.cumulativeWeights = new int[weights.size()];
+        int runningTotal = 0;
+        int index = 0;
+        for (Map.Entry<LoadOperation, Integer> entry : weights.entrySet()) {
+            runningTotal += entry.getValue();
+            operations[index] = entry.getKey();
+            cumulativeWeights[index] = runningTotal;
+            index++;
+        }
+        this.totalWeight = runningTotal;
+    }
+
+    /**
+     * Parses a comma-separated list of {@code operation=weight} pairs.
+     *
+     * @param specification mix specification
+     * @return the mix
+     */
+    static OperationMix parse(String specification) {
+        Objects.requireNonNull(specification, "specification");
+        Map<LoadOperation, Integer> weights = new EnumMap<>(LoadOperation.class);
+        for (String entry : specification.split(",")) {
+            String[] parts = entry.trim().split("=", 2);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Mix entries must look like 'search=3': " + entry);
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Mix weights must not be negative: " + entry);
+            }
+            if (weight > 0) {
+                weights.merge(LoadOperation.fromDisplayName(parts[0].trim()), weight, Integer::sum);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("Mix must give at least one operation a positive weight.");
+        }
+        return new OperationMix(weights);
+    }
+
+    /**
+     * Picks the next operation.
+     *
+     * @param random random source
+     * @return the operation
+     */
+    LoadOperation next(RandomGenerator random) {
+        int ticket = random.nextInt(totalWeight);
+        for (int index = 0; index < cumulativeWeights.length; index++) {
+            if (ticket < cumulativeWeights[index]) {
+                return operations[index];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+
+    /**
+     * Returns the operations with a positive weight.
+     *
+     * @return weights by operation
+     */
+    Map<LoadOperation, Integer> weights() {
+        return weights;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder description = new StringBuilder();
+        for (LoadOperation operation : operations) {
+            description.append(description.length() == 0 ? "" : ",")
+                .append(operation.displayName()).append('=').append(weights.get(operation));
+        }
+        return description.toString();
+    }
+}
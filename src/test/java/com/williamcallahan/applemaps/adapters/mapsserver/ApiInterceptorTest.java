@@ -0,0 +1,109 @@
+package com.williamcallahan.applemaps.adapters.mapsserver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.williamcallahan.applemaps.adapters.fakeserver.FakeMapsServer;
+import com.williamcallahan.applemaps.adapters.fakeserver.ResponseFixtures;
+import com.williamcallahan.applemaps.domain.request.GeocodeInput;
+
+class ApiInterceptorTest {
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+    private static final GeocodeInput GEOCODE = GeocodeInput.builder("Jungfernstieg 1").build();
+
+    @Test
+    void interceptorsWrapExchangeInConfiguredOrder() {
+        List<String> trace = new ArrayList<>();
+        try (FakeMapsServer server = FakeMapsServer.builder().start()) {
+            HttpAppleMapsGateway gateway = gateway(server, HttpGatewayOptions.builder()
+                .interceptor(tracing("outer", trace))
+                .interceptor(tracing("inner", trace)));
+            try {
+                assertEquals(1, gateway.geocode(GEOCODE).results().size());
+            } finally {
+                gateway.close();
+            }
+        }
+
+        assertEquals(List.of("outer geocode", "inner geocode", "inner 200", "outer 200"), trace);
+    }
+
+    @Test
+    void shortCircuitSkipsNetworkAndTokenExchange() {
+        try (FakeMapsServer server = FakeMapsServer.builder().start()) {
+            HttpAppleMapsGateway gateway = gateway(server, HttpGatewayOptions.builder()
+                .interceptor((call, chain) -> ApiResponse.of(200, ResponseFixtures.geocode())));
+            try {
+                assertEquals(1, gateway.geocode(GEOCODE).results().size());
+            } finally {
+                gateway.close();
+            }
+
+            assertEquals(0, server.requestCount());
+        }
+    }
+
+    @Test
+    void retryingInterceptorSendsEachAttemptAndFailsWithFinalStatus() {
+        AtomicInteger attempts = new AtomicInteger();
+        ApiInterceptor retryOnThrottle = (call, chain) -> {
+            ApiResponse response = chain.proceed(call);
+            while (response.statusCode() == 429 && attempts.incrementAndGet() < 3) {
+                response = chain.proceed(call);
+            }
+            return response;
+        };
+        try (FakeMapsServer server = FakeMapsServer.builder().throttleRate(1.0).start()) {
+            HttpAppleMapsGateway gateway = gateway(server, HttpGatewayOptions.builder().interceptor(retryOnThrottle));
+            try {
+                AppleMapsApiException exception = assertThrows(AppleMapsApiException.class, () -> gateway.geocode(GEOCODE));
+                assertEquals(429, exception.statusCode());
+            } finally {
+                gateway.close();
+            }
+
+            assertEquals(3, server.requestCount("/v1/geocode"));
+        }
+    }
+
+    @Test
+    void interceptorFailureSurfacesAsClientException() {
+        try (FakeMapsServer server = FakeMapsServer.builder().start()) {
+            HttpAppleMapsGateway gateway = gateway(server, HttpGatewayOptions.builder()
+                .interceptor((call, chain) -> {
+                    throw new IOException("offline");
+                }));
+            try {
+                AppleMapsClientException exception = assertThrows(AppleMapsClientException.class,
+                    () -> gateway.geocode(GEOCODE));
+                assertInstanceOf(IOException.class, exception.getCause());
+                assertTrue(exception.getMessage().contains("geocode"));
+            } finally {
+                gateway.close();
+            }
+        }
+    }
+
+    private static ApiInterceptor tracing(String name, List<String> trace) {
+        return (call, chain) -> {
+            trace.add(name + " " + call.operation());
+            ApiResponse response = chain.proceed(call);
+            trace.add(name + " " + response.statusCode());
+            return response;
+        };
+    }
+
+    private static HttpAppleMapsGateway gateway(FakeMapsServer server, HttpGatewayOptions.Builder options) {
+        return new HttpAppleMapsGateway("auth-token", options.timeout(TIMEOUT).apiServer(server.baseUri()).build());
+    }
+}
@@ -0,0 +1,137 @@
+package com.williamcallahan.applemaps.adapters.mapsserver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import com.williamcallahan.applemaps.adapters.fakeserver.FakeMapsServer;
+import com.williamcallahan.applemaps.domain.request.GeocodeInput;
+
+class CallOptionsTest {
+    private static final Duration GATEWAY_TIMEOUT = Duration.ofSeconds(5);
+    private static final GeocodeInput GEOCODE = GeocodeInput.builder("Jungfernstieg 1").build();
+
+    @Test
+    void timeoutOverrideAppliesToTokenRefresh() {
+        try (FakeMapsServer server = FakeMapsServer.builder()
+            .latency(random -> TimeUnit.SECONDS.toNanos(2))
+            .start()) {
+            HttpAppleMapsGateway gateway = gateway(server, HttpGatewayOptions.builder());
+            try {
+                long startedAt = System.nanoTime();
+                AppleMapsClientException exception = assertThrows(AppleMapsClientException.class, () -> gateway
+                    .withCallOptions(CallOptions.builder().timeout(Duration.ofMillis(300)).build())
+                    .geocode(GEOCODE));
+
+                assertTrue(exception.getMessage().endsWith("token"));
+                assertInstanceOf(HttpTimeoutException.class, exception.getCause());
+                assertTrue(System.nanoTime() - startedAt < TimeUnit.SECONDS.toNanos(1));
+            } finally {
+                gateway.close();
+            }
+        }
+    }
+
+    @Test
+    void passedDeadlineFailsWithoutSending() {
+        try (FakeMapsServer server = FakeMapsServer.builder().start()) {
+            HttpAppleMapsGateway gateway = gateway(server, HttpGatewayOptions.builder());
+            try {
+                AppleMapsClientException exception = assertThrows(AppleMapsClientException.class, () -> gateway
+                    .withCallOptions(CallOptions.builder().deadline(Instant.now().minusSeconds(1)).build())
+                    .geocode(GEOCODE));
+
+                assertInstanceOf(HttpTimeoutException.class, exception.getCause());
+            } finally {
+                gateway.close();
+            }
+
+            assertEquals(0, server.requestCount());
+        }
+    }
+
+    @Test
+    void deadlineBoundsRetries() {
+        ApiInterceptor retryForever = (call, chain) -> {
+            ApiResponse response = chain.proceed(call);
+            while (response.statusCode() == 429) {
+                response = chain.proceed(call);
+            }
+            return response;
+        };
+        try (FakeMapsServer server = FakeMapsServer.builder().throttleRate(1.0).start()) {
+            HttpAppleMapsGateway gateway = gateway(server, HttpGatewayOptions.builder().interceptor(retryForever));
+            try {
+                AppleMapsClientException exception = assertThrows(AppleMapsClientException.class, () -> gateway
+                    .withCallOptions(CallOptions.builder().deadline(Instant.now().plusMillis(300)).build())
+                    .geocode(GEOCODE));
+
+                assertInstanceOf(HttpTimeoutException.class, exception.getCause());
+                assertTrue(server.requestCount("/v1/geocode") > 1);
+            } finally {
+                gateway.close();
+            }
+        }
+    }
+
+    @Test
+    void cancellationAbortsExchangeInFlight() {
+        AtomicLong delayNanos = new AtomicLong();
+        try (FakeMapsServer server = FakeMapsServer.builder().latency(random -> delayNanos.get()).start()) {
+            HttpAppleMapsGateway gateway = gateway(server, HttpGatewayOptions.builder());
+            try {
+                gateway.geocode(GEOCODE);
+                delayNanos.set(TimeUnit.SECONDS.toNanos(3));
+                CancellationHandle cancellation = new CancellationHandle();
+                HttpAppleMapsGateway cancellable = gateway.withCallOptions(
+                    CallOptions.builder().cancellation(cancellation).build());
+
+                long startedAt = System.nanoTime();
+                CompletableFuture<?> call = CompletableFuture.runAsync(() -> cancellable.geocode(GEOCODE));
+                while (server.requestCount("/v1/geocode") < 2) {
+                    Thread.onSpinWait();
+                }
+                cancellation.cancel();
+
+                CompletionException exception = assertThrows(CompletionException.class, call::join);
+                assertInstanceOf(AppleMapsClientException.class, exception.getCause());
+                assertInstanceOf(CancellationException.class, exception.getCause().getCause());
+                assertTrue(System.nanoTime() - startedAt < TimeUnit.SECONDS.toNanos(2));
+                assertThrows(AppleMapsClientException.class, () -> cancellable.geocode(GEOCODE));
+            } finally {
+                gateway.close();
+            }
+        }
+    }
+
+    @Test
+    void closingViewLeavesGatewayUsable() {
+        try (FakeMapsServer server = FakeMapsServer.builder().start()) {
+            HttpAppleMapsGateway gateway = gateway(server, HttpGatewayOptions.builder());
+            try {
+                gateway.withCallOptions(CallOptions.NONE).close();
+
+                assertEquals(1, gateway.geocode(GEOCODE).results().size());
+            } finally {
+                gateway.close();
+            }
+        }
+    }
+
+    private static HttpAppleMapsGateway gateway(FakeMapsServer server, HttpGatewayOptions.Builder options) {
+        return new HttpAppleMapsGateway("auth-token",
+            options.timeout(GATEWAY_TIMEOUT).apiServer(server.baseUri()).build());
+    }
+}
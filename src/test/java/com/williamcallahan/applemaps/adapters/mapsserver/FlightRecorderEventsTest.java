@@ -0,0 +1,98 @@
+package com.williamcallahan.applemaps.adapters.mapsserver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.williamcallahan.applemaps.adapters.fakeserver.FakeMapsServer;
+import com.williamcallahan.applemaps.domain.request.GeocodeInput;
+
+class FlightRecorderEventsTest {
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    @TempDir
+    Path recordingDirectory;
+
+    @Test
+    void bundledSettingsRecordRequestAndTokenRefreshEvents() throws IOException, ParseException {
+        Path recordingFile = recordingDirectory.resolve("apple-maps.jfr");
+        try (FakeMapsServer server = FakeMapsServer.builder().start();
+             Recording recording = new Recording(bundledConfiguration())) {
+            recording.start();
+            HttpAppleMapsGateway gateway = new HttpAppleMapsGateway("auth-token", TIMEOUT, null, server.baseUri());
+            try {
+                gateway.geocode(GeocodeInput.builder("Jungfernstieg 1").build());
+            } finally {
+                gateway.close();
+            }
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(recordingFile);
+        RecordedEvent request = single(events, ApiRequestEvent.NAME);
+        RecordedEvent tokenRefresh = single(events, TokenRefreshEvent.NAME);
+
+        assertEquals("geocode", request.getString("operation"));
+        assertEquals("/v1/geocode", request.getString("path"));
+        assertEquals(200, request.getInt("statusCode"));
+        assertTrue(request.getLong("bytesReceived") > 0);
+        assertTrue(request.getDuration("timeToHeaders").toNanos() > 0);
+        assertTrue(request.getDuration("decodeTime").toNanos() > 0);
+        assertTrue(tokenRefresh.getBoolean("succeeded"));
+    }
+
+    @Test
+    void eventsAreDisabledWithoutSettings() throws IOException {
+        Path recordingFile = recordingDirectory.resolve("default.jfr");
+        try (FakeMapsServer server = FakeMapsServer.builder().start();
+             Recording recording = new Recording()) {
+            recording.start();
+            HttpAppleMapsGateway gateway = new HttpAppleMapsGateway("auth-token", TIMEOUT, null, server.baseUri());
+            try {
+                gateway.geocode(GeocodeInput.builder("Jungfernstieg 1").build());
+            } finally {
+                gateway.close();
+            }
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+
+        assertTrue(RecordingFile.readAllEvents(recordingFile).stream()
+            .noneMatch(event -> event.getEventType().getName().startsWith("com.williamcallahan.applemaps.")));
+    }
+
+    private static Configuration bundledConfiguration() throws IOException, ParseException {
+        try (InputStream settings = Objects.requireNonNull(
+                FlightRecorderEventsTest.class.getResourceAsStream("/jfr/apple-maps.jfc"), "apple-maps.jfc");
+             Reader reader = new InputStreamReader(settings, StandardCharsets.UTF_8)) {
+            return Configuration.create(reader);
+        }
+    }
+
+    private static RecordedEvent single(List<RecordedEvent> events, String name) {
+        List<RecordedEvent> matching = events.stream()
+            .filter(event -> event.getEventType().getName().equals(name))
+            .toList();
+        assertEquals(1, matching.size(), name);
+        return matching.get(0);
+    }
+}
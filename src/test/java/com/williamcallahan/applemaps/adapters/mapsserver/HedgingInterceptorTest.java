@@ -0,0 +1,171 @@
+package com.williamcallahan.applemaps.adapters.mapsserver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+import org.junit.jupiter.api.Test;
+
+import com.williamcallahan.applemaps.adapters.fakeserver.FakeMapsServer;
+import com.williamcallahan.applemaps.adapters.metrics.InMemoryAppleMapsMetrics;
+import com.williamcallahan.applemaps.adapters.metrics.LatencyHistogram;
+import com.williamcallahan.applemaps.domain.request.GeocodeInput;
+
+class HedgingInterceptorTest {
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+    private static final GeocodeInput GEOCODE = GeocodeInput.builder("Jungfernstieg 1").build();
+    private static final int WARM_UP_CALLS = 20;
+    private static final long SLOW_NANOS = TimeUnit.SECONDS.toNanos(2);
+
+    @Test
+    void slowExchangeIsHedgedAndFasterResponseWins() {
+        AtomicBoolean slowNext = new AtomicBoolean();
+        HedgingInterceptor hedging = HedgingInterceptor.builder().minSamples(WARM_UP_CALLS).budget(0.5).build();
+        try (FakeMapsServer server = slowOnDemand(slowNext)) {
+            HttpAppleMapsGateway gateway = gateway(server, hedging);
+            try {
+                warmUp(gateway);
+                slowNext.set(true);
+
+                long startedAt = System.nanoTime();
+                assertEquals(1, gateway.geocode(GEOCODE).results().size());
+
+                assertTrue(System.nanoTime() - startedAt < SLOW_NANOS / 2);
+                assertEquals(1, hedging.hedges());
+                assertEquals(WARM_UP_CALLS + 2, server.requestCount("/v1/geocode"));
+            } finally {
+                gateway.close();
+            }
+        }
+    }
+
+    @Test
+    void exhaustedBudgetWaitsForPrimary() {
+        AtomicBoolean slowNext = new AtomicBoolean();
+        HedgingInterceptor hedging = HedgingInterceptor.builder().minSamples(WARM_UP_CALLS).budget(0.0).build();
+        try (FakeMapsServer server = slowOnDemand(slowNext)) {
+            HttpAppleMapsGateway gateway = gateway(server, hedging);
+            try {
+                warmUp(gateway);
+                slowNext.set(true);
+
+                long startedAt = System.nanoTime();
+                assertEquals(1, gateway.geocode(GEOCODE).results().size());
+
+                assertTrue(System.nanoTime() - startedAt >= SLOW_NANOS);
+                assertEquals(0, hedging.hedges());
+                assertEquals(WARM_UP_CALLS + 1, server.requestCount("/v1/geocode"));
+            } finally {
+                gateway.close();
+            }
+        }
+    }
+
+    @Test
+    void primaryThatWinsAfterAHedgeIsTimedFromItsOwnSend() {
+        long primaryNanos = TimeUnit.MILLISECONDS.toNanos(500);
+        Queue<Long> delays = new ConcurrentLinkedQueue<>();
+        InMemoryAppleMapsMetrics metrics = new InMemoryAppleMapsMetrics();
+        HedgingInterceptor hedging = HedgingInterceptor.builder()
+            .minSamples(WARM_UP_CALLS)
+            .budget(0.5)
+            .minDelay(Duration.ofMillis(200))
+            .build();
+        try (FakeMapsServer server = FakeMapsServer.builder()
+            .latency(random -> {
+                Long delay = delays.poll();
+                return delay == null ? 0L : delay;
+            })
+            .start()) {
+            HttpAppleMapsGateway gateway = new HttpAppleMapsGateway("auth-token", HttpGatewayOptions.builder()
+                .timeout(TIMEOUT)
+                .apiServer(server.baseUri())
+                .metrics(metrics)
+                .interceptor(hedging)
+                .build());
+            try {
+                warmUp(gateway);
+                delays.addAll(List.of(primaryNanos, SLOW_NANOS));
+                assertEquals(1, gateway.geocode(GEOCODE).results().size());
+            } finally {
+                gateway.close();
+            }
+        }
+
+        assertEquals(1, hedging.hedges());
+        LatencyHistogram.Snapshot latency = metrics.snapshot().operations().get("geocode").responseLatency();
+        assertTrue(latency.maxNanos() >= primaryNanos);
+    }
+
+    @Test
+    void hedgeDelayHoldsAcrossWindowsWhileHedgesBeatTheSlowTail() throws Exception {
+        Random random = new Random(7);
+        HedgingInterceptor hedging = HedgingInterceptor.builder().budget(1.0).build();
+        ApiInterceptor.Chain chain = call -> {
+            boolean hedge = Thread.currentThread().getName().startsWith("apple-maps-hedge-");
+            long delayNanos = hedge || random.nextInt(5) != 0
+                ? 0L
+                : TimeUnit.MICROSECONDS.toNanos(2_000 + random.nextInt(6_000));
+            long deadline = System.nanoTime() + delayNanos;
+            while (System.nanoTime() < deadline) {
+                if (call.options().cancellation().map(CancellationHandle::isCancelled).orElse(false)) {
+                    throw new IOException("Cancelled.");
+                }
+                LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(50));
+            }
+            return ApiResponse.of(200, new byte[0]);
+        };
+        List<Duration> delays = new ArrayList<>();
+        for (int window = 0; window < 4; window++) {
+            for (int call = 0; call < 1024; call++) {
+                hedging.intercept(new ApiCall("geocode", URI.create("https://maps-api.apple.com/v1/geocode"),
+                    HttpRequest.newBuilder()), chain);
+            }
+            delays.add(hedging.hedgeDelay("geocode").orElseThrow());
+        }
+
+        assertTrue(hedging.hedges() > 0);
+        assertTrue(delays.get(3).toNanos() * 4 >= delays.get(0).toNanos() * 3, delays.toString());
+    }
+
+    @Test
+    void builderRejectsOutOfRangeSettings() {
+        assertThrows(IllegalArgumentException.class, () -> HedgingInterceptor.builder().percentile(0.0));
+        assertThrows(IllegalArgumentException.class, () -> HedgingInterceptor.builder().budget(1.5));
+        assertThrows(IllegalArgumentException.class, () -> HedgingInterceptor.builder().minSamples(0));
+        assertThrows(IllegalArgumentException.class, () -> HedgingInterceptor.builder().minDelay(Duration.ofMillis(-1)));
+    }
+
+    private static FakeMapsServer slowOnDemand(AtomicBoolean slowNext) {
+        return FakeMapsServer.builder()
+            .latency(random -> slowNext.getAndSet(false) ? SLOW_NANOS : 0L)
+            .start();
+    }
+
+    private static void warmUp(HttpAppleMapsGateway gateway) {
+        for (int call = 0; call < WARM_UP_CALLS; call++) {
+            gateway.geocode(GEOCODE);
+        }
+    }
+
+    private static HttpAppleMapsGateway gateway(FakeMapsServer server, HedgingInterceptor hedging) {
+        return new HttpAppleMapsGateway("auth-token", HttpGatewayOptions.builder()
+            .timeout(TIMEOUT)
+            .apiServer(server.baseUri())
+            .interceptor(hedging)
+            .build());
+    }
+}
@@ -0,0 +1,90 @@
+package com.williamcallahan.applemaps.adapters.mapsserver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import com.williamcallahan.applemaps.adapters.fakeserver.FakeMapsServer;
+import com.williamcallahan.applemaps.adapters.metrics.InMemoryAppleMapsMetrics;
+import com.williamcallahan.applemaps.adapters.metrics.OperationMetrics;
+import com.williamcallahan.applemaps.adapters.metrics.StatusClass;
+import com.williamcallahan.applemaps.domain.request.GeocodeInput;
+import com.williamcallahan.applemaps.domain.request.SearchAutocompleteInput;
+
+class HttpAppleMapsGatewayMetricsTest {
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+    private static final GeocodeInput GEOCODE = GeocodeInput.builder("Jungfernstieg 1").build();
+
+    @Test
+    void recordsSuccessfulCallsAndTokenRefresh() {
+        InMemoryAppleMapsMetrics metrics = new InMemoryAppleMapsMetrics();
+        try (FakeMapsServer server = FakeMapsServer.builder().start()) {
+            HttpAppleMapsGateway gateway = gateway(server.baseUri(), metrics);
+            try {
+                gateway.geocode(GEOCODE);
+                gateway.geocode(GEOCODE);
+                gateway.autocomplete(SearchAutocompleteInput.builder("cof").build());
+            } finally {
+                gateway.close();
+            }
+        }
+
+        OperationMetrics geocode = metrics.snapshot().operations().get("geocode");
+        assertEquals(2, geocode.count(StatusClass.SUCCESS));
+        assertTrue(geocode.bytesReceived() > 0);
+        assertEquals(2, geocode.decodeLatency().count());
+        assertTrue(geocode.responseLatency().minNanos() > 0);
+        assertEquals(1, metrics.snapshot().operations().get("searchAutocomplete").requests());
+        assertEquals(1, metrics.snapshot().tokenRefresh().refreshes());
+        assertEquals(0, metrics.snapshot().tokenRefresh().failures());
+    }
+
+    @Test
+    void recordsErrorResponsesWithoutDecodeTime() {
+        InMemoryAppleMapsMetrics metrics = new InMemoryAppleMapsMetrics();
+        try (FakeMapsServer server = FakeMapsServer.builder().throttleRate(1.0).start()) {
+            HttpAppleMapsGateway gateway = gateway(server.baseUri(), metrics);
+            try {
+                assertThrows(AppleMapsApiException.class, () -> gateway.geocode(GEOCODE));
+            } finally {
+                gateway.close();
+            }
+        }
+
+        OperationMetrics geocode = metrics.snapshot().operations().get("geocode");
+        assertEquals(1, geocode.count(StatusClass.CLIENT_ERROR));
+        assertEquals(0, geocode.decodeLatency().count());
+    }
+
+    @Test
+    void recordsFailedTokenRefresh() throws IOException {
+        InMemoryAppleMapsMetrics metrics = new InMemoryAppleMapsMetrics();
+        HttpAppleMapsGateway gateway = gateway(unusedLoopbackUri(), metrics);
+        try {
+            assertThrows(AppleMapsClientException.class, () -> gateway.geocode(GEOCODE));
+        } finally {
+            gateway.close();
+        }
+
+        assertEquals(1, metrics.snapshot().tokenRefresh().failures());
+        assertTrue(metrics.snapshot().operations().isEmpty());
+    }
+
+    private static HttpAppleMapsGateway gateway(URI apiServer, InMemoryAppleMapsMetrics metrics) {
+        return new HttpAppleMapsGateway("auth-token",
+            HttpGatewayOptions.builder().timeout(TIMEOUT).apiServer(apiServer).metrics(metrics).build());
+    }
+
+    private static URI unusedLoopbackUri() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return URI.create("http://127.0.0.1:" + socket.getLocalPort());
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.williamcallahan.applemaps.adapters.mapsserver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.Test;
+
+class RequestLimitsTest {
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    @Test
+    void unlimitedAdmitsImmediatelyAndCountsInFlight() throws Exception {
+        RequestLimits limits = new RequestLimits(TIMEOUT);
+
+        limits.acquire(deadlineIn(Duration.ofMillis(1)));
+        limits.acquire(deadlineIn(Duration.ofMillis(1)));
+
+        assertEquals(2, limits.inFlight());
+        limits.release();
+        limits.release();
+        assertEquals(0, limits.inFlight());
+    }
+
+    @Test
+    void concurrencyLimitTimesOutWhenNoPermitIsReleased() throws Exception {
+        RequestLimits limits = new RequestLimits(TIMEOUT);
+        limits.setConcurrencyLimit(1);
+        limits.acquire(deadlineIn(TIMEOUT));
+
+        assertThrows(TimeoutException.class, () -> limits.acquire(deadlineIn(Duration.ofMillis(20))));
+        assertEquals(1, limits.inFlight());
+        assertEquals(0, limits.waiting());
+    }
+
+    @Test
+    void releasedPermitAdmitsWaitingRequest() throws Exception {
+        RequestLimits limits = new RequestLimits(TIMEOUT);
+        limits.setConcurrencyLimit(1);
+        limits.acquire(deadlineIn(TIMEOUT));
+        CountDownLatch admitted = new CountDownLatch(1);
+        Thread waiter = new Thread(() -> {
+            try {
+                limits.acquire(deadlineIn(TIMEOUT));
+                admitted.countDown();
+            } catch (TimeoutException | InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        waiter.start();
+
+        while (limits.waiting() == 0) {
+            Thread.onSpinWait();
+        }
+        limits.release();
+
+        assertTrue(admitted.await(5, TimeUnit.SECONDS));
+        waiter.join();
+        assertEquals(1, limits.inFlight());
+    }
+
+    @Test
+    void raisingConcurrencyLimitAdmitsWaitingRequest() throws Exception {
+        RequestLimits limits = new RequestLimits(TIMEOUT);
+        limits.setConcurrencyLimit(1);
+        limits.acquire(deadlineIn(TIMEOUT));
+        CountDownLatch admitted = new CountDownLatch(1);
+        Thread waiter = new Thread(() -> {
+            try {
+                limits.acquire(deadlineIn(TIMEOUT));
+                admitted.countDown();
+            } catch (TimeoutException | InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        waiter.start();
+
+        while (limits.waiting() == 0) {
+            Thread.onSpinWait();
+        }
+        limits.setConcurrencyLimit(0);
+
+        assertTrue(admitted.await(5, TimeUnit.SECONDS));
+        waiter.join();
+        assertEquals(2, limits.inFlight());
+    }
+
+    @Test
+    void rateLimitSpacesRequestsEvenly() throws Exception {
+        RequestLimits limits = new RequestLimits(TIMEOUT);
+        limits.setRateLimit(100.0);
+
+        long startedAt = System.nanoTime();
+        for (int request = 0; request < 11; request++) {
+            limits.acquire(deadlineIn(TIMEOUT));
+            limits.release();
+        }
+
+        assertTrue(System.nanoTime() - startedAt >= TimeUnit.MILLISECONDS.toNanos(100));
+    }
+
+    @Test
+    void rateLimitRejectsRequestWhoseSlotIsPastDeadline() throws Exception {
+        RequestLimits limits = new RequestLimits(TIMEOUT);
+        limits.setRateLimit(1.0);
+        limits.acquire(deadlineIn(TIMEOUT));
+
+        assertThrows(TimeoutException.class, () -> limits.acquire(deadlineIn(Duration.ofMillis(100))));
+        assertEquals(1, limits.inFlight());
+    }
+
+    @Test
+    void rejectsInvalidSettings() {
+        RequestLimits limits = new RequestLimits(TIMEOUT);
+
+        assertThrows(IllegalArgumentException.class, () -> limits.setConcurrencyLimit(-1));
+        assertThrows(IllegalArgumentException.class, () -> limits.setRateLimit(Double.NaN));
+        assertThrows(IllegalArgumentException.class, () -> limits.setTimeout(Duration.ZERO));
+    }
+
+    private static long deadlineIn(Duration duration) {
+        return System.nanoTime() + duration.toNanos();
+    }
+}
@@ -0,0 +1,67 @@
+package com.williamcallahan.applemaps.adapters.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class InMemoryAppleMapsMetricsTest {
+    private static final long RESPONSE_NANOS = TimeUnit.MILLISECONDS.toNanos(40);
+    private static final long DECODE_NANOS = TimeUnit.MICROSECONDS.toNanos(300);
+
+    @Test
+    void recordsCountsStatusClassesBytesAndLatenciesPerOperation() {
+        InMemoryAppleMapsMetrics metrics = new InMemoryAppleMapsMetrics();
+        metrics.recordRequest("geocode", 200, RESPONSE_NANOS, 1_000, DECODE_NANOS);
+        metrics.recordRequest("geocode", 200, RESPONSE_NANOS, 3_000, DECODE_NANOS);
+        metrics.recordRequest("geocode", 429, RESPONSE_NANOS, 50, 0);
+        metrics.recordRequest("search", 0, RESPONSE_NANOS, 0, 0);
+
+        MetricsSnapshot snapshot = metrics.snapshot();
+        OperationMetrics geocode = snapshot.operations().get("geocode");
+        OperationMetrics search = snapshot.operations().get("search");
+
+        assertEquals(List.of("geocode", "search"), List.copyOf(snapshot.operations().keySet()));
+        assertEquals(3, geocode.requests());
+        assertEquals(2, geocode.count(StatusClass.SUCCESS));
+        assertEquals(1, geocode.count(StatusClass.CLIENT_ERROR));
+        assertEquals(0, geocode.count(StatusClass.SERVER_ERROR));
+        assertEquals(4_050, geocode.bytesReceived());
+        assertEquals(3, geocode.responseLatency().count());
+        assertEquals(2, geocode.decodeLatency().count());
+        assertEquals(RESPONSE_NANOS, geocode.responseLatency().valueAtPercentile(50.0), RESPONSE_NANOS / 64.0);
+        assertEquals(1, search.count(StatusClass.NO_RESPONSE));
+        assertEquals(0, search.decodeLatency().count());
+    }
+
+    @Test
+    void recordsTokenRefreshesAndFailures() {
+        InMemoryAppleMapsMetrics metrics = new InMemoryAppleMapsMetrics();
+        metrics.recordTokenRefresh(RESPONSE_NANOS, true);
+        metrics.recordTokenRefresh(RESPONSE_NANOS, false);
+
+        TokenRefreshMetrics tokenRefresh = metrics.snapshot().tokenRefresh();
+
+        assertEquals(2, tokenRefresh.refreshes());
+        assertEquals(1, tokenRefresh.failures());
+        assertTrue(metrics.snapshot().operations().isEmpty());
+    }
+
+    @Test
+    void classifiesStatusCodes() {
+        assertEquals(StatusClass.SUCCESS, StatusClass.of(204));
+        assertEquals(StatusClass.OTHER, StatusClass.of(304));
+        assertEquals(StatusClass.CLIENT_ERROR, StatusClass.of(404));
+        assertEquals(StatusClass.SERVER_ERROR, StatusClass.of(503));
+        assertEquals(StatusClass.NO_RESPONSE, StatusClass.of(0));
+    }
+
+    @Test
+    void snapshotsRejectNegativeCounts() {
+        assertThrows(IllegalArgumentException.class, () -> new TokenRefreshMetrics(-1, LatencyHistogram.Snapshot.EMPTY));
+    }
+}
@@ -0,0 +1,100 @@
+package com.williamcallahan.applemaps.adapters.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class LatencyHistogramTest {
+
+    @Test
+    void bucketsCoverEveryValueWithinRelativePrecision() {
+        long[] values = {0L, 1L, 127L, 128L, 129L, 255L, 256L, 1_000L, 999_999L, 1_000_000_007L,
+            LatencyHistogram.HIGHEST_TRACKABLE_NANOS};
+        for (long value : values) {
+            int index = LatencyHistogram.bucketIndex(value);
+            long lowest = LatencyHistogram.lowestValueAt(index);
+            long highest = LatencyHistogram.highestValueAt(index);
+
+            assertTrue(lowest <= value && value <= highest, "value " + value);
+            assertTrue(highest - lowest <= Math.max(0L, lowest / 64), "bucket width for " + value);
+        }
+    }
+
+    @Test
+    void percentilesOfUniformValuesAreWithinPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long millis = 1; millis <= 1_000; millis++) {
+            histogram.record(millis, TimeUnit.MILLISECONDS);
+        }
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        assertEquals(1_000, snapshot.count());
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(1), snapshot.minNanos());
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(1_000), snapshot.maxNanos());
+        assertEquals(500.5e6, snapshot.meanNanos(), 1.0);
+        assertEquals(500e6, snapshot.valueAtPercentile(50.0), 500e6 / 64);
+        assertEquals(990e6, snapshot.valueAtPercentile(99.0), 990e6 / 64);
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(1_000), snapshot.valueAtPercentile(100.0));
+    }
+
+    @Test
+    void valuesAboveTrackableRangeReportExactMaximum() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.recordNanos(Long.MAX_VALUE);
+        histogram.recordNanos(-5L);
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        assertEquals(2, snapshot.count());
+        assertEquals(0L, snapshot.minNanos());
+        assertEquals(Long.MAX_VALUE, snapshot.valueAtPercentile(100.0));
+    }
+
+    @Test
+    void emptySnapshotReportsZeros() {
+        LatencyHistogram.Snapshot snapshot = new LatencyHistogram().snapshot();
+
+        assertEquals(0, snapshot.count());
+        assertEquals(0L, snapshot.valueAtPercentile(99.0));
+        assertEquals(0.0, snapshot.meanNanos());
+        assertThrows(IllegalArgumentException.class, () -> snapshot.valueAtPercentile(101.0));
+    }
+
+    @Test
+    void concurrentRecordingLosesNoValues() throws InterruptedException {
+        LatencyHistogram histogram = new LatencyHistogram();
+        int threads = 4;
+        int valuesPerThread = 50_000;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> recorders = new ArrayList<>();
+        for (int thread = 0; thread < threads; thread++) {
+            Thread recorder = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int value = 0; value < valuesPerThread; value++) {
+                    histogram.recordNanos(value);
+                }
+            });
+            recorder.start();
+            recorders.add(recorder);
+        }
+        start.countDown();
+        for (Thread recorder : recorders) {
+            recorder.join();
+        }
+
+        assertEquals((long) threads * valuesPerThread, histogram.snapshot().count());
+    }
+}
@@ -0,0 +1,57 @@
+package com.williamcallahan.applemaps.adapters.offheap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import com.williamcallahan.applemaps.adapters.fakeserver.FakeMapsServer;
+import com.williamcallahan.applemaps.adapters.mapsserver.HttpAppleMapsGateway;
+import com.williamcallahan.applemaps.domain.model.Place;
+import com.williamcallahan.applemaps.domain.model.PlaceResults;
+import com.williamcallahan.applemaps.domain.request.GeocodeInput;
+
+class OffHeapPlaceCacheTest {
+    @Test
+    void gatewayAnswersRepeatedLookupsWithEqualDecodedModels() {
+        OffHeapPlaceCache cache = new OffHeapPlaceCache(OffHeapStore.builder().maxBytes(1 << 24).build());
+        try (FakeMapsServer server = FakeMapsServer.builder().start()) {
+            OffHeapCachingGateway gateway = new OffHeapCachingGateway(
+                new HttpAppleMapsGateway("auth-token", Duration.ofSeconds(5), null, server.baseUri()),
+                cache
+            );
+            try {
+                Place place = gateway.lookupPlace("I7C250D2CDCB364A", "en-US");
+                Place cached = gateway.lookupPlace("I7C250D2CDCB364A", "en-US");
+                gateway.lookupPlace("I7C250D2CDCB364A", "de-DE");
+                PlaceResults geocode = gateway.geocode(GeocodeInput.builder("880 Harrison St").build());
+                PlaceResults respelled = gateway.geocode(GeocodeInput.builder("880 HARRISON STREET").build());
+
+                assertEquals(place, cached);
+                assertNotSame(place, cached);
+                assertEquals(geocode, respelled);
+                assertEquals(2, server.requestCount("/v1/place/I7C250D2CDCB364A"));
+                assertEquals(1, server.requestCount("/v1/geocode"));
+                assertEquals(2, cache.hits());
+                assertEquals(3, cache.misses());
+            } finally {
+                gateway.close();
+            }
+        }
+    }
+
+    @Test
+    void aValueOfTheWrongKindIsDroppedAsAMiss() {
+        OffHeapStore store = OffHeapStore.builder().maxBytes(1 << 24).build();
+        OffHeapPlaceCache cache = new OffHeapPlaceCache(store);
+        GeocodeInput input = GeocodeInput.builder("Jungfernstieg 1").build();
+        store.put(cache.canonicalizer().geocodeKey(input), new byte[] {'A', 'M', 'B', 1, 1});
+
+        assertTrue(cache.lookupGeocode(input).isEmpty());
+        assertEquals(0, store.size());
+        assertEquals(1, cache.misses());
+    }
+}
@@ -0,0 +1,153 @@
+package com.williamcallahan.applemaps.adapters.offheap;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class OffHeapStoreTest {
+    private static final int SEGMENT_BYTES = 4096;
+    private static final int ENTRY_HEADER_BYTES = 20;
+
+    @Test
+    void valuesAreStoredReplacedAndRemoved() {
+        OffHeapStore store = OffHeapStore.builder().build();
+        assertTrue(store.put(7L, new byte[] {1, 2, 3}));
+        assertTrue(store.put(-7L, new byte[0]));
+        assertTrue(store.put(7L, new byte[] {4, 5}));
+
+        assertArrayEquals(new byte[] {4, 5}, store.get(7L));
+        assertArrayEquals(new byte[0], store.get(-7L));
+        assertEquals(2, store.size());
+        assertEquals(2 * ENTRY_HEADER_BYTES + 2, store.liveBytes());
+
+        assertTrue(store.remove(7L));
+        assertFalse(store.remove(7L));
+        assertNull(store.get(7L));
+        assertEquals(ENTRY_HEADER_BYTES, store.liveBytes());
+    }
+
+    @Test
+    void reclaimingASegmentKeepsOnlyValuesReadSinceTheLastPass() {
+        OffHeapStore store = OffHeapStore.builder().segmentBytes(SEGMENT_BYTES).maxBytes(2 * SEGMENT_BYTES)
+            .build();
+        byte[] value = new byte[1000];
+        for (long key = 0; key < 8; key++) {
+            store.put(key, value);
+        }
+        store.get(2L);
+        store.put(8L, value);
+
+        assertTrue(store.get(2L) != null);
+        assertNull(store.get(0L));
+        assertNull(store.get(1L));
+        assertNull(store.get(3L));
+        for (long key = 4; key <= 8; key++) {
+            assertTrue(store.get(key) != null);
+        }
+        assertEquals(3, store.evictions());
+        assertEquals(6, store.size());
+    }
+
+    @Test
+    void valuesExpire() {
+        MutableClock clock = new MutableClock(Instant.parse("2026-05-01T10:00:00Z"));
+        OffHeapStore store = OffHeapStore.builder().clock(clock).timeToLive(Duration.ofMinutes(5)).build();
+        store.put(1L, new byte[] {1});
+        clock.advance(Duration.ofMinutes(4));
+        assertTrue(store.get(1L) != null);
+
+        clock.advance(Duration.ofMinutes(1));
+        assertNull(store.get(1L));
+        assertEquals(0, store.size());
+        assertEquals(0, store.liveBytes());
+    }
+
+    @Test
+    void randomWorkloadStaysWithinCapacityAndNeverReturnsAnotherKeysValue() {
+        OffHeapStore store = OffHeapStore.builder().segmentBytes(SEGMENT_BYTES).maxBytes(8 * SEGMENT_BYTES)
+            .build();
+        Map<Long, byte[]> written = new HashMap<>();
+        Random random = new Random(42);
+        for (int operation = 0; operation < 20_000; operation++) {
+            long key = random.nextInt(2_000);
+            int choice = random.nextInt(10);
+            if (choice < 5) {
+                byte[] value = new byte[random.nextInt(300)];
+                random.nextBytes(value);
+                store.put(key, value);
+                written.put(key, value);
+            } else if (choice < 9) {
+                byte[] value = store.get(key);
+                if (value != null) {
+                    assertArrayEquals(written.get(key), value);
+                }
+            } else {
+                store.remove(key);
+                written.remove(key);
+            }
+            assertTrue(store.liveBytes() <= store.capacityBytes());
+        }
+        assertTrue(store.evictions() > 0);
+        long live = 0;
+        for (Map.Entry<Long, byte[]> entry : written.entrySet()) {
+            byte[] value = store.get(entry.getKey());
+            if (value != null) {
+                assertArrayEquals(entry.getValue(), value);
+                live += ENTRY_HEADER_BYTES + value.length;
+            }
+        }
+        assertEquals(live, store.liveBytes());
+    }
+
+    @Test
+    void oversizedValuesAndInvalidSizesAreRejected() {
+        OffHeapStore store = OffHeapStore.builder().segmentBytes(SEGMENT_BYTES).maxBytes(SEGMENT_BYTES).build();
+
+        assertFalse(store.put(1L, new byte[SEGMENT_BYTES]));
+        assertTrue(store.put(1L, new byte[SEGMENT_BYTES - ENTRY_HEADER_BYTES]));
+        assertThrows(IllegalArgumentException.class, () -> OffHeapStore.builder().segmentBytes(1024));
+        assertThrows(IllegalArgumentException.class,
+            () -> OffHeapStore.builder().segmentBytes(SEGMENT_BYTES).maxBytes(SEGMENT_BYTES - 1).build());
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
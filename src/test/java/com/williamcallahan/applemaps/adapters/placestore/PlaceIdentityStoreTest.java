@@ -0,0 +1,108 @@
+package com.williamcallahan.applemaps.adapters.placestore;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import com.williamcallahan.applemaps.adapters.fakeserver.FakeMapsServer;
+import com.williamcallahan.applemaps.adapters.mapsserver.HttpAppleMapsGateway;
+import com.williamcallahan.applemaps.domain.model.AlternateIdsEntry;
+import com.williamcallahan.applemaps.domain.model.Location;
+import com.williamcallahan.applemaps.domain.model.Place;
+import com.williamcallahan.applemaps.domain.model.PlaceResults;
+import com.williamcallahan.applemaps.domain.model.SearchResponsePlace;
+import com.williamcallahan.applemaps.domain.model.StructuredAddress;
+import com.williamcallahan.applemaps.domain.request.GeocodeInput;
+
+class PlaceIdentityStoreTest {
+    @Test
+    void equalPlacesAreAnsweredWithTheStoredInstance() {
+        PlaceIdentityStore store = PlaceIdentityStore.builder().build();
+        Place first = store.canonicalize(place("I1", List.of(), "Alster", "Hamburg"));
+        Place again = store.canonicalize(place("I1", List.of(), "Alster", "Hamburg"));
+        Place renamed = store.canonicalize(place("I1", List.of(), "Binnenalster", "Hamburg"));
+
+        assertSame(first, again);
+        assertNotSame(first, renamed);
+        assertSame(first.coordinate(), renamed.coordinate());
+        assertSame(renamed, store.findPlace("I1").orElseThrow());
+        assertEquals(1, store.reusedInstances());
+    }
+
+    @Test
+    void alternateIdsAreMergedIntoOneIdentity() {
+        PlaceIdentityStore store = PlaceIdentityStore.builder().build();
+        store.canonicalize(place("I1", List.of("A1"), "Alster", "Hamburg"));
+        store.recordAlternateIds(new AlternateIdsEntry(Optional.of("I2"), List.of("A2", "A1")));
+        Place merged = store.canonicalize(place("I2", List.of(), "Alster", "Hamburg"));
+
+        assertEquals(List.of("I1", "A1", "I2", "A2"), store.identifiers("A2"));
+        assertEquals(List.of("I1", "A1", "A2"), merged.alternateIds());
+        assertEquals(1, store.size());
+        assertTrue(store.identifiers("unknown").isEmpty());
+    }
+
+    @Test
+    void lowCardinalityStringsAreInternedAcrossPlaces() {
+        PlaceIdentityStore store = PlaceIdentityStore.builder().build();
+        Place first = store.canonicalize(place("I1", List.of(), "Alster", new String("Hamburg")));
+        SearchResponsePlace second = store.canonicalize(new SearchResponsePlace(Optional.of("I2"), List.of(),
+            "Elbphilharmonie", new Location(53.54, 9.98), Optional.empty(), List.of(),
+            Optional.of(address(new String("Hamburg"))), new String("Germany"), new String("DE"), Optional.empty()));
+
+        assertSame(first.country(), second.country());
+        assertSame(first.countryCode(), second.countryCode());
+        assertSame(first.structuredAddress().orElseThrow().locality(), second.structuredAddress().orElseThrow().locality());
+    }
+
+    @Test
+    void leastRecentlySeenIdentitiesAreDropped() {
+        PlaceIdentityStore store = PlaceIdentityStore.builder().maxPlaces(2).maxInternedStrings(0).build();
+        store.canonicalize(place("I1", List.of("A1"), "one", "Hamburg"));
+        store.canonicalize(place("I2", List.of(), "two", "Hamburg"));
+        store.canonicalize(place("I1", List.of(), "one", "Hamburg"));
+        store.canonicalize(place("I3", List.of(), "three", "Hamburg"));
+
+        assertTrue(store.findPlace("A1").isPresent());
+        assertTrue(store.findPlace("I2").isEmpty());
+        assertEquals(2, store.size());
+        assertEquals(0, store.internedStrings());
+    }
+
+    @Test
+    void gatewayReturnsSharedInstancesForRepeatedResponses() {
+        try (FakeMapsServer server = FakeMapsServer.builder().start()) {
+            PlaceIdentityGateway gateway = new PlaceIdentityGateway(
+                new HttpAppleMapsGateway("auth-token", Duration.ofSeconds(5), null, server.baseUri()),
+                PlaceIdentityStore.builder().build()
+            );
+            try {
+                PlaceResults first = gateway.geocode(GeocodeInput.builder("Jungfernstieg 1").build());
+                PlaceResults second = gateway.geocode(GeocodeInput.builder("Jungfernstieg 1").build());
+
+                assertSame(first.results().get(0), second.results().get(0));
+                assertEquals(first.results().size(), gateway.store().reusedInstances());
+            } finally {
+                gateway.close();
+            }
+        }
+    }
+
+    private static Place place(String id, List<String> alternateIds, String name, String locality) {
+        return new Place(Optional.of(id), alternateIds, name, new Location(53.55, 9.99), Optional.empty(),
+            List.of(name + ", " + locality), Optional.of(address(locality)), new String("Germany"), new String("DE"));
+    }
+
+    private static StructuredAddress address(String locality) {
+        return new StructuredAddress(Optional.of("Hamburg"), Optional.of("HH"), Optional.empty(), List.of(),
+            List.of(), Optional.empty(), Optional.of(locality), Optional.of("20354"), Optional.empty(),
+            Optional.empty(), Optional.empty());
+    }
+}
@@ -0,0 +1,222 @@
+package com.williamcallahan.applemaps.adapters.quota;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.junit.jupiter.api.Test;
+
+import com.williamcallahan.applemaps.adapters.fakeserver.FakeMapsServer;
+import com.williamcallahan.applemaps.adapters.mapsserver.AppleMapsClientException;
+import com.williamcallahan.applemaps.adapters.mapsserver.CallOptions;
+import com.williamcallahan.applemaps.adapters.mapsserver.HttpAppleMapsGateway;
+import com.williamcallahan.applemaps.adapters.mapsserver.HttpGatewayOptions;
+import com.williamcallahan.applemaps.domain.request.GeocodeInput;
+
+class QuotaLedgerTest {
+    private static final Instant START_TIME = Instant.parse("2026-03-01T23:00:00Z");
+    private static final LocalDate FIRST_DAY = LocalDate.parse("2026-03-01");
+    private static final LocalDate SECOND_DAY = LocalDate.parse("2026-03-02");
+    private static final LocalDate THIRD_DAY = LocalDate.parse("2026-03-03");
+    private static final Optional<Instant> NO_DEADLINE = Optional.empty();
+
+    @Test
+    void countsPerTenantAndOperationAndRejectsOverBudget() throws InterruptedException {
+        QuotaLedger ledger = QuotaLedger.builder()
+            .clock(new MutableClock(START_TIME))
+            .budget("batch", 2)
+            .build();
+
+        ledger.acquire("batch", "geocode", NO_DEADLINE);
+        ledger.acquire("batch", "search", NO_DEADLINE);
+        QuotaExceededException exception = assertThrows(QuotaExceededException.class,
+            () -> ledger.acquire("batch", "geocode", NO_DEADLINE));
+        ledger.acquire("web", "geocode", NO_DEADLINE);
+
+        assertEquals("batch", exception.tenant());
+        assertEquals(2, exception.budget());
+        assertEquals(List.of(
+            new QuotaUsage(FIRST_DAY, "batch", "geocode", 1, 1),
+            new QuotaUsage(FIRST_DAY, "batch", "search", 1, 0),
+            new QuotaUsage(FIRST_DAY, "web", "geocode", 1, 0)
+        ), ledger.snapshot().usage());
+    }
+
+    @Test
+    void concurrentCallsAdmitExactlyTheBudget() throws Exception {
+        int threads = 8;
+        int callsPerThread = 500;
+        long budget = 1_000;
+        QuotaLedger ledger = QuotaLedger.builder().clock(new MutableClock(START_TIME)).defaultBudget(budget).build();
+        LongAdder refused = new LongAdder();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<CompletableFuture<Void>> workers = new ArrayList<>();
+            for (int thread = 0; thread < threads; thread++) {
+                workers.add(CompletableFuture.runAsync(() -> {
+                    for (int call = 0; call < callsPerThread; call++) {
+                        try {
+                            ledger.acquire("batch", "geocode", NO_DEADLINE);
+                        } catch (QuotaExceededException exception) {
+                            refused.increment();
+                        } catch (InterruptedException exception) {
+                            Thread.currentThread().interrupt();
+                        }
+                    }
+                }, executor));
+            }
+            CompletableFuture.allOf(workers.toArray(CompletableFuture[]::new)).get(30, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(budget, ledger.snapshot().calls(FIRST_DAY, "batch"));
+        assertEquals(threads * callsPerThread - budget, refused.sum());
+    }
+
+    @Test
+    void budgetAppliesOverRolling24HoursAcrossMidnight() throws InterruptedException {
+        MutableClock clock = new MutableClock(START_TIME);
+        QuotaLedger ledger = QuotaLedger.builder().clock(clock).defaultBudget(1).retainedDays(1).build();
+        ledger.acquire(QuotaLedger.DEFAULT_TENANT, "geocode", NO_DEADLINE);
+
+        clock.advance(Duration.ofHours(1));
+        assertThrows(QuotaExceededException.class,
+            () -> ledger.acquire(QuotaLedger.DEFAULT_TENANT, "geocode", NO_DEADLINE));
+        clock.advance(Duration.ofHours(23));
+        assertThrows(QuotaExceededException.class,
+            () -> ledger.acquire(QuotaLedger.DEFAULT_TENANT, "geocode", NO_DEADLINE));
+        clock.advance(Duration.ofHours(1));
+        ledger.acquire(QuotaLedger.DEFAULT_TENANT, "geocode", NO_DEADLINE);
+
+        QuotaSnapshot snapshot = ledger.snapshot();
+        assertEquals(1, snapshot.calls(THIRD_DAY, QuotaLedger.DEFAULT_TENANT));
+        assertEquals(List.of(new QuotaUsage(SECOND_DAY, QuotaLedger.DEFAULT_TENANT, "geocode", 0, 2)),
+            snapshot.usage().subList(1, snapshot.usage().size()));
+    }
+
+    @Test
+    void queuedCallProceedsWhenBudgetIsRaised() throws Exception {
+        QuotaLedger ledger = QuotaLedger.builder()
+            .defaultBudget(0)
+            .exhaustedPolicy(QuotaExhaustedPolicy.QUEUE)
+            .maxQueueWait(Duration.ofSeconds(10))
+            .build();
+
+        CompletableFuture<Void> queued = CompletableFuture.runAsync(() -> {
+            try {
+                ledger.acquire("batch", "geocode", NO_DEADLINE);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        TimeUnit.MILLISECONDS.sleep(100);
+        assertFalse(queued.isDone());
+        ledger.setBudget("batch", 1);
+
+        queued.get(5, TimeUnit.SECONDS);
+        assertEquals(1, ledger.snapshot().calls(LocalDate.now(ZoneOffset.UTC), "batch"));
+    }
+
+    @Test
+    void queuedCallIsRejectedAtDeadline() {
+        QuotaLedger ledger = QuotaLedger.builder()
+            .defaultBudget(0)
+            .exhaustedPolicy(QuotaExhaustedPolicy.QUEUE)
+            .maxQueueWait(Duration.ofSeconds(10))
+            .build();
+
+        long startedAt = System.nanoTime();
+        assertThrows(QuotaExceededException.class,
+            () -> ledger.acquire("batch", "geocode", Optional.of(Instant.now().plusMillis(100))));
+
+        assertTrue(System.nanoTime() - startedAt < TimeUnit.SECONDS.toNanos(5));
+        assertEquals(1, ledger.snapshot().usage().get(0).rejected());
+    }
+
+    @Test
+    void interceptorChargesTenantFromCallOptions() {
+        QuotaLedger ledger = QuotaLedger.builder().budget("batch", 1).build();
+        GeocodeInput input = GeocodeInput.builder("Jungfernstieg 1").build();
+        try (FakeMapsServer server = FakeMapsServer.builder().start()) {
+            HttpAppleMapsGateway gateway = new HttpAppleMapsGateway("auth-token", HttpGatewayOptions.builder()
+                .apiServer(server.baseUri())
+                .interceptor(ledger.interceptor())
+                .build());
+            try {
+                HttpAppleMapsGateway batch = gateway.withCallOptions(CallOptions.builder().tenant("batch").build());
+                batch.geocode(input);
+                AppleMapsClientException exception = assertThrows(AppleMapsClientException.class,
+                    () -> batch.geocode(input));
+                gateway.geocode(input);
+
+                assertInstanceOf(QuotaExceededException.class, exception.getCause());
+                assertEquals(2, server.requestCount("/v1/geocode"));
+            } finally {
+                gateway.close();
+            }
+        }
+
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        assertEquals(1, ledger.snapshot().calls(today, "batch"));
+        assertEquals(1, ledger.snapshot().calls(today, QuotaLedger.DEFAULT_TENANT));
+    }
+
+    @Test
+    void snapshotExportsCsv() throws IOException {
+        QuotaSnapshot snapshot = new QuotaSnapshot(List.of(
+            new QuotaUsage(FIRST_DAY, "team \"maps\", east", "geocode", 3, 1)
+        ));
+        StringBuilder csv = new StringBuilder();
+
+        snapshot.writeCsv(csv);
+
+        assertEquals("day,tenant,operation,calls,rejected\n"
+            + "2026-03-01,\"team \"\"maps\"\", east\",geocode,3,1\n", csv.toString());
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        private void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
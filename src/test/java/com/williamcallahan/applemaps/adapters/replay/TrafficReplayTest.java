@@ -0,0 +1,122 @@
+package com.williamcallahan.applemaps.adapters.replay;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.williamcallahan.applemaps.adapters.fakeserver.FakeMapsServer;
+import com.williamcallahan.applemaps.adapters.fakeserver.LatencyDistribution;
+import com.williamcallahan.applemaps.adapters.fakeserver.ResponseFixtures;
+import com.williamcallahan.applemaps.adapters.mapsserver.AppleMapsApiException;
+import com.williamcallahan.applemaps.adapters.mapsserver.AppleMapsClientException;
+import com.williamcallahan.applemaps.adapters.mapsserver.HttpAppleMapsGateway;
+import com.williamcallahan.applemaps.adapters.mapsserver.HttpGatewayOptions;
+import com.williamcallahan.applemaps.domain.model.PlaceResults;
+import com.williamcallahan.applemaps.domain.request.GeocodeInput;
+import com.williamcallahan.applemaps.domain.request.SearchInput;
+
+class TrafficReplayTest {
+    private static final GeocodeInput GEOCODE = GeocodeInput.builder("Jungfernstieg 1").build();
+    private static final long RECORDED_LATENCY_NANOS = TimeUnit.MILLISECONDS.toNanos(150);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void replaysRecordedResponsesWithoutNetwork() throws IOException {
+        Path archive = directory.resolve("traffic.amra");
+        PlaceResults recorded = record(archive, FakeMapsServer.builder());
+
+        ReplayArchive replay = ReplayArchive.read(archive);
+        HttpAppleMapsGateway gateway = replay.gateway(HttpGatewayOptions.builder(), false);
+        try {
+            assertEquals(recorded, gateway.geocode(GEOCODE));
+            assertEquals(recorded, gateway.geocode(GEOCODE));
+        } finally {
+            gateway.close();
+        }
+
+        assertEquals(1, replay.exchanges().size());
+        assertEquals("geocode", replay.exchanges().get(0).operation());
+        assertTrue(replay.exchanges().get(0).requestTarget().startsWith("/v1/geocode?q="));
+        assertEquals(ResponseFixtures.geocode().length, replay.exchanges().get(0).body().length);
+    }
+
+    @Test
+    void replaySimulatesRecordedLatency() throws IOException {
+        Path archive = directory.resolve("slow.amra");
+        record(archive, FakeMapsServer.builder()
+            .latency(LatencyDistribution.fixed(Duration.ofNanos(RECORDED_LATENCY_NANOS))));
+
+        HttpAppleMapsGateway gateway = ReplayArchive.read(archive).gateway(HttpGatewayOptions.builder(), true);
+        try {
+            long startedAt = System.nanoTime();
+            gateway.geocode(GEOCODE);
+
+            assertTrue(System.nanoTime() - startedAt >= RECORDED_LATENCY_NANOS);
+        } finally {
+            gateway.close();
+        }
+    }
+
+    @Test
+    void replaysRecordedErrorsAndRejectsUnrecordedRequests() throws IOException {
+        Path archive = directory.resolve("throttled.amra");
+        try (FakeMapsServer server = FakeMapsServer.builder().throttleRate(1.0).start();
+            TrafficRecorder recorder = TrafficRecorder.open(archive)) {
+            HttpAppleMapsGateway gateway = recordingGateway(server, recorder);
+            try {
+                assertThrows(AppleMapsApiException.class, () -> gateway.geocode(GEOCODE));
+            } finally {
+                gateway.close();
+            }
+        }
+
+        HttpAppleMapsGateway gateway = ReplayArchive.read(archive).gateway(HttpGatewayOptions.builder(), false);
+        try {
+            assertEquals(429, assertThrows(AppleMapsApiException.class, () -> gateway.geocode(GEOCODE)).statusCode());
+            AppleMapsClientException exception = assertThrows(AppleMapsClientException.class,
+                () -> gateway.search(SearchInput.builder("coffee").build()));
+            assertInstanceOf(IOException.class, exception.getCause());
+        } finally {
+            gateway.close();
+        }
+    }
+
+    @Test
+    void rejectsFilesThatAreNotArchives() throws IOException {
+        Path notAnArchive = Files.write(directory.resolve("plain.txt"), new byte[] {1, 2, 3});
+
+        assertThrows(IOException.class, () -> ReplayArchive.read(notAnArchive));
+    }
+
+    private static PlaceResults record(Path archive, FakeMapsServer.Builder serverBuilder) throws IOException {
+        try (FakeMapsServer server = serverBuilder.start(); TrafficRecorder recorder = TrafficRecorder.open(archive)) {
+            HttpAppleMapsGateway gateway = recordingGateway(server, recorder);
+            try {
+                PlaceResults results = gateway.geocode(GEOCODE);
+                assertEquals(1, recorder.recorded());
+                return results;
+            } finally {
+                gateway.close();
+            }
+        }
+    }
+
+    private static HttpAppleMapsGateway recordingGateway(FakeMapsServer server, TrafficRecorder recorder) {
+        return new HttpAppleMapsGateway("auth-token", HttpGatewayOptions.builder()
+            .apiServer(server.baseUri())
+            .interceptor(recorder)
+            .build());
+    }
+}
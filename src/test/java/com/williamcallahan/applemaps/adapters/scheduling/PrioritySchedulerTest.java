@@ -0,0 +1,175 @@
+package com.williamcallahan.applemaps.adapters.scheduling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.Test;
+
+import com.williamcallahan.applemaps.adapters.mapsserver.ApiCall;
+import com.williamcallahan.applemaps.adapters.mapsserver.ApiInterceptor;
+import com.williamcallahan.applemaps.adapters.mapsserver.ApiResponse;
+import com.williamcallahan.applemaps.adapters.mapsserver.CallOptions;
+import com.williamcallahan.applemaps.adapters.mapsserver.RequestPriority;
+
+class PrioritySchedulerTest {
+    private static final URI GEOCODE_URI = URI.create("https://maps-api.apple.com/v1/geocode?q=Hamburg");
+    private static final ApiResponse OK = ApiResponse.of(200, new byte[0]);
+
+    @Test
+    void reservedSlotAdmitsInteractiveWhileBatchSaturatesSharedSlots() throws Exception {
+        PriorityScheduler scheduler = PriorityScheduler.builder()
+            .maxConcurrency(2)
+            .reserve(RequestPriority.INTERACTIVE, 1)
+            .build();
+        CountDownLatch releaseBatch = new CountDownLatch(1);
+
+        CompletableFuture<ApiResponse> firstBatch = callAsync(scheduler, RequestPriority.BATCH, releaseBatch);
+        awaitUntil(() -> scheduler.inFlight(RequestPriority.BATCH) == 1);
+        CompletableFuture<ApiResponse> secondBatch = callAsync(scheduler, RequestPriority.BATCH, releaseBatch);
+        awaitUntil(() -> scheduler.waiting(RequestPriority.BATCH) == 1);
+
+        assertEquals(OK, call(scheduler, RequestPriority.INTERACTIVE, null));
+
+        releaseBatch.countDown();
+        firstBatch.get(5, TimeUnit.SECONDS);
+        secondBatch.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void waitingClassesAreAdmittedByWeight() throws Exception {
+        PriorityScheduler scheduler = PriorityScheduler.builder()
+            .maxConcurrency(1)
+            .weight(RequestPriority.INTERACTIVE, 3)
+            .weight(RequestPriority.BATCH, 1)
+            .build();
+        CountDownLatch releaseBlocker = new CountDownLatch(1);
+        CompletableFuture<ApiResponse> blocker = callAsync(scheduler, RequestPriority.NORMAL, releaseBlocker);
+        awaitUntil(() -> scheduler.inFlight(RequestPriority.NORMAL) == 1);
+
+        List<RequestPriority> admitted = Collections.synchronizedList(new ArrayList<>());
+        List<CompletableFuture<ApiResponse>> calls = new ArrayList<>();
+        for (int index = 0; index < 4; index++) {
+            calls.add(recordingAsync(scheduler, RequestPriority.BATCH, admitted));
+            int batchWaiting = index + 1;
+            awaitUntil(() -> scheduler.waiting(RequestPriority.BATCH) == batchWaiting);
+        }
+        for (int index = 0; index < 4; index++) {
+            calls.add(recordingAsync(scheduler, RequestPriority.INTERACTIVE, admitted));
+            int interactiveWaiting = index + 1;
+            awaitUntil(() -> scheduler.waiting(RequestPriority.INTERACTIVE) == interactiveWaiting);
+        }
+
+        releaseBlocker.countDown();
+        blocker.get(5, TimeUnit.SECONDS);
+        for (CompletableFuture<ApiResponse> call : calls) {
+            call.get(5, TimeUnit.SECONDS);
+        }
+
+        assertEquals(List.of(
+            RequestPriority.INTERACTIVE,
+            RequestPriority.BATCH,
+            RequestPriority.INTERACTIVE,
+            RequestPriority.INTERACTIVE,
+            RequestPriority.INTERACTIVE,
+            RequestPriority.BATCH,
+            RequestPriority.BATCH,
+            RequestPriority.BATCH
+        ), admitted);
+    }
+
+    @Test
+    void queuedCallFailsAtDeadline() throws Exception {
+        PriorityScheduler scheduler = PriorityScheduler.builder().maxConcurrency(1).build();
+        CountDownLatch releaseBlocker = new CountDownLatch(1);
+        CompletableFuture<ApiResponse> blocker = callAsync(scheduler, RequestPriority.BATCH, releaseBlocker);
+        awaitUntil(() -> scheduler.inFlight(RequestPriority.BATCH) == 1);
+
+        ApiCall call = new ApiCall("geocode", GEOCODE_URI, HttpRequest.newBuilder(GEOCODE_URI),
+            CallOptions.builder().deadline(Instant.now().plusMillis(100)).build());
+        assertThrows(HttpTimeoutException.class, () -> scheduler.interceptor().intercept(call, ignored -> OK));
+
+        assertEquals(0, scheduler.waiting(RequestPriority.NORMAL));
+        releaseBlocker.countDown();
+        blocker.get(5, TimeUnit.SECONDS);
+        assertEquals(0, scheduler.inFlight(RequestPriority.BATCH));
+    }
+
+    @Test
+    void reservationsMustFitConcurrency() {
+        assertThrows(IllegalArgumentException.class, () -> PriorityScheduler.builder()
+            .maxConcurrency(2)
+            .reserve(RequestPriority.INTERACTIVE, 2)
+            .reserve(RequestPriority.BATCH, 1)
+            .build());
+    }
+
+    private static ApiResponse call(PriorityScheduler scheduler, RequestPriority priority, CountDownLatch release)
+        throws Exception {
+        ApiCall call = new ApiCall("geocode", GEOCODE_URI, HttpRequest.newBuilder(GEOCODE_URI),
+            CallOptions.builder().priority(priority).build());
+        ApiInterceptor.Chain exchange = ignored -> {
+            if (release != null) {
+                release.await();
+            }
+            return OK;
+        };
+        return scheduler.interceptor().intercept(call, exchange);
+    }
+
+    private static CompletableFuture<ApiResponse> callAsync(
+        PriorityScheduler scheduler,
+        RequestPriority priority,
+        CountDownLatch release
+    ) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return call(scheduler, priority, release);
+            } catch (Exception exception) {
+                throw new CompletionException(exception);
+            }
+        }, runnable -> new Thread(runnable).start());
+    }
+
+    private static CompletableFuture<ApiResponse> recordingAsync(
+        PriorityScheduler scheduler,
+        RequestPriority priority,
+        List<RequestPriority> admitted
+    ) {
+        return CompletableFuture.supplyAsync(() -> {
+            ApiCall call = new ApiCall("geocode", GEOCODE_URI, HttpRequest.newBuilder(GEOCODE_URI),
+                CallOptions.builder().priority(priority).build());
+            try {
+                return scheduler.interceptor().intercept(call, ignored -> {
+                    admitted.add(priority);
+                    return OK;
+                });
+            } catch (Exception exception) {
+                throw new CompletionException(exception);
+            }
+        }, runnable -> new Thread(runnable).start());
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("Condition not met within 5 seconds.");
+            }
+            TimeUnit.MILLISECONDS.sleep(5);
+        }
+    }
+}
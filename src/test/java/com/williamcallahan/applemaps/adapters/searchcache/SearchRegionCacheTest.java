@@ -0,0 +1,217 @@
+package com.williamcallahan.applemaps.adapters.searchcache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import com.williamcallahan.applemaps.adapters.fakeserver.FakeMapsServer;
+import com.williamcallahan.applemaps.adapters.mapsserver.HttpAppleMapsGateway;
+import com.williamcallahan.applemaps.domain.model.Location;
+import com.williamcallahan.applemaps.domain.model.PaginationInfo;
+import com.williamcallahan.applemaps.domain.model.PoiCategory;
+import com.williamcallahan.applemaps.domain.model.SearchRegion;
+import com.williamcallahan.applemaps.domain.model.SearchRegionPriority;
+import com.williamcallahan.applemaps.domain.model.SearchResponse;
+import com.williamcallahan.applemaps.domain.model.SearchResponsePlace;
+import com.williamcallahan.applemaps.domain.request.SearchInput;
+
+class SearchRegionCacheTest {
+    private static final SearchRegion HAMBURG = SearchRegion.fromBounds(53.7, 10.3, 53.4, 9.7);
+    private static final SearchRegion ALTSTADT = SearchRegion.fromBounds(53.56, 10.01, 53.54, 9.98);
+
+    @Test
+    void containedRegionIsAnsweredByFilteringCachedResults() {
+        SearchRegionCache cache = SearchRegionCache.builder().build();
+        SearchResponse wide = response(
+            place("inside", 53.55, 9.99), place("outside", 53.60, 10.10), place("edge", 53.56, 10.0));
+
+        assertTrue(cache.store(search("Coffee", HAMBURG), wide));
+        SearchResponse narrow = cache.lookup(search("  COFFEE ", ALTSTADT)).orElseThrow();
+
+        assertEquals(List.of("inside", "edge"), narrow.results().stream().map(SearchResponsePlace::name).toList());
+        assertEquals(53.56, narrow.displayMapRegion().orElseThrow().northLatitude());
+        assertEquals(1, cache.hits());
+        assertTrue(cache.lookup(search("tea", ALTSTADT)).isEmpty());
+        assertTrue(cache.lookup(search("coffee", SearchRegion.fromBounds(53.8, 10.0, 53.5, 9.9))).isEmpty());
+        assertEquals(2, cache.misses());
+    }
+
+    @Test
+    void truncatedPagesAndNonRequiredRegionsAreNotCached() {
+        SearchRegionCache cache = SearchRegionCache.builder().build();
+        PaginationInfo morePages = new PaginationInfo(Optional.of("next"), Optional.empty(), 2, 40);
+        SearchInput preferredRegion = SearchInput.builder("coffee").searchRegion(HAMBURG).build();
+
+        assertFalse(cache.store(search("coffee", HAMBURG),
+            new SearchResponse(Optional.empty(), Optional.of(morePages), List.of(place("a", 53.55, 9.99)))));
+        assertFalse(cache.store(preferredRegion, response(place("a", 53.55, 9.99))));
+        assertFalse(cache.store(SearchInput.builder("coffee").build(), response()));
+        assertEquals(0, cache.size());
+        assertTrue(cache.lookup(preferredRegion).isEmpty());
+        assertEquals(0, cache.misses());
+    }
+
+    @Test
+    void unpaginatedSearchesAndResponsesAreNotCached() {
+        SearchRegionCache cache = SearchRegionCache.builder().build();
+        SearchInput unpaginated = SearchInput.builder("coffee")
+            .searchRegion(HAMBURG)
+            .searchRegionPriority(SearchRegionPriority.REQUIRED)
+            .build();
+        SearchResponse capped = new SearchResponse(Optional.empty(), Optional.empty(),
+            List.of(place("a", 53.55, 9.99)));
+
+        assertFalse(cache.store(search("coffee", HAMBURG), capped));
+        assertFalse(cache.store(unpaginated, response(place("a", 53.55, 9.99))));
+        assertEquals(0, cache.size());
+        assertTrue(cache.lookup(unpaginated).isEmpty());
+        assertEquals(0, cache.misses());
+    }
+
+    @Test
+    void filtersAreMatchedExactly() {
+        SearchRegionCache cache = SearchRegionCache.builder().build();
+        SearchInput cafes = SearchInput.builder("coffee")
+            .searchRegion(HAMBURG)
+            .searchRegionPriority(SearchRegionPriority.REQUIRED)
+            .includePoiCategories(List.of(PoiCategory.CAFE))
+            .enablePagination(true)
+            .build();
+        cache.store(cafes, response(place("a", 53.55, 9.99)));
+
+        assertTrue(cache.lookup(search("coffee", ALTSTADT)).isEmpty());
+        assertEquals(1, cache.lookup(SearchInput.builder("coffee")
+            .searchRegion(ALTSTADT)
+            .searchRegionPriority(SearchRegionPriority.REQUIRED)
+            .includePoiCategories(List.of(PoiCategory.CAFE))
+            .enablePagination(true)
+            .build()).orElseThrow().results().size());
+    }
+
+    @Test
+    void largerRegionReplacesRegionsItCoversAndEntriesExpire() {
+        MutableClock clock = new MutableClock(Instant.parse("2026-05-01T10:00:00Z"));
+        SearchRegionCache cache = SearchRegionCache.builder().clock(clock).timeToLive(Duration.ofMinutes(5)).build();
+
+        cache.store(search("coffee", ALTSTADT), response());
+        assertTrue(cache.store(search("coffee", HAMBURG), response()));
+        assertFalse(cache.store(search("coffee", ALTSTADT), response()));
+        assertEquals(1, cache.size());
+
+        clock.advance(Duration.ofMinutes(5));
+        assertTrue(cache.lookup(search("coffee", ALTSTADT)).isEmpty());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void leastRecentlyUsedRegionIsEvicted() {
+        SearchRegionCache cache = SearchRegionCache.builder().maxEntries(2).build();
+        cache.store(search("a", HAMBURG), response());
+        cache.store(search("b", HAMBURG), response());
+        cache.lookup(search("a", ALTSTADT));
+        cache.store(search("c", HAMBURG), response());
+
+        assertTrue(cache.lookup(search("a", ALTSTADT)).isPresent());
+        assertTrue(cache.lookup(search("b", ALTSTADT)).isEmpty());
+        assertTrue(cache.lookup(search("c", ALTSTADT)).isPresent());
+    }
+
+    @Test
+    void regionsAcrossTheAntimeridianAreContained() {
+        SearchRegionCache cache = SearchRegionCache.builder().build();
+        cache.store(search("hotel", SearchRegion.fromBounds(-16.0, -179.0, -17.0, 179.0)),
+            response(place("west", -16.5, -179.5), place("east", -16.5, 179.5)));
+
+        SearchResponse west = cache.lookup(search("hotel", SearchRegion.fromBounds(-16.2, -179.2, -16.8, -179.8)))
+            .orElseThrow();
+        SearchResponse crossing = cache.lookup(search("hotel", SearchRegion.fromBounds(-16.2, -179.4, -16.8, 179.4)))
+            .orElseThrow();
+
+        assertEquals(List.of("west"), west.results().stream().map(SearchResponsePlace::name).toList());
+        assertEquals(2, crossing.results().size());
+    }
+
+    @Test
+    void gatewaySkipsTheNetworkForContainedRegions() {
+        byte[] body = ("{\"results\":[" + placeJson("inside", 53.55, 9.99) + "," + placeJson("outside", 53.65, 10.2)
+            + "],\"paginationInfo\":{\"totalPageCount\":1,\"totalResults\":2}}").getBytes(StandardCharsets.UTF_8);
+        SearchRegionCache cache = SearchRegionCache.builder().build();
+        try (FakeMapsServer server = FakeMapsServer.builder().respond("/v1/search", body).start()) {
+            SearchRegionCachingGateway gateway = new SearchRegionCachingGateway(
+                new HttpAppleMapsGateway("auth-token", Duration.ofSeconds(5), null, server.baseUri()),
+                cache
+            );
+            try {
+                assertEquals(2, gateway.search(search("coffee", HAMBURG)).results().size());
+                assertEquals(1, gateway.search(search("coffee", ALTSTADT)).results().size());
+                assertEquals(1, server.requestCount("/v1/search"));
+            } finally {
+                gateway.close();
+            }
+        }
+    }
+
+    private static SearchInput search(String query, SearchRegion region) {
+        return SearchInput.builder(query)
+            .searchRegion(region)
+            .searchRegionPriority(SearchRegionPriority.REQUIRED)
+            .enablePagination(true)
+            .build();
+    }
+
+    /**
+     * Returns a complete single-page response.
+     */
+    private static SearchResponse response(SearchResponsePlace... places) {
+        PaginationInfo lastPage = new PaginationInfo(Optional.empty(), Optional.empty(), 1, places.length);
+        return new SearchResponse(Optional.empty(), Optional.of(lastPage), List.of(places));
+    }
+
+    private static SearchResponsePlace place(String name, double latitude, double longitude) {
+        return new SearchResponsePlace(Optional.of(name), List.of(), name, new Location(latitude, longitude),
+            Optional.empty(), List.of(), Optional.empty(), "Germany", "DE", Optional.empty());
+    }
+
+    private static String placeJson(String name, double latitude, double longitude) {
+        return "{\"id\":\"" + name + "\",\"name\":\"" + name + "\",\"coordinate\":{\"latitude\":" + latitude
+            + ",\"longitude\":" + longitude + "},\"country\":\"Germany\",\"countryCode\":\"DE\"}";
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
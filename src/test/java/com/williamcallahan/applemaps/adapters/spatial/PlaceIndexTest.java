@@ -0,0 +1,208 @@
+package com.williamcallahan.applemaps.adapters.spatial;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+import com.williamcallahan.applemaps.adapters.fakeserver.FakeMapsServer;
+import com.williamcallahan.applemaps.adapters.mapsserver.HttpAppleMapsGateway;
+import com.williamcallahan.applemaps.domain.model.Location;
+import com.williamcallahan.applemaps.domain.model.MapRegion;
+import com.williamcallahan.applemaps.domain.model.PoiCategory;
+import com.williamcallahan.applemaps.domain.request.SearchAutocompleteInput;
+import com.williamcallahan.applemaps.domain.request.SearchInput;
+
+class PlaceIndexTest {
+    private static final Location JUNGFERNSTIEG = new Location(53.5530, 9.9925);
+
+    @Test
+    void radiusQueryMatchesBruteForceEverywhere() {
+        Random random = new Random(11);
+        PlaceIndex index = new PlaceIndex(2_000.0);
+        List<IndexedPlace> places = new ArrayList<>();
+        for (int count = 0; count < 5_000; count++) {
+            Location center = count % 2 == 0 ? new Location(53.55, 9.99) : new Location(-16.5, 179.9);
+            IndexedPlace place = place("P" + count,
+                new Location(center.latitude() + random.nextGaussian() * 0.05,
+                    wrap(center.longitude() + random.nextGaussian() * 0.05)), Optional.empty());
+            places.add(place);
+            index.add(place);
+        }
+
+        for (Location query : List.of(new Location(53.56, 10.0), new Location(-16.5, -179.98), new Location(0, 0))) {
+            List<String> expected = places.stream()
+                .filter(place -> distance(query, place.coordinate()) <= 3_000.0)
+                .sorted(Comparator.comparingDouble(place -> distance(query, place.coordinate())))
+                .map(IndexedPlace::key)
+                .toList();
+
+            assertEquals(expected, index.withinRadius(query, 3_000.0).stream().map(match -> match.place().key()).toList());
+        }
+        assertEquals(5_000, index.size());
+    }
+
+    @Test
+    void boundsQueryHandlesTheAntimeridian() {
+        PlaceIndex index = new PlaceIndex();
+        index.add(place("east", new Location(-16.5, 179.95), Optional.empty()));
+        index.add(place("west", new Location(-16.5, -179.95), Optional.empty()));
+        index.add(place("far", new Location(-16.5, 170.0), Optional.empty()));
+
+        List<IndexedPlace> crossing = index.withinBounds(new MapRegion(-16.0, -179.9, -17.0, 179.9));
+        List<IndexedPlace> regular = index.withinBounds(new MapRegion(-16.0, 179.99, -17.0, 169.0));
+
+        assertEquals(Set.of("east", "west"), Set.copyOf(crossing.stream().map(IndexedPlace::key).toList()));
+        assertEquals(Set.of("east", "far"), Set.copyOf(regular.stream().map(IndexedPlace::key).toList()));
+    }
+
+    @Test
+    void nearestFiltersByCategoryAndWidensUntilLimitIsMet() {
+        PlaceIndex index = new PlaceIndex(100.0);
+        index.add(place("cafe-near", offset(JUNGFERNSTIEG, 50.0), Optional.of(PoiCategory.CAFE)));
+        index.add(place("bank-near", offset(JUNGFERNSTIEG, 20.0), Optional.of(PoiCategory.BANK)));
+        index.add(place("cafe-far", offset(JUNGFERNSTIEG, 4_000.0), Optional.of(PoiCategory.CAFE)));
+        index.add(place("cafe-too-far", offset(JUNGFERNSTIEG, 9_000.0), Optional.of(PoiCategory.CAFE)));
+
+        List<NearbyPlace> cafes = index.nearest(JUNGFERNSTIEG, 5, 5_000.0, Set.of(PoiCategory.CAFE));
+        List<NearbyPlace> anyCategory = index.nearest(JUNGFERNSTIEG, 1, 5_000.0, Set.of());
+
+        assertEquals(List.of("cafe-near", "cafe-far"), cafes.stream().map(match -> match.place().key()).toList());
+        assertEquals(50.0, cafes.get(0).distanceMeters(), 0.5);
+        assertEquals("bank-near", anyCategory.get(0).place().key());
+        assertThrows(IllegalArgumentException.class, () -> index.nearest(JUNGFERNSTIEG, 0, 1.0, Set.of()));
+    }
+
+    @Test
+    void addingAgainMovesThePlaceAndRemoveForgetsIt() {
+        PlaceIndex index = new PlaceIndex();
+        index.add(place("I1", JUNGFERNSTIEG, Optional.empty()));
+        index.add(place("I1", new Location(48.137, 11.575), Optional.empty()));
+
+        assertTrue(index.withinRadius(JUNGFERNSTIEG, 1_000.0).isEmpty());
+        assertEquals(1, index.withinRadius(new Location(48.137, 11.575), 10.0).size());
+        assertEquals(1, index.size());
+        assertTrue(index.remove("I1").isPresent());
+        assertTrue(index.withinRadius(new Location(48.137, 11.575), 10.0).isEmpty());
+        assertTrue(index.get("I1").isEmpty());
+    }
+
+    @Test
+    void queriesStayConsistentWhileUpdatesRun() throws Exception {
+        PlaceIndex index = new PlaceIndex(200.0);
+        AtomicBoolean running = new AtomicBoolean(true);
+        CompletableFuture<Void> writer = CompletableFuture.runAsync(() -> {
+            Random random = new Random(3);
+            while (running.get()) {
+                index.add(place("P" + random.nextInt(500), offset(JUNGFERNSTIEG, random.nextDouble() * 2_000.0),
+                    Optional.empty()));
+            }
+        });
+        try {
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(200);
+            while (System.nanoTime() < deadline) {
+                List<NearbyPlace> matches = index.withinRadius(JUNGFERNSTIEG, 500.0);
+                for (NearbyPlace match : matches) {
+                    assertTrue(match.distanceMeters() <= 500.0);
+                    assertEquals(match.distanceMeters(), distance(JUNGFERNSTIEG, match.place().coordinate()), 1e-6);
+                }
+                assertEquals(matches.size(), matches.stream().map(match -> match.place().key()).distinct().count());
+            }
+        } finally {
+            running.set(false);
+        }
+        writer.get(5, TimeUnit.SECONDS);
+        assertTrue(index.size() <= 500);
+    }
+
+    @Test
+    void gatewayIndexesPlacesFromResponses() {
+        PlaceIndex index = new PlaceIndex();
+        try (FakeMapsServer server = FakeMapsServer.builder().start()) {
+            PlaceIndexingGateway gateway = new PlaceIndexingGateway(
+                new HttpAppleMapsGateway("auth-token", Duration.ofSeconds(5), null, server.baseUri()),
+                index
+            );
+            try {
+                gateway.search(SearchInput.builder("coffee").build());
+                gateway.autocomplete(SearchAutocompleteInput.builder("cof").build());
+            } finally {
+                gateway.close();
+            }
+        }
+
+        assertEquals(35, index.size());
+        assertEquals(Optional.of(PoiCategory.CAFE), index.get("I3").orElseThrow().poiCategory());
+        assertFalse(index.nearest(new Location(53.55, 9.99), 3, 500.0, Set.of(PoiCategory.CAFE)).isEmpty());
+    }
+
+    @Test
+    void lookingUpASearchedPlaceKeepsItsCategory() {
+        PlaceIndex index = new PlaceIndex();
+        try (FakeMapsServer server = FakeMapsServer.builder().start()) {
+            PlaceIndexingGateway gateway = new PlaceIndexingGateway(
+                new HttpAppleMapsGateway("auth-token", Duration.ofSeconds(5), null, server.baseUri()),
+                index
+            );
+            try {
+                gateway.search(SearchInput.builder("coffee").build());
+                gateway.lookupPlace("I0", "en-US");
+            } finally {
+                gateway.close();
+            }
+        }
+
+        List<NearbyPlace> cafes = index.nearest(new Location(53.55, 9.99), 1, 10.0, Set.of(PoiCategory.CAFE));
+
+        assertEquals(Optional.of(PoiCategory.CAFE), index.get("I0").orElseThrow().poiCategory());
+        assertEquals(List.of("I0"), cafes.stream().map(match -> match.place().key()).toList());
+    }
+
+    @Test
+    void onlyAPlaceWithACategoryReplacesTheIndexedCategory() {
+        PlaceIndex index = new PlaceIndex();
+        index.add(place("I1", JUNGFERNSTIEG, Optional.of(PoiCategory.CAFE)));
+        index.add(place("I1", JUNGFERNSTIEG, Optional.empty()));
+        index.add(place("I2", JUNGFERNSTIEG, Optional.of(PoiCategory.CAFE)));
+        index.add(place("I2", JUNGFERNSTIEG, Optional.of(PoiCategory.BAKERY)));
+
+        assertEquals(Optional.of(PoiCategory.CAFE), index.get("I1").orElseThrow().poiCategory());
+        assertEquals(Optional.of(PoiCategory.BAKERY), index.get("I2").orElseThrow().poiCategory());
+        assertEquals(1, index.nearest(JUNGFERNSTIEG, 5, 10.0, Set.of(PoiCategory.CAFE)).size());
+    }
+
+    private static IndexedPlace place(String key, Location coordinate, Optional<PoiCategory> category) {
+        return new IndexedPlace(key, Optional.of(key), key, coordinate, category);
+    }
+
+    private static Location offset(Location origin, double northMeters) {
+        return new Location(origin.latitude() + northMeters / 111_195.0, origin.longitude());
+    }
+
+    private static double wrap(double longitude) {
+        return longitude > 180.0 ? longitude - 360.0 : longitude < -180.0 ? longitude + 360.0 : longitude;
+    }
+
+    private static double distance(Location from, Location to) {
+        double fromLatitude = Math.toRadians(from.latitude());
+        double toLatitude = Math.toRadians(to.latitude());
+        double sinHalfLatitude = Math.sin((toLatitude - fromLatitude) / 2.0);
+        double sinHalfLongitude = Math.sin(Math.toRadians(to.longitude() - from.longitude()) / 2.0);
+        double haversine = sinHalfLatitude * sinHalfLatitude
+            + Math.cos(fromLatitude) * Math.cos(toLatitude) * sinHalfLongitude * sinHalfLongitude;
+        return 2.0 * 6_371_008.8 * Math.asin(Math.min(1.0, Math.sqrt(haversine)));
+    }
+}
@@ -0,0 +1,62 @@
+package com.williamcallahan.applemaps.domain.geometry;
+
+import com.williamcallahan.applemaps.domain.model.Location;
+import com.williamcallahan.applemaps.domain.model.Polyline;
+import java.util.List;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class EncodedPolylineCodecTest {
+    private static final List<Location> REFERENCE_PATH = List.of(
+        new Location(38.5, -120.2),
+        new Location(40.7, -120.95),
+        new Location(43.252, -126.453)
+    );
+    private static final String REFERENCE_ENCODING = "_p~iF~ps|U_ulLnnqC_mqNvxq`@";
+
+    @Test
+    void encodesReferencePath() {
+        assertEquals(REFERENCE_ENCODING, EncodedPolylineCodec.STANDARD.encode(REFERENCE_PATH));
+    }
+
+    @Test
+    void decodesReferencePath() {
+        assertEquals(REFERENCE_PATH, EncodedPolylineCodec.STANDARD.decode(REFERENCE_ENCODING));
+    }
+
+    @Test
+    void roundTripsWithinPrecision() {
+        EncodedPolylineCodec codec = EncodedPolylineCodec.withPrecision(6);
+        SplittableRandom random = new SplittableRandom(11L);
+        Polyline.Builder builder = Polyline.builder(500);
+        for (int index = 0; index < 500; index++) {
+            builder.add(random.nextDouble(-90.0, 90.0), random.nextDouble(-180.0, 180.0));
+        }
+        Polyline path = builder.build();
+
+        Polyline decoded = codec.decode(codec.encode(path));
+
+        assertEquals(path.size(), decoded.size());
+        for (int index = 0; index < path.size(); index++) {
+            assertEquals(path.latitude(index), decoded.latitude(index), 0.5e-6);
+            assertEquals(path.longitude(index), decoded.longitude(index), 0.5e-6);
+        }
+    }
+
+    @Test
+    void emptyPathEncodesToEmptyText() {
+        assertEquals("", EncodedPolylineCodec.STANDARD.encode(List.of()));
+        assertEquals(Polyline.empty(), EncodedPolylineCodec.STANDARD.decode(""));
+    }
+
+    @Test
+    void rejectsMalformedText() {
+        assertThrows(IllegalArgumentException.class, () -> EncodedPolylineCodec.STANDARD.decode("_p~iF"));
+        assertThrows(IllegalArgumentException.class, () -> EncodedPolylineCodec.STANDARD.decode("_p~i"));
+        assertThrows(IllegalArgumentException.class, () -> EncodedPolylineCodec.STANDARD.decode("_p iF~ps|U"));
+        assertThrows(IllegalArgumentException.class, () -> EncodedPolylineCodec.withPrecision(8));
+    }
+}
@@ -0,0 +1,108 @@
+package com.williamcallahan.applemaps.domain.geometry;
+
+import com.williamcallahan.applemaps.domain.model.DirectionsResponse;
+import com.williamcallahan.applemaps.domain.model.DirectionsRoute;
+import com.williamcallahan.applemaps.domain.model.DirectionsStep;
+import com.williamcallahan.applemaps.domain.model.Location;
+import com.williamcallahan.applemaps.domain.model.Polyline;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PolylineSimplifierTest {
+    // About 1.1 m of latitude.
+    private static final double ONE_METER_DEGREES = 0.00001;
+
+    @Test
+    void removesPointsWithinTolerance() {
+        Polyline path = Polyline.fromLocations(List.of(
+            new Location(53.0, 10.0),
+            new Location(53.001, 10.0 + ONE_METER_DEGREES),
+            new Location(53.002, 10.0),
+            new Location(53.003, 10.0 - ONE_METER_DEGREES),
+            new Location(53.004, 10.0)
+        ));
+
+        Polyline simplified = new PolylineSimplifier(5.0).simplify(path);
+
+        assertEquals(List.of(path.get(0), path.get(4)), simplified);
+    }
+
+    @Test
+    void keepsPointsBeyondTolerance() {
+        Polyline path = Polyline.fromLocations(List.of(
+            new Location(53.0, 10.0),
+            new Location(53.001, 10.001),
+            new Location(53.002, 10.0),
+            new Location(53.0021, 10.0),
+            new Location(53.0022, 10.0)
+        ));
+
+        Polyline simplified = new PolylineSimplifier(5.0).simplify(path);
+
+        assertEquals(List.of(path.get(0), path.get(1), path.get(2), path.get(4)), simplified);
+    }
+
+    @Test
+    void returnsShortPathsUnchanged() {
+        Polyline path = Polyline.fromLocations(List.of(new Location(1.0, 2.0), new Location(3.0, 4.0)));
+
+        assertSame(path, new PolylineSimplifier(100.0).simplify(path));
+    }
+
+    @Test
+    void handlesPathsCrossingTheAntimeridian() {
+        Polyline path = Polyline.fromLocations(List.of(
+            new Location(0.0, 179.999),
+            new Location(0.0, 180.0),
+            new Location(0.0, -179.999)
+        ));
+
+        assertEquals(2, new PolylineSimplifier(1.0).simplify(path).size());
+    }
+
+    @Test
+    void rejectsInvalidTolerance() {
+        assertThrows(IllegalArgumentException.class, () -> new PolylineSimplifier(-1.0));
+        assertThrows(IllegalArgumentException.class, () -> new PolylineSimplifier(Double.NaN));
+    }
+
+    @Test
+    void simplifiesAssembledRoutes() {
+        Location start = new Location(53.0, 10.0);
+        Location middle = new Location(53.001, 10.0);
+        Location end = new Location(53.002, 10.0);
+        DirectionsResponse response = new DirectionsResponse(
+            Optional.empty(),
+            Optional.empty(),
+            List.of(
+                new DirectionsRoute(Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(),
+                    List.of(0, 1), Optional.empty()),
+                new DirectionsRoute(Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(),
+                    List.of(1, 7), Optional.empty())
+            ),
+            List.of(step(0), step(1)),
+            List.of(List.of(start, middle), List.of(middle, end))
+        );
+
+        assertEquals(List.of(start, middle, end), RouteGeometry.routePath(response, response.routes().get(0)));
+        assertEquals(
+            List.of(Polyline.fromLocations(List.of(start, end)), Polyline.fromLocations(List.of(middle, end))),
+            new PolylineSimplifier(1.0).simplifyRoutes(response)
+        );
+    }
+
+    private static DirectionsStep step(int stepPathIndex) {
+        return new DirectionsStep(
+            Optional.of(stepPathIndex),
+            Optional.empty(),
+            Optional.empty(),
+            Optional.empty(),
+            Optional.empty()
+        );
+    }
+}
@@ -0,0 +1,91 @@
+package com.williamcallahan.applemaps.domain.model;
+
+import java.math.BigDecimal;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CoordinateFormatTest {
+    private static final long RANDOM_SEED = 42L;
+    private static final int RANDOM_SAMPLES = 200_000;
+    private static final double MAX_LONGITUDE = 180.0;
+
+    @Test
+    void shortestFormatsCommonValuesLikeDoubleToString() {
+        assertEquals("53.57", CoordinateFormat.SHORTEST.format(53.57));
+        assertEquals("10.0", CoordinateFormat.SHORTEST.format(10.0));
+        assertEquals("-122.030503", CoordinateFormat.SHORTEST.format(-122.030503));
+        assertEquals("0.0", CoordinateFormat.SHORTEST.format(0.0));
+        assertEquals("-0.0", CoordinateFormat.SHORTEST.format(-0.0));
+        assertEquals("0.1", CoordinateFormat.SHORTEST.format(0.1));
+        assertEquals("NaN", CoordinateFormat.SHORTEST.format(Double.NaN));
+    }
+
+    @Test
+    void shortestWritesSmallValuesInPlainNotation() {
+        assertEquals("0.00001", CoordinateFormat.SHORTEST.format(1.0E-5));
+        assertEquals("-0.000123456789", CoordinateFormat.SHORTEST.format(-1.23456789E-4));
+    }
+
+    @Test
+    void shortestRoundTripsAndIsNeverLongerThanDoubleToString() {
+        SplittableRandom random = new SplittableRandom(RANDOM_SEED);
+        for (int sample = 0; sample < RANDOM_SAMPLES; sample++) {
+            double coordinate = random.nextDouble(-MAX_LONGITUDE, MAX_LONGITUDE);
+            String formatted = CoordinateFormat.SHORTEST.format(coordinate);
+
+            assertEquals(coordinate, Double.parseDouble(formatted), formatted);
+            assertTrue(
+                significantDigits(formatted) <= significantDigits(Double.toString(coordinate)),
+                () -> formatted + " vs " + coordinate
+            );
+        }
+    }
+
+    @Test
+    void fixedDecimalsRoundsAndTrimsTrailingZeros() {
+        CoordinateFormat sixDecimals = CoordinateFormat.fixedDecimals(6);
+
+        assertEquals("37.331423", sixDecimals.format(37.33142349));
+        assertEquals("-122.000001", sixDecimals.format(-122.0000006));
+        assertEquals("53.57", sixDecimals.format(53.570000001));
+        assertEquals("10.0", sixDecimals.format(10.0000001));
+        assertEquals("0.0", sixDecimals.format(-0.0000001));
+    }
+
+    @Test
+    void fixedDecimalsRoundsTheExactValueWhenTheScaledProductLandsOnAHalf() {
+        CoordinateFormat sixDecimals = CoordinateFormat.fixedDecimals(6);
+
+        // 37.3314235 is stored as 37.33142349999..., but times 1e6 it rounds to exactly 37331423.5.
+        assertEquals("37.331423", sixDecimals.format(37.3314235));
+        assertEquals("-37.331423", sixDecimals.format(-37.3314235));
+        // 1.0000005 is stored as 1.00000050000...07, just above the half-way point.
+        assertEquals("1.000001", sixDecimals.format(1.0000005));
+    }
+
+    @Test
+    void fixedDecimalsRejectsOutOfRangePrecision() {
+        assertThrows(IllegalArgumentException.class, () -> CoordinateFormat.fixedDecimals(-1));
+        assertThrows(IllegalArgumentException.class, () -> CoordinateFormat.fixedDecimals(13));
+    }
+
+    @Test
+    void fixedDecimalsMakesNearbyInputsProduceTheSameLocation() {
+        CoordinateFormat sixDecimals = CoordinateFormat.fixedDecimals(6);
+
+        RouteLocation first = RouteLocation.fromLatitudeLongitude(37.3314231, -122.0305031, sixDecimals);
+        RouteLocation second = RouteLocation.fromLatitudeLongitude(37.3314229, -122.0305029, sixDecimals);
+
+        assertEquals(first, second);
+        assertFalse(first.toQueryString().contains("E"));
+    }
+
+    private static int significantDigits(String decimalText) {
+        return new BigDecimal(decimalText).stripTrailingZeros().precision();
+    }
+}
@@ -0,0 +1,74 @@
+package com.williamcallahan.applemaps.domain.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PolylineTest {
+    private static final Location FIRST = new Location(53.55, 9.99);
+    private static final Location SECOND = new Location(53.56, 10.0);
+
+    @Test
+    void builderGrowsAndExposesPackedCoordinates() {
+        Polyline.Builder builder = Polyline.builder(1);
+        builder.add(FIRST.latitude(), FIRST.longitude()).add(SECOND.latitude(), SECOND.longitude());
+
+        Polyline polyline = builder.build();
+
+        assertEquals(2, polyline.size());
+        assertEquals(SECOND.latitude(), polyline.latitude(1));
+        assertEquals(SECOND.longitude(), polyline.longitude(1));
+        assertArrayEquals(new double[] {53.55, 9.99, 53.56, 10.0}, polyline.toCoordinateArray());
+    }
+
+    @Test
+    void behavesAsLocationList() {
+        Polyline polyline = Polyline.fromLocations(List.of(FIRST, SECOND));
+
+        assertEquals(List.of(FIRST, SECOND), polyline);
+        assertEquals(polyline, List.of(FIRST, SECOND));
+        assertEquals(List.of(FIRST, SECOND).hashCode(), polyline.hashCode());
+        assertEquals(SECOND, polyline.get(1));
+        assertEquals(List.of(), Polyline.empty());
+    }
+
+    @Test
+    void fromLocationsSkipsNullsAndReusesPolylines() {
+        List<Location> locationsWithNull = new ArrayList<>(List.of(FIRST));
+        locationsWithNull.add(null);
+
+        Polyline polyline = Polyline.fromLocations(locationsWithNull);
+
+        assertEquals(List.of(FIRST), polyline);
+        assertSame(polyline, Polyline.fromLocations(polyline));
+    }
+
+    @Test
+    void rejectsInvalidPointsAndIndexes() {
+        Polyline.Builder builder = Polyline.builder(0);
+
+        assertThrows(IllegalArgumentException.class, () -> builder.add(91.0, 0.0));
+        assertThrows(IllegalArgumentException.class, () -> Polyline.builder(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> Polyline.empty().latitude(0));
+        assertThrows(UnsupportedOperationException.class, () -> Polyline.empty().add(FIRST));
+    }
+
+    @Test
+    void directionsResponseStoresStepPathsAsPolylines() {
+        List<List<Location>> stepPaths = new ArrayList<>();
+        stepPaths.add(List.of(FIRST, SECOND));
+        stepPaths.add(null);
+
+        DirectionsResponse response = new DirectionsResponse(null, null, null, null, stepPaths);
+
+        assertInstanceOf(Polyline.class, response.stepPaths().get(0));
+        assertEquals(List.of(FIRST, SECOND), response.stepPaths().get(0));
+        assertEquals(Polyline.empty(), response.stepPolylines().get(1));
+    }
+}
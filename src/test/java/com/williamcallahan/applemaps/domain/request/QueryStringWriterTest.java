@@ -0,0 +1,54 @@
+package com.williamcallahan.applemaps.domain.request;
+
+import com.williamcallahan.applemaps.domain.model.PoiCategory;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class QueryStringWriterTest {
+    private static final String PARAMETER_NAME = "q";
+    private static final List<String> RAW_TEXTS = List.of(
+        "",
+        "plain-Text_1.2*3",
+        "1 Infinite Loop, Cupertino, CA",
+        "~!@#$%^&()+={}[]|\\:;\"'<>?/`",
+        "Jungfernstieg 1, 20354 Hamburg",
+        "Straße München",
+        "東京タワー",
+        "emoji 🗺 map",
+        "unpaired \uD83D surrogate"
+    );
+
+    @Test
+    void encodedParameterMatchesUrlEncoder() {
+        for (String rawText : RAW_TEXTS) {
+            String queryString = new QueryStringWriter()
+                .encodedParameter(PARAMETER_NAME, rawText)
+                .toQueryString();
+
+            assertEquals("?q=" + URLEncoder.encode(rawText, StandardCharsets.UTF_8), queryString, rawText);
+        }
+    }
+
+    @Test
+    void parametersAreSeparatedInWriteOrder() {
+        String queryString = new QueryStringWriter()
+            .encodedParameter(PARAMETER_NAME, "coffee shop")
+            .apiValuesParameter("includePoiCategories", List.of(PoiCategory.CAFE, PoiCategory.BAKERY),
+                EncodedApiValues.POI_CATEGORIES, ",")
+            .encodedListParameter("ids", List.of("a b", "c|d"), Function.identity(), ",")
+            .parameter("searchLocation", "53.57,10.0")
+            .parameter("enablePagination", true)
+            .toQueryString();
+
+        assertEquals(
+            "?q=coffee+shop&includePoiCategories=Cafe,Bakery&ids=a+b,c%7Cd" +
+                "&searchLocation=53.57,10.0&enablePagination=true",
+            queryString
+        );
+    }
+}